@@ -23,7 +23,7 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-@JsonPropertyOrder({ "generateCertificateAuthority", "generateSecretOwnerReference", "validityDays", "renewalDays" })
+@JsonPropertyOrder({ "generateCertificateAuthority", "generateSecretOwnerReference", "validityDays", "renewalDays", "keyAlgorithm" })
 @EqualsAndHashCode
 public class CertificateAuthority implements UnknownPropertyPreserving, Serializable {
 
@@ -35,6 +35,7 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     private int renewalDays;
     private Map<String, Object> additionalProperties = new HashMap<>(0);
     private CertificateExpirationPolicy certificateExpirationPolicy;
+    private CertificateKeyAlgorithm keyAlgorithm;
     public static final int DEFAULT_CERTS_VALIDITY_DAYS = 365;
     public static final int DEFAULT_CERTS_RENEWAL_DAYS = 30;
 
@@ -99,6 +100,18 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     public void setCertificateExpirationPolicy(CertificateExpirationPolicy certificateExpirationPolicy) {
         this.certificateExpirationPolicy = certificateExpirationPolicy;
     }
+
+    @Description("The algorithm of the private keys generated for the CA and for the certificates signed by it. " +
+            "Supported values are `rsa`, `ecdsa-p256` and `ecdsa-p384`. " +
+            "When the algorithm is changed for a CA generated by Strimzi, the CA key is replaced in the next maintenance time window and the certificates signed by it are regenerated. " +
+            "The default is `rsa`.")
+    public CertificateKeyAlgorithm getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public void setKeyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
     
     @Override
     public Map<String, Object> getAdditionalProperties() {
@@ -35,7 +35,7 @@ import java.util.Map;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
     "version", "replicas", "image", "listeners", "config", "storage", "authorization", "rack", "brokerRackInitImage",
-    "livenessProbe", "readinessProbe", "jvmOptions", "jmxOptions", "resources", "metricsConfig", "logging", "template"})
+    "livenessProbe", "readinessProbe", "jvmOptions", "jmxOptions", "resources", "performanceProfile", "metricsConfig", "logging", "template"})
 @EqualsAndHashCode
 public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownPropertyPreserving, Serializable {
 
@@ -63,6 +63,7 @@ public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownProperty
     private int replicas;
     private String image;
     private ResourceRequirements resources;
+    private KafkaPerformanceProfile performanceProfile;
     private Probe livenessProbe;
     private Probe readinessProbe;
     private JvmOptions jvmOptions;
@@ -166,6 +167,20 @@ public class KafkaClusterSpec implements HasConfigurableMetrics, UnknownProperty
         this.resources = resources;
     }
 
+    @Description("Performance profile used to configure the broker thread pools and socket buffers. " +
+            "With `resource-based`, the number of network, I/O, replica fetcher, recovery and background threads and the socket buffer sizes " +
+            "are derived from the CPU resources, the number of JBOD volumes and the number of listeners. " +
+            "Options set in `config` always take precedence. " +
+            "Defaults to `default`, which keeps the Kafka defaults.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public KafkaPerformanceProfile getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    public void setPerformanceProfile(KafkaPerformanceProfile performanceProfile) {
+        this.performanceProfile = performanceProfile;
+    }
+
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     @Description("Pod liveness checking.")
     public Probe getLivenessProbe() {
@@ -0,0 +1,16 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum KafkaPerformanceProfile {
+
+    @JsonProperty("default")
+    DEFAULT,
+
+    @JsonProperty("resource-based")
+    RESOURCE_BASED
+}
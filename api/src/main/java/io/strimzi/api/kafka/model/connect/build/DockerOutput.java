@@ -27,7 +27,7 @@ import java.util.List;
 public class DockerOutput extends Output {
     private static final long serialVersionUID = 1L;
 
-    public static final String ALLOWED_KANIKO_OPTIONS = "--customPlatform, --insecure, --insecure-pull, " +
+    public static final String ALLOWED_KANIKO_OPTIONS = "--cache, --cache-repo, --cache-ttl, --customPlatform, --insecure, --insecure-pull, " +
             "--insecure-registry, --log-format, --log-timestamp, --registry-mirror, --reproducible, --single-snapshot, " +
             "--skip-tls-verify, --skip-tls-verify-pull, --skip-tls-verify-registry, --verbosity, --snapshotMode, " +
             "--use-new-run";
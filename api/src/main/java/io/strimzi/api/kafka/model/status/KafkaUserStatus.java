@@ -20,7 +20,7 @@ import lombok.ToString;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "conditions", "observedGeneration", "username", "secret" })
+@JsonPropertyOrder({ "conditions", "observedGeneration", "username", "secret", "desiredStateDigest" })
 @EqualsAndHashCode
 @ToString(callSuper = true)
 public class KafkaUserStatus extends Status {
@@ -28,6 +28,7 @@ public class KafkaUserStatus extends Status {
 
     private String username;
     private String secret;
+    private String desiredStateDigest;
 
     @Description("Username")
     public String getUsername() {
@@ -46,4 +47,15 @@ public class KafkaUserStatus extends Status {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    @Description("Digest of the desired state of the user which was last successfully reconciled. " +
+            "It covers the `spec`, the generation of the clients CA certificate and the resource version of the `Secret` with the desired password. " +
+            "It is used by the periodic reconciliation to skip users which did not change")
+    public String getDesiredStateDigest() {
+        return desiredStateDigest;
+    }
+
+    public void setDesiredStateDigest(String desiredStateDigest) {
+        this.desiredStateDigest = desiredStateDigest;
+    }
 }
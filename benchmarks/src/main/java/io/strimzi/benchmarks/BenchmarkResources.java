@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared fixtures used by the different benchmarks. The resources created here are similar to what the users
+ * typically deploy, just with configurable sizes.
+ */
+public final class BenchmarkResources {
+    /**
+     * Namespace used by the benchmarked resources
+     */
+    public static final String NAMESPACE = "my-namespace";
+
+    /**
+     * Name of the benchmarked Kafka cluster
+     */
+    public static final String CLUSTER_NAME = "my-cluster";
+
+    /**
+     * Dynamically updatable broker options (and their values) used in the Kafka configuration. The benchmarks changing
+     * the broker configuration change the values of these options.
+     */
+    public static final Map<String, Object> DYNAMIC_BROKER_CONFIG;
+
+    static {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("log.retention.ms", 604800000L);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("log.cleaner.threads", 1);
+        config.put("num.io.threads", 8);
+        config.put("num.network.threads", 3);
+        config.put("background.threads", 10);
+        config.put("log.flush.interval.messages", 9223372036854775807L);
+        config.put("message.max.bytes", 1048588);
+        config.put("compression.type", "producer");
+        config.put("unclean.leader.election.enable", false);
+        DYNAMIC_BROKER_CONFIG = Collections.unmodifiableMap(config);
+    }
+
+    private BenchmarkResources() { }
+
+    /**
+     * @return  Kafka versions lookup with a container image for each supported Kafka version
+     */
+    public static KafkaVersion.Lookup kafkaVersions() {
+        Set<String> supportedVersions = new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of(), Map.of()).supportedVersions();
+
+        return new KafkaVersion.Lookup(
+                images("strimzi/kafka:latest-kafka-", supportedVersions),
+                images("strimzi/kafka-connect:latest-kafka-", supportedVersions),
+                images("strimzi/kafka-mirror-maker:latest-kafka-", supportedVersions),
+                images("strimzi/kafka-mirror-maker-2:latest-kafka-", supportedVersions));
+    }
+
+    private static Map<String, String> images(String prefix, Set<String> versions)   {
+        Map<String, String> images = new HashMap<>(versions.size());
+
+        for (String version : versions) {
+            images.put(version, prefix + version);
+        }
+
+        return images;
+    }
+
+    /**
+     * Creates the listeners. Every other listener uses TLS encryption and TLS client authentication.
+     *
+     * @param listeners     Number of listeners
+     *
+     * @return  List with the listeners
+     */
+    public static List<GenericKafkaListener> listeners(int listeners)   {
+        List<GenericKafkaListener> result = new ArrayList<>(listeners);
+
+        for (int i = 0; i < listeners; i++) {
+            GenericKafkaListenerBuilder listener = new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9092 + i)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(i % 2 == 1);
+
+            if (i % 2 == 1) {
+                listener.withNewKafkaListenerAuthenticationTlsAuth()
+                        .endKafkaListenerAuthenticationTlsAuth();
+            }
+
+            result.add(listener.build());
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the Kafka custom resource
+     *
+     * @param brokers       Number of Kafka brokers
+     * @param listeners     Number of listeners
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(int brokers, int listeners)   {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(brokers)
+                        .withListeners(listeners(listeners))
+                        .withAuthorization(new KafkaAuthorizationSimpleBuilder()
+                                .withSuperUsers("CN=admin", "CN=operator")
+                                .build())
+                        .withConfig(DYNAMIC_BROKER_CONFIG)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+}
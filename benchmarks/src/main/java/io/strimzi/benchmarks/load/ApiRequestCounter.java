@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the requests received by the Kubernetes mock server. The mock server keeps every request it received in
+ * memory, so the counter also has to consume them continuously to not distort the heap measurements.
+ *
+ * Only requests from the operators are counted. The requests done by the simulator itself and by the mock controllers
+ * are recognized by their User-Agent header and skipped.
+ */
+public class ApiRequestCounter implements Runnable {
+    private final KubernetesMockServer server;
+    private final String ignoredUserAgent;
+    private final Map<String, Long> requests = new HashMap<>();
+
+    private volatile boolean stopped = false;
+
+    /**
+     * Constructs the request counter
+     *
+     * @param server            Kubernetes mock server
+     * @param ignoredUserAgent  User agent of the requests which should not be counted
+     */
+    public ApiRequestCounter(KubernetesMockServer server, String ignoredUserAgent) {
+        this.server = server;
+        this.ignoredUserAgent = ignoredUserAgent;
+    }
+
+    @Override
+    public void run() {
+        while (!stopped) {
+            try {
+                RecordedRequest request = server.takeRequest(100, TimeUnit.MILLISECONDS);
+
+                if (request != null && !ignoredUserAgent.equals(request.getHeader("User-Agent"))) {
+                    String key = (isWatch(request) ? "WATCH" : request.getMethod()) + " " + resourceType(request.getPath());
+
+                    synchronized (requests) {
+                        requests.merge(key, 1L, Long::sum);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the counter
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return  Number of requests by the method and the resource type
+     */
+    public Map<String, Long> requests() {
+        synchronized (requests) {
+            return new HashMap<>(requests);
+        }
+    }
+
+    /**
+     * @return  Total number of requests done by the operators
+     */
+    public long total() {
+        return requests().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static boolean isWatch(RecordedRequest request)    {
+        return request.getPath() != null && request.getPath().contains("watch=true");
+    }
+
+    /**
+     * Extracts the resource type from the request path. For example, {@code /api/v1/namespaces/ns/pods/my-pod/status}
+     * returns {@code pods}.
+     *
+     * @param path  Path of the request
+     *
+     * @return  Resource type
+     */
+    private static String resourceType(String path)  {
+        if (path == null) {
+            return "unknown";
+        }
+
+        String[] segments = path.split("\\?")[0].split("/");
+        int namespaces = -1;
+
+        for (int i = 0; i < segments.length; i++) {
+            if ("namespaces".equals(segments[i])) {
+                namespaces = i;
+                break;
+            }
+        }
+
+        if (namespaces >= 0 && segments.length > namespaces + 2) {
+            return segments[namespaces + 2];
+        } else {
+            return segments[segments.length - 1];
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.admin.TopicListing;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidPartitionsException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.message.DescribeUserScramCredentialsResponseData;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-JVM stand-in for a Kafka cluster used by the load simulator. It keeps the topics, broker configurations, SCRAM-SHA
+ * users, quotas and ACLs in memory and exposes them through the Kafka {@link Admin} interface, so that the real operator
+ * code can run against it without any Kafka brokers. Only the Admin API methods used by the operators are implemented.
+ * Any other method fails with {@link UnsupportedOperationException}.
+ *
+ * When a broker configuration is described for the first time, it is loaded from the per-broker ConfigMap created by
+ * the Cluster Operator. This emulates the broker being started with the configuration prepared by the operator.
+ */
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
+public class InMemoryKafka {
+    private static final int BROKERS = 3;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String clusterName;
+    private final Map<String, LongAdder> calls;
+
+    private final Map<String, TopicState> topics = new HashMap<>();
+    private final Map<ConfigResource, Map<String, String>> configs = new HashMap<>();
+    private final Set<String> scramUsers = new HashSet<>();
+    private final Map<ClientQuotaEntity, Map<String, Double>> quotas = new HashMap<>();
+    private final Set<AclBinding> acls = new HashSet<>();
+    private final List<Node> nodes = new ArrayList<>(BROKERS);
+
+    /**
+     * Constructs the in-memory Kafka cluster
+     *
+     * @param client        Kubernetes client used to load the broker configurations
+     * @param namespace     Namespace of the Kafka cluster
+     * @param clusterName   Name of the Kafka cluster
+     * @param calls         Map used to count the Admin API calls by the method name. It is shared between clusters.
+     */
+    public InMemoryKafka(KubernetesClient client, String namespace, String clusterName, Map<String, LongAdder> calls) {
+        this.client = client;
+        this.namespace = namespace;
+        this.clusterName = clusterName;
+        this.calls = calls;
+
+        for (int i = 0; i < BROKERS; i++) {
+            nodes.add(new Node(i, clusterName + "-kafka-" + i, 9091));
+        }
+    }
+
+    /**
+     * @return  Kafka Admin client backed by this in-memory cluster
+     */
+    public Admin admin() {
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> invoke(method, args));
+    }
+
+    /**
+     * @return  Number of topics existing in this cluster
+     */
+    public synchronized int topicCount() {
+        return topics.size();
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
+    private synchronized Object invoke(Method method, Object[] args) throws ReflectiveOperationException {
+        String name = method.getName();
+
+        switch (name) {
+            case "close":
+                return null;
+            case "toString":
+                return "InMemoryKafka(" + namespace + "/" + clusterName + ")";
+            case "hashCode":
+                return System.identityHashCode(this);
+            case "equals":
+                return false;
+            default:
+                calls.computeIfAbsent(name, k -> new LongAdder()).increment();
+        }
+
+        switch (name) {
+            case "describeCluster":
+                return result(DescribeClusterResult.class, new Class<?>[] {KafkaFuture.class, KafkaFuture.class, KafkaFuture.class, KafkaFuture.class},
+                        KafkaFuture.completedFuture(nodes), KafkaFuture.completedFuture(nodes.get(0)),
+                        KafkaFuture.completedFuture("in-memory-" + clusterName), KafkaFuture.completedFuture(null));
+            case "listTopics":
+                return listTopics();
+            case "describeTopics":
+                return describeTopics(topicNames(args[0]));
+            case "createTopics":
+                return createTopics((Collection<?>) args[0], args.length > 1 && ((CreateTopicsOptions) args[1]).shouldValidateOnly());
+            case "deleteTopics":
+                return deleteTopics(topicNames(args[0]));
+            case "createPartitions":
+                return createPartitions((Map<?, ?>) args[0]);
+            case "describeConfigs":
+                return describeConfigs((Collection<?>) args[0]);
+            case "alterConfigs":
+                return alterConfigs((Map<?, ?>) args[0]);
+            case "incrementalAlterConfigs":
+                return incrementalAlterConfigs((Map<?, ?>) args[0]);
+            case "describeUserScramCredentials":
+                return describeUserScramCredentials();
+            case "alterUserScramCredentials":
+                return alterUserScramCredentials((List<?>) args[0]);
+            case "describeClientQuotas":
+                return new DescribeClientQuotasResult(KafkaFuture.completedFuture(copy(quotas)));
+            case "alterClientQuotas":
+                return alterClientQuotas((Collection<?>) args[0]);
+            case "describeAcls":
+                return describeAcls((AclBindingFilter) args[0]);
+            case "createAcls":
+                return createAcls((Collection<?>) args[0]);
+            case "deleteAcls":
+                return deleteAcls((Collection<?>) args[0]);
+            default:
+                throw new UnsupportedOperationException("Admin method " + name + " is not supported by the in-memory Kafka cluster");
+        }
+    }
+
+    ////////////////////
+    // Topics
+    ////////////////////
+
+    private static Collection<String> topicNames(Object topics)  {
+        if (topics instanceof TopicCollection.TopicNameCollection topicNameCollection) {
+            return topicNameCollection.topicNames();
+        } else if (topics instanceof Collection<?> collection)   {
+            return collection.stream().map(String::valueOf).toList();
+        } else {
+            throw new UnsupportedOperationException("Topics can be identified only by their names in the in-memory Kafka cluster");
+        }
+    }
+
+    private ListTopicsResult listTopics() throws ReflectiveOperationException {
+        Map<String, TopicListing> listings = new HashMap<>(topics.size());
+
+        for (Map.Entry<String, TopicState> topic : topics.entrySet()) {
+            listings.put(topic.getKey(), new TopicListing(topic.getKey(), topic.getValue().id, false));
+        }
+
+        return result(ListTopicsResult.class, new Class<?>[] {KafkaFuture.class}, KafkaFuture.completedFuture(listings));
+    }
+
+    private DescribeTopicsResult describeTopics(Collection<String> names) throws ReflectiveOperationException {
+        Map<String, KafkaFuture<TopicDescription>> descriptions = new HashMap<>(names.size());
+
+        for (String name : names) {
+            TopicState topic = topics.get(name);
+
+            if (topic != null) {
+                List<TopicPartitionInfo> partitions = new ArrayList<>(topic.partitions);
+                List<Node> replicas = nodes.subList(0, Math.min(topic.replicationFactor, nodes.size()));
+
+                for (int i = 0; i < topic.partitions; i++) {
+                    partitions.add(new TopicPartitionInfo(i, replicas.get(0), replicas, replicas));
+                }
+
+                descriptions.put(name, KafkaFuture.completedFuture(new TopicDescription(name, false, partitions, Set.of(), topic.id)));
+            } else {
+                descriptions.put(name, failed(new UnknownTopicOrPartitionException("Topic " + name + " does not exist")));
+            }
+        }
+
+        return result(DescribeTopicsResult.class, new Class<?>[] {Map.class}, descriptions);
+    }
+
+    private CreateTopicsResult createTopics(Collection<?> newTopics, boolean validateOnly) throws ReflectiveOperationException {
+        Map<String, KafkaFuture<CreateTopicsResult.TopicMetadataAndConfig>> results = new HashMap<>(newTopics.size());
+
+        for (Object o : newTopics) {
+            NewTopic newTopic = (NewTopic) o;
+
+            if (topics.containsKey(newTopic.name())) {
+                results.put(newTopic.name(), failed(new TopicExistsException("Topic " + newTopic.name() + " already exists")));
+            } else {
+                TopicState topic = new TopicState(Uuid.randomUuid(),
+                        newTopic.numPartitions() > 0 ? newTopic.numPartitions() : 1,
+                        newTopic.replicationFactor() > 0 ? newTopic.replicationFactor() : BROKERS,
+                        newTopic.configs() != null ? new HashMap<>(newTopic.configs()) : new HashMap<>());
+
+                if (!validateOnly) {
+                    topics.put(newTopic.name(), topic);
+                }
+
+                results.put(newTopic.name(), KafkaFuture.completedFuture(new CreateTopicsResult.TopicMetadataAndConfig(topic.id, topic.partitions, topic.replicationFactor, topicConfig(topic))));
+            }
+        }
+
+        return result(CreateTopicsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    private DeleteTopicsResult deleteTopics(Collection<String> names) throws ReflectiveOperationException {
+        Map<String, KafkaFuture<Void>> results = new HashMap<>(names.size());
+
+        for (String name : names) {
+            if (topics.remove(name) != null) {
+                configs.remove(new ConfigResource(ConfigResource.Type.TOPIC, name));
+                results.put(name, KafkaFuture.completedFuture(null));
+            } else {
+                results.put(name, failed(new UnknownTopicOrPartitionException("Topic " + name + " does not exist")));
+            }
+        }
+
+        return result(DeleteTopicsResult.class, new Class<?>[] {Map.class, Map.class}, null, results);
+    }
+
+    private CreatePartitionsResult createPartitions(Map<?, ?> newPartitions) throws ReflectiveOperationException {
+        Map<String, KafkaFuture<Void>> results = new HashMap<>(newPartitions.size());
+
+        for (Map.Entry<?, ?> entry : newPartitions.entrySet()) {
+            String name = (String) entry.getKey();
+            int count = ((NewPartitions) entry.getValue()).totalCount();
+            TopicState topic = topics.get(name);
+
+            if (topic == null) {
+                results.put(name, failed(new UnknownTopicOrPartitionException("Topic " + name + " does not exist")));
+            } else if (count <= topic.partitions) {
+                results.put(name, failed(new InvalidPartitionsException("Topic " + name + " already has " + topic.partitions + " partitions")));
+            } else {
+                topic.partitions = count;
+                results.put(name, KafkaFuture.completedFuture(null));
+            }
+        }
+
+        return result(CreatePartitionsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    private static Config topicConfig(TopicState topic)    {
+        return new Config(topic.config.entrySet().stream().map(e -> new ConfigEntry(e.getKey(), e.getValue())).toList());
+    }
+
+    ////////////////////
+    // Configurations
+    ////////////////////
+
+    private Map<String, String> currentConfig(ConfigResource resource)   {
+        if (resource.type() == ConfigResource.Type.TOPIC) {
+            TopicState topic = topics.get(resource.name());
+            return topic != null ? topic.config : null;
+        } else {
+            return configs.computeIfAbsent(resource, r -> r.type() == ConfigResource.Type.BROKER ? startupBrokerConfig(r.name()) : new HashMap<>());
+        }
+    }
+
+    /**
+     * Loads the configuration the broker would use when starting from its per-broker ConfigMap
+     *
+     * @param brokerId  ID of the broker
+     *
+     * @return  Map with the broker configuration
+     */
+    private Map<String, String> startupBrokerConfig(String brokerId)   {
+        ConfigMap cm = client.configMaps().inNamespace(namespace).withName(clusterName + "-kafka-" + brokerId).get();
+        Map<String, String> config = new HashMap<>();
+
+        if (cm != null && cm.getData() != null && cm.getData().get("server.config") != null) {
+            config.putAll(new OrderedProperties().addStringPairs(cm.getData().get("server.config")).asMap());
+        }
+
+        return config;
+    }
+
+    private DescribeConfigsResult describeConfigs(Collection<?> resources) throws ReflectiveOperationException {
+        Map<ConfigResource, KafkaFuture<Config>> results = new HashMap<>(resources.size());
+
+        for (Object o : resources) {
+            ConfigResource resource = (ConfigResource) o;
+            Map<String, String> current = currentConfig(resource);
+
+            if (current != null) {
+                results.put(resource, KafkaFuture.completedFuture(new Config(current.entrySet().stream().map(e -> new ConfigEntry(e.getKey(), e.getValue())).toList())));
+            } else {
+                results.put(resource, failed(new UnknownTopicOrPartitionException("Topic " + resource.name() + " does not exist")));
+            }
+        }
+
+        return result(DescribeConfigsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    private AlterConfigsResult alterConfigs(Map<?, ?> newConfigs) throws ReflectiveOperationException {
+        Map<ConfigResource, KafkaFuture<Void>> results = new HashMap<>(newConfigs.size());
+
+        for (Map.Entry<?, ?> entry : newConfigs.entrySet()) {
+            ConfigResource resource = (ConfigResource) entry.getKey();
+            Map<String, String> current = currentConfig(resource);
+
+            if (current != null) {
+                current.clear();
+                ((Config) entry.getValue()).entries().forEach(e -> current.put(e.name(), e.value()));
+                results.put(resource, KafkaFuture.completedFuture(null));
+            } else {
+                results.put(resource, failed(new UnknownTopicOrPartitionException("Topic " + resource.name() + " does not exist")));
+            }
+        }
+
+        return result(AlterConfigsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    private AlterConfigsResult incrementalAlterConfigs(Map<?, ?> alterations) throws ReflectiveOperationException {
+        Map<ConfigResource, KafkaFuture<Void>> results = new HashMap<>(alterations.size());
+
+        for (Map.Entry<?, ?> entry : alterations.entrySet()) {
+            ConfigResource resource = (ConfigResource) entry.getKey();
+            Map<String, String> current = currentConfig(resource);
+
+            if (current != null) {
+                for (Object o : (Collection<?>) entry.getValue()) {
+                    AlterConfigOp op = (AlterConfigOp) o;
+
+                    if (op.opType() == AlterConfigOp.OpType.DELETE) {
+                        current.remove(op.configEntry().name());
+                    } else {
+                        current.put(op.configEntry().name(), op.configEntry().value());
+                    }
+                }
+
+                results.put(resource, KafkaFuture.completedFuture(null));
+            } else {
+                results.put(resource, failed(new UnknownTopicOrPartitionException("Topic " + resource.name() + " does not exist")));
+            }
+        }
+
+        return result(AlterConfigsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    ////////////////////
+    // Users
+    ////////////////////
+
+    private DescribeUserScramCredentialsResult describeUserScramCredentials() throws ReflectiveOperationException {
+        List<DescribeUserScramCredentialsResponseData.DescribeUserScramCredentialsResult> users = new ArrayList<>(scramUsers.size());
+
+        for (String user : scramUsers) {
+            users.add(new DescribeUserScramCredentialsResponseData.DescribeUserScramCredentialsResult()
+                    .setUser(user)
+                    .setCredentialInfos(List.of(new DescribeUserScramCredentialsResponseData.CredentialInfo()
+                            .setMechanism((byte) 2)
+                            .setIterations(4096))));
+        }
+
+        return result(DescribeUserScramCredentialsResult.class, new Class<?>[] {KafkaFuture.class},
+                KafkaFuture.completedFuture(new DescribeUserScramCredentialsResponseData().setResults(users)));
+    }
+
+    private AlterUserScramCredentialsResult alterUserScramCredentials(List<?> alterations) {
+        Map<String, KafkaFuture<Void>> results = new HashMap<>(alterations.size());
+
+        for (Object o : alterations) {
+            UserScramCredentialAlteration alteration = (UserScramCredentialAlteration) o;
+
+            if (alteration instanceof UserScramCredentialDeletion) {
+                scramUsers.remove(alteration.user());
+            } else {
+                scramUsers.add(alteration.user());
+            }
+
+            results.put(alteration.user(), KafkaFuture.completedFuture(null));
+        }
+
+        return new AlterUserScramCredentialsResult(results);
+    }
+
+    private AlterClientQuotasResult alterClientQuotas(Collection<?> alterations) {
+        Map<ClientQuotaEntity, KafkaFuture<Void>> results = new HashMap<>(alterations.size());
+
+        for (Object o : alterations) {
+            ClientQuotaAlteration alteration = (ClientQuotaAlteration) o;
+            Map<String, Double> entityQuotas = quotas.computeIfAbsent(alteration.entity(), e -> new HashMap<>());
+
+            for (ClientQuotaAlteration.Op op : alteration.ops()) {
+                if (op.value() == null) {
+                    entityQuotas.remove(op.key());
+                } else {
+                    entityQuotas.put(op.key(), op.value());
+                }
+            }
+
+            if (entityQuotas.isEmpty()) {
+                quotas.remove(alteration.entity());
+            }
+
+            results.put(alteration.entity(), KafkaFuture.completedFuture(null));
+        }
+
+        return new AlterClientQuotasResult(results);
+    }
+
+    private static Map<ClientQuotaEntity, Map<String, Double>> copy(Map<ClientQuotaEntity, Map<String, Double>> quotas)  {
+        Map<ClientQuotaEntity, Map<String, Double>> copy = new HashMap<>(quotas.size());
+        quotas.forEach((entity, values) -> copy.put(entity, new HashMap<>(values)));
+        return copy;
+    }
+
+    private DescribeAclsResult describeAcls(AclBindingFilter filter) throws ReflectiveOperationException {
+        List<AclBinding> matching = acls.stream().filter(filter::matches).toList();
+        return result(DescribeAclsResult.class, new Class<?>[] {KafkaFuture.class}, KafkaFuture.completedFuture(matching));
+    }
+
+    private CreateAclsResult createAcls(Collection<?> bindings) throws ReflectiveOperationException {
+        Map<AclBinding, KafkaFuture<Void>> results = new HashMap<>(bindings.size());
+
+        for (Object o : bindings) {
+            acls.add((AclBinding) o);
+            results.put((AclBinding) o, KafkaFuture.completedFuture(null));
+        }
+
+        return result(CreateAclsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    private DeleteAclsResult deleteAcls(Collection<?> filters) throws ReflectiveOperationException {
+        Constructor<DeleteAclsResult.FilterResult> filterResultConstructor = DeleteAclsResult.FilterResult.class.getDeclaredConstructor(AclBinding.class, org.apache.kafka.common.errors.ApiException.class);
+        filterResultConstructor.setAccessible(true);
+        Constructor<DeleteAclsResult.FilterResults> filterResultsConstructor = DeleteAclsResult.FilterResults.class.getDeclaredConstructor(List.class);
+        filterResultsConstructor.setAccessible(true);
+
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results = new LinkedHashMap<>(filters.size());
+
+        for (Object o : filters) {
+            AclBindingFilter filter = (AclBindingFilter) o;
+            List<DeleteAclsResult.FilterResult> deleted = new ArrayList<>();
+
+            for (AclBinding binding : acls.stream().filter(filter::matches).toList()) {
+                acls.remove(binding);
+                deleted.add(filterResultConstructor.newInstance(binding, null));
+            }
+
+            results.put(filter, KafkaFuture.completedFuture(filterResultsConstructor.newInstance(deleted)));
+        }
+
+        return result(DeleteAclsResult.class, new Class<?>[] {Map.class}, results);
+    }
+
+    ////////////////////
+    // Utility methods
+    ////////////////////
+
+    private static <T> KafkaFuture<T> failed(Throwable cause)  {
+        KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    /**
+     * Creates the Admin API result. Most of the result classes do not have public constructors, so they are created
+     * using reflection.
+     */
+    private static <T> T result(Class<T> resultClass, Class<?>[] parameterTypes, Object... args) throws ReflectiveOperationException {
+        Constructor<T> constructor = resultClass.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return constructor.newInstance(args);
+    }
+
+    /**
+     * State of a single topic
+     */
+    private static class TopicState {
+        private final Uuid id;
+        private final short replicationFactor;
+        private final Map<String, String> config;
+        private int partitions;
+
+        TopicState(Uuid id, int partitions, short replicationFactor, Map<String, String> config) {
+            this.id = id;
+            this.partitions = partitions;
+            this.replicationFactor = replicationFactor;
+            this.config = config;
+        }
+    }
+
+    /**
+     * Creates and caches the in-memory Kafka clusters based on the bootstrap address used by the operators. This makes
+     * sure that all Admin clients connecting to the same cluster share the same state.
+     */
+    public static class Registry {
+        private final KubernetesClient client;
+        private final Map<String, InMemoryKafka> clusters = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+        /**
+         * Constructs the registry
+         *
+         * @param client    Kubernetes client used to load the broker configurations
+         */
+        public Registry(KubernetesClient client) {
+            this.client = client;
+        }
+
+        /**
+         * Finds or creates the in-memory Kafka cluster
+         *
+         * @param namespace     Namespace of the Kafka cluster
+         * @param clusterName   Name of the Kafka cluster
+         *
+         * @return  In-memory Kafka cluster
+         */
+        public InMemoryKafka cluster(String namespace, String clusterName) {
+            return clusters.computeIfAbsent(namespace + "/" + clusterName, k -> new InMemoryKafka(client, namespace, clusterName, calls));
+        }
+
+        /**
+         * Finds or creates the in-memory Kafka cluster based on the bootstrap address used by the Cluster Operator.
+         * The Cluster Operator connects either to the bootstrap service ({@code <cluster>-kafka-bootstrap.<namespace>.svc:9091})
+         * or to the individual brokers ({@code <cluster>-kafka-<id>.<cluster>-kafka-brokers.<namespace>.svc:9091}).
+         *
+         * @param bootstrap     Bootstrap address
+         *
+         * @return  In-memory Kafka cluster
+         */
+        public InMemoryKafka clusterForBootstrap(String bootstrap) {
+            String[] labels = bootstrap.split(",")[0].split(":")[0].split("\\.");
+
+            if (labels.length >= 3 && labels[1].endsWith("-kafka-brokers")) {
+                return cluster(labels[2], labels[1].substring(0, labels[1].length() - "-kafka-brokers".length()));
+            } else if (labels.length >= 2 && labels[0].endsWith("-kafka-bootstrap")) {
+                return cluster(labels[1], labels[0].substring(0, labels[0].length() - "-kafka-bootstrap".length()));
+            } else {
+                throw new IllegalArgumentException("Unexpected bootstrap address " + bootstrap);
+            }
+        }
+
+        /**
+         * @return  Number of Admin API calls by the method name
+         */
+        public Map<String, Long> calls() {
+            Map<String, Long> result = new HashMap<>(calls.size());
+            calls.forEach((method, count) -> result.put(method, count.sum()));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectBuilder;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.common.Annotations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Custom resources created by the load simulator and the changes done to them during the churn phase. All changes
+ * are done in a way that the operator can apply them without restarting any pods, for example by changing dynamically
+ * updatable broker configuration.
+ */
+public final class LoadResources {
+    /**
+     * Name of the Kafka cluster used by the Topic and User Operators
+     */
+    public static final String TOPIC_AND_USER_CLUSTER = "my-cluster";
+
+    /**
+     * Name of the Kafka Connect cluster used by the connectors
+     */
+    public static final String CONNECT_CLUSTER = "my-connect";
+
+    private static final String CLUSTER_LABEL = "strimzi.io/cluster";
+
+    private LoadResources() { }
+
+    /**
+     * Creates the Kafka custom resource
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the Kafka cluster
+     * @param brokers   Number of Kafka brokers
+     *
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka(String namespace, String name, int brokers) {
+        Kafka template = BenchmarkResources.kafka(brokers, 2);
+
+        return new KafkaBuilder(template)
+                .editMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withGeneration(null)
+                .endMetadata()
+                .editSpec()
+                    .editKafka()
+                        .withConfig(new HashMap<>(template.getSpec().getKafka().getConfig()))
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Changes the Kafka cluster in a way which can be applied dynamically without rolling the brokers
+     *
+     * @param kafka     Current Kafka custom resource
+     * @param iteration Sequence number of the change
+     *
+     * @return  Changed Kafka custom resource
+     */
+    public static Kafka changeKafka(Kafka kafka, long iteration) {
+        Map<String, Object> config = new HashMap<>(kafka.getSpec().getKafka().getConfig());
+        config.put("log.retention.ms", 604_800_000L + iteration);
+
+        return new KafkaBuilder(kafka)
+                .editSpec()
+                    .editKafka()
+                        .withConfig(config)
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the KafkaConnect custom resource which uses the KafkaConnector resources
+     *
+     * @param namespace Namespace of the resource
+     *
+     * @return  KafkaConnect custom resource
+     */
+    public static KafkaConnect connect(String namespace) {
+        return new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(CONNECT_CLUSTER)
+                    .withNamespace(namespace)
+                    .withAnnotations(Map.of(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true"))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withBootstrapServers(TOPIC_AND_USER_CLUSTER + "-kafka-bootstrap:9092")
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the KafkaTopic custom resource
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the topic
+     *
+     * @return  KafkaTopic custom resource
+     */
+    public static KafkaTopic topic(String namespace, String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of(CLUSTER_LABEL, TOPIC_AND_USER_CLUSTER))
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(3)
+                    .withConfig(Map.of("retention.ms", 604_800_000L, "cleanup.policy", "delete"))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Changes the topic configuration
+     *
+     * @param topic     Current KafkaTopic custom resource
+     * @param iteration Sequence number of the change
+     *
+     * @return  Changed KafkaTopic custom resource
+     */
+    public static KafkaTopic changeTopic(KafkaTopic topic, long iteration) {
+        Map<String, Object> config = new HashMap<>(topic.getSpec().getConfig());
+        config.put("retention.ms", 604_800_000L + iteration);
+
+        return new KafkaTopicBuilder(topic)
+                .editSpec()
+                    .withConfig(config)
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the KafkaUser custom resource using SCRAM-SHA-512 authentication, ACLs and quotas
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the user
+     *
+     * @return  KafkaUser custom resource
+     */
+    public static KafkaUser user(String namespace, String name) {
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of(CLUSTER_LABEL, TOPIC_AND_USER_CLUSTER))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafkaUserScramSha512ClientAuthentication()
+                    .endKafkaUserScramSha512ClientAuthentication()
+                    .withNewKafkaUserAuthorizationSimple()
+                        .addNewAcl()
+                            .withNewAclRuleTopicResource()
+                                .withName(name)
+                                .withPatternType(io.strimzi.api.kafka.model.AclResourcePatternType.PREFIX)
+                            .endAclRuleTopicResource()
+                            .withOperations(AclOperation.READ, AclOperation.WRITE, AclOperation.DESCRIBE)
+                        .endAcl()
+                        .addNewAcl()
+                            .withNewAclRuleGroupResource()
+                                .withName(name)
+                            .endAclRuleGroupResource()
+                            .withOperations(AclOperation.READ)
+                        .endAcl()
+                    .endKafkaUserAuthorizationSimple()
+                    .withNewQuotas()
+                        .withProducerByteRate(1_048_576)
+                        .withConsumerByteRate(1_048_576)
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Changes the user quotas
+     *
+     * @param user      Current KafkaUser custom resource
+     * @param iteration Sequence number of the change
+     *
+     * @return  Changed KafkaUser custom resource
+     */
+    public static KafkaUser changeUser(KafkaUser user, long iteration) {
+        return new KafkaUserBuilder(user)
+                .editSpec()
+                    .editQuotas()
+                        .withProducerByteRate(1_048_576 + (int) (iteration % 1_000_000))
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the KafkaConnector custom resource
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the connector
+     *
+     * @return  KafkaConnector custom resource
+     */
+    public static KafkaConnector connector(String namespace, String name) {
+        return new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of(CLUSTER_LABEL, CONNECT_CLUSTER))
+                .endMetadata()
+                .withNewSpec()
+                    .withClassName("org.apache.kafka.connect.file.FileStreamSourceConnector")
+                    .withTasksMax(1)
+                    .withConfig(Map.of("file", "/tmp/" + name, "topic", name))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Changes the connector configuration
+     *
+     * @param connector Current KafkaConnector custom resource
+     * @param iteration Sequence number of the change
+     *
+     * @return  Changed KafkaConnector custom resource
+     */
+    public static KafkaConnector changeConnector(KafkaConnector connector, long iteration) {
+        Map<String, Object> config = new HashMap<>(connector.getSpec().getConfig());
+        config.put("file", "/tmp/" + connector.getMetadata().getName() + "-" + iteration);
+
+        return new KafkaConnectorBuilder(connector)
+                .editSpec()
+                    .withConfig(config)
+                .endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,622 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaConnectList;
+import io.strimzi.api.kafka.KafkaConnectorList;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperator;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.assembly.InMemoryKafkaConnectApi;
+import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
+import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
+import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.SimulatedTopicOperator;
+import io.strimzi.operator.user.SimulatedUserOperator;
+import io.strimzi.platform.KubernetesVersion;
+import io.strimzi.test.mockkube2.MockKube2;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Load simulator for the Strimzi operators. It runs the real Cluster Operator, User Operator and Topic Operator against
+ * the Kubernetes mock server (with the {@link MockKube2} controllers emulating the Kubernetes workloads), in-memory
+ * Kafka clusters ({@link InMemoryKafka}) and an in-memory Kafka Connect REST API. This allows to study how the
+ * operators behave with thousands of custom resources without any real Kubernetes or Kafka cluster.
+ *
+ * The simulator runs in two phases:
+ *     - The create phase creates all the custom resources and waits for them to be reconciled
+ *     - The churn phase changes randomly selected custom resources at the configured rate and waits for the changes to
+ *       be reconciled
+ *
+ * For each phase, it reports the reconciliation throughput, the end-to-end reconciliation latency, the time the
+ * changes spent waiting for the operator, the Kubernetes API, Kafka Admin API and Kafka Connect REST API calls and the
+ * heap usage.
+ */
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ClassDataAbstractionCoupling"})
+public class LoadSimulator {
+    private static final Logger LOGGER = LogManager.getLogger(LoadSimulator.class);
+
+    /**
+     * User agent used by the simulator and by the mock controllers. Requests with this user agent are not counted.
+     */
+    private static final String SIMULATOR_USER_AGENT = "strimzi-load-simulator";
+    private static final String OPERATOR_USER_AGENT = "strimzi-operator";
+    private static final String NAMESPACE = BenchmarkResources.NAMESPACE;
+    private static final List<String> KINDS = List.of(Kafka.RESOURCE_KIND, KafkaConnect.RESOURCE_KIND, KafkaTopic.RESOURCE_KIND,
+            KafkaUser.RESOURCE_KIND, KafkaConnector.RESOURCE_KIND);
+
+    private final LoadSimulatorConfig config;
+    private final List<ChurnTarget<?>> targets = new ArrayList<>();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeap = new AtomicLong();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, long[]> reconciliationTimers = new HashMap<>();
+
+    private KubernetesClient client;
+    private ReconciliationTracker tracker;
+    private ApiRequestCounter apiRequestCounter;
+    private InMemoryKafka.Registry kafkas;
+    private InMemoryKafkaConnectApi connectApi;
+    private Map<String, Long> lastApiRequests = Map.of();
+    private Map<String, Long> lastAdminCalls = Map.of();
+    private Map<String, Long> lastConnectCalls = Map.of();
+
+    /**
+     * Constructs the load simulator
+     *
+     * @param config    Load simulator configuration
+     */
+    public LoadSimulator(LoadSimulatorConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Runs the load simulator
+     *
+     * @param args  Command line arguments
+     */
+    public static void main(String[] args) {
+        LoadSimulatorConfig config;
+
+        try {
+            config = LoadSimulatorConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadSimulatorConfig.USAGE);
+            System.exit(1);
+            return;
+        }
+
+        int exitCode = 1;
+
+        try {
+            JsonObject report = new LoadSimulator(config).run();
+            System.out.println(report.encodePrettily());
+
+            if (config.getReport() != null) {
+                writeReport(report, config.getReport());
+            }
+
+            exitCode = report.getBoolean("success") ? 0 : 2;
+        } catch (Exception e) {
+            LOGGER.error("Load simulation failed", e);
+        } finally {
+            // The operators use non-daemon threads, so we exit explicitly
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * Starts the mock environment and the operators, runs the simulation phases and shuts everything down again.
+     *
+     * @return  JSON report with the results of the simulation
+     *
+     * @throws Exception    When the simulation fails
+     */
+    public JsonObject run() throws Exception {
+        LOGGER.info("Starting load simulation with {}", config);
+
+        // Kubernetes mock server in the CRUD mode
+        KubernetesServer server = new KubernetesServer(false, true);
+        server.before();
+
+        Config baseConfig = server.getClient().getConfiguration();
+        client = new KubernetesClientBuilder().withConfig(new ConfigBuilder(baseConfig).withUserAgent(SIMULATOR_USER_AGENT).build()).build();
+        KubernetesClient operatorClient = new KubernetesClientBuilder().withConfig(new ConfigBuilder(baseConfig).withUserAgent(OPERATOR_USER_AGENT).build()).build();
+
+        apiRequestCounter = new ApiRequestCounter(server.getKubernetesMockServer(), SIMULATOR_USER_AGENT);
+        Thread counterThread = new Thread(apiRequestCounter, "api-request-counter");
+        counterThread.setDaemon(true);
+        counterThread.start();
+
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "heap-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heapSampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max), 0, 100, TimeUnit.MILLISECONDS);
+
+        MockKube2 mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaCrd()
+                .withKafkaTopicCrd()
+                .withKafkaUserCrd()
+                .withKafkaConnectCrd()
+                .withKafkaConnectorCrd()
+                .withKafkaMirrorMakerCrd()
+                .withKafkaBridgeCrd()
+                .withKafkaMirrorMaker2Crd()
+                .withKafkaRebalanceCrd()
+                .withStrimziPodSetCrd()
+                .withDeploymentController()
+                .withPodController()
+                .withServiceController()
+                .build();
+        mockKube.start();
+
+        Vertx vertx = Vertx.vertx();
+        MetricsProvider metricsProvider = new MicrometerMetricsProvider(meterRegistry);
+        kafkas = new InMemoryKafka.Registry(client);
+        connectApi = new InMemoryKafkaConnectApi();
+
+        String labels = "strimzi.io/cluster=" + LoadResources.TOPIC_AND_USER_CLUSTER;
+        Admin topicAndUserAdmin = kafkas.cluster(NAMESPACE, LoadResources.TOPIC_AND_USER_CLUSTER).admin();
+        SimulatedUserOperator userOperator = new SimulatedUserOperator(operatorClient, topicAndUserAdmin, NAMESPACE, labels, config.getReconciliationIntervalMs(), metricsProvider);
+        SimulatedTopicOperator topicOperator = new SimulatedTopicOperator(operatorClient, topicAndUserAdmin, NAMESPACE, labels, config.getReconciliationIntervalMs(), metricsProvider);
+
+        tracker = new ReconciliationTracker(client, NAMESPACE);
+        tracker.track(Kafka.RESOURCE_KIND, Kafka.class, KafkaList.class);
+        tracker.track(KafkaConnect.RESOURCE_KIND, KafkaConnect.class, KafkaConnectList.class);
+        tracker.track(KafkaTopic.RESOURCE_KIND, KafkaTopic.class, KafkaTopicList.class);
+        tracker.track(KafkaUser.RESOURCE_KIND, KafkaUser.class, KafkaUserList.class);
+        tracker.track(KafkaConnector.RESOURCE_KIND, KafkaConnector.class, KafkaConnectorList.class);
+
+        try {
+            startClusterOperator(vertx, operatorClient, metricsProvider);
+            userOperator.start();
+            await(vertx.deployVerticle(topicOperator));
+
+            // Reset the counters so that the phases do not include the operator startup
+            snapshotCounters();
+
+            JsonArray phases = new JsonArray()
+                    .add(createPhase())
+                    .add(churnPhase());
+
+            boolean success = phases.stream().allMatch(phase -> ((JsonObject) phase).getLong("notReconciled") == 0);
+
+            return new JsonObject()
+                    .put("success", success)
+                    .put("configuration", new JsonObject()
+                            .put("kafkas", config.getKafkas())
+                            .put("brokers", config.getBrokers())
+                            .put("topics", config.getTopics())
+                            .put("users", config.getUsers())
+                            .put("connectors", config.getConnectors())
+                            .put("churnRate", config.getChurnRate())
+                            .put("churnDurationSeconds", config.getChurnDurationSeconds())
+                            .put("reconciliationIntervalMs", config.getReconciliationIntervalMs()))
+                    .put("phases", phases);
+        } finally {
+            LOGGER.info("Shutting down the load simulation");
+            tracker.stop();
+            userOperator.stop();
+            await(vertx.close());
+            mockKube.stop();
+            apiRequestCounter.stop();
+            heapSampler.shutdownNow();
+            operatorClient.close();
+            client.close();
+            server.after();
+        }
+    }
+
+    private void startClusterOperator(Vertx vertx, KubernetesClient operatorClient, MetricsProvider metricsProvider) throws Exception {
+        ClusterOperatorConfig coConfig = ClusterOperatorConfig.fromMap(Map.of(
+                "STRIMZI_NAMESPACE", NAMESPACE,
+                ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, String.valueOf(config.getReconciliationIntervalMs())),
+                BenchmarkResources.kafkaVersions());
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION);
+        PodSecurityProviderFactory.initialize(coConfig.getPodSecurityProviderClass(), pfa);
+
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, operatorClient, zookeeperLeaderFinder(vertx), adminClientProvider(),
+                zookeeperScalerProvider(), metricsProvider, pfa, coConfig.getOperationTimeoutMs());
+
+        OpenSslCertManager certManager = new OpenSslCertManager();
+        PasswordGenerator passwordGenerator = new PasswordGenerator(12,
+                "abcdefghijklmnopqrstuvwxyz" +
+                        "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+                "abcdefghijklmnopqrstuvwxyz" +
+                        "ABCDEFGHIJKLMNOPQRSTUVWXYZ" +
+                        "0123456789");
+
+        ClusterOperator operator = new ClusterOperator(NAMESPACE,
+                coConfig,
+                operatorClient,
+                new KafkaAssemblyOperator(vertx, pfa, certManager, passwordGenerator, supplier, coConfig),
+                connectApi.connectAssemblyOperator(vertx, pfa, supplier, coConfig),
+                new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, supplier, coConfig),
+                new KafkaMirrorMaker2AssemblyOperator(vertx, pfa, supplier, coConfig),
+                new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, supplier, coConfig),
+                new KafkaRebalanceAssemblyOperator(vertx, supplier, coConfig),
+                supplier);
+
+        await(vertx.deployVerticle(operator));
+    }
+
+    /**
+     * ZooKeeper is not simulated, so every ZooKeeper pod is considered to be the leader
+     */
+    private static ZookeeperLeaderFinder zookeeperLeaderFinder(Vertx vertx) {
+        return new ZookeeperLeaderFinder(vertx, () -> new BackOff(5_000, 2, 4)) {
+            @Override
+            protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions options) {
+                return Future.succeededFuture(true);
+            }
+
+            @Override
+            protected PemTrustOptions trustOptions(Reconciliation reconciliation, Secret s) {
+                return new PemTrustOptions();
+            }
+
+            @Override
+            protected PemKeyCertOptions keyCertOptions(Secret s) {
+                return new PemKeyCertOptions();
+            }
+        };
+    }
+
+    /**
+     * ZooKeeper is not simulated, so the ZooKeeper configuration is always considered to be up-to-date
+     */
+    private static ZookeeperScalerProvider zookeeperScalerProvider() {
+        return (reconciliation, vertx, zookeeperConnectionString, zkNodeAddress, clusterCaCertSecret, coKeySecret, operationTimeoutMs, zkAdminSessionTimeoutMs) -> new ZookeeperScaler(reconciliation, vertx, null, zookeeperConnectionString, zkNodeAddress, clusterCaCertSecret, coKeySecret, operationTimeoutMs, zkAdminSessionTimeoutMs) {
+            @Override
+            public Future<Void> scale(int scaleTo) {
+                return Future.succeededFuture();
+            }
+        };
+    }
+
+    private AdminClientProvider adminClientProvider() {
+        return new AdminClientProvider() {
+            @Override
+            public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+                return createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName, new Properties());
+            }
+
+            @Override
+            public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName, Properties config) {
+                return kafkas.clusterForBootstrap(bootstrapHostnames).admin();
+            }
+        };
+    }
+
+    /**
+     * Creates all custom resources and waits until they are reconciled
+     */
+    private JsonObject createPhase() throws InterruptedException {
+        LOGGER.info("Starting the create phase");
+        long start = System.nanoTime();
+        long changes = 0;
+
+        for (int i = 0; i < config.getKafkas(); i++) {
+            String name = i == 0 ? LoadResources.TOPIC_AND_USER_CLUSTER : LoadResources.TOPIC_AND_USER_CLUSTER + "-" + i;
+            changes += create(Kafka.RESOURCE_KIND, Crds.kafkaOperation(client), LoadResources.kafka(NAMESPACE, name, config.getBrokers()), LoadResources::changeKafka);
+        }
+
+        if (config.getConnectors() > 0) {
+            changes += create(KafkaConnect.RESOURCE_KIND, Crds.kafkaConnectOperation(client), LoadResources.connect(NAMESPACE), null);
+        }
+
+        for (int i = 0; i < config.getTopics(); i++) {
+            changes += create(KafkaTopic.RESOURCE_KIND, Crds.topicOperation(client), LoadResources.topic(NAMESPACE, "topic-" + i), LoadResources::changeTopic);
+        }
+
+        for (int i = 0; i < config.getUsers(); i++) {
+            changes += create(KafkaUser.RESOURCE_KIND, Crds.kafkaUserOperation(client), LoadResources.user(NAMESPACE, "user-" + i), LoadResources::changeUser);
+        }
+
+        for (int i = 0; i < config.getConnectors(); i++) {
+            changes += create(KafkaConnector.RESOURCE_KIND, Crds.kafkaConnectorOperation(client), LoadResources.connector(NAMESPACE, "connector-" + i), LoadResources::changeConnector);
+        }
+
+        return finishPhase("create", start, changes);
+    }
+
+    private <T extends CustomResource<?, ?>, L> long create(String kind, MixedOperation<T, L, Resource<T>> operation, T resource, BiFunction<T, Long, T> change) {
+        String name = resource.getMetadata().getName();
+        Resource<T> handle = operation.inNamespace(NAMESPACE).withName(name);
+
+        tracker.expect(kind, name, 1L);
+        operation.inNamespace(NAMESPACE).resource(resource).create();
+
+        if (change != null) {
+            targets.add(new ChurnTarget<>(kind, name, handle, change));
+        }
+
+        return 1;
+    }
+
+    /**
+     * Changes randomly selected custom resources at the configured rate and waits until the changes are reconciled
+     */
+    private JsonObject churnPhase() throws InterruptedException {
+        LOGGER.info("Starting the churn phase");
+        long start = System.nanoTime();
+        long changes = 0;
+
+        if (!targets.isEmpty() && config.getChurnRate() > 0) {
+            Random random = new Random(42);
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getChurnRate();
+            long end = start + TimeUnit.SECONDS.toNanos(config.getChurnDurationSeconds());
+            long next = start;
+
+            while (next < end) {
+                ChurnTarget<?> target = targets.get(random.nextInt(targets.size()));
+                long generation = target.nextGeneration();
+                tracker.expect(target.kind(), target.name(), generation);
+                target.apply(changes);
+                changes++;
+
+                next += intervalNanos;
+                long sleep = next - System.nanoTime();
+                if (sleep > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                }
+            }
+        }
+
+        return finishPhase("churn", start, changes);
+    }
+
+    /**
+     * Waits for the pending changes and collects the results of the phase
+     */
+    private JsonObject finishPhase(String name, long start, long changes) throws InterruptedException {
+        long submitted = System.nanoTime();
+        LOGGER.info("Waiting for {} changes from the {} phase to be reconciled", tracker.pending(), name);
+
+        if (!tracker.awaitReconciled(config.getTimeoutSeconds())) {
+            LOGGER.warn("{} changes were not reconciled within {} seconds", tracker.pending(), config.getTimeoutSeconds());
+        }
+
+        long end = System.nanoTime();
+        Map<String, List<Long>> latencies = tracker.drainLatencies();
+        long reconciled = latencies.values().stream().mapToLong(List::size).sum();
+        long notReconciled = tracker.pending();
+        double durationSeconds = (end - start) / 1e9;
+
+        JsonObject kinds = new JsonObject();
+        for (String kind : KINDS) {
+            List<Long> kindLatencies = latencies.getOrDefault(kind, List.of());
+
+            if (!kindLatencies.isEmpty() || tracker.pending(kind) > 0) {
+                kinds.put(kind, kindReport(kind, kindLatencies));
+            }
+        }
+
+        Map<String, Long> apiRequests = delta(apiRequestCounter.requests(), lastApiRequests);
+        Map<String, Long> adminCalls = delta(kafkas.calls(), lastAdminCalls);
+        Map<String, Long> connectCalls = delta(connectApi.calls(), lastConnectCalls);
+        snapshotCounters();
+
+        long apiRequestsTotal = apiRequests.values().stream().mapToLong(Long::longValue).sum();
+        long resources = targets.size();
+
+        // Drop the unreachable objects before measuring the heap used by the operators
+        System.gc();
+
+        JsonObject phase = new JsonObject()
+                .put("phase", name)
+                .put("durationSeconds", round(durationSeconds))
+                .put("drainSeconds", round((end - submitted) / 1e9))
+                .put("changes", changes)
+                .put("reconciled", reconciled)
+                .put("notReconciled", notReconciled)
+                .put("coalesced", Math.max(0, changes - reconciled - notReconciled))
+                .put("reconciliationsPerSecond", round(reconciled / durationSeconds))
+                .put("kinds", kinds)
+                .put("kubernetesApiRequests", new JsonObject()
+                        .put("total", apiRequestsTotal)
+                        .put("perResource", resources > 0 ? round((double) apiRequestsTotal / resources) : 0)
+                        .put("byRequest", new JsonObject(new HashMap<>(apiRequests))))
+                .put("kafkaAdminCalls", new JsonObject(new HashMap<>(adminCalls)))
+                .put("kafkaConnectRestCalls", new JsonObject(new HashMap<>(connectCalls)))
+                .put("heapUsedMb", round(memory.getHeapMemoryUsage().getUsed() / 1048576.0))
+                .put("heapPeakMb", round(peakHeap.getAndSet(0) / 1048576.0));
+
+        LOGGER.info("Phase {} finished: {}", name, phase.encode());
+
+        return phase;
+    }
+
+    private JsonObject kindReport(String kind, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+
+        double meanLatencyMs = sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1e6;
+        Double meanReconciliationMs = meanReconciliationMs(kind);
+
+        JsonObject report = new JsonObject()
+                .put("reconciled", sorted.size())
+                .put("notReconciled", tracker.pending(kind))
+                .put("latencyMs", new JsonObject()
+                        .put("mean", round(meanLatencyMs))
+                        .put("p50", percentileMs(sorted, 0.50))
+                        .put("p95", percentileMs(sorted, 0.95))
+                        .put("p99", percentileMs(sorted, 0.99))
+                        .put("max", percentileMs(sorted, 1.0)));
+
+        if (meanReconciliationMs != null) {
+            // The operators do not expose the time spent in their queues, so it is estimated as the difference
+            // between the end-to-end latency and the time spent in the reconciliation itself
+            report.put("meanReconciliationMs", round(meanReconciliationMs))
+                    .put("meanQueueLatencyMs", round(Math.max(0, meanLatencyMs - meanReconciliationMs)));
+        }
+
+        return report;
+    }
+
+    /**
+     * Calculates the mean reconciliation duration since the previous phase from the reconciliation timers of the
+     * operators. Returns null when the operator did not record any reconciliation for given kind.
+     */
+    private Double meanReconciliationMs(String kind) {
+        long count = 0;
+        double totalMs = 0;
+
+        for (Timer timer : meterRegistry.find("strimzi.reconciliations.duration").tag("kind", kind).timers()) {
+            count += timer.count();
+            totalMs += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+
+        long[] previous = reconciliationTimers.getOrDefault(kind, new long[] {0, 0});
+        reconciliationTimers.put(kind, new long[] {count, (long) totalMs});
+
+        long phaseCount = count - previous[0];
+        return phaseCount > 0 ? (totalMs - previous[1]) / phaseCount : null;
+    }
+
+    private void snapshotCounters() {
+        lastApiRequests = apiRequestCounter.requests();
+        lastAdminCalls = kafkas.calls();
+        lastConnectCalls = connectApi.calls();
+        KINDS.forEach(this::meanReconciliationMs);
+    }
+
+    private static Map<String, Long> delta(Map<String, Long> current, Map<String, Long> previous) {
+        Map<String, Long> delta = new HashMap<>(current.size());
+
+        current.forEach((key, value) -> {
+            long diff = value - previous.getOrDefault(key, 0L);
+
+            if (diff > 0) {
+                delta.put(key, diff);
+            }
+        });
+
+        return delta;
+    }
+
+    private static double percentileMs(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return round(sorted.get(Math.max(0, index)) / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get();
+    }
+
+    /**
+     * Custom resource which can be changed during the churn phase
+     *
+     * @param kind      Kind of the custom resource
+     * @param name      Name of the custom resource
+     * @param resource  Resource handle used to get and update the resource
+     * @param change    Function which changes the resource
+     * @param <T>       Type of the custom resource
+     */
+    private record ChurnTarget<T extends CustomResource<?, ?>>(String kind, String name, Resource<T> resource, BiFunction<T, Long, T> change) {
+        /**
+         * @return  Generation the resource will have after the next change
+         */
+        long nextGeneration() {
+            return resource.get().getMetadata().getGeneration() + 1;
+        }
+
+        /**
+         * Applies the change to the resource
+         *
+         * @param iteration Sequence number of the change
+         */
+        void apply(long iteration) {
+            resource.edit(current -> change.apply(current, iteration));
+        }
+    }
+
+    /**
+     * Writes the report to a file
+     *
+     * @param report    Report
+     * @param path      Path of the file
+     *
+     * @throws IOException  When the file cannot be written
+     */
+    static void writeReport(JsonObject report, String path) throws IOException {
+        Files.writeString(Path.of(path), report.encodePrettily(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the load simulator. The options are passed on the command line in the {@code --name=value} format.
+ */
+public class LoadSimulatorConfig {
+    /**
+     * Description of the options printed when the options are not valid
+     */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Options:",
+            "  --kafkas=<n>                       Number of Kafka clusters (default 1)",
+            "  --brokers=<n>                      Number of brokers in each Kafka cluster (default 3)",
+            "  --topics=<n>                       Number of KafkaTopic resources (default 100)",
+            "  --users=<n>                        Number of KafkaUser resources (default 100)",
+            "  --connectors=<n>                   Number of KafkaConnector resources (default 20)",
+            "  --churn-rate=<n>                   Number of resource changes per second during the churn phase (default 10)",
+            "  --churn-duration-seconds=<n>       Duration of the churn phase (default 60)",
+            "  --reconciliation-interval-ms=<n>   Periodic reconciliation interval of the operators (default 120000)",
+            "  --timeout-seconds=<n>              How long to wait for the resources to be reconciled after each phase (default 600)",
+            "  --report=<file>                    Path to a file where the report should be written as JSON (optional)");
+
+    private final int kafkas;
+    private final int brokers;
+    private final int topics;
+    private final int users;
+    private final int connectors;
+    private final int churnRate;
+    private final int churnDurationSeconds;
+    private final long reconciliationIntervalMs;
+    private final int timeoutSeconds;
+    private final String report;
+
+    private LoadSimulatorConfig(Map<String, String> options) {
+        this.kafkas = intOption(options, "kafkas", 1);
+        this.brokers = intOption(options, "brokers", 3);
+        this.topics = intOption(options, "topics", 100);
+        this.users = intOption(options, "users", 100);
+        this.connectors = intOption(options, "connectors", 20);
+        this.churnRate = intOption(options, "churn-rate", 10);
+        this.churnDurationSeconds = intOption(options, "churn-duration-seconds", 60);
+        this.reconciliationIntervalMs = intOption(options, "reconciliation-interval-ms", 120_000);
+        this.timeoutSeconds = intOption(options, "timeout-seconds", 600);
+        this.report = options.remove("report");
+
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        } else if (brokers <= 0 || reconciliationIntervalMs <= 0 || timeoutSeconds <= 0) {
+            throw new IllegalArgumentException("The number of brokers, reconciliation interval and timeout have to be positive");
+        }
+    }
+
+    /**
+     * Parses the load simulator configuration from the command line arguments
+     *
+     * @param args  Command line arguments
+     *
+     * @return  Load simulator configuration
+     */
+    public static LoadSimulatorConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>(args.length);
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid option " + arg);
+            }
+
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadSimulatorConfig(options);
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.remove(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+
+            if (parsed < 0) {
+                throw new IllegalArgumentException("Option " + name + " cannot be negative");
+            }
+
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option " + name + " has to be a number", e);
+        }
+    }
+
+    /**
+     * @return  Number of Kafka clusters
+     */
+    public int getKafkas() {
+        return kafkas;
+    }
+
+    /**
+     * @return  Number of brokers in each Kafka cluster
+     */
+    public int getBrokers() {
+        return brokers;
+    }
+
+    /**
+     * @return  Number of KafkaTopic resources
+     */
+    public int getTopics() {
+        return topics;
+    }
+
+    /**
+     * @return  Number of KafkaUser resources
+     */
+    public int getUsers() {
+        return users;
+    }
+
+    /**
+     * @return  Number of KafkaConnector resources
+     */
+    public int getConnectors() {
+        return connectors;
+    }
+
+    /**
+     * @return  Number of resource changes per second during the churn phase
+     */
+    public int getChurnRate() {
+        return churnRate;
+    }
+
+    /**
+     * @return  Duration of the churn phase in seconds
+     */
+    public int getChurnDurationSeconds() {
+        return churnDurationSeconds;
+    }
+
+    /**
+     * @return  Periodic reconciliation interval of the operators
+     */
+    public long getReconciliationIntervalMs() {
+        return reconciliationIntervalMs;
+    }
+
+    /**
+     * @return  How long to wait for the resources to be reconciled after each phase
+     */
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    /**
+     * @return  Path to the JSON report or null if no report should be written
+     */
+    public String getReport() {
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadSimulatorConfig(" +
+                "kafkas=" + kafkas +
+                ",brokers=" + brokers +
+                ",topics=" + topics +
+                ",users=" + users +
+                ",connectors=" + connectors +
+                ",churnRate=" + churnRate +
+                ",churnDurationSeconds=" + churnDurationSeconds +
+                ",reconciliationIntervalMs=" + reconciliationIntervalMs +
+                ",timeoutSeconds=" + timeoutSeconds +
+                ",report=" + report +
+                ")";
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.load;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.model.status.Status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the end-to-end reconciliation latency of the custom resources. The latency is measured from the moment the
+ * resource was created or changed until the operator reports the new generation in {@code .status.observedGeneration}.
+ * It includes the time the change spent waiting for the operator (watch delivery, queueing, locking) as well as the
+ * reconciliation itself.
+ */
+public class ReconciliationTracker {
+    private final KubernetesClient client;
+    private final String namespace;
+    private final Map<String, Expectation> pending = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    private final List<Watch> watches = new ArrayList<>();
+
+    /**
+     * Constructs the tracker
+     *
+     * @param client        Kubernetes client
+     * @param namespace     Namespace where the resources are
+     */
+    public ReconciliationTracker(KubernetesClient client, String namespace) {
+        this.client = client;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Starts tracking resources of given kind
+     *
+     * @param kind          Kind of the custom resource
+     * @param resourceClass Class of the custom resource
+     * @param listClass     Class of the custom resource list
+     * @param <T>           Type of the custom resource
+     * @param <L>           Type of the custom resource list
+     */
+    public <T extends CustomResource<?, ? extends Status>, L extends KubernetesResourceList<T>> void track(String kind, Class<T> resourceClass, Class<L> listClass) {
+        latencies.put(kind, Collections.synchronizedList(new ArrayList<>()));
+
+        watches.add(client.resources(resourceClass, listClass).inNamespace(namespace).watch(new Watcher<T>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                if (resource.getStatus() != null) {
+                    observed(kind, resource.getMetadata().getName(), resource.getStatus().getObservedGeneration());
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                // Nothing to do
+            }
+        }));
+    }
+
+    /**
+     * Registers the expected generation of a resource. This should be called before the resource is created or
+     * changed, to not miss the status update when the operator is very fast.
+     *
+     * @param kind          Kind of the custom resource
+     * @param name          Name of the custom resource
+     * @param generation    Generation which is expected to be observed by the operator
+     */
+    public void expect(String kind, String name, long generation) {
+        pending.put(kind + "/" + name, new Expectation(generation, System.nanoTime()));
+    }
+
+    private void observed(String kind, String name, long observedGeneration) {
+        String key = kind + "/" + name;
+        Expectation expectation = pending.get(key);
+
+        if (expectation != null
+                && observedGeneration >= expectation.generation()
+                && pending.remove(key, expectation)) {
+            latencies.get(kind).add(System.nanoTime() - expectation.startNanos());
+        }
+    }
+
+    /**
+     * @return  Number of changes which were not reconciled yet
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Waits until all changes are reconciled
+     *
+     * @param timeoutSeconds    Maximal time to wait
+     *
+     * @return  True if all changes were reconciled in time. False otherwise.
+     *
+     * @throws InterruptedException When interrupted while waiting
+     */
+    public boolean awaitReconciled(int timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        while (!pending.isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+
+            Thread.sleep(100);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the recorded latencies and clears them to start a new phase. Changes which are still pending are
+     * reported as not reconciled.
+     *
+     * @return  Map with the latencies in nanoseconds by the resource kind
+     */
+    public Map<String, List<Long>> drainLatencies() {
+        Map<String, List<Long>> result = new ConcurrentHashMap<>();
+
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            synchronized (entry.getValue()) {
+                result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+                entry.getValue().clear();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param kind  Kind of the custom resource
+     *
+     * @return  Number of pending changes of given kind
+     */
+    public long pending(String kind) {
+        return pending.keySet().stream().filter(key -> key.startsWith(kind + "/")).count();
+    }
+
+    /**
+     * Stops tracking the resources
+     */
+    public void stop() {
+        watches.forEach(Watch::close);
+    }
+
+    /**
+     * Expected generation of a resource
+     *
+     * @param generation    Generation the operator should observe
+     * @param startNanos    Time when the resource was changed
+     */
+    private record Expectation(long generation, long startNanos) { }
+}
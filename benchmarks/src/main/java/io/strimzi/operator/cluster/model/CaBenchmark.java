@@ -0,0 +1,73 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.benchmarks.BenchmarkResources.CLUSTER_NAME;
+import static io.strimzi.benchmarks.BenchmarkResources.NAMESPACE;
+
+/**
+ * Benchmarks generating certificates signed by the CA. This uses the OpenSSL based certificate manager, so the
+ * openssl binary has to be available on the path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CaBenchmark {
+    @Param({"1", "3", "9"})
+    int brokers;
+
+    private Ca ca;
+
+    /**
+     * Generates the CA used to sign the certificates
+     */
+    @Setup
+    public void setup() {
+        ca = new ClientsCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(12),
+                KafkaResources.clientsCaCertificateSecretName(CLUSTER_NAME), null,
+                KafkaResources.clientsCaKeySecretName(CLUSTER_NAME), null,
+                365, 30, true, CertificateExpirationPolicy.RENEW_CERTIFICATE);
+        ca.createRenewOrReplace(NAMESPACE, CLUSTER_NAME, Map.of(), Map.of(), Map.of(), null, true);
+    }
+
+    /**
+     * Generates one signed certificate for each broker
+     *
+     * @param blackhole     Blackhole consuming the generated certificates
+     *
+     * @throws IOException  Thrown when the certificate generation fails
+     */
+    @Benchmark
+    public void generateSignedCert(Blackhole blackhole) throws IOException {
+        for (int brokerId = 0; brokerId < brokers; brokerId++) {
+            blackhole.consume(ca.generateSignedCert(KafkaResources.kafkaPodName(CLUSTER_NAME, brokerId), Ca.IO_STRIMZI));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.KafkaAuthorization;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.benchmarks.BenchmarkResources.CLUSTER_NAME;
+import static io.strimzi.benchmarks.BenchmarkResources.NAMESPACE;
+
+/**
+ * Benchmarks generating the Kafka broker configuration
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaBrokerConfigurationBuilderBenchmark {
+    @Param({"3", "9", "27"})
+    int brokers;
+
+    @Param({"1", "4", "8"})
+    int listeners;
+
+    private List<GenericKafkaListener> kafkaListeners;
+    private KafkaAuthorization authorization;
+    private KafkaConfiguration configuration;
+
+    /**
+     * Prepares the listeners, authorization and user configuration
+     */
+    @Setup
+    public void setup() {
+        kafkaListeners = BenchmarkResources.listeners(listeners);
+        authorization = new KafkaAuthorizationSimpleBuilder()
+                .withSuperUsers("CN=admin", "CN=operator")
+                .build();
+        configuration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.DYNAMIC_BROKER_CONFIG.entrySet());
+    }
+
+    /**
+     * @return  Shared broker configuration with placeholders (as used with StatefulSets)
+     */
+    @Benchmark
+    public String sharedConfiguration() {
+        return new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
+                .withBrokerId()
+                .withZookeeper(CLUSTER_NAME)
+                .withListeners(CLUSTER_NAME, NAMESPACE, kafkaListeners)
+                .withAuthorization(CLUSTER_NAME, authorization, false)
+                .withUserConfiguration(configuration)
+                .build();
+    }
+
+    /**
+     * Generates the per-broker configurations of all brokers (as used with StrimziPodSets)
+     *
+     * @param blackhole     Blackhole consuming the generated configurations
+     */
+    @Benchmark
+    public void perBrokerConfigurations(Blackhole blackhole) {
+        for (int brokerId = 0; brokerId < brokers; brokerId++) {
+            String podName = KafkaResources.kafkaPodName(CLUSTER_NAME, brokerId);
+
+            blackhole.consume(new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
+                    .withBrokerId(String.valueOf(brokerId))
+                    .withZookeeper(CLUSTER_NAME)
+                    .withListeners(CLUSTER_NAME, NAMESPACE, kafkaListeners,
+                            () -> podName,
+                            listenerId -> podName + "." + listenerId + ".example.com",
+                            listenerId -> "9094",
+                            false)
+                    .withAuthorization(CLUSTER_NAME, authorization, false)
+                    .withUserConfiguration(configuration)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating the Kafka cluster model from the custom resource and generating the StrimziPodSet from it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaClusterBenchmark {
+    @Param({"3", "9", "27"})
+    int brokers;
+
+    @Param({"1", "4"})
+    int listeners;
+
+    private KafkaVersion.Lookup versions;
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+
+    /**
+     * Prepares the custom resource and the model
+     */
+    @Setup
+    public void setup() {
+        versions = BenchmarkResources.kafkaVersions();
+        kafka = BenchmarkResources.kafka(brokers, listeners);
+        kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+    }
+
+    /**
+     * @return  Kafka cluster model created from the custom resource
+     */
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions);
+    }
+
+    /**
+     * @return  StrimziPodSet generated from an existing model
+     */
+    @Benchmark
+    public StrimziPodSet generatePodSet() {
+        return kafkaCluster.generatePodSet(brokers, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of());
+    }
+
+    /**
+     * @return  StrimziPodSet generated from a newly created model, as done in every reconciliation
+     */
+    @Benchmark
+    public StrimziPodSet fromCrdAndGeneratePodSet() {
+        return KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, versions)
+                .generatePodSet(brokers, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between Pods and the generic maps stored in the StrimziPodSets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PodSetUtilsBenchmark {
+    @Param({"3", "9", "27"})
+    int brokers;
+
+    @Param({"1", "4"})
+    int listeners;
+
+    private List<Pod> pods;
+    private List<Map<String, Object>> maps;
+
+    /**
+     * Generates the broker Pods
+     */
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.kafka(brokers, listeners), BenchmarkResources.kafkaVersions());
+        maps = kafkaCluster.generatePodSet(brokers, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of()).getSpec().getPods();
+        pods = PodSetUtils.mapsToPods(maps);
+    }
+
+    /**
+     * @return  Pods converted to maps
+     */
+    @Benchmark
+    public List<Map<String, Object>> podsToMaps() {
+        return PodSetUtils.podsToMaps(pods);
+    }
+
+    /**
+     * @return  Maps converted to Pods
+     */
+    @Benchmark
+    public List<Pod> mapsToPods() {
+        return PodSetUtils.mapsToPods(maps);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.api.kafka.model.connect.ConnectorPluginBuilder;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-JVM stand-in for the Kafka Connect REST API used by the load simulator. It keeps the connectors of all Connect
+ * clusters in memory. All connectors are always running with a single task.
+ *
+ * It lives in the same package as the Connect operators because the 404 errors have to be reported using the
+ * package-private {@link ConnectRestException}.
+ */
+public class InMemoryKafkaConnectApi implements KafkaConnectApi {
+    private final Map<String, ConnectorState> connectors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the KafkaConnect assembly operator which uses this in-memory Connect REST API instead of connecting to
+     * the Connect clusters
+     *
+     * @param vertx     Vert.x instance
+     * @param pfa       Platform features availability
+     * @param supplier  Resource operator supplier
+     * @param config    Cluster Operator configuration
+     *
+     * @return  KafkaConnect assembly operator
+     */
+    public KafkaConnectAssemblyOperator connectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+        return new KafkaConnectAssemblyOperator(vertx, pfa, supplier, config, v -> this);
+    }
+
+    /**
+     * @return  Number of Connect REST API calls by the method name
+     */
+    public Map<String, Long> calls() {
+        Map<String, Long> result = new HashMap<>(calls.size());
+        calls.forEach((method, count) -> result.put(method, count.sum()));
+        return result;
+    }
+
+    private void count(String method)   {
+        calls.computeIfAbsent(method, k -> new LongAdder()).increment();
+    }
+
+    private static String key(String host, String connectorName)    {
+        return host + "##" + connectorName;
+    }
+
+    private <T> Future<T> notFound(String method, String path)   {
+        return Future.failedFuture(new ConnectRestException(method, path, 404, "Not Found", "Connector not found"));
+    }
+
+    @Override
+    public Future<Map<String, Object>> createOrUpdatePutRequest(Reconciliation reconciliation, String host, int port, String connectorName, JsonObject configJson) {
+        count("createOrUpdatePutRequest");
+        ConnectorState state = connectors.compute(key(host, connectorName), (k, current) -> new ConnectorState(current != null && current.paused, configJson));
+        return Future.succeededFuture(Map.of("name", connectorName, "config", state.config.getMap()));
+    }
+
+    @Override
+    public Future<Map<String, String>> getConnectorConfig(Reconciliation reconciliation, String host, int port, String connectorName) {
+        count("getConnectorConfig");
+        ConnectorState state = connectors.get(key(host, connectorName));
+
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName + "/config");
+        }
+
+        return Future.succeededFuture(config(connectorName, state));
+    }
+
+    private static Map<String, String> config(String connectorName, ConnectorState state) {
+        Map<String, String> config = new HashMap<>();
+        config.put("name", connectorName);
+        state.config.forEach(e -> {
+            if (e.getValue() != null) {
+                config.put(e.getKey(), e.getValue().toString());
+            }
+        });
+
+        return config;
+    }
+
+    @Override
+    public Future<Map<String, String>> getConnectorConfig(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
+        return getConnectorConfig(reconciliation, host, port, connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> getConnector(Reconciliation reconciliation, String host, int port, String connectorName) {
+        count("getConnector");
+        ConnectorState state = connectors.get(key(host, connectorName));
+
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName);
+        }
+
+        return Future.succeededFuture(Map.of("name", connectorName, "config", state.config.getMap(), "tasks", List.of()));
+    }
+
+    @Override
+    public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
+        count("delete");
+        return connectors.remove(key(host, connectorName)) != null ? Future.succeededFuture() : notFound("DELETE", "/connectors/" + connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName) {
+        count("status");
+        ConnectorState state = connectors.get(key(host, connectorName));
+
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName + "/status");
+        }
+
+        return Future.succeededFuture(status(host, connectorName, state));
+    }
+
+    private static Map<String, Object> status(String host, String connectorName, ConnectorState state) {
+        String connectorState = state.paused ? "PAUSED" : "RUNNING";
+        Map<String, Object> status = new HashMap<>();
+        status.put("name", connectorName);
+        status.put("connector", Map.of("state", connectorState, "worker_id", host + ":8083"));
+        status.put("tasks", List.of(Map.of("id", 0, "state", connectorState, "worker_id", host + ":8083")));
+        status.put("type", "source");
+
+        return status;
+    }
+
+    @Override
+    public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName, Set<Integer> okStatusCodes) {
+        return status(reconciliation, host, port, connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> statusWithBackOff(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
+        return status(reconciliation, host, port, connectorName);
+    }
+
+    @Override
+    public Future<Void> pause(String host, int port, String connectorName) {
+        count("pause");
+        return connectors.computeIfPresent(key(host, connectorName), (k, current) -> new ConnectorState(true, current.config)) != null
+                ? Future.succeededFuture() : notFound("PUT", "/connectors/" + connectorName + "/pause");
+    }
+
+    @Override
+    public Future<Void> resume(String host, int port, String connectorName) {
+        count("resume");
+        return connectors.computeIfPresent(key(host, connectorName), (k, current) -> new ConnectorState(false, current.config)) != null
+                ? Future.succeededFuture() : notFound("PUT", "/connectors/" + connectorName + "/resume");
+    }
+
+    @Override
+    public Future<List<String>> list(String host, int port) {
+        count("list");
+        String prefix = key(host, "");
+        List<String> names = new ArrayList<>();
+
+        for (String key : connectors.keySet()) {
+            if (key.startsWith(prefix)) {
+                names.add(key.substring(prefix.length()));
+            }
+        }
+
+        return Future.succeededFuture(names);
+    }
+
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        count("listWithStatusAndInfo");
+        String prefix = key(host, "");
+        Map<String, Map<String, Object>> result = new HashMap<>();
+
+        connectors.forEach((key, state) -> {
+            if (key.startsWith(prefix)) {
+                String connectorName = key.substring(prefix.length());
+                result.put(connectorName, Map.of(
+                        "status", status(host, connectorName, state),
+                        "info", Map.of("name", connectorName, "config", config(connectorName, state), "tasks", List.of(), "type", "source")));
+            }
+        });
+
+        return Future.succeededFuture(result);
+    }
+
+    @Override
+    public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
+        count("listConnectorPlugins");
+        return Future.succeededFuture(List.of(new ConnectorPluginBuilder()
+                .withConnectorClass("org.apache.kafka.connect.file.FileStreamSourceConnector")
+                .withType("source")
+                .withVersion("3.3.1")
+                .build()));
+    }
+
+    @Override
+    public Future<Boolean> updateConnectLoggers(Reconciliation reconciliation, String host, int port, String desiredLogging, OrderedProperties defaultLogging) {
+        count("updateConnectLoggers");
+        return Future.succeededFuture(false);
+    }
+
+    @Override
+    public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
+        count("listConnectLoggers");
+        return Future.succeededFuture(Map.of("root", "INFO"));
+    }
+
+    @Override
+    public Future<Map<String, Object>> restart(String host, int port, String connectorName, boolean includeTasks, boolean onlyFailed) {
+        count("restart");
+        return connectors.containsKey(key(host, connectorName)) ? Future.succeededFuture(Map.of()) : notFound("POST", "/connectors/" + connectorName + "/restart");
+    }
+
+    @Override
+    public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
+        count("restartTask");
+        return connectors.containsKey(key(host, connectorName)) ? Future.succeededFuture() : notFound("POST", "/connectors/" + connectorName + "/tasks/" + taskID + "/restart");
+    }
+
+    @Override
+    public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
+        count("getConnectorTopics");
+        ConnectorState state = connectors.get(key(host, connectorName));
+
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName + "/topics");
+        }
+
+        Object topic = state.config.getValue("topic");
+        return Future.succeededFuture(topic != null ? List.of(topic.toString()) : List.of());
+    }
+
+    /**
+     * State of a single connector
+     *
+     * @param paused    Indicates whether the connector is paused
+     * @param config    Configuration of the connector
+     */
+    private record ConnectorState(boolean paused, JsonObject config) { }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks diffing the current broker configuration (as described by the Admin API) with the desired configuration
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaBrokerConfigurationDiffBenchmark {
+    @Param({"1", "4", "8"})
+    int listeners;
+
+    @Param({"0", "5", "10"})
+    int changes;
+
+    private KafkaVersion kafkaVersion;
+    private String desired;
+    private Config current;
+
+    /**
+     * Generates the desired configuration and the current configuration which differs from it in the configured
+     * number of dynamic options.
+     */
+    @Setup
+    public void setup() {
+        KafkaVersion.Lookup versions = BenchmarkResources.kafkaVersions();
+        kafkaVersion = versions.defaultVersion();
+
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.kafka(3, listeners), versions);
+        Map<String, String> advertisedHostnames = new HashMap<>();
+        Map<String, String> advertisedPorts = new HashMap<>();
+        for (GenericKafkaListener listener : kafkaCluster.getListeners()) {
+            advertisedHostnames.put(ListenersUtils.envVarIdentifier(listener), "broker-0." + listener.getName() + ".example.com");
+            advertisedPorts.put(ListenersUtils.envVarIdentifier(listener), String.valueOf(listener.getPort()));
+        }
+        desired = kafkaCluster.generatePerBrokerBrokerConfiguration(0, Map.of(0, advertisedHostnames), Map.of(0, advertisedPorts));
+
+        Map<String, String> currentOptions = new OrderedProperties().addStringPairs(desired).asMap();
+        Iterator<String> changedOptions = BenchmarkResources.DYNAMIC_BROKER_CONFIG.keySet().iterator();
+        for (int i = 0; i < changes && changedOptions.hasNext(); i++) {
+            currentOptions.put(changedOptions.next(), "1");
+        }
+
+        List<ConfigEntry> entries = new ArrayList<>(currentOptions.size());
+        currentOptions.forEach((key, value) -> entries.add(new ConfigEntry(key, value)));
+        current = new Config(entries);
+    }
+
+    /**
+     * @return  The configuration diff
+     */
+    @Benchmark
+    public KafkaBrokerConfigurationDiff diff() {
+        return new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, current, desired, kafkaVersion, 0);
+    }
+}
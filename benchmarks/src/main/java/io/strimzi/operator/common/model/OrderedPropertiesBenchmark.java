@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and writing of the properties files (such as the Kafka broker configuration)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderedPropertiesBenchmark {
+    @Param({"10", "100", "1000"})
+    int entries;
+
+    private String pairs;
+    private OrderedProperties properties;
+
+    /**
+     * Prepares the properties
+     */
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("# Benchmark configuration\n");
+
+        for (int i = 0; i < entries; i++) {
+            sb.append("listener.name.listener").append(i).append(".ssl.keystore.location=/tmp/kafka/cluster.keystore.p12\n");
+        }
+
+        pairs = sb.toString();
+        properties = new OrderedProperties().addStringPairs(pairs);
+    }
+
+    /**
+     * @return  Parsed properties
+     */
+    @Benchmark
+    public OrderedProperties parse() {
+        return new OrderedProperties().addStringPairs(pairs);
+    }
+
+    /**
+     * @return  Properties written as a String
+     */
+    @Benchmark
+    public String write() {
+        return properties.asPairs();
+    }
+}
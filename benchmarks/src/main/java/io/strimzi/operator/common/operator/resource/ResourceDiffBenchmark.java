@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks diffing the current and desired broker Pods using the JSON diff
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResourceDiffBenchmark {
+    @Param({"3", "9", "27"})
+    int brokers;
+
+    @Param({"1", "4"})
+    int listeners;
+
+    private List<Pod> desired;
+    private List<Pod> changed;
+
+    /**
+     * Generates the desired Pods and their changed copies
+     */
+    @Setup
+    public void setup() {
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, BenchmarkResources.kafka(brokers, listeners), BenchmarkResources.kafkaVersions());
+        desired = PodSetUtils.mapsToPods(kafkaCluster.generatePodSet(brokers, false, ImagePullPolicy.IFNOTPRESENT, null, brokerId -> Map.of()).getSpec().getPods());
+        changed = desired.stream()
+                .map(pod -> new PodBuilder(pod)
+                        .editMetadata()
+                            .addToAnnotations("benchmark.strimzi.io/changed", "true")
+                        .endMetadata()
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Diffs Pods without any changes
+     *
+     * @param blackhole     Blackhole consuming the diffs
+     */
+    @Benchmark
+    public void diffUnchanged(Blackhole blackhole) {
+        for (Pod pod : desired) {
+            blackhole.consume(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Pod", pod.getMetadata().getName(), pod, pod, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty());
+        }
+    }
+
+    /**
+     * Diffs Pods with a changed annotation
+     *
+     * @param blackhole     Blackhole consuming the diffs
+     */
+    @Benchmark
+    public void diffChanged(Blackhole blackhole) {
+        for (int i = 0; i < desired.size(); i++) {
+            Pod pod = desired.get(i);
+            blackhole.consume(new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "Pod", pod.getMetadata().getName(), changed.get(i), pod, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Topic store which keeps the topics only in memory. It is used by the load simulator instead of the Kafka Streams
+ * based store which would need a real Kafka cluster.
+ */
+class InMemoryTopicStore implements TopicStore {
+    private final Map<TopicName, Topic> topics = new ConcurrentHashMap<>();
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        return Future.succeededFuture(topics.get(name));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        if (topics.putIfAbsent(topic.getTopicName(), topic) != null) {
+            return Future.failedFuture(new EntityExistsException());
+        }
+
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        if (topics.replace(topic.getTopicName(), topic) == null) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topicName) {
+        if (topics.remove(topicName) == null) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+
+        return Future.succeededFuture();
+    }
+}
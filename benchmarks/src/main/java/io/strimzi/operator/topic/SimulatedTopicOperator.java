@@ -0,0 +1,132 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+
+/**
+ * Runs the Topic Operator for the load simulator. It does the same as the {@link Session} - it watches the KafkaTopic
+ * resources and runs the periodic reconciliation - but it does not need ZooKeeper or Kafka. It uses the Admin client
+ * passed to the constructor and keeps the topic store in memory. As a result, the topic changes done directly in
+ * Kafka are detected only by the periodic reconciliation.
+ */
+public class SimulatedTopicOperator extends AbstractVerticle {
+    private static final Logger LOGGER = LogManager.getLogger(SimulatedTopicOperator.class);
+
+    private final KubernetesClient client;
+    private final Admin admin;
+    private final Config config;
+    private final MetricsProvider metricsProvider;
+
+    private TopicOperator topicOperator;
+    private K8sTopicWatcher watcher;
+    private volatile Watch topicWatch;
+    private volatile Long timerId;
+    private volatile boolean stopped = false;
+
+    /**
+     * Constructs the simulated Topic Operator
+     *
+     * @param client                    Kubernetes client
+     * @param admin                     Kafka Admin client
+     * @param namespace                 Namespace which should be watched
+     * @param labels                    Labels of the KafkaTopic resources which should be handled
+     * @param reconciliationIntervalMs  Periodic reconciliation interval
+     * @param metricsProvider           Metrics provider
+     */
+    public SimulatedTopicOperator(KubernetesClient client, Admin admin, String namespace, String labels, long reconciliationIntervalMs, MetricsProvider metricsProvider) {
+        this.client = client;
+        this.admin = admin;
+        this.metricsProvider = metricsProvider;
+        this.config = new Config(Map.of(
+                "STRIMZI_KAFKA_BOOTSTRAP_SERVERS", "in-memory:9091",
+                Config.TC_ZK_CONNECT, "in-memory:2181",
+                Config.TC_NAMESPACE, namespace,
+                Config.TC_RESOURCE_LABELS, labels,
+                Config.TC_PERIODIC_INTERVAL_MS, String.valueOf(reconciliationIntervalMs)));
+    }
+
+    @Override
+    public void start(Promise<Void> start) {
+        LOGGER.info("Starting simulated Topic Operator");
+
+        String namespace = config.get(Config.NAMESPACE);
+        Labels labels = config.get(Config.LABELS);
+        K8s k8s = new K8sImpl(vertx, client, labels, namespace);
+
+        topicOperator = new TopicOperator(vertx, new KafkaImpl(admin, vertx), k8s, new InMemoryTopicStore(), labels, namespace, config, metricsProvider);
+
+        Promise<Void> initReconcilePromise = Promise.promise();
+        watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), this::startWatcher);
+
+        vertx.<Void>executeBlocking(blockingPromise -> {
+            startWatcher();
+            blockingPromise.complete();
+        }).onComplete(res -> {
+            if (res.succeeded()) {
+                createPeriodicReconcileTrigger(initReconcilePromise);
+                initReconcilePromise.future().onComplete(start);
+            } else {
+                start.fail(res.cause());
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+
+        Long timerId = this.timerId;
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+
+        if (topicWatch != null) {
+            topicWatch.close();
+        }
+    }
+
+    private void startWatcher() {
+        topicWatch = client.resources(KafkaTopic.class, KafkaTopicList.class)
+                .inNamespace(config.get(Config.NAMESPACE))
+                .withLabels(config.get(Config.LABELS).labels())
+                .watch(watcher);
+    }
+
+    private void createPeriodicReconcileTrigger(Promise<Void> initReconcilePromise) {
+        final long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+        Handler<Long> periodic = new Handler<>() {
+            @Override
+            public void handle(Long oldTimerId) {
+                if (!stopped) {
+                    timerId = null;
+                    boolean isInitialReconcile = oldTimerId == null;
+                    topicOperator.getPeriodicReconciliationsCounter().increment();
+                    topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                        if (isInitialReconcile) {
+                            initReconcilePromise.complete();
+                        }
+                        if (!stopped) {
+                            timerId = vertx.setTimer(interval, this);
+                        }
+                    });
+                }
+            }
+        };
+        periodic.handle(null);
+    }
+}
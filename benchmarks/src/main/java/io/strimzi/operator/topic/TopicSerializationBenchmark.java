@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.benchmarks.BenchmarkResources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversions between the KafkaTopic resources, the topic model and its JSON representation used in
+ * the topic store and diffing of the topics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TopicSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    int topics;
+
+    private List<KafkaTopic> kafkaTopics;
+    private List<Topic> modelTopics;
+    private List<Topic> changedTopics;
+    private List<byte[]> jsonTopics;
+    private Labels labels;
+
+    /**
+     * Prepares the topics
+     */
+    @Setup
+    public void setup() {
+        kafkaTopics = new ArrayList<>(topics);
+        modelTopics = new ArrayList<>(topics);
+        changedTopics = new ArrayList<>(topics);
+        jsonTopics = new ArrayList<>(topics);
+        labels = Labels.fromString("strimzi.io/cluster=" + BenchmarkResources.CLUSTER_NAME);
+
+        for (int i = 0; i < topics; i++) {
+            KafkaTopic kafkaTopic = new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withName("my-topic-" + i)
+                        .withNamespace(BenchmarkResources.NAMESPACE)
+                        .withLabels(Map.of("strimzi.io/cluster", BenchmarkResources.CLUSTER_NAME))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withPartitions(12)
+                        .withReplicas(3)
+                        .withConfig(Map.of("retention.ms", 7200000, "segment.bytes", 1073741824, "cleanup.policy", "delete", "min.insync.replicas", 2))
+                    .endSpec()
+                    .build();
+            Topic topic = TopicSerialization.fromTopicResource(kafkaTopic);
+
+            kafkaTopics.add(kafkaTopic);
+            modelTopics.add(topic);
+            changedTopics.add(new Topic.Builder(topic).withConfigEntry("retention.ms", "3600000").withNumPartitions(24).build());
+            jsonTopics.add(TopicSerialization.toJson(topic));
+        }
+    }
+
+    /**
+     * Converts the KafkaTopic resources to the topic model and back
+     *
+     * @param blackhole     Blackhole consuming the converted topics
+     */
+    @Benchmark
+    public void resourceRoundTrip(Blackhole blackhole) {
+        for (KafkaTopic kafkaTopic : kafkaTopics) {
+            blackhole.consume(TopicSerialization.toTopicResource(TopicSerialization.fromTopicResource(kafkaTopic), labels));
+        }
+    }
+
+    /**
+     * Serializes the topics into JSON
+     *
+     * @param blackhole     Blackhole consuming the serialized topics
+     */
+    @Benchmark
+    public void toJson(Blackhole blackhole) {
+        for (Topic topic : modelTopics) {
+            blackhole.consume(TopicSerialization.toJson(topic));
+        }
+    }
+
+    /**
+     * Deserializes the topics from JSON
+     *
+     * @param blackhole     Blackhole consuming the deserialized topics
+     */
+    @Benchmark
+    public void fromJson(Blackhole blackhole) {
+        for (byte[] json : jsonTopics) {
+            blackhole.consume(TopicSerialization.fromJson(json));
+        }
+    }
+
+    /**
+     * Diffs the topics with their changed versions
+     *
+     * @param blackhole     Blackhole consuming the diffs
+     */
+    @Benchmark
+    public void diff(Blackhole blackhole) {
+        for (int i = 0; i < topics; i++) {
+            blackhole.consume(TopicDiff.diff(modelTopics.get(i), changedTopics.get(i)));
+        }
+    }
+}
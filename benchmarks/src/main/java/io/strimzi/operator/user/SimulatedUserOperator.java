@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the User Operator for the load simulator. It wires the same classes as the User Operator {@link Main} class,
+ * but uses the Admin client passed to the constructor instead of connecting to a Kafka cluster.
+ */
+public class SimulatedUserOperator {
+    private static final Logger LOGGER = LogManager.getLogger(SimulatedUserOperator.class);
+
+    private final ExecutorService executor;
+    private final KafkaUserOperator userOperator;
+    private final UserController controller;
+
+    /**
+     * Constructs the simulated User Operator
+     *
+     * @param client                    Kubernetes client
+     * @param admin                     Kafka Admin client
+     * @param namespace                 Namespace which should be watched
+     * @param labels                    Labels of the KafkaUser resources which should be handled
+     * @param reconciliationIntervalMs  Periodic reconciliation interval
+     * @param metricsProvider           Metrics provider
+     */
+    public SimulatedUserOperator(KubernetesClient client, Admin admin, String namespace, String labels, long reconciliationIntervalMs, MetricsProvider metricsProvider) {
+        this(client, admin, namespace, labels, reconciliationIntervalMs, metricsProvider, Map.of());
+    }
+
+    /**
+     * Constructs the simulated User Operator with additional configuration options
+     *
+     * @param client                    Kubernetes client
+     * @param admin                     Kafka Admin client
+     * @param namespace                 Namespace which should be watched
+     * @param labels                    Labels of the KafkaUser resources which should be handled
+     * @param reconciliationIntervalMs  Periodic reconciliation interval
+     * @param metricsProvider           Metrics provider
+     * @param additionalConfig          Additional User Operator configuration options (e.g. the controller tuning)
+     */
+    public SimulatedUserOperator(KubernetesClient client, Admin admin, String namespace, String labels, long reconciliationIntervalMs, MetricsProvider metricsProvider, Map<String, String> additionalConfig) {
+        Map<String, String> configMap = new HashMap<>(additionalConfig);
+        configMap.put(UserOperatorConfig.STRIMZI_NAMESPACE, namespace);
+        configMap.put(UserOperatorConfig.STRIMZI_LABELS, labels);
+        configMap.put(UserOperatorConfig.STRIMZI_CA_CERT_SECRET_NAME, "clients-ca-cert");
+        configMap.put(UserOperatorConfig.STRIMZI_CA_KEY_SECRET_NAME, "clients-ca");
+        configMap.put(UserOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, String.valueOf(reconciliationIntervalMs));
+        UserOperatorConfig config = UserOperatorConfig.fromMap(configMap);
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + threadCounter.getAndIncrement()));
+        this.userOperator = new KafkaUserOperator(
+                config,
+                client,
+                new OpenSslCertManager(),
+                new ScramCredentialsOperator(admin, config, executor),
+                new QuotasOperator(admin, config, executor),
+                new SimpleAclOperator(admin, config, executor),
+                executor
+        );
+        this.controller = new UserController(config, client, userOperator, metricsProvider);
+    }
+
+    /**
+     * Starts the User Operator
+     */
+    public void start() {
+        LOGGER.info("Starting simulated User Operator");
+        userOperator.start();
+        controller.start();
+    }
+
+    /**
+     * Stops the User Operator
+     */
+    public void stop() {
+        controller.stop();
+        userOperator.stop();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.benchmarks.load.InMemoryKafka;
+import io.strimzi.benchmarks.load.LoadResources;
+import io.strimzi.benchmarks.load.ReconciliationTracker;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.test.mockkube2.MockKube2;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the time the User Operator needs to reconcile a burst of new KafkaUser resources with the blocking
+ * controller loops ({@code maxInFlightReconciliations = 0}) and with the asynchronous controller loop. The operator
+ * runs against the Kubernetes mock server and an in-memory Kafka cluster. The results of every Admin API call complete
+ * {@code kafkaLatencyMs} later to simulate the round-trip to a real Kafka cluster. Like with the real Admin client, the
+ * calling thread is not blocked while waiting for the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserControllerBenchmark {
+    private static final String NAMESPACE = "my-namespace";
+    private static final int TIMEOUT_SECONDS = 600;
+
+    @Param({"0", "500"})
+    int maxInFlightReconciliations;
+
+    @Param({"0", "20"})
+    long kafkaLatencyMs;
+
+    @Param({"1000"})
+    int users;
+
+    private KubernetesServer server;
+    private MockKube2 mockKube;
+    private SimulatedUserOperator userOperator;
+    private ReconciliationTracker tracker;
+    private ScheduledExecutorService kafkaLatencyExecutor;
+
+    /**
+     * Starts the Kubernetes mock server and the User Operator with a fresh in-memory Kafka cluster
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        server = new KubernetesServer(false, true);
+        server.before();
+        KubernetesClient client = server.getClient();
+
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaUserCrd()
+                .build();
+        mockKube.start();
+
+        // Single thread completing the delayed results, like the network thread of the Admin client
+        kafkaLatencyExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "kafka-latency"));
+        Admin admin = delayed(new InMemoryKafka(client, NAMESPACE, LoadResources.TOPIC_AND_USER_CLUSTER, new ConcurrentHashMap<>()).admin(), kafkaLatencyExecutor, kafkaLatencyMs);
+        userOperator = new SimulatedUserOperator(client, admin, NAMESPACE, "strimzi.io/cluster=" + LoadResources.TOPIC_AND_USER_CLUSTER,
+                TimeUnit.HOURS.toMillis(1), new MicrometerMetricsProvider(new SimpleMeterRegistry()),
+                Map.of(UserOperatorConfig.STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS, String.valueOf(maxInFlightReconciliations)));
+
+        tracker = new ReconciliationTracker(client, NAMESPACE);
+        tracker.track(KafkaUser.RESOURCE_KIND, KafkaUser.class, KafkaUserList.class);
+
+        userOperator.start();
+    }
+
+    /**
+     * Stops the User Operator and the Kubernetes mock server
+     */
+    @TearDown(Level.Iteration)
+    public void teardown() {
+        tracker.stop();
+        userOperator.stop();
+        mockKube.stop();
+        server.after();
+        kafkaLatencyExecutor.shutdownNow();
+    }
+
+    /**
+     * Creates the KafkaUser resources and waits until all of them are reconciled
+     *
+     * @throws InterruptedException When interrupted while waiting for the reconciliations
+     */
+    @Benchmark
+    public void reconcileNewUsers() throws InterruptedException {
+        KubernetesClient client = server.getClient();
+
+        for (int i = 0; i < users; i++) {
+            String name = "user-" + i;
+            tracker.expect(KafkaUser.RESOURCE_KIND, name, 1L);
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(LoadResources.user(NAMESPACE, name)).create();
+        }
+
+        if (!tracker.awaitReconciled(TIMEOUT_SECONDS)) {
+            throw new IllegalStateException(tracker.pending() + " users were not reconciled within " + TIMEOUT_SECONDS + " seconds");
+        }
+    }
+
+    /**
+     * Delays the results of every call to the Admin API to simulate the latency of a real Kafka cluster. The call
+     * itself returns immediately and the futures in its result are completed by the executor after the delay.
+     *
+     * @param admin     Admin client which should be delayed
+     * @param executor  Executor used to complete the delayed futures
+     * @param delayMs   Delay of every call in milliseconds
+     *
+     * @return  Admin client with delayed calls
+     */
+    private static Admin delayed(Admin admin, ScheduledExecutorService executor, long delayMs) {
+        if (delayMs <= 0) {
+            return admin;
+        }
+
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            Object result;
+
+            try {
+                result = method.invoke(admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (result != null && result.getClass().getName().startsWith("org.apache.kafka.clients.admin.")) {
+                delayFutures(result, executor, delayMs);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Replaces the futures in the fields of an Admin API result with futures which complete after the delay. The
+     * futures are either stored directly in the fields or as values of Map fields.
+     *
+     * @param result    Admin API result
+     * @param executor  Executor used to complete the delayed futures
+     * @param delayMs   Delay in milliseconds
+     *
+     * @throws IllegalAccessException   When the fields of the result cannot be accessed
+     */
+    private static void delayFutures(Object result, ScheduledExecutorService executor, long delayMs) throws IllegalAccessException {
+        for (Field field : result.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            Object value = field.get(result);
+
+            if (value instanceof KafkaFuture<?> future) {
+                field.set(result, delayFuture(future, executor, delayMs));
+            } else if (value instanceof Map<?, ?> map && !map.isEmpty() && map.values().iterator().next() instanceof KafkaFuture) {
+                Map<Object, KafkaFuture<?>> delayedMap = new HashMap<>(map.size());
+                map.forEach((k, v) -> delayedMap.put(k, delayFuture((KafkaFuture<?>) v, executor, delayMs)));
+                field.set(result, delayedMap);
+            }
+        }
+    }
+
+    /**
+     * Creates a future which completes with the same result as the original future, but not earlier than after the
+     * delay.
+     *
+     * @param future    Original future
+     * @param executor  Executor used to complete the delayed future
+     * @param delayMs   Delay in milliseconds
+     *
+     * @return  The delayed future
+     */
+    private static <T> KafkaFuture<T> delayFuture(KafkaFuture<T> future, ScheduledExecutorService executor, long delayMs) {
+        KafkaFutureImpl<T> delayed = new KafkaFutureImpl<>();
+
+        executor.schedule(() -> future.whenComplete((value, error) -> {
+            if (error != null) {
+                delayed.completeExceptionally(error);
+            } else {
+                delayed.complete(value);
+            }
+        }), delayMs, TimeUnit.MILLISECONDS);
+
+        return delayed;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.AclResourcePatternType;
+import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.api.kafka.model.AclRuleBuilder;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.benchmarks.BenchmarkResources;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating the KafkaUser model (including the conversion of the ACL rules) and generating the user Secret
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KafkaUserModelBenchmark {
+    private static final String USER_NAME = "my-user";
+
+    @Param({"10", "100", "1000"})
+    int acls;
+
+    private KafkaUser kafkaUser;
+    private Secret userSecret;
+    private PasswordGenerator passwordGenerator;
+
+    /**
+     * Prepares the KafkaUser resource and its existing Secret
+     */
+    @Setup
+    public void setup() {
+        List<AclRule> rules = new ArrayList<>(acls);
+
+        for (int i = 0; i < acls; i++) {
+            rules.add(new AclRuleBuilder()
+                    .withNewAclRuleTopicResource()
+                        .withName("my-topic-" + i)
+                        .withPatternType(AclResourcePatternType.LITERAL)
+                    .endAclRuleTopicResource()
+                    .withOperations(AclOperation.READ, AclOperation.DESCRIBE, AclOperation.WRITE)
+                    .build());
+        }
+
+        kafkaUser = new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName(USER_NAME)
+                    .withNamespace(BenchmarkResources.NAMESPACE)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, BenchmarkResources.CLUSTER_NAME))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafkaUserScramSha512ClientAuthentication()
+                    .endKafkaUserScramSha512ClientAuthentication()
+                    .withNewKafkaUserAuthorizationSimple()
+                        .withAcls(rules)
+                    .endKafkaUserAuthorizationSimple()
+                .endSpec()
+                .build();
+
+        userSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName(USER_NAME)
+                    .withNamespace(BenchmarkResources.NAMESPACE)
+                .endMetadata()
+                .withData(Map.of(KafkaUserModel.KEY_PASSWORD, Base64.getEncoder().encodeToString("my-password".getBytes(StandardCharsets.US_ASCII))))
+                .build();
+
+        passwordGenerator = new PasswordGenerator(12);
+    }
+
+    /**
+     * @return  KafkaUser model created from the custom resource
+     */
+    @Benchmark
+    public KafkaUserModel fromCrd() {
+        return KafkaUserModel.fromCrd(kafkaUser, "", true, false);
+    }
+
+    /**
+     * @return  User Secret generated from a newly created model, as done in every reconciliation
+     */
+    @Benchmark
+    public Secret fromCrdAndGenerateSecret() {
+        KafkaUserModel user = KafkaUserModel.fromCrd(kafkaUser, "", true, false);
+        user.maybeGeneratePassword(Reconciliation.DUMMY_RECONCILIATION, passwordGenerator, userSecret, null);
+
+        return user.generateSecret();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+
+/**
+ * Algorithms which can be used for the generated private keys
+ */
+public enum KeyAlgorithm {
+    /**
+     * RSA keys. The CA keys have 4096 bits and the other keys have 2048 bits.
+     */
+    RSA(null, 0),
+
+    /**
+     * ECDSA keys using the NIST P-256 curve
+     */
+    ECDSA_P256("P-256", 256),
+
+    /**
+     * ECDSA keys using the NIST P-384 curve
+     */
+    ECDSA_P384("P-384", 384);
+
+    private final String curve;
+    private final int fieldSize;
+
+    KeyAlgorithm(String curve, int fieldSize) {
+        this.curve = curve;
+        this.fieldSize = fieldSize;
+    }
+
+    /**
+     * @return  The name of the elliptic curve as used by OpenSSL or null for RSA keys
+     */
+    public String curve() {
+        return curve;
+    }
+
+    /**
+     * @return  True if this is an elliptic curve algorithm. False otherwise.
+     */
+    public boolean isEllipticCurve() {
+        return curve != null;
+    }
+
+    /**
+     * Checks whether the public key was generated with this algorithm
+     *
+     * @param publicKey     Public key which should be checked
+     *
+     * @return  True if the key uses this algorithm (and curve). False otherwise.
+     */
+    public boolean matches(PublicKey publicKey) {
+        if (isEllipticCurve()) {
+            return publicKey instanceof ECPublicKey
+                    && ((ECPublicKey) publicKey).getParams().getCurve().getField().getFieldSize() == fieldSize;
+        } else {
+            return "RSA".equals(publicKey.getAlgorithm());
+        }
+    }
+}
@@ -154,10 +154,15 @@ public class OpenSslCertManager implements CertManager {
 
     @Override
     public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0, keyAlgorithm);
     }
 
     /**
@@ -178,7 +183,7 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
                                    ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
-        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -205,7 +210,7 @@ public class OpenSslCertManager implements CertManager {
                                            ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
         Objects.requireNonNull(issuerCaKeyFile);
         Objects.requireNonNull(issuerCaCertFile);
-        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -223,12 +228,15 @@ public class OpenSslCertManager implements CertManager {
      * @param pathLength The number of CA certificates below this certificate in a certificate chain.
      *                   For example, this would be 0 if the CA certificate and key produced by this call would
      *                   only be used to issue end entity certificates, or &gt;0 when issuing intermediate CA certificates.
+     * @param keyAlgorithm The algorithm used when a new CA key is generated.
      * @throws IOException IO problems
      */
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
                                 Subject subject,
                                 File subjectKeyFile, File subjectCertFile,
-                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength,
+                                KeyAlgorithm keyAlgorithm) throws IOException {
         if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
             throw new IllegalArgumentException();
         }
@@ -255,17 +263,21 @@ public class OpenSslCertManager implements CertManager {
 
         try {
             tmpKey = Files.createTempFile(null, null);
-            boolean keyInPkcs1;
+            boolean keyGenerated;
             if (subjectKeyFile.length() == 0) {
                 // Generate a key pair
-                new OpensslArgs("openssl", "genrsa")
-                        .optArg("-out", tmpKey)
-                        .opt("4096")
-                        .exec();
-                keyInPkcs1 = true;
+                if (keyAlgorithm.isEllipticCurve()) {
+                    generatePrivateKey(tmpKey.toFile(), keyAlgorithm);
+                } else {
+                    new OpensslArgs("openssl", "genrsa")
+                            .optArg("-out", tmpKey)
+                            .opt("4096")
+                            .exec();
+                }
+                keyGenerated = true;
             } else {
                 Files.copy(subjectKeyFile.toPath(), tmpKey, StandardCopyOption.REPLACE_EXISTING);
-                keyInPkcs1 = false;
+                keyGenerated = false;
             }
 
             csrFile = Files.createTempFile(null, null);
@@ -304,9 +316,10 @@ public class OpenSslCertManager implements CertManager {
                     .keyUsage("critical,keyCertSign,cRLSign")
                     .exec(false);
 
-            if (keyInPkcs1) {
+            if (keyGenerated) {
                 // If the key is in pkcs#1 format (bracketed by BEGIN/END RSA PRIVATE KEY)
-                // convert it to pkcs#8 format (bracketed by BEGIN/END PRIVATE KEY)
+                // convert it to pkcs#8 format (bracketed by BEGIN/END PRIVATE KEY).
+                // The EC keys generated by genpkey are already in pkcs#8 format and are written unchanged.
                 new OpensslArgs("openssl", "pkcs8")
                         .opt("-topk8").opt("-nocrypt")
                         .optArg("-in", tmpKey)
@@ -409,20 +422,72 @@ public class OpenSslCertManager implements CertManager {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0, KeyAlgorithm.RSA);
     }
 
     @Override
     public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        generateCsr(keyFile, csrFile, subject, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject, KeyAlgorithm keyAlgorithm) throws IOException {
         Objects.requireNonNull(keyFile);
         Objects.requireNonNull(csrFile);
         Objects.requireNonNull(subject);
+        Objects.requireNonNull(keyAlgorithm);
 
         OpensslArgs cmd = new OpensslArgs("openssl", "req")
-                .opt("-new").opt("-batch").opt("-nodes")
-                .optArg("-keyout", keyFile)
-                .optArg("-out", csrFile);
+                .opt("-new").opt("-batch").opt("-nodes");
+
+        if (keyAlgorithm.isEllipticCurve()) {
+            cmd.optArg("-newkey", "ec")
+                    .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve())
+                    .optArg("-pkeyopt", "ec_param_enc:named_curve");
+        }
+
+        generateCsr(cmd.optArg("-keyout", keyFile)
+                .optArg("-out", csrFile), subject);
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        generatePrivateKey(keyFile, KeyAlgorithm.RSA);
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile, KeyAlgorithm keyAlgorithm) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(keyAlgorithm);
+
+        OpensslArgs cmd = new OpensslArgs("openssl", "genpkey");
+
+        if (keyAlgorithm.isEllipticCurve()) {
+            cmd.optArg("-algorithm", "EC")
+                    .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve())
+                    .optArg("-pkeyopt", "ec_param_enc:named_curve");
+        } else {
+            // Same key type and size as generated by openssl req -nodes with the default configuration
+            cmd.optArg("-algorithm", "RSA")
+                    .optArg("-pkeyopt", "rsa_keygen_bits:2048");
+        }
+
+        cmd.optArg("-out", keyFile).exec();
+    }
+
+    @Override
+    public void generateCsrForExistingKey(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        generateCsr(new OpensslArgs("openssl", "req")
+                .opt("-new").opt("-batch")
+                .optArg("-key", keyFile)
+                .optArg("-out", csrFile), subject);
+    }
 
+    private void generateCsr(OpensslArgs cmd, Subject subject) throws IOException {
         Path sna = null;
         try {
             if (subject.hasSubjectAltNames()) {
@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaRebalance;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -16,6 +18,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOpera
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -46,6 +49,12 @@ public class ClusterOperator extends AbstractVerticle {
     private static final String NAME_SUFFIX = "-cluster-operator";
     private static final String CERTS_SUFFIX = NAME_SUFFIX + "-certs";
 
+    /**
+     * Event bus address used to activate the ClusterOperator verticles started in the warm standby mode once this
+     * operator replica becomes the leader
+     */
+    public static final String ACTIVATE_ADDRESS = "io.strimzi.operator.cluster.activate";
+
     private final KubernetesClient client;
     private final String namespace;
     private final ClusterOperatorConfig config;
@@ -60,12 +69,16 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final boolean warmStandby;
 
     private StrimziPodSetController strimziPodSetController;
 
     // this field is required to keep the underlying shared worker pool alive
     @SuppressWarnings("unused")
     private WorkerExecutor sharedWorkerExecutor;
+    // this field is required to keep the underlying shared worker pools alive
+    @SuppressWarnings("unused")
+    private List<WorkerExecutor> kubernetesOperationExecutors;
 
     /**
      * Constructor
@@ -102,24 +115,29 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.warmStandby = config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isWarmStandby();
     }
 
     @Override
     public void start(Promise<Void> start) {
-        LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
+        LOGGER.info("Starting ClusterOperator for namespace {}{}", namespace, warmStandby ? " in warm standby" : "");
 
         // Configure the executor here, but it is used only in other places
         sharedWorkerExecutor = getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+        kubernetesOperationExecutors = KubernetesOperationExecutor.createPools(getVertx(), config.getOperationsThreadPoolSize());
 
         @SuppressWarnings({ "rawtypes" })
         List<Future> startFutures = new ArrayList<>(8);
-        startFutures.add(maybeStartStrimziPodSetController());
+        startFutures.add(maybeCreateStrimziPodSetController()
+                .compose(i -> warmStandby ? Future.succeededFuture() : maybeStartStrimziPodSetController()));
 
         if (!config.isPodSetReconciliationOnly()) {
-            List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
-                    kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
-                    kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
-            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            for (AbstractOperator<?, ?, ?, ?> operator : operators()) {
+                if (warmStandby) {
+                    // The watch events will be only tracked until this replica becomes the leader
+                    operator.standby();
+                }
+
                 startFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
                     LOGGER.info("Opened watch for {} operator", operator.kind());
                     watchByKind.put(operator.kind(), w);
@@ -127,8 +145,17 @@ public class ClusterOperator extends AbstractVerticle {
                 }));
             }
 
-            startFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, namespace, config.getCustomResourceSelector()));
-            startFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
+            if (warmStandby) {
+                // The connector and rebalance watches write to the Kubernetes API directly, so they are opened only
+                // once this replica becomes the leader
+                kafkaRebalanceAssemblyOperator.standby();
+            } else {
+                startFutures.add(createWatchesRequiringLeadership());
+            }
+        }
+
+        if (warmStandby) {
+            vertx.eventBus().consumer(ACTIVATE_ADDRESS, message -> activate());
         }
 
         CompositeFuture.join(startFutures)
@@ -146,13 +173,90 @@ public class ClusterOperator extends AbstractVerticle {
                 .onComplete(start);
     }
 
-    private Future<Void> maybeStartStrimziPodSetController() {
+    private List<AbstractOperator<?, ?, ?, ?>> operators() {
+        return asList(kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator);
+    }
+
+    /**
+     * Creates the KafkaConnector and KafkaRebalance watches. They are kept in the watches map together with the other
+     * watches, so that they are closed when this verticle is stopped.
+     *
+     * @return  Future which completes when the watches are created
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private Future<Void> createWatchesRequiringLeadership() {
+        List<Future> futures = List.of(
+                AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, namespace, config.getCustomResourceSelector())
+                        .onSuccess(w -> watchByKind.put(KafkaConnector.RESOURCE_KIND, w)),
+                kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace)
+                        .onSuccess(w -> watchByKind.put(KafkaRebalance.RESOURCE_KIND, w)));
+
+        return CompositeFuture.join(futures).mapEmpty();
+    }
+
+    /**
+     * Activates the ClusterOperator started in the warm standby mode after this replica becomes the leader. The watches
+     * and informers are already open and in-sync, so only the StrimziPodSet controller has to be started and the
+     * resources which changed or were not ready while in standby are reconciled. Other resources are reconciled by the
+     * next periodic reconciliation.
+     *
+     * @return  Future which completes when the operator is activated
+     */
+    /* test */ Future<Void> activate() {
+        LOGGER.info("Activating ClusterOperator for namespace {}", namespace);
+
+        Future<Void> podSetController = maybeStartStrimziPodSetController();
+
+        if (config.isPodSetReconciliationOnly()) {
+            return podSetController;
+        }
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(8);
+        futures.add(podSetController);
+        futures.add(createWatchesRequiringLeadership());
+
+        for (AbstractOperator<?, ?, ?, ?> operator : operators()) {
+            futures.add(operator.activate(namespace));
+        }
+
+        futures.add(kafkaRebalanceAssemblyOperator.activate(namespace));
+
+        return CompositeFuture.join(futures)
+                .onComplete(res -> {
+                    if (res.succeeded()) {
+                        LOGGER.info("ClusterOperator for namespace {} activated", namespace);
+                    } else {
+                        LOGGER.error("Failed to activate ClusterOperator for namespace {}", namespace, res.cause());
+                    }
+                })
+                .mapEmpty();
+    }
+
+    private Future<Void> maybeCreateStrimziPodSetController() {
         Promise<Void> handler = Promise.promise();
         vertx.executeBlocking(future -> {
             try {
                 if (config.featureGates().useStrimziPodSetsEnabled()) {
+                    // The informers are started already when the controller is created
                     strimziPodSetController = new StrimziPodSetController(namespace, config.getCustomResourceSelector(), resourceOperatorSupplier.kafkaOperator,
                             resourceOperatorSupplier.strimziPodSetOperator, resourceOperatorSupplier.podOperations, resourceOperatorSupplier.metricsProvider, config.getPodSetControllerWorkQueueSize());
+                }
+                future.complete();
+            } catch (Throwable e) {
+                LOGGER.error("StrimziPodSetController creation failed");
+                future.fail(e);
+            }
+        }, handler);
+        return handler.future();
+    }
+
+    private Future<Void> maybeStartStrimziPodSetController() {
+        Promise<Void> handler = Promise.promise();
+        vertx.executeBlocking(future -> {
+            try {
+                if (strimziPodSetController != null) {
                     strimziPodSetController.start();
                 }
                 future.complete();
@@ -174,12 +278,63 @@ public class ClusterOperator extends AbstractVerticle {
             }
         }
 
-        if (config.featureGates().useStrimziPodSetsEnabled()) {
-            strimziPodSetController.stop();
+        if (config.getLeaderElectionConfig() == null || !config.getLeaderElectionConfig().isSharded()) {
+            strimziPodSetControllerStopped().onComplete(i -> {
+                client.close();
+                stop.complete();
+            });
+        } else {
+            // With sharding, the verticles are stopped when the shards move to other replicas while the client is
+            // still used by the other verticles. The Lease of the shard is released only once the verticle is stopped.
+            // So the reconciliations which are still in progress have to finish first to make sure the namespace is
+            // never reconciled by two replicas at the same time. That includes the StrimziPodSet reconciliations.
+            CompositeFuture.join(strimziPodSetControllerStopped(), lockedOperationsFinished()).onComplete(i -> {
+                LOGGER.info("All reconciliations for namespace {} finished", namespace);
+                stop.complete();
+            });
         }
+    }
+
+    /**
+     * Stops the StrimziPodSet controller (if used) and waits for the StrimziPodSet reconciliation which is in progress
+     * to finish. The wait is limited by the operation timeout.
+     *
+     * @return  Future which completes when the StrimziPodSet controller is stopped
+     */
+    private Future<Void> strimziPodSetControllerStopped() {
+        if (strimziPodSetController == null) {
+            return Future.succeededFuture();
+        }
+
+        strimziPodSetController.stop();
+
+        Promise<Void> handler = Promise.promise();
+        vertx.executeBlocking(future -> {
+            try {
+                if (!strimziPodSetController.awaitStopped(config.getOperationTimeoutMs())) {
+                    LOGGER.warn("StrimziPodSet controller for namespace {} did not stop within {}ms", namespace, config.getOperationTimeoutMs());
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the StrimziPodSet controller for namespace {} to stop", namespace);
+                Thread.currentThread().interrupt();
+            }
+
+            future.complete();
+        }, false, handler);
+        return handler.future();
+    }
+
+    private Future<Void> lockedOperationsFinished() {
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(8);
+
+        for (AbstractOperator<?, ?, ?, ?> operator : operators()) {
+            futures.add(operator.lockedOperationsFinished(namespace));
+        }
+
+        futures.add(kafkaRebalanceAssemblyOperator.lockedOperationsFinished(namespace));
 
-        client.close();
-        stop.complete();
+        return CompositeFuture.join(futures).mapEmpty();
     }
 
     /**
@@ -57,6 +57,9 @@ public class ClusterOperatorConfig {
     private static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
     /* test */ static final String STRIMZI_POD_SECURITY_PROVIDER_CLASS = "STRIMZI_POD_SECURITY_PROVIDER_CLASS";
     /* test */ static final String STRIMZI_LEADER_ELECTION_ENABLED = "STRIMZI_LEADER_ELECTION_ENABLED";
+    /* test */ static final String STRIMZI_RECONCILIATION_FINGERPRINT_TTL_MS = "STRIMZI_RECONCILIATION_FINGERPRINT_TTL_MS";
+    /* test */ static final String STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT = "STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT";
+    /* test */ static final String STRIMZI_CERTIFICATE_GENERATION_PARALLELISM = "STRIMZI_CERTIFICATE_GENERATION_PARALLELISM";
 
     //Used to identify which cluster operator created a Kubernetes event
     private static final String STRIMZI_OPERATOR_NAME = "STRIMZI_OPERATOR_NAME";
@@ -174,6 +177,9 @@ public class ClusterOperatorConfig {
     private static final boolean DEFAULT_NETWORK_POLICY_GENERATION = true;
     private static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
     private static final boolean DEFAULT_POD_SET_RECONCILIATION_ONLY = false;
+    /* test */ static final long DEFAULT_RECONCILIATION_FINGERPRINT_TTL_MS = 0L;
+    /* test */ static final int DEFAULT_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT = 10;
+    /* test */ static final int DEFAULT_CERTIFICATE_GENERATION_PARALLELISM = 4;
 
     /**
      * Default Pod Security Provider class
@@ -208,6 +214,9 @@ public class ClusterOperatorConfig {
     private final String operatorName;
     private final String podSecurityProviderClass;
     private final LeaderElectionManagerConfig leaderElectionConfig;
+    private final long reconciliationFingerprintTtlMs;
+    private final int maxConnectorReconciliationsInFlight;
+    private final int certificateGenerationParallelism;
 
     /**
      * Constructor
@@ -234,6 +243,12 @@ public class ClusterOperatorConfig {
      * @param operatorName                  The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      * @param podSecurityProviderClass      The PodSecurityProvider class which the operator should use
      * @param leaderElectionConfig          Configuration of the Cluster Operator leader election
+     * @param reconciliationFingerprintTtlMs  How long the fingerprint of a successful Kafka reconciliation can be used to
+     *                                      replace periodic reconciliations with a verification only pass (0 disables it)
+     * @param maxConnectorReconciliationsInFlight  Maximum number of connectors reconciled in parallel within a single
+     *                                      Connect cluster
+     * @param certificateGenerationParallelism  Maximum number of node certificates generated in parallel for a single
+     *                                      cluster CA
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -257,7 +272,10 @@ public class ClusterOperatorConfig {
             int podSetControllerWorkQueueSize,
             String operatorName,
             String podSecurityProviderClass,
-            LeaderElectionManagerConfig leaderElectionConfig
+            LeaderElectionManagerConfig leaderElectionConfig,
+            long reconciliationFingerprintTtlMs,
+            int maxConnectorReconciliationsInFlight,
+            int certificateGenerationParallelism
     ) {
         this.namespaces = Set.copyOf(namespaces);
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -280,6 +298,9 @@ public class ClusterOperatorConfig {
         this.operatorName = operatorName;
         this.podSecurityProviderClass = podSecurityProviderClass;
         this.leaderElectionConfig = leaderElectionConfig;
+        this.reconciliationFingerprintTtlMs = reconciliationFingerprintTtlMs;
+        this.maxConnectorReconciliationsInFlight = maxConnectorReconciliationsInFlight;
+        this.certificateGenerationParallelism = certificateGenerationParallelism;
     }
 
     /**
@@ -339,6 +360,18 @@ public class ClusterOperatorConfig {
         String podSecurityProviderClass = parsePodSecurityProviderClass(map.get(STRIMZI_POD_SECURITY_PROVIDER_CLASS));
         LeaderElectionManagerConfig leaderElectionConfig = parseLeaderElectionConfig(map);
 
+        if (leaderElectionConfig != null
+                && leaderElectionConfig.isSharded()
+                && namespaces.contains(AbstractNamespacedResourceOperator.ANY_NAMESPACE)) {
+            throw new InvalidConfigurationException(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS
+                    + " can be used only with a list of watched namespaces and not with the 'any namespace' wildcard "
+                    + AbstractNamespacedResourceOperator.ANY_NAMESPACE);
+        }
+
+        long reconciliationFingerprintTtl = parseTimeout(map.get(STRIMZI_RECONCILIATION_FINGERPRINT_TTL_MS), DEFAULT_RECONCILIATION_FINGERPRINT_TTL_MS);
+        int maxConnectorReconciliationsInFlight = parsePositiveInt(STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT, map.get(STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT), DEFAULT_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT);
+        int certificateGenerationParallelism = parsePositiveInt(STRIMZI_CERTIFICATE_GENERATION_PARALLELISM, map.get(STRIMZI_CERTIFICATE_GENERATION_PARALLELISM), DEFAULT_CERTIFICATE_GENERATION_PARALLELISM);
+
         //Use default to prevent existing installations breaking if CO pod template not modified to pass through pod name
         String operatorName = map.getOrDefault(STRIMZI_OPERATOR_NAME, DEFAULT_OPERATOR_NAME);
 
@@ -363,7 +396,10 @@ public class ClusterOperatorConfig {
                 podSetControllerWorkQueueSize,
                 operatorName,
                 podSecurityProviderClass,
-                leaderElectionConfig);
+                leaderElectionConfig,
+                reconciliationFingerprintTtl,
+                maxConnectorReconciliationsInFlight,
+                certificateGenerationParallelism);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -415,6 +451,16 @@ public class ClusterOperatorConfig {
         return value;
     }
 
+    private static int parsePositiveInt(String envVarName, String envVar, int defaultValue) {
+        int value = parseInt(envVar, defaultValue);
+
+        if (value < 1) {
+            throw new InvalidConfigurationException(envVarName + " should be a positive number");
+        }
+
+        return value;
+    }
+
     /* test */ static boolean parseBoolean(String envVar, boolean defaultValue) {
         boolean value = defaultValue;
 
@@ -694,6 +740,28 @@ public class ClusterOperatorConfig {
         return leaderElectionConfig;
     }
 
+    /**
+     * @return  How long (in milliseconds) the fingerprint of a successful Kafka reconciliation remains valid for
+     *          skipping periodic reconciliations. 0 means that the fingerprinting is disabled.
+     */
+    public long getReconciliationFingerprintTtlMs() {
+        return reconciliationFingerprintTtlMs;
+    }
+
+    /**
+     * @return  Maximum number of connectors which are reconciled in parallel within a single Connect cluster
+     */
+    public int getMaxConnectorReconciliationsInFlight() {
+        return maxConnectorReconciliationsInFlight;
+    }
+
+    /**
+     * @return  Maximum number of node certificates which are generated in parallel within a single reconciliation
+     */
+    public int getCertificateGenerationParallelism() {
+        return certificateGenerationParallelism;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -717,6 +785,9 @@ public class ClusterOperatorConfig {
                 ",operatorName=" + operatorName +
                 ",podSecurityProviderClass=" + podSecurityProviderClass +
                 ",leaderElectionConfig=" + leaderElectionConfig +
+                ",reconciliationFingerprintTtlMs=" + reconciliationFingerprintTtlMs +
+                ",maxConnectorReconciliationsInFlight=" + maxConnectorReconciliationsInFlight +
+                ",certificateGenerationParallelism=" + certificateGenerationParallelism +
                 ")";
     }
 }
@@ -12,6 +12,7 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -49,6 +50,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -97,17 +101,44 @@ public class Main {
         MetricsProvider metricsProvider = new MicrometerMetricsProvider();
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
 
-        maybeCreateClusterRoles(vertx, config, client)
-                .compose(i -> startHealthServer(vertx, metricsProvider))
-                .compose(i -> leaderElection(client, config))
-                .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config))
-                .onComplete(res -> {
-                    if (res.failed())   {
-                        LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
-                        System.exit(1);
-                    }
-                });
+        Future<?> started;
+        if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isSharded()) {
+            // With sharding, the verticles are started and stopped by the shard manager depending on which shards
+            // this replica owns
+            started = maybeCreateClusterRoles(vertx, config, client)
+                    .compose(i -> createPlatformFeaturesAvailability(vertx, client))
+                    .map(pfa -> createShardManager(vertx, client, metricsProvider, pfa, config))
+                    .compose(shardManager -> startHealthServer(vertx, metricsProvider, shardManager).map(shardManager))
+                    .onSuccess(shardManager -> {
+                        Runtime.getRuntime().addShutdownHook(new Thread(shardManager::stop));
+                        shardManager.start();
+                    });
+        } else if (config.getLeaderElectionConfig() != null && config.getLeaderElectionConfig().isWarmStandby()) {
+            // In warm standby, the verticles are started before the leader election. They open their watches and
+            // informers right away, but do not reconcile anything until this replica becomes the leader.
+            started = maybeCreateClusterRoles(vertx, config, client)
+                    .compose(i -> startHealthServer(vertx, metricsProvider))
+                    .compose(i -> createPlatformFeaturesAvailability(vertx, client))
+                    .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config))
+                    .compose(i -> leaderElection(client, config))
+                    .onSuccess(i -> {
+                        LOGGER.info("Activating the Cluster Operator verticles");
+                        vertx.eventBus().publish(ClusterOperator.ACTIVATE_ADDRESS, null);
+                    });
+        } else {
+            started = maybeCreateClusterRoles(vertx, config, client)
+                    .compose(i -> startHealthServer(vertx, metricsProvider))
+                    .compose(i -> leaderElection(client, config))
+                    .compose(i -> createPlatformFeaturesAvailability(vertx, client))
+                    .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config));
+        }
+
+        started.onComplete(res -> {
+            if (res.failed())   {
+                LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
+                System.exit(1);
+            }
+        });
     }
 
     /**
@@ -148,6 +179,72 @@ public class Main {
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
     static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
+        Function<String, ClusterOperator> clusterOperators = clusterOperatorFactory(vertx, client, metricsProvider, pfa, config);
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(config.getNamespaces().size());
+        for (String namespace : config.getNamespaces()) {
+            futures.add(deployClusterOperatorVerticle(vertx, config, clusterOperators.apply(namespace), namespace));
+        }
+        return CompositeFuture.join(futures);
+    }
+
+    /**
+     * Creates the shard manager which deploys the ClusterOperator verticles for the namespaces of the shards owned by
+     * this operator replica and undeploys them when the shards move to another replica.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     *
+     * @return  The shard manager
+     */
+    /* test */ static ShardManager createShardManager(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
+        Function<String, ClusterOperator> clusterOperators = clusterOperatorFactory(vertx, client, metricsProvider, pfa, config);
+        Map<Integer, List<String>> deploymentsByShard = new ConcurrentHashMap<>();
+
+        return new ShardManager(vertx, client, config.getLeaderElectionConfig(), config.getNamespaces(), metricsProvider,
+                (shard, namespaces) -> {
+                    List<String> deployments = deploymentsByShard.computeIfAbsent(shard, s -> new CopyOnWriteArrayList<>());
+
+                    @SuppressWarnings({ "rawtypes" })
+                    List<Future> futures = new ArrayList<>(namespaces.size());
+                    for (String namespace : namespaces) {
+                        futures.add(deployClusterOperatorVerticle(vertx, config, clusterOperators.apply(namespace), namespace).onSuccess(deployments::add));
+                    }
+                    return CompositeFuture.join(futures).mapEmpty();
+                },
+                shard -> {
+                    List<String> deployments = deploymentsByShard.remove(shard);
+
+                    if (deployments == null) {
+                        return Future.succeededFuture();
+                    }
+
+                    @SuppressWarnings({ "rawtypes" })
+                    List<Future> futures = new ArrayList<>(deployments.size());
+                    for (String deploymentId : deployments) {
+                        futures.add(vertx.undeploy(deploymentId));
+                    }
+                    return CompositeFuture.join(futures).mapEmpty();
+                });
+    }
+
+    /**
+     * Creates the operators shared by all ClusterOperator verticles and returns a function which creates the
+     * ClusterOperator verticle for a namespace.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     *
+     * @return  Function creating the ClusterOperator verticle for given namespace
+     */
+    private static Function<String, ClusterOperator> clusterOperatorFactory(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
@@ -184,36 +281,53 @@ public class Main {
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
         }
 
-        @SuppressWarnings({ "rawtypes" })
-        List<Future> futures = new ArrayList<>(config.getNamespaces().size());
-        for (String namespace : config.getNamespaces()) {
-            Promise<String> prom = Promise.promise();
-            futures.add(prom.future());
-            ClusterOperator operator = new ClusterOperator(namespace,
-                    config,
-                    client,
-                    kafkaClusterOperations,
-                    kafkaConnectClusterOperations,
-                    kafkaMirrorMakerAssemblyOperator,
-                    kafkaMirrorMaker2AssemblyOperator,
-                    kafkaBridgeAssemblyOperator,
-                    kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        if (config.getCustomResourceSelector() != null) {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
-                        } else {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
-                        }
+        KafkaAssemblyOperator finalKafkaClusterOperations = kafkaClusterOperations;
+        KafkaConnectAssemblyOperator finalKafkaConnectClusterOperations = kafkaConnectClusterOperations;
+        KafkaMirrorMaker2AssemblyOperator finalKafkaMirrorMaker2AssemblyOperator = kafkaMirrorMaker2AssemblyOperator;
+        KafkaMirrorMakerAssemblyOperator finalKafkaMirrorMakerAssemblyOperator = kafkaMirrorMakerAssemblyOperator;
+        KafkaBridgeAssemblyOperator finalKafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
+        KafkaRebalanceAssemblyOperator finalKafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
+
+        return namespace -> new ClusterOperator(namespace,
+                config,
+                client,
+                finalKafkaClusterOperations,
+                finalKafkaConnectClusterOperations,
+                finalKafkaMirrorMakerAssemblyOperator,
+                finalKafkaMirrorMaker2AssemblyOperator,
+                finalKafkaBridgeAssemblyOperator,
+                finalKafkaRebalanceAssemblyOperator,
+                resourceOperatorSupplier);
+    }
+
+    /**
+     * Deploys the ClusterOperator verticle for a single namespace
+     *
+     * @param vertx         Vertx instance
+     * @param config        Cluster Operator configuration
+     * @param operator      The ClusterOperator verticle
+     * @param namespace     Namespace of the verticle
+     *
+     * @return  Future with the deployment ID which completes when the verticle is started
+     */
+    private static Future<String> deployClusterOperatorVerticle(Vertx vertx, ClusterOperatorConfig config, ClusterOperator operator, String namespace) {
+        Promise<String> prom = Promise.promise();
+
+        vertx.deployVerticle(operator,
+            res -> {
+                if (res.succeeded()) {
+                    if (config.getCustomResourceSelector() != null) {
+                        LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
                     } else {
-                        LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                        LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
                     }
-                    prom.handle(res);
-                });
-        }
-        return CompositeFuture.join(futures);
+                } else {
+                    LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                }
+                prom.handle(res);
+            });
+
+        return prom.future();
     }
 
     /**
@@ -322,6 +436,20 @@ public class Main {
      * @return Future which completes when the health and metrics webserver is started
      */
     private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider) {
+        return startHealthServer(vertx, metricsProvider, null);
+    }
+
+    /**
+     * Start an HTTP health and metrics server. When sharding is used, the server is ready only when all shards owned
+     * by this replica are started and it serves the state of the shards on the {@code /shards} path.
+     *
+     * @param vertx             Vertx instance
+     * @param metricsProvider   Metrics Provider to get the metrics from
+     * @param shardManager      Shard manager or null when sharding is not used
+     *
+     * @return Future which completes when the health and metrics webserver is started
+     */
+    private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider, ShardManager shardManager) {
         Promise<HttpServer> result = Promise.promise();
 
         vertx.createHttpServer()
@@ -329,7 +457,11 @@ public class Main {
                     if (request.path().equals("/healthy")) {
                         request.response().setStatusCode(200).end();
                     } else if (request.path().equals("/ready")) {
-                        request.response().setStatusCode(200).end();
+                        request.response().setStatusCode(shardManager == null || shardManager.isReady() ? 200 : 503).end();
+                    } else if (request.path().equals("/shards") && shardManager != null) {
+                        request.response().setStatusCode(200)
+                                .putHeader("Content-Type", "application/json")
+                                .end(shardManager.status().encode());
                     } else if (request.path().equals("/metrics")) {
                         PrometheusMeterRegistry metrics = (PrometheusMeterRegistry) metricsProvider.meterRegistry();
                         request.response().setStatusCode(200)
@@ -43,10 +43,22 @@ public class LeaderElectionManagerConfig {
      */
     public final static String ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS = "STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS";
 
+    /**
+     * Should the operator run in warm standby while it is not the leader
+     */
+    public final static String ENV_VAR_LEADER_ELECTION_WARM_STANDBY = "STRIMZI_LEADER_ELECTION_WARM_STANDBY";
+
+    /**
+     * Number of shards into which the watched namespaces are split. Each shard has its own Lease.
+     */
+    public final static String ENV_VAR_LEADER_ELECTION_SHARDS = "STRIMZI_LEADER_ELECTION_SHARDS";
+
     // Default values
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_LEASE_DURATION_MS = Duration.ofSeconds(15);
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_RENEW_DEADLINE_MS = Duration.ofSeconds(10);
     private final static Duration DEFAULT_STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS = Duration.ofSeconds(2);
+    private final static boolean DEFAULT_STRIMZI_LEADER_ELECTION_WARM_STANDBY = false;
+    private final static int DEFAULT_STRIMZI_LEADER_ELECTION_SHARDS = 1;
 
     private final String leaseName;
     private final String namespace;
@@ -54,6 +66,8 @@ public class LeaderElectionManagerConfig {
     private final Duration leaseDuration;
     private final Duration renewDeadline;
     private final Duration retryPeriod;
+    private final boolean warmStandby;
+    private final int shards;
 
     /**
      * Constructs the LeaderElectionManagerConfig object
@@ -64,14 +78,18 @@ public class LeaderElectionManagerConfig {
      * @param leaseDuration Duration for which the acquired lease is valid
      * @param renewDeadline Duration for which should the leader retry to maintain the leadership
      * @param retryPeriod   How often does the leader update the lease lock
+     * @param warmStandby   Indicates whether the operator should run in warm standby while it is not the leader
+     * @param shards        Number of shards into which the watched namespaces are split (1 means no sharding)
      */
-    public LeaderElectionManagerConfig(String leaseName, String namespace, String identity, Duration leaseDuration, Duration renewDeadline, Duration retryPeriod) {
+    public LeaderElectionManagerConfig(String leaseName, String namespace, String identity, Duration leaseDuration, Duration renewDeadline, Duration retryPeriod, boolean warmStandby, int shards) {
         this.leaseName = leaseName;
         this.namespace = namespace;
         this.identity = identity;
         this.leaseDuration = leaseDuration;
         this.renewDeadline = renewDeadline;
         this.retryPeriod = retryPeriod;
+        this.warmStandby = warmStandby;
+        this.shards = shards;
     }
 
     /**
@@ -94,8 +112,44 @@ public class LeaderElectionManagerConfig {
         Duration leaseDuration = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS), DEFAULT_STRIMZI_LEADER_ELECTION_LEASE_DURATION_MS);
         Duration renewDeadline = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS), DEFAULT_STRIMZI_LEADER_ELECTION_RENEW_DEADLINE_MS);
         Duration retryPeriod = parseDuration(map.get(ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS), DEFAULT_STRIMZI_LEADER_ELECTION_RETRY_PERIOD_MS);
+        boolean warmStandby = map.containsKey(ENV_VAR_LEADER_ELECTION_WARM_STANDBY) ? Boolean.parseBoolean(map.get(ENV_VAR_LEADER_ELECTION_WARM_STANDBY)) : DEFAULT_STRIMZI_LEADER_ELECTION_WARM_STANDBY;
+        int shards = parseShards(map.get(ENV_VAR_LEADER_ELECTION_SHARDS));
+
+        if (shards > 1 && warmStandby) {
+            throw new InvalidConfigurationException("The " + ENV_VAR_LEADER_ELECTION_SHARDS + " and " + ENV_VAR_LEADER_ELECTION_WARM_STANDBY + " options cannot be used together.");
+        }
+
+        return new LeaderElectionManagerConfig(leaseName, namespace, identity, leaseDuration, renewDeadline, retryPeriod, warmStandby, shards);
+    }
+
+    private static int parseShards(String shardsValue) {
+        int shards = DEFAULT_STRIMZI_LEADER_ELECTION_SHARDS;
+
+        if (shardsValue != null) {
+            try {
+                shards = Integer.parseInt(shardsValue);
+            } catch (NumberFormatException e) {
+                throw new InvalidConfigurationException(ENV_VAR_LEADER_ELECTION_SHARDS + " has to be a positive integer", e);
+            }
+
+            if (shards < 1) {
+                throw new InvalidConfigurationException(ENV_VAR_LEADER_ELECTION_SHARDS + " has to be a positive integer");
+            }
+        }
+
+        return shards;
+    }
 
-        return new LeaderElectionManagerConfig(leaseName, namespace, identity, leaseDuration, renewDeadline, retryPeriod);
+    /**
+     * Creates the configuration used for the Lease of a single shard. The Lease of the shard is named after the
+     * configured Lease with the {@code -shard-<shard>} suffix.
+     *
+     * @param shard     Index of the shard
+     *
+     * @return  Configuration of the shard Lease
+     */
+    public LeaderElectionManagerConfig forShard(int shard) {
+        return new LeaderElectionManagerConfig(leaseName + "-shard-" + shard, namespace, identity, leaseDuration, renewDeadline, retryPeriod, false, 1);
     }
 
     private static Duration parseDuration(String durationValue, Duration defaultDuration) {
@@ -150,6 +204,27 @@ public class LeaderElectionManagerConfig {
         return retryPeriod;
     }
 
+    /**
+     * @return  Returns true if the operator should keep its watches and informers running while it is not the leader
+     */
+    public boolean isWarmStandby() {
+        return warmStandby;
+    }
+
+    /**
+     * @return  Returns the number of shards into which the watched namespaces are split
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * @return  Returns true if the watched namespaces are split into multiple shards with their own Leases
+     */
+    public boolean isSharded() {
+        return shards > 1;
+    }
+
     @Override
     public String toString() {
         return "LeaderElectionConfig{" +
@@ -159,6 +234,8 @@ public class LeaderElectionManagerConfig {
                 ", leaseDuration=" + leaseDuration +
                 ", renewDeadline=" + renewDeadline +
                 ", retryPeriod=" + retryPeriod +
+                ", warmStandby=" + warmStandby +
+                ", shards=" + shards +
                 '}';
     }
 }
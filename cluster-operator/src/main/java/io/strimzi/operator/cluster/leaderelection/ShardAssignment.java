@@ -0,0 +1,129 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Assigns the watched namespaces to shards and the shards to the operator replicas. Both assignments use rendezvous
+ * (highest random weight) hashing:
+ * <ul>
+ *     <li>A namespace always belongs to exactly one shard. Changing the number of shards moves only the namespaces
+ *     which belong to the added or removed shards.</li>
+ *     <li>When an operator replica joins or leaves, only the shards which it gains or loses move to another
+ *     replica. All other shards stay where they are.</li>
+ * </ul>
+ *
+ * The assignment of the shards to the replicas is only a preference. The ownership itself is always guarded by the
+ * Lease of the shard.
+ */
+public class ShardAssignment {
+    // FNV-1a 64-bit constants
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ShardAssignment() { }
+
+    /**
+     * Finds the shard which owns the namespace
+     *
+     * @param namespace     Name of the namespace
+     * @param shards        Number of shards
+     *
+     * @return  Index of the shard which owns the namespace
+     */
+    public static int shardOf(String namespace, int shards) {
+        int shard = 0;
+        long highestWeight = Long.MIN_VALUE;
+
+        for (int i = 0; i < shards; i++) {
+            long weight = hash(namespace + "/" + i);
+
+            if (weight > highestWeight) {
+                highestWeight = weight;
+                shard = i;
+            }
+        }
+
+        return shard;
+    }
+
+    /**
+     * Splits the namespaces into shards
+     *
+     * @param namespaces    Watched namespaces
+     * @param shards        Number of shards
+     *
+     * @return  Map with the namespaces of each shard. Shards without any namespace are included with an empty set.
+     */
+    public static Map<Integer, Set<String>> namespacesByShard(Collection<String> namespaces, int shards) {
+        Map<Integer, Set<String>> namespacesByShard = new TreeMap<>();
+
+        for (int i = 0; i < shards; i++) {
+            namespacesByShard.put(i, new TreeSet<>());
+        }
+
+        for (String namespace : namespaces) {
+            namespacesByShard.get(shardOf(namespace, shards)).add(namespace);
+        }
+
+        return namespacesByShard;
+    }
+
+    /**
+     * Finds the operator replica which should own the shard
+     *
+     * @param shard     Index of the shard
+     * @param members   Identities of the live operator replicas
+     *
+     * @return  Identity of the operator replica which should own the shard or null if there are no members
+     */
+    public static String ownerOf(int shard, Collection<String> members) {
+        String owner = null;
+        long highestWeight = Long.MIN_VALUE;
+
+        for (String member : members) {
+            long weight = hash(member + "/shard-" + shard);
+
+            // Ties are broken by the identity to make sure all replicas get the same result
+            if (owner == null || weight > highestWeight || (weight == highestWeight && member.compareTo(owner) < 0)) {
+                highestWeight = weight;
+                owner = member;
+            }
+        }
+
+        return owner;
+    }
+
+    /**
+     * Stable 64-bit hash which does not depend on the JVM. It uses FNV-1a followed by the finalizer from MurmurHash3
+     * to spread the values of similar keys.
+     *
+     * @param key   Key which should be hashed
+     *
+     * @return  The hash of the key
+     */
+    /* test */ static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ShardManager is responsible for running the Cluster Operator with the watched namespaces split into multiple shards.
+ * Each shard has its own Lease and the operator replica holding the Lease of the shard is the only one reconciling the
+ * namespaces which belong to it.
+ *
+ * The operator replicas announce themselves using member Leases which they renew periodically. From the live members,
+ * each replica computes which shards it should own (see {@link ShardAssignment}). It competes only for the Leases of
+ * these shards and releases the shards which should be owned by another replica. So the shards are rebalanced
+ * automatically when replicas join or leave. The verticles of a shard are always stopped and their reconciliations in
+ * progress finished before its Lease is released, so a shard is never reconciled by two replicas at the same time. When
+ * the Lease of a shard is lost involuntarily, the operator exits.
+ */
+public class ShardManager {
+    private static final Logger LOGGER = LogManager.getLogger(ShardManager.class);
+
+    /**
+     * Label used to find the member Leases of the operator replicas competing for the same shards
+     */
+    public static final String LEASE_LABEL = Labels.STRIMZI_DOMAIN + "leader-election-lease";
+
+    private static final String METRICS_PREFIX = "strimzi.";
+
+    /**
+     * State of a shard in this operator replica
+     */
+    public enum ShardState {
+        /**
+         * The shard should be owned by another replica
+         */
+        NOT_OWNED,
+
+        /**
+         * The shard should be owned by this replica, which is waiting for its Lease
+         */
+        WAITING,
+
+        /**
+         * This replica holds the Lease of the shard and starts its verticles
+         */
+        STARTING,
+
+        /**
+         * This replica holds the Lease of the shard and its verticles are running
+         */
+        READY,
+
+        /**
+         * This replica is stopping the verticles of the shard before releasing its Lease
+         */
+        STOPPING
+    }
+
+    private final Vertx vertx;
+    private final KubernetesClient client;
+    private final LeaderElectionManagerConfig config;
+    private final Map<Integer, Set<String>> namespacesByShard;
+    private final BiFunction<Integer, Set<String>, Future<Void>> startShard;
+    private final Function<Integer, Future<Void>> stopShard;
+
+    private final Map<Integer, LeaderElectionManager> electors = new ConcurrentHashMap<>();
+    private final Map<Integer, ShardState> states = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> ownedShardsMetrics = new ConcurrentHashMap<>();
+    private final AtomicInteger membersMetric;
+    private final AtomicBoolean rebalancing = new AtomicBoolean(false);
+
+    private long rebalanceTimer = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client
+     * @param config            Leader election configuration
+     * @param namespaces        Namespaces watched by the operator
+     * @param metricsProvider   Metrics provider
+     * @param startShard        Starts the verticles for the namespaces of the shard once the Lease of the shard is
+     *                          acquired
+     * @param stopShard         Stops the verticles of the shard. It has to be idempotent and complete only once the
+     *                          reconciliations of the shard are finished.
+     */
+    public ShardManager(Vertx vertx, KubernetesClient client, LeaderElectionManagerConfig config, Set<String> namespaces, MetricsProvider metricsProvider,
+                        BiFunction<Integer, Set<String>, Future<Void>> startShard, Function<Integer, Future<Void>> stopShard) {
+        this.vertx = vertx;
+        this.client = client;
+        this.config = config;
+        this.namespacesByShard = ShardAssignment.namespacesByShard(namespaces, config.getShards());
+        this.startShard = startShard;
+        this.stopShard = stopShard;
+
+        this.membersMetric = metricsProvider.gauge(METRICS_PREFIX + "shard.members", "Number of live operator replicas sharing the shards", Tags.empty());
+
+        for (Map.Entry<Integer, Set<String>> shard : namespacesByShard.entrySet()) {
+            Tags tags = Tags.of(Tag.of("shard", String.valueOf(shard.getKey())));
+
+            states.put(shard.getKey(), ShardState.NOT_OWNED);
+            ownedShardsMetrics.put(shard.getKey(), metricsProvider.gauge(METRICS_PREFIX + "shard.owned", "Indicates whether the shard is owned by this operator replica", tags));
+            metricsProvider.gauge(METRICS_PREFIX + "shard.namespaces", "Number of namespaces in the shard", tags).set(shard.getValue().size());
+
+            LOGGER.info("Shard {} contains namespaces {}", shard.getKey(), shard.getValue());
+        }
+    }
+
+    /**
+     * Starts the periodic rebalancing of the shards
+     */
+    public void start() {
+        LOGGER.info("Starting the shard manager with {} shards", config.getShards());
+        rebalance();
+        rebalanceTimer = vertx.setPeriodic(config.getRetryPeriod().toMillis(), id -> rebalance());
+    }
+
+    /**
+     * Stops the periodic rebalancing, releases all shards and removes the member Lease of this replica so that the
+     * other replicas can take over its shards right away.
+     */
+    public void stop() {
+        LOGGER.info("Stopping the shard manager");
+        vertx.cancelTimer(rebalanceTimer);
+
+        for (LeaderElectionManager elector : electors.values()) {
+            elector.stop();
+        }
+
+        try {
+            client.leases().inNamespace(config.getNamespace()).withName(memberLeaseName(config.getIdentity())).delete();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to delete the member Lease", e);
+        }
+    }
+
+    /**
+     * Renews the member Lease of this replica, finds the live members and acquires or releases the shards according to
+     * the shard assignment.
+     *
+     * @return  Future which completes when the rebalancing is finished
+     */
+    /* test */ Future<Void> rebalance() {
+        if (!rebalancing.compareAndSet(false, true)) {
+            LOGGER.debug("Previous rebalancing of the shards is still in progress");
+            return Future.succeededFuture();
+        }
+
+        return vertx.<Set<String>>executeBlocking(promise -> {
+            renewMemberLease();
+            promise.complete(liveMembers());
+        }, false)
+                .compose(members -> {
+                    membersMetric.set(members.size());
+
+                    @SuppressWarnings({ "rawtypes" })
+                    List<Future> futures = new ArrayList<>();
+
+                    for (int shard : namespacesByShard.keySet()) {
+                        boolean shouldOwn = config.getIdentity().equals(ShardAssignment.ownerOf(shard, members));
+
+                        if (shouldOwn && !electors.containsKey(shard)) {
+                            acquire(shard);
+                        } else if (!shouldOwn && electors.containsKey(shard) && states.get(shard) != ShardState.STOPPING) {
+                            futures.add(release(shard));
+                        }
+                    }
+
+                    return CompositeFuture.join(futures).<Void>mapEmpty();
+                })
+                .onComplete(res -> {
+                    if (res.failed()) {
+                        LOGGER.warn("Failed to rebalance the shards", res.cause());
+                    }
+
+                    rebalancing.set(false);
+                });
+    }
+
+    private void acquire(int shard) {
+        LOGGER.info("Competing for the Lease of shard {}", shard);
+
+        LeaderElectionManager elector = new LeaderElectionManager(client, config.forShard(shard),
+                () -> shardAcquired(shard),
+                () -> shardLost(shard),
+                leader -> {
+                    // Do nothing
+                });
+
+        states.put(shard, ShardState.WAITING);
+        electors.put(shard, elector);
+        elector.start();
+    }
+
+    private void shardAcquired(int shard) {
+        if (!states.replace(shard, ShardState.WAITING, ShardState.STARTING)) {
+            // The shard is being released already
+            return;
+        }
+
+        LOGGER.info("Acquired shard {} with namespaces {}", shard, namespacesByShard.get(shard));
+        ownedShardsMetrics.get(shard).set(1);
+
+        startShard.apply(shard, namespacesByShard.get(shard))
+                .onComplete(res -> {
+                    if (res.succeeded()) {
+                        LOGGER.info("Shard {} is ready", shard);
+                        states.replace(shard, ShardState.STARTING, ShardState.READY);
+                    } else {
+                        LOGGER.error("Failed to start shard {}. The shard will be released.", shard, res.cause());
+                        release(shard);
+                    }
+                });
+    }
+
+    @SuppressFBWarnings("DM_EXIT")
+    private void shardLost(int shard) {
+        ownedShardsMetrics.get(shard).set(0);
+        ShardState previous = states.put(shard, ShardState.NOT_OWNED);
+
+        if (previous == ShardState.STARTING || previous == ShardState.READY) {
+            // The Lease was lost without being released by us (for example because it could not be renewed). Another
+            // replica might be reconciling the shard already while our reconciliations are still in progress. So we
+            // exit in the same way as when the leadership is lost without sharding.
+            LOGGER.warn("Lost the Lease of shard {} => exiting", shard);
+            System.exit(0);
+        }
+    }
+
+    private Future<Void> release(int shard) {
+        LOGGER.info("Releasing shard {}", shard);
+        states.put(shard, ShardState.STOPPING);
+
+        // The verticles have to be stopped before the Lease is released to another replica. Stopping the verticles
+        // waits for the reconciliations which are in progress.
+        return stopShard.apply(shard)
+                .onComplete(res -> {
+                    if (res.failed()) {
+                        LOGGER.warn("Failed to stop the verticles of shard {}", shard, res.cause());
+                    }
+
+                    ownedShardsMetrics.get(shard).set(0);
+                    states.put(shard, ShardState.NOT_OWNED);
+
+                    LeaderElectionManager elector = electors.remove(shard);
+                    if (elector != null) {
+                        elector.stop();
+                    }
+                })
+                .recover(error -> Future.succeededFuture());
+    }
+
+    private void renewMemberLease() {
+        Lease lease = new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(memberLeaseName(config.getIdentity()))
+                    .withNamespace(config.getNamespace())
+                    .withLabels(Map.of(LEASE_LABEL, config.getLeaseName()))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(config.getIdentity())
+                    .withLeaseDurationSeconds((int) config.getLeaseDuration().toSeconds())
+                    .withRenewTime(ZonedDateTime.now())
+                .endSpec()
+                .build();
+
+        if (client.leases().inNamespace(config.getNamespace()).withName(lease.getMetadata().getName()).get() == null) {
+            client.leases().inNamespace(config.getNamespace()).resource(lease).create();
+        } else {
+            client.leases().inNamespace(config.getNamespace()).resource(lease).patch();
+        }
+    }
+
+    /* test */ Set<String> liveMembers() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Set<String> members = new TreeSet<>();
+        members.add(config.getIdentity());
+
+        for (Lease lease : client.leases().inNamespace(config.getNamespace()).withLabel(LEASE_LABEL, config.getLeaseName()).list().getItems()) {
+            if (lease.getSpec() != null
+                    && lease.getSpec().getHolderIdentity() != null
+                    && lease.getSpec().getRenewTime() != null
+                    && lease.getSpec().getLeaseDurationSeconds() != null
+                    && lease.getSpec().getRenewTime().plusSeconds(lease.getSpec().getLeaseDurationSeconds()).isAfter(now)) {
+                members.add(lease.getSpec().getHolderIdentity());
+            }
+        }
+
+        return members;
+    }
+
+    /* test */ String memberLeaseName(String identity) {
+        return config.getLeaseName() + "-member-" + identity;
+    }
+
+    /**
+     * @param shard     Index of the shard
+     *
+     * @return  State of the shard in this operator replica
+     */
+    public ShardState state(int shard) {
+        return states.get(shard);
+    }
+
+    /**
+     * @return  True if all shards owned by this replica are ready. False otherwise.
+     */
+    public boolean isReady() {
+        return states.values().stream().noneMatch(state -> state == ShardState.STARTING);
+    }
+
+    /**
+     * @return  JSON with the state and namespaces of each shard used by the health endpoint
+     */
+    public JsonObject status() {
+        JsonArray shards = new JsonArray();
+
+        for (Map.Entry<Integer, Set<String>> shard : namespacesByShard.entrySet()) {
+            shards.add(new JsonObject()
+                    .put("shard", shard.getKey())
+                    .put("state", states.get(shard.getKey()).toString())
+                    .put("namespaces", new JsonArray(new ArrayList<>(shard.getValue()))));
+        }
+
+        return new JsonObject()
+                .put("identity", config.getIdentity())
+                .put("shards", shards);
+    }
+}
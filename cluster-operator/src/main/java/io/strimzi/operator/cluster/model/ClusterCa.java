@@ -12,6 +12,7 @@ import java.util.function.Function;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.KafkaExporterResources;
 import io.strimzi.api.kafka.model.KafkaResources;
@@ -74,12 +75,43 @@ public class ClusterCa extends Ca {
                      int renewalDays,
                      boolean generateCa,
                      CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, clusterName, clusterCaCert, clusterCaKey, validityDays,
+                renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param clusterName           Name of the Kafka cluster
+     * @param clusterCaCert         Secret with the public key
+     * @param clusterCaKey          Secret with the private key
+     * @param validityDays          Validity days
+     * @param renewalDays           Renewal days (how many days before expiration should the CA be renewed)
+     * @param generateCa            Flag indicating if Strimzi CA should be generated or custom CA is used
+     * @param policy                Renewal policy
+     * @param keyAlgorithm          Algorithm of the private keys generated for the CA and the certificates of the
+     *                              cluster components
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClusterCa(Reconciliation reconciliation, CertManager certManager,
+                     PasswordGenerator passwordGenerator,
+                     String clusterName,
+                     Secret clusterCaCert,
+                     Secret clusterCaKey,
+                     int validityDays,
+                     int renewalDays,
+                     boolean generateCa,
+                     CertificateExpirationPolicy policy,
+                     CertificateKeyAlgorithm keyAlgorithm) {
         super(reconciliation, certManager, passwordGenerator,
                 "cluster-ca",
                 AbstractModel.clusterCaCertSecretName(clusterName),
                 forceRenewal(clusterCaCert, clusterCaKey, "cluster-ca.key"),
                 AbstractModel.clusterCaKeySecretName(clusterName),
-                adapt060ClusterCaSecret(clusterCaKey), validityDays, renewalDays, generateCa, policy);
+                adapt060ClusterCaSecret(clusterCaKey), validityDays, renewalDays, generateCa, policy, keyAlgorithm);
         this.clusterName = clusterName;
     }
 
@@ -175,7 +207,8 @@ public class ClusterCa extends Ca {
             subjectFn,
             cruiseControlSecret,
             podNum -> "cruise-control",
-            isMaintenanceTimeWindowsSatisfied);
+            isMaintenanceTimeWindowsSatisfied,
+            false);
     }
 
     protected Map<String, CertAndKey> generateZkCerts(String namespace, String kafkaName, int replicas, boolean isMaintenanceTimeWindowsSatisfied) throws IOException {
@@ -206,7 +239,8 @@ public class ClusterCa extends Ca {
             subjectFn,
             zkNodesSecret,
             podNum -> KafkaResources.zookeeperPodName(kafkaName, podNum),
-            isMaintenanceTimeWindowsSatisfied);
+            isMaintenanceTimeWindowsSatisfied,
+            false);
     }
 
     protected Map<String, CertAndKey> generateBrokerCerts(String namespace, String cluster, int replicas, Set<String> externalBootstrapAddresses,
@@ -251,7 +285,8 @@ public class ClusterCa extends Ca {
             subjectFn,
             brokersSecret,
             podNum -> KafkaResources.kafkaPodName(cluster, podNum),
-            isMaintenanceTimeWindowsSatisfied);
+            isMaintenanceTimeWindowsSatisfied,
+            true);
     }
 
     @Override
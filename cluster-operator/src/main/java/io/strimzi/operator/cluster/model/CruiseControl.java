@@ -321,6 +321,16 @@ public class CruiseControl extends AbstractModel {
         }
     }
 
+    /**
+     * Replaces the broker capacity configuration. This is used to set the capacity which includes the capacity observed
+     * in the Kubernetes cluster (such as the network capacity from node annotations or the resized volumes).
+     *
+     * @param capacity  The new broker capacity configuration
+     */
+    public void setCapacity(Capacity capacity) {
+        this.capacity = capacity;
+    }
+
     /**
      * @return  Generates a Kuberneets Service for Cruise Control
      */
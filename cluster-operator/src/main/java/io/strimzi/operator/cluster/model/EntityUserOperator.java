@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.api.model.rbac.RoleRefBuilder;
 import io.fabric8.kubernetes.api.model.rbac.Subject;
 import io.fabric8.kubernetes.api.model.rbac.SubjectBuilder;
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.ContainerEnvVar;
 import io.strimzi.api.kafka.model.EntityUserOperatorSpec;
 import io.strimzi.api.kafka.model.Kafka;
@@ -58,6 +59,7 @@ public class EntityUserOperator extends AbstractModel {
     /* test */ static final String ENV_VAR_CLIENTS_CA_NAMESPACE = "STRIMZI_CA_NAMESPACE";
     /* test */ static final String ENV_VAR_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     /* test */ static final String ENV_VAR_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    /* test */ static final String ENV_VAR_CLIENTS_CA_KEY_ALGORITHM = "STRIMZI_CA_KEY_ALGORITHM";
     /* test */ static final String ENV_VAR_CLUSTER_CA_CERT_SECRET_NAME = "STRIMZI_CLUSTER_CA_CERT_SECRET_NAME";
     /* test */ static final String ENV_VAR_EO_KEY_SECRET_NAME = "STRIMZI_EO_KEY_SECRET_NAME";
     /* test */ static final String ENV_VAR_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
@@ -79,6 +81,7 @@ public class EntityUserOperator extends AbstractModel {
     /* test */ long reconciliationIntervalMs;
     /* test */ int clientsCaValidityDays;
     /* test */ int clientsCaRenewalDays;
+    /* test */ CertificateKeyAlgorithm clientsCaKeyAlgorithm;
     protected List<ContainerEnvVar> templateContainerEnvVars;
     protected SecurityContext templateContainerSecurityContext;
     private ResourceTemplate templateRoleBinding;
@@ -160,6 +163,8 @@ public class EntityUserOperator extends AbstractModel {
                 if (kafkaAssembly.getSpec().getClientsCa().getRenewalDays() > 0) {
                     result.clientsCaRenewalDays = kafkaAssembly.getSpec().getClientsCa().getRenewalDays();
                 }
+
+                result.clientsCaKeyAlgorithm = kafkaAssembly.getSpec().getClientsCa().getKeyAlgorithm();
             }
 
             if (kafkaAssembly.getSpec().getKafka().getAuthorization() != null) {
@@ -228,6 +233,11 @@ public class EntityUserOperator extends AbstractModel {
             varList.add(buildEnvVar(ENV_VAR_MAINTENANCE_TIME_WINDOWS, String.join(";", maintenanceWindows)));
         }
 
+        // The user certificates use the same key algorithm as the Clients CA
+        if (clientsCaKeyAlgorithm != null)  {
+            varList.add(buildEnvVar(ENV_VAR_CLIENTS_CA_KEY_ALGORITHM, clientsCaKeyAlgorithm.toValue()));
+        }
+
         return varList;
     }
 
@@ -32,6 +32,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -47,6 +48,15 @@ public class KafkaBrokerConfigurationBuilder {
     private final static String CONTROL_PLANE_LISTENER_NAME = "CONTROLPLANE-9090";
     private final static String REPLICATION_LISTENER_NAME = "REPLICATION-9091";
 
+    // The broker keystores are used directly from the mounted Secret and their passwords are loaded through the
+    // directory config provider. That way, the brokers can reload the keystores when the Secret is updated. The
+    // trusted CA certificates are only concatenated into a single PEM file by the container scripts.
+    private final static String CONFIG_PROVIDER_NAME = "strimzidir";
+    private final static String CONFIG_PROVIDER_CLASS = "org.apache.kafka.common.config.provider.DirectoryConfigProvider";
+    private final static String BROKER_CERTS_PATH = "/opt/kafka/broker-certs";
+    private final static String CLUSTER_TRUSTSTORE_PEM = "/tmp/kafka/cluster.truststore.pem";
+    private final static String CLIENTS_TRUSTSTORE_PEM = "/tmp/kafka/clients.truststore.pem";
+
     // Names of environment variables placeholders replaced only in the running container
     //       => needed both for shared and per-broker configuration
     private final static String PLACEHOLDER_CERT_STORE_PASSWORD = "${CERTS_STORE_PASSWORD}";
@@ -74,6 +84,8 @@ public class KafkaBrokerConfigurationBuilder {
     private final Reconciliation reconciliation;
 
     private String brokerId = PLACEHOLDER_BROKER_ID;
+    private boolean usesConfigProvider = false;
+    private String userConfigProviders = null;
 
     /**
      * Broker configuration template constructor
@@ -143,11 +155,10 @@ public class KafkaBrokerConfigurationBuilder {
             writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_BOOTSTRAP_SERVERS + "=" + KafkaResources.brokersServiceName(clusterName) + ":9091");
             writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SECURITY_PROTOCOL + "=SSL");
             writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_TYPE + "=PKCS12");
-            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_LOCATION + "=/tmp/kafka/cluster.keystore.p12");
-            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_PASSWORD + "=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_TYPE + "=PKCS12");
-            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_LOCATION + "=/tmp/kafka/cluster.truststore.p12");
-            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_PASSWORD + "=" + PLACEHOLDER_CERT_STORE_PASSWORD);
+            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_LOCATION + "=" + brokerKeyStoreLocation(KafkaResources.kafkaStatefulSetName(clusterName) + "-" + brokerId));
+            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_PASSWORD + "=" + brokerKeyStorePasswordReference(KafkaResources.kafkaStatefulSetName(clusterName) + "-" + brokerId));
+            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_TYPE + "=PEM");
+            writer.println(CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_LOCATION + "=" + CLUSTER_TRUSTSTORE_PEM);
             writer.println(CruiseControlConfigurationParameters.METRICS_TOPIC_AUTO_CREATE + "=true");
             if (numPartitions != null) {
                 writer.println(CruiseControlConfigurationParameters.METRICS_TOPIC_NUM_PARTITIONS + "=" + numPartitions);
@@ -193,12 +204,11 @@ public class KafkaBrokerConfigurationBuilder {
         writer.println(String.format("zookeeper.connect=%s:%d", KafkaResources.zookeeperServiceName(clusterName), ZookeeperCluster.CLIENT_TLS_PORT));
         writer.println("zookeeper.clientCnxnSocket=org.apache.zookeeper.ClientCnxnSocketNetty");
         writer.println("zookeeper.ssl.client.enable=true");
-        writer.println("zookeeper.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12");
-        writer.println("zookeeper.ssl.keystore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
+        writer.println("zookeeper.ssl.keystore.location=" + brokerKeyStoreLocation(KafkaResources.kafkaStatefulSetName(clusterName) + "-" + brokerId));
+        writer.println("zookeeper.ssl.keystore.password=" + brokerKeyStorePasswordReference(KafkaResources.kafkaStatefulSetName(clusterName) + "-" + brokerId));
         writer.println("zookeeper.ssl.keystore.type=PKCS12");
-        writer.println("zookeeper.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12");
-        writer.println("zookeeper.ssl.truststore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-        writer.println("zookeeper.ssl.truststore.type=PKCS12");
+        writer.println("zookeeper.ssl.truststore.location=" + CLUSTER_TRUSTSTORE_PEM);
+        writer.println("zookeeper.ssl.truststore.type=PEM");
         writer.println();
 
         return this;
@@ -291,7 +301,7 @@ public class KafkaBrokerConfigurationBuilder {
             ));
         }
         securityProtocol.add(CONTROL_PLANE_LISTENER_NAME + ":SSL");
-        configureControlPlaneListener();
+        configureControlPlaneListener(podNameProvider.get());
 
         // Replication listener
         listeners.add(REPLICATION_LISTENER_NAME + "://0.0.0.0:9091");
@@ -302,7 +312,7 @@ public class KafkaBrokerConfigurationBuilder {
                         podNameProvider.get())
         ));
         securityProtocol.add(REPLICATION_LISTENER_NAME + ":SSL");
-        configureReplicationListener();
+        configureReplicationListener(podNameProvider.get());
 
         for (GenericKafkaListener listener : kafkaListeners) {
             int port = listener.getPort();
@@ -322,7 +332,7 @@ public class KafkaBrokerConfigurationBuilder {
                     customServerCert = listener.getConfiguration().getBrokerCertChainAndKey();
                 }
 
-                configureTls(listenerName, customServerCert);
+                configureTls(listenerName, podNameProvider.get(), customServerCert);
             }
 
             writer.println();
@@ -360,17 +370,16 @@ public class KafkaBrokerConfigurationBuilder {
     /**
      * Internal method which configures the control plane listener. The control plane listener configuration is currently
      * rather static, it always uses TLS with TLS client auth.
+     *
+     * @param podName   Name of the pod for which this configuration is used
      */
-    private void configureControlPlaneListener() {
+    private void configureControlPlaneListener(String podName) {
         final String controlPlaneListenerName = CONTROL_PLANE_LISTENER_NAME.toLowerCase(Locale.ENGLISH);
 
         printSectionHeader("Control Plane listener");
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.keystore.location=/tmp/kafka/cluster.keystore.p12");
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.keystore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.keystore.type=PKCS12");
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.truststore.location=/tmp/kafka/cluster.truststore.p12");
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.truststore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-        writer.println("listener.name." + controlPlaneListenerName + ".ssl.truststore.type=PKCS12");
+        configureClusterKeyStore("listener.name." + controlPlaneListenerName + ".", podName);
+        writer.println("listener.name." + controlPlaneListenerName + ".ssl.truststore.location=" + CLUSTER_TRUSTSTORE_PEM);
+        writer.println("listener.name." + controlPlaneListenerName + ".ssl.truststore.type=PEM");
         writer.println("listener.name." + controlPlaneListenerName + ".ssl.client.auth=required");
         writer.println();
     }
@@ -378,17 +387,16 @@ public class KafkaBrokerConfigurationBuilder {
     /**
      * Internal method which configures the replication listener. The replication listener configuration is currently
      * rather static, it always uses TLS with TLS client auth.
+     *
+     * @param podName   Name of the pod for which this configuration is used
      */
-    private void configureReplicationListener() {
+    private void configureReplicationListener(String podName) {
         final String replicationListenerName = REPLICATION_LISTENER_NAME.toLowerCase(Locale.ENGLISH);
 
         printSectionHeader("Replication listener");
-        writer.println("listener.name." + replicationListenerName + ".ssl.keystore.location=/tmp/kafka/cluster.keystore.p12");
-        writer.println("listener.name." + replicationListenerName + ".ssl.keystore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-        writer.println("listener.name." + replicationListenerName + ".ssl.keystore.type=PKCS12");
-        writer.println("listener.name." + replicationListenerName + ".ssl.truststore.location=/tmp/kafka/cluster.truststore.p12");
-        writer.println("listener.name." + replicationListenerName + ".ssl.truststore.password=" + PLACEHOLDER_CERT_STORE_PASSWORD);
-        writer.println("listener.name." + replicationListenerName + ".ssl.truststore.type=PKCS12");
+        configureClusterKeyStore("listener.name." + replicationListenerName + ".", podName);
+        writer.println("listener.name." + replicationListenerName + ".ssl.truststore.location=" + CLUSTER_TRUSTSTORE_PEM);
+        writer.println("listener.name." + replicationListenerName + ".ssl.truststore.type=PEM");
         writer.println("listener.name." + replicationListenerName + ".ssl.client.auth=required");
         writer.println();
     }
@@ -417,20 +425,22 @@ public class KafkaBrokerConfigurationBuilder {
      * Configures TLS for a specific listener. This method is used only internally.
      *
      * @param listenerName  The name of the listener under which it is used in the KAfka broker configuration file
+     * @param podName       Name of the pod for which this configuration is used
      * @param serverCertificate The custom certificate configuration (null if not specified by the user in the Kafka CR)
      */
-    private void configureTls(String listenerName, CertAndKeySecretSource serverCertificate) {
+    private void configureTls(String listenerName, String podName, CertAndKeySecretSource serverCertificate) {
         String listenerNameInProperty = listenerName.toLowerCase(Locale.ENGLISH);
 
         if (serverCertificate != null)  {
+            // Custom certificates might use private keys in other formats than PKCS#8 which is required by the PEM
+            // keystores in Kafka => they are still converted to PKCS12 keystores by the container scripts
             writer.println(String.format("listener.name.%s.ssl.keystore.location=/tmp/kafka/custom-%s.keystore.p12", listenerNameInProperty, listenerNameInProperty));
+            writer.println(String.format("listener.name.%s.ssl.keystore.password=%s", listenerNameInProperty, PLACEHOLDER_CERT_STORE_PASSWORD));
+            writer.println(String.format("listener.name.%s.ssl.keystore.type=PKCS12", listenerNameInProperty));
         } else {
-            writer.println(String.format("listener.name.%s.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12", listenerNameInProperty));
+            configureClusterKeyStore(String.format("listener.name.%s.", listenerNameInProperty), podName);
         }
 
-        writer.println(String.format("listener.name.%s.ssl.keystore.password=%s", listenerNameInProperty, PLACEHOLDER_CERT_STORE_PASSWORD));
-        writer.println(String.format("listener.name.%s.ssl.keystore.type=PKCS12", listenerNameInProperty));
-
         writer.println();
     }
 
@@ -498,9 +508,8 @@ public class KafkaBrokerConfigurationBuilder {
             securityProtocol.add(String.format("%s:%s", listenerName, getSecurityProtocol(tls, false)));
 
             writer.println(String.format("listener.name.%s.ssl.client.auth=required", listenerNameInProperty));
-            writer.println(String.format("listener.name.%s.ssl.truststore.location=/tmp/kafka/clients.truststore.p12", listenerNameInProperty));
-            writer.println(String.format("listener.name.%s.ssl.truststore.password=%s", listenerNameInProperty, PLACEHOLDER_CERT_STORE_PASSWORD));
-            writer.println(String.format("listener.name.%s.ssl.truststore.type=PKCS12", listenerNameInProperty));
+            writer.println(String.format("listener.name.%s.ssl.truststore.location=%s", listenerNameInProperty, CLIENTS_TRUSTSTORE_PEM));
+            writer.println(String.format("listener.name.%s.ssl.truststore.type=PEM", listenerNameInProperty));
             writer.println();
         } else if (auth instanceof KafkaListenerAuthenticationCustom) {
             KafkaListenerAuthenticationCustom customAuth = (KafkaListenerAuthenticationCustom) auth;
@@ -704,6 +713,24 @@ public class KafkaBrokerConfigurationBuilder {
         }
     }
 
+    /**
+     * Configures the broker options derived from the resources by the performance profile. The options set by the user
+     * are already excluded, so they are not duplicated in the user provided configuration.
+     *
+     * @param tuning    Map with the derived configuration options
+     *
+     * @return  Returns the builder instance
+     */
+    public KafkaBrokerConfigurationBuilder withPerformanceTuning(Map<String, String> tuning)  {
+        if (tuning != null && !tuning.isEmpty()) {
+            printSectionHeader("Performance tuning");
+            tuning.forEach((key, value) -> writer.println(key + "=" + value));
+            writer.println();
+        }
+
+        return this;
+    }
+
     /**
      * Configures the configuration options passed by the user in the Kafka CR.
      *
@@ -713,6 +740,9 @@ public class KafkaBrokerConfigurationBuilder {
      */
     public KafkaBrokerConfigurationBuilder withUserConfiguration(AbstractConfiguration userConfig)  {
         if (userConfig != null && !userConfig.getConfiguration().isEmpty()) {
+            // The config providers configured by the user are merged with our own config provider when building the configuration
+            userConfigProviders = userConfig.getConfigOption("config.providers");
+
             printSectionHeader("User provided configuration");
             writer.println(userConfig.getConfiguration());
             writer.println();
@@ -741,6 +771,62 @@ public class KafkaBrokerConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Internal method which configures the keystore with the broker certificate signed by the cluster CA. The PKCS12
+     * keystore is used directly from the broker certificates Secret mounted into the container and its password is
+     * loaded using the directory config provider. So no keystore has to be generated when the broker container starts
+     * and the keystore can be reloaded by the broker when the Secret is updated with a renewed certificate.
+     *
+     * @param prefix    Prefix of the keystore options (e.g. listener.name.replication-9091.)
+     * @param podName   Name of the pod for which this configuration is used
+     */
+    private void configureClusterKeyStore(String prefix, String podName) {
+        writer.println(prefix + "ssl.keystore.location=" + brokerKeyStoreLocation(podName));
+        writer.println(prefix + "ssl.keystore.password=" + brokerKeyStorePasswordReference(podName));
+        writer.println(prefix + "ssl.keystore.type=PKCS12");
+    }
+
+    /**
+     * Generates the path of the PKCS12 keystore mounted from the broker certificates Secret.
+     *
+     * @param podName   Name of the pod to which the keystore belongs
+     *
+     * @return  Path to the keystore file
+     */
+    /* test */ static String brokerKeyStoreLocation(String podName) {
+        return String.format("%s/%s.p12", BROKER_CERTS_PATH, podName);
+    }
+
+    /**
+     * Internal method which generates the config provider reference to the keystore password from the broker
+     * certificates Secret.
+     *
+     * @param podName   Name of the pod to which the keystore belongs
+     *
+     * @return  Config provider reference which will be replaced by the password by the Kafka broker
+     */
+    private String brokerKeyStorePasswordReference(String podName) {
+        usesConfigProvider = true;
+        return String.format("${%s:%s:%s.password}", CONFIG_PROVIDER_NAME, BROKER_CERTS_PATH, podName);
+    }
+
+    /**
+     * Internal method which configures the config provider used to load the broker certificates. The config providers
+     * configured by the user (if any) are kept.
+     */
+    private void configureConfigProviders() {
+        String configProviders = CONFIG_PROVIDER_NAME;
+
+        if (userConfigProviders != null && !userConfigProviders.isBlank()) {
+            configProviders += "," + userConfigProviders;
+        }
+
+        printSectionHeader("Config providers");
+        writer.println("config.providers=" + configProviders);
+        writer.println("config.providers." + CONFIG_PROVIDER_NAME + ".class=" + CONFIG_PROVIDER_CLASS);
+        writer.println();
+    }
+
     /**
      * Internal method which prints the section header into the configuration file. This makes it more human readable
      * when looking for issues in runnign pods etc.
@@ -772,6 +858,10 @@ public class KafkaBrokerConfigurationBuilder {
      * @return String with the Kafka broker configuration template
      */
     public String build()  {
+        if (usesConfigProvider) {
+            configureConfigProviders();
+        }
+
         return stringWriter.toString();
     }
 }
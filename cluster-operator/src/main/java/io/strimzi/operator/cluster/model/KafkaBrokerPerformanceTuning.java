@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.storage.JbodStorage;
+import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.operator.cluster.operator.resource.Quantities;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Derives the sizes of the Kafka broker thread pools and socket buffers from the resources available to the broker
+ * when the {@code resource-based} performance profile is used. The derived values are only defaults. Any option set by
+ * the user in {@code .spec.kafka.config} is never overridden.
+ *
+ * All the thread pools are dynamically reconfigurable cluster-wide options, so changes to them are applied by the
+ * KafkaRoller without rolling the brokers. Only the socket buffer sizes are read-only and require a rolling update.
+ */
+public class KafkaBrokerPerformanceTuning {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerPerformanceTuning.class.getName());
+
+    /* test */ static final String NUM_NETWORK_THREADS = "num.network.threads";
+    /* test */ static final String NUM_IO_THREADS = "num.io.threads";
+    /* test */ static final String NUM_REPLICA_FETCHERS = "num.replica.fetchers";
+    /* test */ static final String NUM_RECOVERY_THREADS_PER_DATA_DIR = "num.recovery.threads.per.data.dir";
+    /* test */ static final String BACKGROUND_THREADS = "background.threads";
+    /* test */ static final String SOCKET_SEND_BUFFER_BYTES = "socket.send.buffer.bytes";
+    /* test */ static final String SOCKET_RECEIVE_BUFFER_BYTES = "socket.receive.buffer.bytes";
+
+    // Kafka defaults used as the lower bounds
+    private static final int MIN_NETWORK_THREADS = 3;
+    private static final int MIN_IO_THREADS = 8;
+    private static final int MIN_BACKGROUND_THREADS = 10;
+
+    private static final int MAX_NETWORK_THREADS = 16;
+    private static final int MAX_IO_THREADS = 64;
+    private static final int MAX_REPLICA_FETCHERS = 8;
+    private static final int MAX_RECOVERY_THREADS_PER_DATA_DIR = 16;
+    private static final int MAX_BACKGROUND_THREADS = 32;
+
+    private static final int LARGE_SOCKET_BUFFER_MIN_CPUS = 4;
+    private static final int LARGE_SOCKET_BUFFER_BYTES = 1_048_576;
+
+    private KafkaBrokerPerformanceTuning() { }
+
+    /**
+     * Derives the broker configuration for the given performance profile.
+     *
+     * The number of CPUs is taken from the CPU limit or from the CPU request when no limit is set. Without any of them,
+     * nothing is derived. Then:
+     * <ul>
+     *     <li>The network threads are configured per listener, so the CPUs are split between the listeners (including
+     *     the replication listener)</li>
+     *     <li>The I/O threads scale with the CPUs, but there is always at least one for each JBOD volume</li>
+     *     <li>The replica fetchers use one thread for every 4 CPUs</li>
+     *     <li>The recovery threads split the CPUs between the JBOD volumes to speed up the log recovery</li>
+     *     <li>The background threads scale with the CPUs</li>
+     *     <li>The socket buffers are increased to 1 MiB on brokers with at least 4 CPUs</li>
+     * </ul>
+     *
+     * @param reconciliation        The reconciliation
+     * @param profile               Performance profile from the Kafka custom resource
+     * @param resources             Resources of the Kafka container
+     * @param storage               Storage of the Kafka brokers
+     * @param listeners             Listeners configured by the user
+     * @param userConfiguration     Configuration provided by the user
+     * @param configModelSupplier   Supplier of the config model of the Kafka version used by the brokers. It is called
+     *                              only when the options are derived, because reading the config model is expensive.
+     *
+     * @return  Map with the derived configuration options ordered by their names. The map is empty when the profile is
+     *          not {@code resource-based} or when the resources are not known.
+     */
+    public static Map<String, String> configuration(Reconciliation reconciliation, KafkaPerformanceProfile profile,
+                                                    ResourceRequirements resources, Storage storage, List<GenericKafkaListener> listeners,
+                                                    AbstractConfiguration userConfiguration, Supplier<Map<String, ConfigModel>> configModelSupplier) {
+        if (profile != KafkaPerformanceProfile.RESOURCE_BASED) {
+            return Collections.emptyMap();
+        }
+
+        int cpus = cpus(resources);
+        if (cpus < 1) {
+            LOGGER.warnCr(reconciliation, "The resource-based performance profile is used without CPU requests or limits. The Kafka defaults will be used.");
+            return Collections.emptyMap();
+        }
+
+        int volumes = storage instanceof JbodStorage ? Math.max(1, ((JbodStorage) storage).getVolumes().size()) : 1;
+        int listenerCount = (listeners != null ? listeners.size() : 0) + 1;
+
+        Map<String, String> derived = new TreeMap<>();
+        derived.put(NUM_NETWORK_THREADS, String.valueOf(clamp(ceilDiv(2 * cpus, listenerCount), MIN_NETWORK_THREADS, MAX_NETWORK_THREADS)));
+        derived.put(NUM_IO_THREADS, String.valueOf(clamp(Math.max(2 * cpus, volumes), MIN_IO_THREADS, MAX_IO_THREADS)));
+        derived.put(NUM_REPLICA_FETCHERS, String.valueOf(clamp(cpus / 4, 1, MAX_REPLICA_FETCHERS)));
+        derived.put(NUM_RECOVERY_THREADS_PER_DATA_DIR, String.valueOf(clamp(cpus / volumes, 1, MAX_RECOVERY_THREADS_PER_DATA_DIR)));
+        derived.put(BACKGROUND_THREADS, String.valueOf(clamp(cpus, MIN_BACKGROUND_THREADS, MAX_BACKGROUND_THREADS)));
+
+        if (cpus >= LARGE_SOCKET_BUFFER_MIN_CPUS) {
+            derived.put(SOCKET_SEND_BUFFER_BYTES, String.valueOf(LARGE_SOCKET_BUFFER_BYTES));
+            derived.put(SOCKET_RECEIVE_BUFFER_BYTES, String.valueOf(LARGE_SOCKET_BUFFER_BYTES));
+        }
+
+        // User-specified options always win and options unknown to the Kafka version or with invalid values are skipped
+        Map<String, ConfigModel> configModel = configModelSupplier.get();
+        derived.entrySet().removeIf(option -> {
+            if (userConfiguration != null && userConfiguration.getConfigOption(option.getKey()) != null) {
+                return true;
+            }
+
+            ConfigModel model = configModel.get(option.getKey());
+            if (model == null) {
+                LOGGER.warnCr(reconciliation, "Option {} is not supported by this Kafka version and will not be tuned", option.getKey());
+                return true;
+            }
+
+            List<String> errors = model.validate(option.getKey(), option.getValue());
+            if (!errors.isEmpty()) {
+                LOGGER.warnCr(reconciliation, "Derived value of option {} is not valid and will not be used: {}", option.getKey(), errors);
+                return true;
+            }
+
+            return false;
+        });
+
+        LOGGER.debugCr(reconciliation, "Derived broker configuration from the resources ({} CPUs, {} volumes, {} listeners): {}", cpus, volumes, listenerCount, derived);
+
+        return derived;
+    }
+
+    /**
+     * @param resources     Resources of the Kafka container
+     *
+     * @return  Number of whole CPUs from the limit or from the request if no limit is set. 0 when neither is set.
+     */
+    /* test */ static int cpus(ResourceRequirements resources) {
+        if (resources == null) {
+            return 0;
+        }
+
+        Quantity cpu = null;
+        if (resources.getLimits() != null) {
+            cpu = resources.getLimits().get("cpu");
+        }
+
+        if (cpu == null && resources.getRequests() != null) {
+            cpu = resources.getRequests().get("cpu");
+        }
+
+        return cpu != null ? ceilDiv(Quantities.parseCpuAsMilliCpus(cpu.toString()), 1000) : 0;
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -92,6 +92,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -127,6 +128,10 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     protected static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    protected static final int KAFKA_AGENT_PORT = 8080;
+    protected static final String KAFKA_AGENT_PORT_NAME = "http-agent";
+    protected static final String KAFKA_AGENT_LIVENESS_PATH = "/v1/live";
+    protected static final String KAFKA_AGENT_READINESS_PATH = "/v1/ready";
 
     /**
      * Port used by the Route listeners
@@ -215,6 +220,7 @@ public class KafkaCluster extends AbstractModel {
     private Rack rack;
     private String initImage;
     private List<GenericKafkaListener> listeners;
+    private Map<String, String> performanceTuning = Map.of();
     private KafkaAuthorization authorization;
     private KafkaVersion kafkaVersion;
     private CruiseControlSpec cruiseControlSpec;
@@ -413,6 +419,15 @@ public class KafkaCluster extends AbstractModel {
         ListenersValidator.validate(reconciliation, kafkaClusterSpec.getReplicas(), listeners);
         result.listeners = listeners;
 
+        // Derive the thread pools and socket buffers from the resources when requested by the user
+        result.performanceTuning = KafkaBrokerPerformanceTuning.configuration(reconciliation,
+                kafkaClusterSpec.getPerformanceProfile(),
+                kafkaClusterSpec.getResources(),
+                result.getStorage(),
+                listeners,
+                configuration,
+                () -> KafkaConfiguration.readConfigModel(result.kafkaVersion));
+
         // Set authorization
         if (kafkaClusterSpec.getAuthorization() instanceof KafkaAuthorizationKeycloak) {
             if (!ListenersUtils.hasListenerWithOAuth(listeners)) {
@@ -1206,7 +1221,7 @@ public class KafkaCluster extends AbstractModel {
      */
     public Secret generateCertificatesSecret(ClusterCa clusterCa, ClientsCa clientsCa, Set<String> externalBootstrapDnsName, Map<Integer, Set<String>> externalDnsNames, boolean isMaintenanceTimeWindowsSatisfied) {
         Map<String, CertAndKey> brokerCerts;
-        Map<String, String> data = new HashMap<>(replicas * 4);
+        Map<String, String> data = new LinkedHashMap<>(replicas * 4);
 
         try {
             brokerCerts = clusterCa.generateBrokerCerts(namespace, cluster, replicas, externalBootstrapDnsName, externalDnsNames, isMaintenanceTimeWindowsSatisfied);
@@ -1260,9 +1275,10 @@ public class KafkaCluster extends AbstractModel {
     }
 
     /* test */ List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 3);
+        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 5);
         ports.add(createContainerPort(CONTROLPLANE_PORT_NAME, CONTROLPLANE_PORT, "TCP"));
         ports.add(createContainerPort(REPLICATION_PORT_NAME, REPLICATION_PORT, "TCP"));
+        ports.add(createContainerPort(KAFKA_AGENT_PORT_NAME, KAFKA_AGENT_PORT, "TCP"));
 
         for (GenericKafkaListener listener : listeners) {
             ports.add(createContainerPort(ListenersUtils.backwardsCompatiblePortName(listener), listener.getPort(), "TCP"));
@@ -1533,14 +1549,8 @@ public class KafkaCluster extends AbstractModel {
                 .withEnv(getEnvVars())
                 .withVolumeMounts(getVolumeMounts())
                 .withPorts(getContainerPortList())
-                .withLivenessProbe(ProbeGenerator.defaultBuilder(livenessProbeOptions)
-                        .withNewExec()
-                            .withCommand("/opt/kafka/kafka_liveness.sh")
-                        .endExec().build())
-                .withReadinessProbe(ProbeGenerator.defaultBuilder(readinessProbeOptions)
-                        .withNewExec()
-                            .withCommand("/opt/kafka/kafka_readiness.sh")
-                        .endExec().build())
+                .withLivenessProbe(ProbeGenerator.httpProbe(livenessProbeOptions, KAFKA_AGENT_LIVENESS_PATH, KAFKA_AGENT_PORT_NAME))
+                .withReadinessProbe(ProbeGenerator.httpProbe(readinessProbeOptions, KAFKA_AGENT_READINESS_PATH, KAFKA_AGENT_PORT_NAME))
                 .withResources(getResources())
                 .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, getImage()))
                 .withCommand("/opt/kafka/kafka_run.sh")
@@ -1895,6 +1905,7 @@ public class KafkaCluster extends AbstractModel {
                 .withListeners(cluster, namespace, listeners)
                 .withAuthorization(cluster, authorization, false)
                 .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
+                .withPerformanceTuning(performanceTuning)
                 .withUserConfiguration(configuration)
                 .build().trim();
     }
@@ -1986,6 +1997,7 @@ public class KafkaCluster extends AbstractModel {
                             true)
                     .withAuthorization(cluster, authorization, true)
                     .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
+                    .withPerformanceTuning(performanceTuning)
                     .withUserConfiguration(configuration)
                     .build().trim();
         } else {
@@ -2003,6 +2015,7 @@ public class KafkaCluster extends AbstractModel {
                             false)
                     .withAuthorization(cluster, authorization, false)
                     .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
+                    .withPerformanceTuning(performanceTuning)
                     .withUserConfiguration(configuration)
                     .build().trim();
         }
@@ -54,6 +54,10 @@ public class KafkaConnectBuild extends AbstractModel {
 
     private static final String DEFAULT_KANIKO_EXECUTOR_IMAGE = "gcr.io/kaniko-project/executor:latest";
 
+    private static final String KANIKO_CACHE_OPTION = "--cache";
+    private static final String KANIKO_CACHE_REPO_OPTION = "--cache-repo";
+    private static final String CACHE_REPOSITORY_SUFFIX = "-cache";
+
     protected static final String CO_ENV_VAR_CUSTOM_CONNECT_BUILD_POD_LABELS = "STRIMZI_CUSTOM_KAFKA_CONNECT_BUILD_LABELS";
 
     private Build build;
@@ -334,11 +338,18 @@ public class KafkaConnectBuild extends AbstractModel {
     protected List<Container> getContainers(ImagePullPolicy imagePullPolicy) {
         List<Container> containers = new ArrayList<>(1);
 
-        List<String> args = additionalKanikoOptions != null ? new ArrayList<>(4 + additionalKanikoOptions.size()) : new ArrayList<>(4);
+        List<String> args = additionalKanikoOptions != null ? new ArrayList<>(5 + additionalKanikoOptions.size()) : new ArrayList<>(5);
         args.add("--dockerfile=/dockerfile/Dockerfile");
         args.add("--image-name-with-digest-file=/dev/termination-log");
         args.add("--destination=" + build.getOutput().getImage());
 
+        // The layer cache is used only when the user enables it. Each plugin is installed in its own layer, so only
+        // the layers of the changed plugins have to be rebuilt. Without a configured cache repository, the cache is
+        // pushed next to the output image.
+        if ("true".equals(kanikoOption(KANIKO_CACHE_OPTION)) && kanikoOption(KANIKO_CACHE_REPO_OPTION) == null) {
+            args.add(KANIKO_CACHE_REPO_OPTION + "=" + cacheRepository(build.getOutput().getImage()));
+        }
+
         if (additionalKanikoOptions != null) {
             args.addAll(additionalKanikoOptions);
         }
@@ -359,6 +370,50 @@ public class KafkaConnectBuild extends AbstractModel {
         return containers;
     }
 
+    /**
+     * Finds the value of an option in the additional Kaniko options configured by the user
+     *
+     * @param option    Name of the option
+     *
+     * @return  Value of the option, "true" if the option is used without value or null if it is not configured
+     */
+    private String kanikoOption(String option)  {
+        if (additionalKanikoOptions != null) {
+            for (String desired : additionalKanikoOptions) {
+                if (desired.equals(option)) {
+                    return "true";
+                } else if (desired.startsWith(option + "=")) {
+                    return desired.substring(option.length() + 1);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Derives the repository used for the Kaniko layer cache from the output image. The tag or digest of the output
+     * image is removed and the repository name gets the -cache suffix (the default of Kaniko - a nested cache
+     * repository - is not supported by many registries).
+     *
+     * @param image     The output image
+     *
+     * @return  The cache repository
+     */
+    /* test */ static String cacheRepository(String image)  {
+        String repository = image;
+
+        if (repository.contains("@")) {
+            repository = repository.substring(0, repository.indexOf("@"));
+        }
+
+        if (repository.lastIndexOf(":") > repository.lastIndexOf("/")) {
+            repository = repository.substring(0, repository.lastIndexOf(":"));
+        }
+
+        return repository + CACHE_REPOSITORY_SUFFIX;
+    }
+
     /**
      * This method should return the name of the logging configuration file. But the Kaniko builder is not using any
      * logging configuration, so this currently just returns an unsupported exception (but it has to exist due to the
@@ -6,9 +6,9 @@ package io.strimzi.operator.cluster.model;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -29,6 +29,11 @@ import io.strimzi.operator.common.Util;
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
  * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
  * the PrintWriter.
+ *
+ * Each connector plugin is installed in its own layer (with one additional layer for the Maven artifacts copied from
+ * the download stage) and the plugins are ordered by the fingerprint of their content. That keeps the Dockerfile
+ * stable when the plugins are reordered in the custom resource and allows the builder to reuse the cached layers of
+ * the plugins which did not change.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
@@ -44,6 +49,7 @@ public class KafkaConnectDockerfile {
     private static final String NO_PROXY = System.getenv(ClusterOperatorConfig.NO_PROXY);
 
     private final String dockerfile;
+    private final String buildRevision;
 
     private static final String DEFAULT_MAVEN_IMAGE = "quay.io/strimzi/maven-builder:latest";
     private final String mavenBuilder;
@@ -106,12 +112,27 @@ public class KafkaConnectDockerfile {
             return append(cmd, args);
         }
 
+        public Cmd andThen(Cmd cmd) {
+            stringBuilder.append(" \\\n      && ").append(cmd.stringBuilder);
+            return this;
+        }
+
         public String toString() {
             return stringBuilder.toString();
         }
 
     }
 
+    /**
+     * Holds the parts of the Dockerfile belonging to a single connector plugin
+     *
+     * @param name          Name of the connector plugin
+     * @param preStage      Commands downloading the Maven artifacts in the download stage
+     * @param layers        Commands adding the plugin to the new container image
+     * @param fingerprint   Hash stub of the commands which identifies the content of the plugin
+     */
+    private record PluginSection(String name, String preStage, String layers, String fingerprint) { }
+
     /**
      * Broker configuration template constructor
      *
@@ -120,58 +141,107 @@ public class KafkaConnectDockerfile {
      */
     public KafkaConnectDockerfile(String fromImage, Build connectBuild) {
         this.mavenBuilder = System.getenv().getOrDefault(ClusterOperatorConfig.STRIMZI_DEFAULT_MAVEN_BUILDER, DEFAULT_MAVEN_IMAGE);
+
+        List<PluginSection> plugins = connectBuild.getPlugins().stream()
+                .map(this::pluginSection)
+                .sorted(Comparator.comparing(PluginSection::fingerprint).thenComparing(PluginSection::name))
+                .toList();
+
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
         printHeader(writer); // Print initial comment
-        connectorPluginsPreStage(writer, connectBuild.getPlugins());
+        connectorPluginsPreStage(writer, plugins);
         from(writer, fromImage); // Create FROM statement
         user(writer, ROOT_USER); // Switch to root user to be able to add plugins
         proxy(writer); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+        connectorPlugins(writer, plugins);
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
+        buildRevision = Util.hashStub(fromImage + plugins.stream().map(PluginSection::fingerprint).collect(Collectors.joining(",", "[", "]")));
 
         writer.close();
     }
 
+    /**
+     * Generates the commands for a single connector plugin and calculates its fingerprint
+     *
+     * @param plugin    Connector plugin which should be added to the container image
+     *
+     * @return  Section of the Dockerfile belonging to this plugin
+     */
+    private PluginSection pluginSection(Plugin plugin) {
+        String preStage = mavenArtifactsDownload(plugin);
+        String layers = pluginLayers(plugin);
+
+        return new PluginSection(plugin.getName(), preStage, layers, Util.hashStub(preStage + layers));
+    }
+
     /**
      * Generates initial stage for multi-stage build
+     *
      * @param writer        Writer for printing the Docker commands
-     * @param plugins       List of plugins which should be added to the container image
+     * @param plugins       Sections of the plugins which should be added to the container image
      */
-    private void connectorPluginsPreStage(PrintWriter writer, List<Plugin> plugins) {
-        Map<String, List<MavenArtifact>> artifactMap = plugins.stream().collect(Collectors.toMap(Plugin::getName,
-            plugin -> plugin.getArtifacts().stream().filter(artifact -> artifact instanceof MavenArtifact).map(artifact -> (MavenArtifact) artifact).collect(Collectors.toList())));
-        artifactMap.entrySet().removeIf(plugin -> plugin.getValue().isEmpty());
-
-        if (artifactMap.size() > 0) {
+    private void connectorPluginsPreStage(PrintWriter writer, List<PluginSection> plugins) {
+        if (plugins.stream().anyMatch(plugin -> !plugin.preStage().isEmpty())) {
             writer.println("FROM " + mavenBuilder + " AS downloadArtifacts");
-            artifactMap.forEach((plugin, mvnList) ->
-                mvnList.forEach(mvn -> {
-                    String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
-                    String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
-                    String artifactDir = plugin + "/" + artifactHash;
-
-                    // For handling custom repositories, we need to write custom Maven settings file
-                    String settingsFile = "/tmp/" + artifactHash + ".xml";
-                    String settingsXml = "<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>" + escapeXml(repo) + "</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>";
-
-                    Cmd cmd = run("curl", "-f", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
-                            .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
-                            .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
-                                    "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
-                            .andRun("curl", "-f", "-L", "--create-dirs", "--output",
-                                    "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
-                                    assembleResourceUrl(repo, mvn, "jar"));
-                    writer.append("RUN ").println(cmd);
-                    writer.println();
-                })
-            );
+            for (PluginSection plugin : plugins) {
+                writer.print(plugin.preStage());
+            }
         }
     }
 
+    /**
+     * Generates the command downloading all Maven artifacts of a plugin in the download stage. All artifacts of the
+     * plugin are downloaded in a single layer.
+     *
+     * @param plugin    Connector plugin
+     *
+     * @return  The RUN command downloading the Maven artifacts or empty string if the plugin has no Maven artifacts
+     */
+    private String mavenArtifactsDownload(Plugin plugin) {
+        Cmd run = null;
+
+        for (Artifact art : plugin.getArtifacts()) {
+            if (art instanceof MavenArtifact mvn) {
+                Cmd cmd = downloadMavenArtifact(plugin.getName(), mvn);
+                run = run == null ? cmd : run.andThen(cmd);
+            }
+        }
+
+        return run == null ? "" : "RUN " + run + System.lineSeparator() + System.lineSeparator();
+    }
+
+    /**
+     * Generates the command sequence downloading a single Maven artifact and its dependencies
+     *
+     * @param pluginName    Name of the connector plugin
+     * @param mvn           The Maven artifact
+     *
+     * @return  Command downloading the artifact
+     */
+    private Cmd downloadMavenArtifact(String pluginName, MavenArtifact mvn) {
+        checkGavIsPresent(mvn);
+
+        String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
+        String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
+        String artifactDir = pluginName + "/" + artifactHash;
+
+        // For handling custom repositories, we need to write custom Maven settings file
+        String settingsFile = "/tmp/" + artifactHash + ".xml";
+        String settingsXml = "<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>" + escapeXml(repo) + "</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>";
+
+        return run("curl", "-f", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
+                .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
+                .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
+                        "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
+                .andRun("curl", "-f", "-L", "--create-dirs", "--output",
+                        "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
+                        assembleResourceUrl(repo, mvn, "jar"));
+    }
+
     private String assembleResourceUrl(String repo, MavenArtifact mvn, String extension) {
         return String.format("%s%s/%s/%s/%s-%s.%s",
                 repo,
@@ -231,41 +301,67 @@ public class KafkaConnectDockerfile {
      * Adds the commands to download and possibly unpack the connector plugins
      *
      * @param writer    Writer for printing the Docker commands
-     * @param plugins   List of plugins which should be added to the container image
+     * @param plugins   Sections of the plugins which should be added to the container image
      */
-    private void connectorPlugins(PrintWriter writer, List<Plugin> plugins) {
-        for (Plugin plugin : plugins)   {
-            addPlugin(writer, plugin);
+    private void connectorPlugins(PrintWriter writer, List<PluginSection> plugins) {
+        for (PluginSection plugin : plugins)   {
+            writer.print(plugin.layers());
         }
     }
 
     /**
-     * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
-     * them one by one depending on their type.
+     * Generates the commands adding a particular connector plugin to the container image. It will go through the
+     * individual artifacts and chain the commands for them into a single RUN command depending on their type. The
+     * Maven artifacts downloaded in the download stage are copied with a single COPY command.
      *
-     * @param writer    Writer for printing the Docker commands
      * @param plugin    A single plugin which should be added to the new container image
+     *
+     * @return  Commands adding the plugin to the container image
      */
-    private void addPlugin(PrintWriter writer, Plugin plugin)    {
+    private String pluginLayers(Plugin plugin)    {
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter writer = new PrintWriter(stringWriter);
+
         printSectionHeader(writer, "Connector plugin " + plugin.getName());
 
         String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+        Cmd run = null;
+        boolean hasMavenArtifacts = false;
 
         for (Artifact art : plugin.getArtifacts())  {
+            Cmd cmd;
+
             if (art instanceof JarArtifact) {
-                addJarArtifact(writer, connectorPath, (JarArtifact) art);
+                cmd = addJarArtifact(connectorPath, (JarArtifact) art);
             } else if (art instanceof TgzArtifact) {
-                addTgzArtifact(writer, connectorPath, (TgzArtifact) art);
+                cmd = addTgzArtifact(connectorPath, (TgzArtifact) art);
             } else if (art instanceof ZipArtifact) {
-                addZipArtifact(writer, connectorPath, (ZipArtifact) art);
+                cmd = addZipArtifact(connectorPath, (ZipArtifact) art);
             } else if (art instanceof MavenArtifact) {
-                addMavenArtifact(writer, plugin.getName(), (MavenArtifact) art);
+                hasMavenArtifacts = true;
+                continue;
             } else if (art instanceof OtherArtifact) {
-                addOtherArtifact(writer, connectorPath, (OtherArtifact) art);
+                cmd = addOtherArtifact(connectorPath, (OtherArtifact) art);
             } else {
                 throw new RuntimeException("Unexpected artifact type " + art.getType());
             }
+
+            run = run == null ? cmd : run.andThen(cmd);
         }
+
+        if (run != null) {
+            writer.append("RUN ").println(run);
+            writer.println();
+        }
+
+        if (hasMavenArtifacts) {
+            Cmd copy = run("/tmp/artifacts/" + plugin.getName(), connectorPath);
+            writer.append("COPY --from=downloadArtifacts ").println(copy);
+            writer.println();
+        }
+
+        writer.close();
+        return stringWriter.toString();
     }
 
     private void checkUrlIsPresent(DownloadableArtifact art) {
@@ -299,43 +395,46 @@ public class KafkaConnectDockerfile {
     /**
      * Add command sequence for downloading files and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param jar               The JAR-type artifact
+     *
+     * @return  Command adding the artifact
      */
-    private void addJarArtifact(PrintWriter writer, String connectorPath, JarArtifact jar) {
+    private Cmd addJarArtifact(String connectorPath, JarArtifact jar) {
         checkUrlIsPresent(jar);
         String artifactHash = Util.hashStub(jar.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
         String artifactPath = artifactDir + "/" + artifactHash + ".jar";
-        addUnmodifiedArtifact(writer, jar, artifactDir, artifactPath);
+        return addUnmodifiedArtifact(jar, artifactDir, artifactPath);
     }
 
     /**
      * Add command sequence for downloading files and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param other             The Other-type artifact
+     *
+     * @return  Command adding the artifact
      */
-    private void addOtherArtifact(PrintWriter writer, String connectorPath, OtherArtifact other) {
+    private Cmd addOtherArtifact(String connectorPath, OtherArtifact other) {
         checkUrlIsPresent(other);
         String artifactHash = Util.hashStub(other.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
         String fileName = other.getFileName() != null ? other.getFileName() : artifactHash;
         String artifactPath = artifactDir + "/" + fileName;
 
-        addUnmodifiedArtifact(writer, other, artifactDir, artifactPath);
+        return addUnmodifiedArtifact(other, artifactDir, artifactPath);
     }
 
     /**
      * Adds download command for artifacts which are just downloaded without any unpacking or other processing.
-     * @param writer            Writer for printing the Docker commands
      * @param art               Artifact which should be downloaded
      * @param artifactDir       Directory into which the artifact should be downloaded
      * @param artifactPath      Full path of the artifact
+     *
+     * @return  Command adding the artifact
      */
-    private void addUnmodifiedArtifact(PrintWriter writer, DownloadableArtifact art, String artifactDir, String artifactPath) {
+    private Cmd addUnmodifiedArtifact(DownloadableArtifact art, String artifactDir, String artifactPath) {
         Cmd run = downloadArtifact(artifactDir, artifactPath, art);
 
         if (art.getSha512sum() != null && !art.getSha512sum().isEmpty()) {
@@ -346,18 +445,19 @@ public class KafkaConnectDockerfile {
                 .andRun("sha512sum", "--check", shaFile)
                 .andRun("rm", "-f", shaFile);
         }
-        writer.append("RUN ").println(run);
-        writer.println();
+
+        return run;
     }
 
     /**
      * Add command sequence for downloading and unpacking TAR.GZ archives and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param tgz               The TGZ-type artifact
+     *
+     * @return  Command adding the artifact
      */
-    private void addTgzArtifact(PrintWriter writer, String connectorPath, TgzArtifact tgz) {
+    private Cmd addTgzArtifact(String connectorPath, TgzArtifact tgz) {
         checkUrlIsPresent(tgz);
         String artifactHash = Util.hashStub(tgz.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
@@ -373,20 +473,19 @@ public class KafkaConnectDockerfile {
                 .andRun("sha512sum", "--check", shaFile)
                 .andRun("rm", "-f", shaFile);
         }
-        run.andRun("tar", "xvfz", archivePath, "-C", artifactDir)
+        return run.andRun("tar", "xvfz", archivePath, "-C", artifactDir)
             .andRun("rm", "-vf", archivePath);
-        writer.append("RUN ").println(run);
-        writer.println();
     }
 
     /**
      * Add command sequence for downloading and unpacking TAR.ZIP archives and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param zip               The ZIP-type artifact
+     *
+     * @return  Command adding the artifact
      */
-    private void addZipArtifact(PrintWriter writer, String connectorPath, ZipArtifact zip) {
+    private Cmd addZipArtifact(String connectorPath, ZipArtifact zip) {
         checkUrlIsPresent(zip);
         String artifactHash = Util.hashStub(zip.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
@@ -403,28 +502,9 @@ public class KafkaConnectDockerfile {
                 .andRun("rm", "-f", shaFile);
         }
 
-        run.andRun("unzip", archivePath, "-d", artifactDir)
+        return run.andRun("unzip", archivePath, "-d", artifactDir)
             .andRun("find", artifactDir, "-type", "l").pipeTo("xargs", "rm", "-f")
             .andRun("rm", "-vf", archivePath);
-
-        writer.append("RUN ").println(run);
-        writer.println();
-    }
-
-    /**
-     * Add command sequence for downloading Maven artifact
-     *
-     * @param writer            Writer for printing the Docker commands
-     * @param connectorName     Name of the connector to which this artifact belongs should be downloaded
-     * @param mvn               The maven artifact
-     */
-    private void addMavenArtifact(PrintWriter writer, String connectorName, MavenArtifact mvn) {
-        checkGavIsPresent(mvn);
-        String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
-
-        Cmd run = run("/tmp/artifacts/" + connectorName + "/" + artifactHash, BASE_PLUGIN_PATH + connectorName + "/" + artifactHash);
-        writer.append("COPY --from=downloadArtifacts ").println(run);
-        writer.println();
     }
 
     /**
@@ -481,6 +561,18 @@ public class KafkaConnectDockerfile {
         return Util.hashStub(dockerfile);
     }
 
+    /**
+     * Returns the build revision identifying the content of the new container image. It is calculated from the base
+     * image and the fingerprints of the individual connector plugins. Unlike the hash stub of the whole Dockerfile, it
+     * does not change when the plugins are only reordered or when the download environment (such as the proxy
+     * configuration) changes.
+     *
+     * @return  Build revision
+     */
+    public String buildRevision()    {
+        return buildRevision;
+    }
+
     /**
      * This method escapes some of the basic XML characters. This is used when generating the Maven settings XML file.
      * This method is not perfect - but for this use case it seems as an easier solution then including something like
@@ -59,6 +59,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -523,7 +524,7 @@ public class ZookeeperCluster extends AbstractModel {
      * @return The generated Secret with the ZooKeeper node certificates
      */
     public Secret generateCertificatesSecret(ClusterCa clusterCa, boolean isMaintenanceTimeWindowsSatisfied) {
-        Map<String, String> secretData = new HashMap<>(replicas * 4);
+        Map<String, String> secretData = new LinkedHashMap<>(replicas * 4);
         Map<String, CertAndKey> certs;
 
         try {
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.model.cruisecontrol;
 
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.KafkaSpec;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacityOverride;
 import io.strimzi.api.kafka.model.storage.EphemeralStorage;
@@ -160,6 +161,7 @@ public class Capacity {
     private static final String DOC_KEY = "doc";
 
     private final Storage storage;
+    private final ObservedCapacity observed;
 
     private enum ResourceRequirementType {
         REQUEST,
@@ -192,9 +194,25 @@ public class Capacity {
      * @param storage           Used storage configuration
      */
     public Capacity(Reconciliation reconciliation, KafkaSpec spec, Storage storage) {
+        this(reconciliation, spec, storage, ObservedCapacity.EMPTY);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param spec              Spec of the Kafka custom resource
+     * @param storage           Used storage configuration
+     * @param observed          Capacity observed in the Kubernetes cluster. The observed network capacity is used
+     *                          instead of the default capacity from the custom resource, but the per-broker overrides
+     *                          from the custom resource still take precedence. The observed volume sizes are used
+     *                          instead of the declared sizes.
+     */
+    public Capacity(Reconciliation reconciliation, KafkaSpec spec, Storage storage, ObservedCapacity observed) {
         this.reconciliation = reconciliation;
         this.capacityEntries = new TreeMap<>();
         this.storage = storage;
+        this.observed = observed;
 
         processCapacityEntries(spec);
     }
@@ -236,17 +254,19 @@ public class Capacity {
         }
     }
 
-    private static DiskCapacity processDisk(Storage storage, int brokerId) {
+    private DiskCapacity processDisk(Storage storage, int brokerId) {
         if (storage instanceof JbodStorage) {
             return generateJbodDiskCapacity(storage, brokerId);
         } else {
-            return generateDiskCapacity(storage);
+            return generateDiskCapacity(storage, brokerId);
         }
     }
 
-    private static String processInboundNetwork(io.strimzi.api.kafka.model.balancing.BrokerCapacity bc, BrokerCapacityOverride override) {
+    private String processInboundNetwork(io.strimzi.api.kafka.model.balancing.BrokerCapacity bc, BrokerCapacityOverride override, int brokerId) {
         if (override != null && override.getInboundNetwork() != null) {
             return getThroughputInKiB(override.getInboundNetwork());
+        } else if (observed.inboundNetwork(brokerId) != null) {
+            return observed.inboundNetwork(brokerId);
         } else if (bc != null && bc.getInboundNetwork() != null) {
             return getThroughputInKiB(bc.getInboundNetwork());
         } else {
@@ -254,9 +274,11 @@ public class Capacity {
         }
     }
 
-    private static String processOutboundNetwork(io.strimzi.api.kafka.model.balancing.BrokerCapacity bc, BrokerCapacityOverride override) {
+    private String processOutboundNetwork(io.strimzi.api.kafka.model.balancing.BrokerCapacity bc, BrokerCapacityOverride override, int brokerId) {
         if (override != null && override.getOutboundNetwork() != null) {
             return getThroughputInKiB(override.getOutboundNetwork());
+        } else if (observed.outboundNetwork(brokerId) != null) {
+            return observed.outboundNetwork(brokerId);
         } else if (bc != null && bc.getOutboundNetwork() != null) {
             return getThroughputInKiB(bc.getOutboundNetwork());
         } else {
@@ -271,7 +293,7 @@ public class Capacity {
      * @param brokerId Id of the broker
      * @return Disk capacity configuration value for broker brokerId
      */
-    private static DiskCapacity generateJbodDiskCapacity(Storage storage, int brokerId) {
+    private DiskCapacity generateJbodDiskCapacity(Storage storage, int brokerId) {
         DiskCapacity disks = new DiskCapacity();
         String size = "";
 
@@ -280,7 +302,7 @@ public class Capacity {
             String path = KAFKA_MOUNT_PATH + "/" + name + "/" + KAFKA_LOG_DIR + brokerId;
 
             if (volume instanceof PersistentClaimStorage) {
-                size = ((PersistentClaimStorage) volume).getSize();
+                size = observedVolumeSize(name, brokerId, ((PersistentClaimStorage) volume).getSize());
             } else if (volume instanceof EphemeralStorage) {
                 size = ((EphemeralStorage) volume).getSizeLimit();
             }
@@ -293,11 +315,13 @@ public class Capacity {
      * Generate total disk capacity using the supplied storage configuration
      *
      * @param storage Storage configuration for Kafka cluster
+     * @param brokerId Id of the broker
      * @return Disk capacity per broker
      */
-    private static DiskCapacity generateDiskCapacity(Storage storage) {
+    private DiskCapacity generateDiskCapacity(Storage storage, int brokerId) {
         if (storage instanceof PersistentClaimStorage) {
-            return DiskCapacity.of(getSizeInMiB(((PersistentClaimStorage) storage).getSize()));
+            String name = VolumeUtils.createVolumePrefix(null, false);
+            return DiskCapacity.of(getSizeInMiB(observedVolumeSize(name, brokerId, ((PersistentClaimStorage) storage).getSize())));
         } else if (storage instanceof EphemeralStorage) {
             if (((EphemeralStorage) storage).getSizeLimit() != null) {
                 return DiskCapacity.of(getSizeInMiB(((EphemeralStorage) storage).getSizeLimit()));
@@ -309,6 +333,27 @@ public class Capacity {
         }
     }
 
+    /**
+     * Gets the actual size of the persistent volume claim of a broker if it was observed. The default broker entry
+     * always uses the declared size.
+     *
+     * @param volumeName    Name of the volume
+     * @param brokerId      Id of the broker
+     * @param declaredSize  Size declared in the custom resource
+     * @return The observed size of the persistent volume claim or the declared size if it was not observed
+     */
+    private String observedVolumeSize(String volumeName, int brokerId, String declaredSize) {
+        if (brokerId != BrokerCapacity.DEFAULT_BROKER_ID) {
+            String observedSize = observed.volumeSize(volumeName + "-" + KafkaResources.kafkaPodName(reconciliation.name(), brokerId));
+
+            if (observedSize != null) {
+                return observedSize;
+            }
+        }
+
+        return declaredSize;
+    }
+
     /*
      * Parse a K8S-style representation of a disk size, such as {@code 100Gi},
      * into the equivalent number of mebibytes represented as a String.
@@ -342,23 +387,26 @@ public class Capacity {
 
         CpuCapacity cpu = processCpu(brokerCapacity, null, cpuBasedOnRequirements);
         DiskCapacity disk = processDisk(storage, BrokerCapacity.DEFAULT_BROKER_ID);
-        String inboundNetwork = processInboundNetwork(brokerCapacity, null);
-        String outboundNetwork = processOutboundNetwork(brokerCapacity, null);
+        String inboundNetwork = processInboundNetwork(brokerCapacity, null, BrokerCapacity.DEFAULT_BROKER_ID);
+        String outboundNetwork = processOutboundNetwork(brokerCapacity, null, BrokerCapacity.DEFAULT_BROKER_ID);
 
         // Default broker entry
         BrokerCapacity defaultBrokerCapacity = new BrokerCapacity(BrokerCapacity.DEFAULT_BROKER_ID, cpu, disk, inboundNetwork, outboundNetwork);
         capacityEntries.put(BrokerCapacity.DEFAULT_BROKER_ID, defaultBrokerCapacity);
 
-        if (storage instanceof JbodStorage) {
+        if (storage instanceof JbodStorage || !observed.isEmpty()) {
             // A capacity configuration for a cluster with a JBOD configuration
             // requires a distinct broker capacity entry for every broker because the
             // Kafka volume paths are not homogeneous across brokers and include
-            // the broker pod index in their names.
+            // the broker pod index in their names. The same applies when the capacity
+            // observed in the Kubernetes cluster differs between the brokers.
             List<String> podList = KafkaCluster.generatePodList(reconciliation.name(), replicas);
             for (int podIndex = 0; podIndex < podList.size(); podIndex++) {
                 int id = ModelUtils.idOfPod(podList.get(podIndex));
                 disk = processDisk(storage, id);
-                BrokerCapacity broker = new BrokerCapacity(id, cpu, disk, inboundNetwork, outboundNetwork);
+                BrokerCapacity broker = new BrokerCapacity(id, cpu, disk,
+                        processInboundNetwork(brokerCapacity, null, id),
+                        processOutboundNetwork(brokerCapacity, null, id));
                 capacityEntries.put(id, broker);
             }
         }
@@ -375,9 +423,9 @@ public class Capacity {
                     for (BrokerCapacityOverride override : overrides) {
                         List<Integer> ids = override.getBrokers();
                         cpu = processCpu(brokerCapacity, override, cpuBasedOnRequirements);
-                        inboundNetwork = processInboundNetwork(brokerCapacity, override);
-                        outboundNetwork = processOutboundNetwork(brokerCapacity, override);
                         for (int id : ids) {
+                            inboundNetwork = processInboundNetwork(brokerCapacity, override, id);
+                            outboundNetwork = processOutboundNetwork(brokerCapacity, override, id);
                             if (id == BrokerCapacity.DEFAULT_BROKER_ID) {
                                 LOGGER.warnCr(reconciliation, "Ignoring broker capacity override with illegal broker id -1.");
                             } else {
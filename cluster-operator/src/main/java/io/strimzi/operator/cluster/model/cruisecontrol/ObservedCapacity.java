@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model.cruisecontrol;
+
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Capacity of the Kafka brokers observed in the Kubernetes cluster instead of declared in the Kafka custom resource:
+ * <ul>
+ *     <li>The network capacity of the brokers from the annotations of the nodes they are running on</li>
+ *     <li>The actual size of the persistent volume claims as reported in their status (for example after they were
+ *     resized)</li>
+ * </ul>
+ */
+public class ObservedCapacity {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ObservedCapacity.class.getName());
+
+    /**
+     * Node annotation with the inbound network capacity of the brokers running on the node (e.g. {@code 125000KiB/s})
+     */
+    public static final String ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY = Annotations.STRIMZI_DOMAIN + "inbound-network-capacity";
+
+    /**
+     * Node annotation with the outbound network capacity of the brokers running on the node (e.g. {@code 125000KiB/s})
+     */
+    public static final String ANNO_STRIMZI_IO_OUTBOUND_NETWORK_CAPACITY = Annotations.STRIMZI_DOMAIN + "outbound-network-capacity";
+
+    /**
+     * Empty observed capacity used when nothing was observed
+     */
+    public static final ObservedCapacity EMPTY = new ObservedCapacity(Map.of(), Map.of(), Map.of());
+
+    // Uses the same format as the inboundNetwork and outboundNetwork fields in the Kafka custom resource
+    private static final Pattern THROUGHPUT_PATTERN = Pattern.compile("^[0-9]+([KMG]i?)?B/s$");
+
+    private final Map<Integer, String> inboundNetwork;
+    private final Map<Integer, String> outboundNetwork;
+    private final Map<String, String> volumeSizes;
+
+    /**
+     * Constructor
+     *
+     * @param inboundNetwork    Map with the inbound network capacity in KiB/s per broker ID
+     * @param outboundNetwork   Map with the outbound network capacity in KiB/s per broker ID
+     * @param volumeSizes       Map with the actual size per persistent volume claim name
+     */
+    public ObservedCapacity(Map<Integer, String> inboundNetwork, Map<Integer, String> outboundNetwork, Map<String, String> volumeSizes) {
+        this.inboundNetwork = Collections.unmodifiableMap(new TreeMap<>(inboundNetwork));
+        this.outboundNetwork = Collections.unmodifiableMap(new TreeMap<>(outboundNetwork));
+        this.volumeSizes = Collections.unmodifiableMap(new TreeMap<>(volumeSizes));
+    }
+
+    /**
+     * Collects the observed capacity from the Kubernetes resources.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param brokers           Kafka broker pods
+     * @param nodes             Kubernetes worker nodes
+     * @param pvcs              Persistent volume claims of the Kafka brokers
+     *
+     * @return  The observed capacity
+     */
+    public static ObservedCapacity fromResources(Reconciliation reconciliation, List<Pod> brokers, List<Node> nodes, List<PersistentVolumeClaim> pvcs) {
+        Map<String, Node> nodesByName = nodes.stream()
+                .collect(Collectors.toMap(node -> node.getMetadata().getName(), Function.identity(), (first, second) -> first));
+
+        Map<Integer, String> inboundNetwork = new TreeMap<>();
+        Map<Integer, String> outboundNetwork = new TreeMap<>();
+
+        for (Pod broker : brokers) {
+            if (broker.getSpec() == null || broker.getSpec().getNodeName() == null) {
+                // Not scheduled yet
+                continue;
+            }
+
+            Node node = nodesByName.get(broker.getSpec().getNodeName());
+            if (node != null) {
+                int brokerId = ModelUtils.idOfPod(broker.getMetadata().getName());
+
+                String inbound = throughputInKiB(reconciliation, node, ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY);
+                if (inbound != null) {
+                    inboundNetwork.put(brokerId, inbound);
+                }
+
+                String outbound = throughputInKiB(reconciliation, node, ANNO_STRIMZI_IO_OUTBOUND_NETWORK_CAPACITY);
+                if (outbound != null) {
+                    outboundNetwork.put(brokerId, outbound);
+                }
+            }
+        }
+
+        Map<String, String> volumeSizes = new TreeMap<>();
+
+        for (PersistentVolumeClaim pvc : pvcs) {
+            if (pvc.getStatus() != null && pvc.getStatus().getCapacity() != null) {
+                Quantity size = pvc.getStatus().getCapacity().get("storage");
+
+                if (size != null) {
+                    volumeSizes.put(pvc.getMetadata().getName(), size.toString());
+                }
+            }
+        }
+
+        return new ObservedCapacity(inboundNetwork, outboundNetwork, volumeSizes);
+    }
+
+    private static String throughputInKiB(Reconciliation reconciliation, Node node, String annotation) {
+        String throughput = Annotations.stringAnnotation(node, annotation, null);
+
+        if (throughput == null) {
+            return null;
+        } else if (THROUGHPUT_PATTERN.matcher(throughput).matches()) {
+            return Capacity.getThroughputInKiB(throughput);
+        } else {
+            LOGGER.warnCr(reconciliation, "Ignoring annotation {} with invalid value {} on node {}", annotation, throughput, node.getMetadata().getName());
+            return null;
+        }
+    }
+
+    /**
+     * @param brokerId  ID of the broker
+     *
+     * @return  The observed inbound network capacity in KiB/s or null if it was not observed
+     */
+    public String inboundNetwork(int brokerId) {
+        return inboundNetwork.get(brokerId);
+    }
+
+    /**
+     * @param brokerId  ID of the broker
+     *
+     * @return  The observed outbound network capacity in KiB/s or null if it was not observed
+     */
+    public String outboundNetwork(int brokerId) {
+        return outboundNetwork.get(brokerId);
+    }
+
+    /**
+     * @param pvcName   Name of the persistent volume claim
+     *
+     * @return  The actual size of the persistent volume claim or null if it is not known
+     */
+    public String volumeSize(String pvcName) {
+        return volumeSizes.get(pvcName);
+    }
+
+    /**
+     * @return  True if nothing was observed. False otherwise.
+     */
+    public boolean isEmpty() {
+        return inboundNetwork.isEmpty() && outboundNetwork.isEmpty() && volumeSizes.isEmpty();
+    }
+}
@@ -79,6 +79,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -89,7 +90,6 @@ import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART;
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_IO_RESTART_TASK;
@@ -130,6 +130,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final int maxConnectorReconciliationsInFlight;
 
     /**
      * Constructor
@@ -168,6 +169,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.maxConnectorReconciliationsInFlight = config.getMaxConnectorReconciliationsInFlight();
     }
 
     @Override
@@ -387,30 +389,51 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
-            Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
-            );
-
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
-            Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
 
-            return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+            // Limits the number of connectors reconciled in parallel to not overload the Connect REST API. The
+            // connectors which already have the desired configuration need only to read their status and are
+            // reconciled first. The connectors which need to be created, updated or deleted follow.
+            ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(maxConnectorReconciliationsInFlight,
+                    metrics().connectorsReconciliationsQueued(namespace), metrics().connectorsReconciliationsInFlight(namespace));
+            List<KafkaConnector> connectorsWithConfigChanges = new ArrayList<>();
+
+            for (KafkaConnector connector : desiredConnectors) {
+                String connectorName = connector.getMetadata().getName();
+                Map<String, Object> connectorSnapshot = runningConnectors.get(connectorName);
+
+                if (hasDesiredConfig(reconciliation, connector, connectorSnapshot)) {
+                    scheduler.add(() -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, connector, connectorSnapshot));
+                } else {
+                    connectorsWithConfigChanges.add(connector);
+                }
+            }
+
+            for (KafkaConnector connector : connectorsWithConfigChanges) {
+                String connectorName = connector.getMetadata().getName();
+                scheduler.add(() -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, connector, runningConnectors.get(connectorName)));
+            }
+
+            for (String connectorName : deleteConnectorNames) {
+                scheduler.add(() -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null));
+            }
+
+            return scheduler.run();
         }).recover(error -> {
             if (error instanceof ConnectTimeoutException) {
                 Promise<Void> connectorStatuses = Promise.promise();
@@ -436,6 +459,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles a single connector and updates its status with the result.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param host                  Kafka Connect host
+     * @param apiClient             Kafka Connect REST API client
+     * @param useResources          Indicates whether the Connect cluster uses the KafkaConnector resources
+     * @param connectorName         Name of the connector
+     * @param connector             The KafkaConnector resource or null if the connector should be deleted
+     * @param connectorSnapshot     Status and info of the connector from the connectors listing (with the status and
+     *                              info expanded) or null if they are not known and should be queried from the REST API
+     *
+     * @return  Future which completes when the connector is reconciled
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Object> connectorSnapshot) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -451,8 +494,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, connectorSnapshot)
                 .onComplete(result -> {
+                    if (result.failed() && isConnectApiBusy(result.cause())) {
+                        metrics().connectorsBusyConnectApiCounter(reconciliation.namespace()).increment();
+                    }
+
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
                         // This normally means that the connector was deleted and there is no status to be set
@@ -489,8 +536,21 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         return reconciliationResult.future();
     }
 
+    /**
+     * Checks whether the error indicates that the Connect REST API was rebalancing (HTTP 409) or unavailable (HTTP 503)
+     *
+     * @param error     The error
+     *
+     * @return  True if the Connect REST API was busy. False otherwise.
+     */
+    private static boolean isConnectApiBusy(Throwable error) {
+        return error instanceof ConnectRestException
+                && (((ConnectRestException) error).getStatusCode() == 409 || ((ConnectRestException) error).getStatusCode() == 503);
+    }
+
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Object> connectorSnapshot) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -508,7 +568,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, connectorSnapshot);
             }
         }
     }
@@ -529,12 +589,52 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the connector config and status from the connectors listing when they are available. When the connector
+     * has the desired config, is in the desired state and no restart was requested, the status from the listing is
+     * used and no other REST API calls are needed apart from getting the connector topics.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param connectorSnapshot The status and info of the connector from the connectors listing, or null when they
+     *                          are not known and should be queried from the REST API.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Object> connectorSnapshot) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, String> snapshotConfig = configFromSnapshot(connectorSnapshot);
+        Map<String, Object> snapshotStatus = statusFromSnapshot(connectorSnapshot);
+
+        Future<Map<String, String>> currentConfigFuture = snapshotConfig != null
+                ? Future.succeededFuture(snapshotConfig)
+                : apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
 
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        return currentConfigFuture.compose(
             currentConfig -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+
+                    if (snapshotStatus != null
+                            && !needsPauseOrResume(connectorSpec, snapshotStatus)
+                            && !hasRestartAnnotation(resource, connectorName)
+                            && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+                        LOGGER.debugCr(reconciliation, "Connector {} is in the desired state, using the status from the connectors listing", connectorName);
+                        return Future.succeededFuture(new ConnectorStatusAndConditions(snapshotStatus))
+                            .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+                            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    }
+
                     return apiClient.status(reconciliation, host, port, connectorName)
                         .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
                         .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
@@ -565,6 +665,28 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
+    /**
+     * Checks whether the connector from the connectors listing already has the desired configuration.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param connector             The KafkaConnector resource
+     * @param connectorSnapshot     Status and info of the connector from the connectors listing
+     *
+     * @return  True if the connector exists and has the desired configuration. False otherwise.
+     */
+    private boolean hasDesiredConfig(Reconciliation reconciliation, KafkaConnector connector, Map<String, Object> connectorSnapshot) {
+        Map<String, String> currentConfig = configFromSnapshot(connectorSnapshot);
+
+        if (currentConfig == null
+                || connector.getSpec() == null
+                || connector.getSpec().getConfig() == null) {
+            return false;
+        }
+
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connector.getSpec().getConfig().entrySet());
+        return !needsReconfiguring(reconciliation, connector.getMetadata().getName(), connector.getSpec(), desiredConfig.asOrderedProperties().asMap(), currentConfig);
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
@@ -594,6 +716,57 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    /**
+     * Extracts the connector configuration from the connector info returned by the connectors listing
+     *
+     * @param connectorSnapshot     Status and info of the connector from the connectors listing
+     *
+     * @return  Map with the connector configuration or null if the connector snapshot does not contain it
+     */
+    @SuppressWarnings({ "rawtypes" })
+    /* test */ static Map<String, String> configFromSnapshot(Map<String, Object> connectorSnapshot) {
+        if (connectorSnapshot != null
+                && connectorSnapshot.get("info") instanceof Map
+                && ((Map) connectorSnapshot.get("info")).get("config") instanceof Map) {
+            Map<?, ?> config = (Map) ((Map) connectorSnapshot.get("info")).get("config");
+            Map<String, String> result = new HashMap<>(config.size());
+
+            for (Map.Entry<?, ?> entry : config.entrySet()) {
+                result.put(String.valueOf(entry.getKey()), entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+            }
+
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Extracts the connector status from the connectors listing
+     *
+     * @param connectorSnapshot     Status and info of the connector from the connectors listing
+     *
+     * @return  Map with the connector status or null if the connector snapshot does not contain it
+     */
+    @SuppressWarnings({ "unchecked" })
+    /* test */ static Map<String, Object> statusFromSnapshot(Map<String, Object> connectorSnapshot) {
+        if (connectorSnapshot != null && connectorSnapshot.get("status") instanceof Map) {
+            return (Map<String, Object>) connectorSnapshot.get("status");
+        } else {
+            return null;
+        }
+    }
+
+    private boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        @SuppressWarnings({ "rawtypes" })
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         @SuppressWarnings({ "rawtypes" })
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
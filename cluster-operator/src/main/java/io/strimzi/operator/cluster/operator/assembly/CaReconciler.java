@@ -8,6 +8,9 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.Kafka;
@@ -51,6 +54,7 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +82,8 @@ public class CaReconciler {
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
     private final KubernetesRestartEventPublisher eventPublisher;
+    private final int certGenerationParallelism;
+    private final Timer certGenerationTimer;
 
     // Fields based on the Kafka CR required for the reconciliation
     private final List<String> maintenanceWindows;
@@ -132,6 +138,14 @@ public class CaReconciler {
 
         this.eventPublisher = supplier.restartEventsPublisher;
 
+        this.certGenerationParallelism = config.getCertificateGenerationParallelism();
+        // Generating a certificate usually takes well below a second, so the default timer buckets do not fit
+        this.certGenerationTimer = supplier.metricsProvider.timer("strimzi.certificate.generation",
+                "Time spent generating a single node certificate signed by the cluster CA",
+                Tags.of(Tag.of("kind", Kafka.RESOURCE_KIND), Tag.of("namespace", reconciliation.namespace())),
+                Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+                Duration.ofMillis(500), Duration.ofMillis(1000), Duration.ofMillis(2500), Duration.ofMillis(5000), Duration.ofMillis(10000));
+
         // Extract required information from the Kafka CR
         this.maintenanceWindows = kafkaCr.getSpec().getMaintenanceTimeWindows();
         this.ownerRef = new OwnerReferenceBuilder()
@@ -256,8 +270,10 @@ public class CaReconciler {
                             clusterCaKeySecret,
                             ModelUtils.getCertificateValidity(clusterCaConfig),
                             ModelUtils.getRenewalDays(clusterCaConfig),
-                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null,
+                            clusterCaConfig != null ? clusterCaConfig.getKeyAlgorithm() : null);
                     clusterCa.initCaSecrets(clusterSecrets);
+                    clusterCa.configureCertGeneration(certGenerationParallelism, certGenerationTimer);
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
                             clusterCaCertLabels, clusterCaCertAnnotations,
@@ -274,7 +290,8 @@ public class CaReconciler {
                             ModelUtils.getCertificateValidity(clientsCaConfig),
                             ModelUtils.getRenewalDays(clientsCaConfig),
                             clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority(),
-                            clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null);
+                            clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null,
+                            clientsCaConfig != null ? clientsCaConfig.getKeyAlgorithm() : null);
                     clientsCa.initBrokerSecret(brokersSecret);
                     clientsCa.createRenewOrReplace(reconciliation.namespace(), reconciliation.name(),
                             caLabels, Map.of(), Map.of(),
@@ -434,7 +451,9 @@ public class CaReconciler {
                 null,
                 null,
                 false,
-                eventPublisher
+                eventPublisher,
+                null,
+                null
         ).rollingRestart(pod -> {
             LOGGER.debugCr(reconciliation, "Rolling Pod {} due to {}", pod.getMetadata().getName(), podRollReasons.getReasons());
             return podRollReasons;
@@ -123,7 +123,9 @@ public class ConnectBuildOperator {
         }
 
         KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile();
-        String newBuildRevision = dockerfile.hashStub() + Util.hashStub(connectBuild.getBuild().getOutput().getImage());
+        // The revision is based on the fingerprints of the individual plugins. Changes which do not influence the
+        // content of the new image (such as reordering the plugins) do not trigger a new build.
+        String newBuildRevision = dockerfile.buildRevision() + Util.hashStub(connectBuild.getBuild().getOutput().getImage());
         ConfigMap dockerFileConfigMap = connectBuild.generateDockerfileConfigMap(dockerfile);
 
         if (newBuildRevision.equals(currentBuildRevision)
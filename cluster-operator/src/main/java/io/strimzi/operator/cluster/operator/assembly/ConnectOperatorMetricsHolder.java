@@ -25,6 +25,9 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
     private final Map<String, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> pausedConnectorsResourceCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> connectorsReconciliationsQueuedMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> connectorsReconciliationsInFlightMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> connectorsBusyConnectApiCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder for connect operators
@@ -113,6 +116,46 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 "The time the reconciliation takes to complete");
     }
 
+    /**
+     * Gauge metric for the number of connector reconciliations waiting for a free slot. The number of connectors
+     * reconciled in parallel within a single Connect cluster is limited to avoid overloading its REST API.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger connectorsReconciliationsQueued(String namespace) {
+        return getGauge(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "reconciliations.queued",
+                metricsProvider, null, connectorsReconciliationsQueuedMap,
+                "Number of connector reconciliations waiting for the Connect REST API");
+    }
+
+    /**
+     * Gauge metric for the number of connector reconciliations which are currently in progress.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger connectorsReconciliationsInFlight(String namespace) {
+        return getGauge(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "reconciliations.inflight",
+                metricsProvider, null, connectorsReconciliationsInFlightMap,
+                "Number of connector reconciliations in progress");
+    }
+
+    /**
+     * Counter metric for number of connector reconciliations which failed because the Connect REST API was busy
+     * (it responded with HTTP 409 during rebalances or with HTTP 503) even after retrying with back-off.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectorsBusyConnectApiCounter(String namespace) {
+        return getCounter(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "reconciliations.connect.busy", metricsProvider, null, connectorsBusyConnectApiCounterMap,
+                "Number of connector reconciliations which failed because the Connect REST API was rebalancing or unavailable");
+    }
+
     /**
      * Resets all values in the connector resource counter map and paused resource counter map to 0. This is used to
      * handle removed connector resources from various namespaces during the periodical reconciliation in operators.
@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs the reconciliations of the connectors belonging to a single Connect cluster with a limited number of them in
+ * progress at the same time. Each connector reconciliation makes its REST API calls one after another, so this limits
+ * the number of requests sent to the Connect REST API in parallel. The reconciliations are started in the order in
+ * which they were added. That allows the caller to prioritize the connectors which need only to read their status
+ * over the connectors which need to be (re)configured.
+ */
+class ConnectorReconciliationScheduler {
+    private final int maxInFlight;
+    private final AtomicInteger queuedGauge;
+    private final AtomicInteger inFlightGauge;
+    private final List<Supplier<Future<Void>>> tasks = new ArrayList<>();
+
+    private final AtomicInteger next = new AtomicInteger(0);
+    private final AtomicInteger completed = new AtomicInteger(0);
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final Promise<Void> result = Promise.promise();
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxInFlight       Maximum number of reconciliations in progress at the same time
+     * @param queuedGauge       Gauge tracking the number of reconciliations waiting to be started
+     * @param inFlightGauge     Gauge tracking the number of reconciliations in progress
+     */
+    ConnectorReconciliationScheduler(int maxInFlight, AtomicInteger queuedGauge, AtomicInteger inFlightGauge) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximum number of reconciliations in progress has to be positive");
+        }
+
+        this.maxInFlight = maxInFlight;
+        this.queuedGauge = queuedGauge;
+        this.inFlightGauge = inFlightGauge;
+    }
+
+    /**
+     * Adds a reconciliation to the end of the queue. It has to be called before {@link #run()}.
+     *
+     * @param task  Supplier which starts the reconciliation
+     */
+    void add(Supplier<Future<Void>> task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Starts the queued reconciliations.
+     *
+     * @return  Future which completes when all reconciliations complete. It fails with the error of the first failed
+     *          reconciliation if any of them failed.
+     */
+    Future<Void> run() {
+        if (tasks.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        queuedGauge.addAndGet(tasks.size());
+
+        for (int i = 0; i < Math.min(maxInFlight, tasks.size()); i++) {
+            startNext();
+        }
+
+        return result.future();
+    }
+
+    private void startNext() {
+        int index = next.getAndIncrement();
+
+        if (index < tasks.size()) {
+            queuedGauge.decrementAndGet();
+            inFlightGauge.incrementAndGet();
+
+            Future<Void> reconciliation;
+            try {
+                reconciliation = tasks.get(index).get();
+            } catch (Throwable t) {
+                reconciliation = Future.failedFuture(t);
+            }
+
+            reconciliation.onComplete(res -> {
+                inFlightGauge.decrementAndGet();
+
+                if (res.failed()) {
+                    firstFailure.compareAndSet(null, res.cause());
+                }
+
+                if (completed.incrementAndGet() == tasks.size()) {
+                    if (firstFailure.get() != null) {
+                        result.fail(firstFailure.get());
+                    } else {
+                        result.complete();
+                    }
+                } else {
+                    startNext();
+                }
+            });
+        }
+    }
+}
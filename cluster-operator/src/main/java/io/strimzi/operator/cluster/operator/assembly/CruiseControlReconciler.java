@@ -6,10 +6,15 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.Ca;
@@ -18,6 +23,8 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
+import io.strimzi.operator.cluster.model.cruisecontrol.ObservedCapacity;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
@@ -27,14 +34,21 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
+import io.strimzi.operator.common.operator.resource.NodeOperator;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
+import java.net.HttpURLConnection;
 import java.time.Clock;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Class used for reconciliation of Cruise Control. This class contains both the steps of the Cruise Control
@@ -44,6 +58,8 @@ public class CruiseControlReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlReconciler.class.getName());
 
     private final Reconciliation reconciliation;
+    private final Kafka kafkaAssembly;
+    private final Storage storage;
     private final CruiseControl cruiseControl;
     private final ClusterCa clusterCa;
     private final List<String> maintenanceWindows;
@@ -58,6 +74,9 @@ public class CruiseControlReconciler {
     private final ServiceOperator serviceOperator;
     private final NetworkPolicyOperator networkPolicyOperator;
     private final ConfigMapOperator configMapOperator;
+    private final PodOperator podOperator;
+    private final PvcOperator pvcOperator;
+    private final NodeOperator nodeOperator;
 
     private boolean existingCertsChanged = false;
 
@@ -84,6 +103,8 @@ public class CruiseControlReconciler {
             ClusterCa clusterCa
     ) {
         this.reconciliation = reconciliation;
+        this.kafkaAssembly = kafkaAssembly;
+        this.storage = storage;
         this.cruiseControl = CruiseControl.fromCrd(reconciliation, kafkaAssembly, versions, storage);
         this.clusterCa = clusterCa;
         this.maintenanceWindows = kafkaAssembly.getSpec().getMaintenanceTimeWindows();
@@ -98,6 +119,9 @@ public class CruiseControlReconciler {
         this.serviceOperator = supplier.serviceOperations;
         this.networkPolicyOperator = supplier.networkPolicyOperator;
         this.configMapOperator = supplier.configMapOperations;
+        this.podOperator = supplier.podOperations;
+        this.pvcOperator = supplier.pvcOperations;
+        this.nodeOperator = supplier.nodeOperator;
     }
 
     /**
@@ -119,6 +143,7 @@ public class CruiseControlReconciler {
                 .compose(i -> certificatesSecret(clock))
                 .compose(i -> apiSecret())
                 .compose(i -> service())
+                .compose(i -> capacity())
                 .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
                 .compose(i -> waitForDeploymentReadiness());
     }
@@ -256,6 +281,70 @@ public class CruiseControlReconciler {
                 ).map((Void) null);
     }
 
+    /**
+     * Updates the broker capacity configuration with the capacity observed in the Kubernetes cluster. The network
+     * capacity is taken from the annotations of the nodes the brokers are running on and the disk capacity from the
+     * actual size of the persistent volume claims. So the capacity is kept in sync when the volumes are resized or when
+     * the brokers move to different nodes. When the operator is not allowed to get the nodes, the capacity from the
+     * Kafka custom resource is used.
+     *
+     * @return  Future which completes when the capacity is updated
+     */
+    protected Future<Void> capacity() {
+        if (cruiseControl != null) {
+            Labels kafkaSelector = Labels.forStrimziCluster(reconciliation.name())
+                    .withStrimziKind(reconciliation.kind())
+                    .withStrimziName(KafkaResources.kafkaStatefulSetName(reconciliation.name()));
+
+            Future<List<Pod>> brokersFuture = podOperator.listAsync(reconciliation.namespace(), kafkaSelector);
+            Future<List<PersistentVolumeClaim>> pvcsFuture = pvcOperator.listAsync(reconciliation.namespace(), kafkaSelector);
+
+            return CompositeFuture.join(brokersFuture, pvcsFuture)
+                    .compose(i -> brokerNodes(brokersFuture.result()))
+                    .map(nodes -> ObservedCapacity.fromResources(reconciliation, brokersFuture.result(), nodes, pvcsFuture.result()))
+                    .recover(error -> {
+                        if (error instanceof KubernetesClientException
+                                && ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_FORBIDDEN) {
+                            LOGGER.warnCr(reconciliation, "Not allowed to get the Kubernetes nodes. The broker capacity will be configured only from the Kafka custom resource.");
+                            return Future.succeededFuture(ObservedCapacity.EMPTY);
+                        } else {
+                            return Future.failedFuture(error);
+                        }
+                    })
+                    .map(observed -> {
+                        cruiseControl.setCapacity(new Capacity(reconciliation, kafkaAssembly.getSpec(), storage, observed));
+
+                        return null;
+                    });
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    /**
+     * Gets the nodes the broker pods are scheduled to. Only these nodes are fetched instead of listing all nodes in
+     * the Kubernetes cluster.
+     *
+     * @param brokers   List with the broker pods
+     *
+     * @return  Future which completes with the list of the broker nodes
+     */
+    private Future<List<Node>> brokerNodes(List<Pod> brokers) {
+        @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+        List<Future> nodeFutures = brokers.stream()
+                .map(pod -> pod.getSpec() != null ? pod.getSpec().getNodeName() : null)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(nodeOperator::getAsync)
+                .collect(Collectors.toList());
+
+        return CompositeFuture.join(nodeFutures)
+                .map(i -> nodeFutures.stream()
+                        .map(future -> (Node) future.result())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+    }
+
     /**
      * Manages the Cruise Control Deployment.
      *
@@ -47,6 +47,8 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>Assembly operator for a "Kafka" assembly, which manages:</p>
@@ -69,6 +71,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final StrimziPodSetOperator strimziPodSetOperator;
     protected Clock clock;
 
+    // Fingerprints recorded after the last successful reconciliation of each Kafka cluster. They are used to replace
+    // the periodic reconciliations of unchanged clusters with a cheap verification only pass.
+    private final Map<String, RecordedFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final String operatorVersion = KafkaAssemblyOperator.class.getPackage().getImplementationVersion();
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -95,7 +102,41 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        RecordedFingerprint recorded = fingerprints.get(fingerprintKey(reconciliation));
+
+        if (recorded != null
+                && "timer".equals(reconciliation.trigger())
+                && clock.millis() - recorded.timestamp() < config.getReconciliationFingerprintTtlMs()) {
+            return ReconciliationFingerprint.collect(kafkaAssembly, operatorVersion, config.versions(), featureGates.useStrimziPodSetsEnabled(), supplier)
+                    .compose(current -> {
+                        if (current.allowsSkipping(recorded.fingerprint())) {
+                            LOGGER.infoCr(reconciliation, "Kafka cluster and its inputs did not change since the last reconciliation => skipping the full reconciliation");
+                            return Future.succeededFuture(new KafkaStatusBuilder(recorded.status()).build());
+                        } else {
+                            LOGGER.debugCr(reconciliation, "Reconciliation fingerprint changed => running full reconciliation");
+                            return fullCreateOrUpdate(reconciliation, kafkaAssembly);
+                        }
+                    }, error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to collect the reconciliation fingerprint => running full reconciliation", error);
+                        return fullCreateOrUpdate(reconciliation, kafkaAssembly);
+                    });
+        } else {
+            return fullCreateOrUpdate(reconciliation, kafkaAssembly);
+        }
+    }
+
+    /**
+     * Runs the full reconciliation of the Kafka cluster. When the reconciliation fingerprinting is enabled, the
+     * fingerprint of the cluster is recorded after every successful reconciliation.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaAssembly     The Kafka custom resource
+     *
+     * @return  Future with the Kafka status
+     */
+    private Future<KafkaStatus> fullCreateOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
+        fingerprints.remove(fingerprintKey(reconciliation));
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
         reconcile(reconcileState).onComplete(reconcileResult -> {
@@ -114,7 +155,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .build();
 
                 status.addCondition(condition);
-                createOrUpdatePromise.complete(status);
+                maybeRecordFingerprint(reconciliation, kafkaAssembly, status)
+                        .onComplete(ignored -> createOrUpdatePromise.complete(status));
             } else {
                 condition = new ConditionBuilder()
                         .withLastTransitionTime(StatusUtils.iso8601(clock.instant()))
@@ -132,6 +174,47 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Records the fingerprint of the successfully reconciled cluster. Failures to collect the fingerprint are only
+     * logged, they just mean that the next periodic reconciliation will be a full reconciliation.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaAssembly     The Kafka custom resource
+     * @param status            The status resulting from the reconciliation
+     *
+     * @return  Future which completes when the fingerprint is recorded
+     */
+    private Future<Void> maybeRecordFingerprint(Reconciliation reconciliation, Kafka kafkaAssembly, KafkaStatus status)   {
+        if (config.getReconciliationFingerprintTtlMs() > 0) {
+            // The status is copied because it is modified later by the status update
+            KafkaStatus statusCopy = new KafkaStatusBuilder(status).build();
+
+            return ReconciliationFingerprint.collect(kafkaAssembly, operatorVersion, config.versions(), featureGates.useStrimziPodSetsEnabled(), supplier)
+                    .compose(fingerprint -> {
+                        fingerprints.put(fingerprintKey(reconciliation), new RecordedFingerprint(fingerprint, statusCopy, clock.millis()));
+                        return Future.<Void>succeededFuture();
+                    }, error -> {
+                        LOGGER.warnCr(reconciliation, "Failed to record the reconciliation fingerprint", error);
+                        return Future.succeededFuture();
+                    });
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    private static String fingerprintKey(Reconciliation reconciliation)   {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Fingerprint recorded after a successful reconciliation together with the resulting status
+     *
+     * @param fingerprint   Fingerprint of the cluster
+     * @param status        Status resulting from the reconciliation
+     * @param timestamp     Time when the fingerprint was recorded
+     */
+    /* test */ record RecordedFingerprint(ReconciliationFingerprint fingerprint, KafkaStatus status, long timestamp) { }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
@@ -662,6 +745,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        fingerprints.remove(fingerprintKey(reconciliation));
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -20,7 +20,8 @@ import java.util.Set;
  */
 public interface KafkaConnectApi {
     /**
-     * Make a {@code PUT} request to {@code /connectors/${connectorName}/config}.
+     * Make a {@code PUT} request to {@code /connectors/${connectorName}/config}. The request is retried with a back-off
+     * when Connect responds with HTTP 409 (rebalance in progress) or HTTP 503 (service unavailable).
      * @param reconciliation The reconciliation
      * @param host The host to make the request to.
      * @param port The port to make the request to.
@@ -138,6 +139,20 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}. This returns the status and the
+     * configuration of all connectors in a single request instead of querying each connector separately.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map with the connector names as keys. The values are maps with the {@code status} and {@code info}
+     * keys which contain the same data as the {@code /connectors/${connectorName}/status} and
+     * {@code /connectors/${connectorName}} endpoints. The request is retried with a back-off when Connect responds with
+     * HTTP 409 (rebalance in progress) or HTTP 503 (service unavailable).
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -48,6 +48,12 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<>() { };
+    /**
+     * HTTP status codes returned by Connect while the workers are rebalancing (409) or while the REST API is not able
+     * to handle the request (503). Requests failing with them are retried with a back-off.
+     */
+    private static final Set<Integer> BUSY_STATUS_CODES = Set.of(409, 503);
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
 
@@ -56,11 +62,19 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Future<Map<String, Object>> createOrUpdatePutRequest(
             Reconciliation reconciliation,
             String host, int port,
             String connectorName, JsonObject configJson) {
+        return withBackoff(reconciliation, new BackOff(200L, 2, 6), connectorName, BUSY_STATUS_CODES,
+            () -> doCreateOrUpdatePutRequest(reconciliation, host, port, connectorName, configJson), "config update");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<Map<String, Object>> doCreateOrUpdatePutRequest(
+            Reconciliation reconciliation,
+            String host, int port,
+            String connectorName, JsonObject configJson) {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
@@ -160,7 +174,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, String>> getConnectorConfig(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
-        return withBackoff(reconciliation, backOff, connectorName, Collections.singleton(409),
+        return withBackoff(reconciliation, backOff, connectorName, BUSY_STATUS_CODES,
             () -> getConnectorConfig(reconciliation, host, port, connectorName), "config");
     }
 
@@ -205,7 +219,10 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, Object>> statusWithBackOff(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
-        return withBackoff(reconciliation, backOff, connectorName, Collections.singleton(404),
+        Set<Integer> retriableStatusCodes = new HashSet<>(BUSY_STATUS_CODES);
+        retriableStatusCodes.add(404);
+
+        return withBackoff(reconciliation, backOff, connectorName, retriableStatusCodes,
             () -> status(reconciliation, host, port, connectorName), "status");
     }
 
@@ -242,14 +259,14 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
             void rescheduleOrComplete(Long tid) {
                 if (backOff.done()) {
-                    LOGGER.warnCr(reconciliation, "Giving up waiting for status of connector {} after {} attempts taking {}ms",
-                            connectorName, backOff.maxAttempts(), backOff.totalDelayMs());
+                    LOGGER.warnCr(reconciliation, "Giving up waiting for {} of connector {} after {} attempts taking {}ms",
+                            attribute, connectorName, backOff.maxAttempts(), backOff.totalDelayMs());
                 } else {
                     // Schedule ourselves to run again
                     long delay = backOff.delayMs();
-                    LOGGER.debugCr(reconciliation, "Status for connector {} not found; " +
+                    LOGGER.debugCr(reconciliation, "Connector {} {} not available; " +
                                     "backing off for {}ms (cumulative {}ms)",
-                            connectorName, delay, backOff.cumulativeDelayMs());
+                            connectorName, attribute, delay, backOff.cumulativeDelayMs());
                     if (delay < 1) {
                         this.handle(tid);
                     } else {
@@ -347,6 +364,12 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return withBackoff(reconciliation, new BackOff(200L, 2, 6), "*", BUSY_STATUS_CODES,
+            () -> doGet(reconciliation, host, port, "/connectors?expand=status&expand=info", Collections.singleton(200), MAP_OF_TREES), "listing");
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
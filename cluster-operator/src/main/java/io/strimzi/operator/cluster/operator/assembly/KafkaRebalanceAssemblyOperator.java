@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -208,12 +209,12 @@ public class KafkaRebalanceAssemblyOperator
      * Create a watch on {@code KafkaRebalance} in the given {@code watchNamespaceOrWildcard}.
      *
      * @param watchNamespaceOrWildcard The namespace to watch, or "*" to watch all namespaces.
-     * @return A future which completes when the watch has been set up.
+     * @return A future which completes with the watch when it has been set up.
      */
-    public Future<Void> createRebalanceWatch(String watchNamespaceOrWildcard) {
+    public Future<Watch> createRebalanceWatch(String watchNamespaceOrWildcard) {
 
         return Util.async(this.vertx, () -> {
-            kafkaRebalanceOperator.watch(watchNamespaceOrWildcard, selector(), new Watcher<>() {
+            return kafkaRebalanceOperator.watch(watchNamespaceOrWildcard, selector(), new Watcher<>() {
                 @Override
                 public void eventReceived(Action action, KafkaRebalance kafkaRebalance) {
                     Reconciliation reconciliation = new Reconciliation("kafkarebalance-watch", kafkaRebalance.getKind(),
@@ -236,7 +237,6 @@ public class KafkaRebalanceAssemblyOperator
                 }
 
             });
-            return null;
         });
     }
 
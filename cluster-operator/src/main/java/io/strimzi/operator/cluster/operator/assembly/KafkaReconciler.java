@@ -52,6 +52,7 @@ import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -79,6 +80,8 @@ import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaException;
 
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -86,6 +89,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
@@ -139,6 +143,8 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
 
     private final AdminClientProvider adminClientProvider;
+    private final MetricsProvider metricsProvider;
+    private final boolean cruiseControlEnabled;
 
     private final int currentReplicas;
 
@@ -146,6 +152,7 @@ public class KafkaReconciler {
     private ReconcileResult<StatefulSet> statefulSetDiff;
     private ReconcileResult<StrimziPodSet> podSetDiff;
     private boolean existingCertsChanged = false;
+    private Map<Integer, X509Certificate> reloadableCertificates = Map.of();
     private String logging = "";
     private String loggingHash = "";
     private final Map<Integer, String> brokerConfigurationHash = new HashMap<>();
@@ -203,6 +210,7 @@ public class KafkaReconciler {
         this.clusterCa = clusterCa;
         this.clientsCa = clientsCa;
         this.maintenanceWindows = kafkaCr.getSpec().getMaintenanceTimeWindows();
+        this.cruiseControlEnabled = kafkaCr.getSpec().getCruiseControl() != null;
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
@@ -230,6 +238,7 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -434,8 +443,9 @@ public class KafkaReconciler {
                                 logging,
                                 kafka.getKafkaVersion(),
                                 allowReconfiguration,
-                                eventsPublisher
-
+                                eventsPublisher,
+                                reloadableCertificates::get,
+                                metricsProvider
                         ).rollingRestart(podNeedsRestart));
     }
 
@@ -728,8 +738,10 @@ public class KafkaReconciler {
                                 if (patchResult instanceof ReconcileResult.Patched) {
                                     // The secret is patched and some changes to the existing certificates actually occurred
                                     existingCertsChanged = ModelUtils.doExistingCertificatesDiffer(oldSecret, patchResult.resource());
+                                    reloadableCertificates = existingCertsChanged ? reloadableCertificates(oldSecret, patchResult.resource()) : Map.of();
                                 } else {
                                     existingCertsChanged = false;
+                                    reloadableCertificates = Map.of();
                                 }
 
                                 return Future.succeededFuture();
@@ -737,6 +749,55 @@ public class KafkaReconciler {
                 });
     }
 
+    /**
+     * Finds the brokers which can reload their renewed certificates without restart. The brokers reload the keystores
+     * of their listeners only when the renewed certificate has the same subject and subject alternative names. Renewed
+     * CAs always require a restart. The Cruise Control metrics reporter cannot reload its keystore, so the brokers are
+     * restarted when Cruise Control is deployed.
+     *
+     * @param oldSecret     Secret with the previous broker certificates
+     * @param newSecret     Secret with the new broker certificates
+     *
+     * @return  Map with the new certificates of the brokers which can reload them
+     */
+    private Map<Integer, X509Certificate> reloadableCertificates(Secret oldSecret, Secret newSecret) {
+        Map<Integer, X509Certificate> certificates = new HashMap<>();
+
+        if (!cruiseControlEnabled && !clusterCa.certRenewed() && !clusterCa.keyReplaced()) {
+            for (int brokerId = 0; brokerId < kafka.getReplicas(); brokerId++) {
+                String certKey = KafkaResources.kafkaPodName(reconciliation.name(), brokerId) + ".crt";
+
+                try {
+                    X509Certificate oldCert = Ca.cert(oldSecret, certKey);
+                    X509Certificate newCert = Ca.cert(newSecret, certKey);
+
+                    if (oldCert != null && newCert != null && hasSameIdentity(oldCert, newCert)) {
+                        certificates.put(brokerId, newCert);
+                    }
+                } catch (RuntimeException e) {
+                    // The certificate cannot be decoded => the broker will be restarted
+                    LOGGER.warnCr(reconciliation, "Failed to compare the certificates of broker {}", brokerId, e);
+                }
+            }
+        }
+
+        return certificates;
+    }
+
+    private boolean hasSameIdentity(X509Certificate oldCert, X509Certificate newCert) {
+        try {
+            return Objects.equals(oldCert.getSubjectX500Principal(), newCert.getSubjectX500Principal())
+                    && Objects.equals(subjectAlternativeNames(oldCert), subjectAlternativeNames(newCert));
+        } catch (CertificateParsingException e) {
+            LOGGER.warnCr(reconciliation, "Failed to parse the subject alternative names of the broker certificates", e);
+            return false;
+        }
+    }
+
+    private static Set<List<?>> subjectAlternativeNames(X509Certificate cert) throws CertificateParsingException {
+        return cert.getSubjectAlternativeNames() != null ? new HashSet<>(cert.getSubjectAlternativeNames()) : Set.of();
+    }
+
     /**
      * Manages the secret with JMX credentials when JMX is enabled
      *
@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fingerprint of a Kafka cluster reconciliation. It combines the inputs of the reconciliation (the Kafka custom
+ * resource, the CA Secrets, the operator version and the configured Kafka versions) with the observed state of the
+ * main owned resources (the controller resources and the Pods). When the fingerprint does not change between two
+ * periodic reconciliations and all the Pods are ready, the full reconciliation can be replaced by a verification
+ * only pass.
+ */
+public class ReconciliationFingerprint {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String hash;
+    private final boolean podsReady;
+
+    /**
+     * Constructs the fingerprint
+     *
+     * @param hash          Hash of the inputs and of the observed resources
+     * @param podsReady     Indicates whether all Pods belonging to the cluster were ready
+     */
+    /* test */ ReconciliationFingerprint(String hash, boolean podsReady) {
+        this.hash = hash;
+        this.podsReady = podsReady;
+    }
+
+    /**
+     * Collects the resources needed for the fingerprint and computes it. This costs a handful of API calls (the four
+     * CA Secrets, the Pods and the controller resources), which is much less than a full reconciliation.
+     *
+     * @param kafka             The Kafka custom resource
+     * @param operatorVersion   Version of the operator
+     * @param versions          Kafka versions configured in the operator
+     * @param useStrimziPodSets Indicates whether StrimziPodSets or StatefulSets are used to manage the pods
+     * @param supplier          Supplier with Kubernetes Resource Operators
+     *
+     * @return  Future with the reconciliation fingerprint
+     */
+    public static Future<ReconciliationFingerprint> collect(Kafka kafka, String operatorVersion, KafkaVersion.Lookup versions, boolean useStrimziPodSets, ResourceOperatorSupplier supplier) {
+        String namespace = kafka.getMetadata().getNamespace();
+        String name = kafka.getMetadata().getName();
+        Labels selector = Labels.forStrimziCluster(name);
+
+        Future<List<HasMetadata>> controllersFuture = useStrimziPodSets
+                ? supplier.strimziPodSetOperator.listAsync(namespace, selector).map(ArrayList<HasMetadata>::new)
+                : supplier.stsOperations.listAsync(namespace, selector).map(ArrayList<HasMetadata>::new);
+
+        return CompositeFuture.join(
+                    supplier.secretOperations.getAsync(namespace, KafkaResources.clusterCaCertificateSecretName(name)),
+                    supplier.secretOperations.getAsync(namespace, KafkaResources.clusterCaKeySecretName(name)),
+                    supplier.secretOperations.getAsync(namespace, KafkaResources.clientsCaCertificateSecretName(name)),
+                    supplier.secretOperations.getAsync(namespace, KafkaResources.clientsCaKeySecretName(name)),
+                    controllersFuture,
+                    supplier.podOperations.listAsync(namespace, selector)
+                )
+                .map(res -> {
+                    List<Secret> caSecrets = new ArrayList<>(4);
+                    for (int i = 0; i < 4; i++) {
+                        caSecrets.add(res.resultAt(i));
+                    }
+
+                    return fromResources(kafka, operatorVersion, versions, caSecrets, res.resultAt(4), res.resultAt(5));
+                });
+    }
+
+    /**
+     * Computes the fingerprint from already collected resources.
+     *
+     * @param kafka             The Kafka custom resource
+     * @param operatorVersion   Version of the operator
+     * @param versions          Kafka versions configured in the operator
+     * @param caSecrets         List of the CA Secrets (missing Secrets are represented by null)
+     * @param controllers       StrimziPodSets or StatefulSets belonging to the cluster
+     * @param pods              Pods belonging to the cluster
+     *
+     * @return  The reconciliation fingerprint
+     */
+    /* test */ static ReconciliationFingerprint fromResources(Kafka kafka, String operatorVersion, KafkaVersion.Lookup versions,
+                                                          List<Secret> caSecrets, List<HasMetadata> controllers, List<Pod> pods) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("operator=").append(operatorVersion).append('\n');
+        sb.append("versions=").append(versions).append('\n');
+        sb.append("generation=").append(kafka.getMetadata().getGeneration()).append('\n');
+        sb.append("labels=").append(sorted(kafka.getMetadata().getLabels())).append('\n');
+        sb.append("annotations=").append(sorted(kafka.getMetadata().getAnnotations())).append('\n');
+
+        try {
+            sb.append("spec=").append(MAPPER.writeValueAsString(kafka.getSpec())).append('\n');
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize the Kafka spec", e);
+        }
+
+        for (Secret secret : caSecrets) {
+            if (secret != null) {
+                appendResourceVersion(sb, secret);
+            } else {
+                sb.append("Secret=missing\n");
+            }
+        }
+
+        controllers.stream()
+                .sorted(Comparator.comparing(resource -> resource.getMetadata().getName()))
+                .forEach(resource -> appendResourceVersion(sb, resource));
+
+        boolean podsReady = !pods.isEmpty();
+
+        for (Pod pod : pods.stream().sorted(Comparator.comparing(pod -> pod.getMetadata().getName())).toList()) {
+            appendResourceVersion(sb, pod);
+            podsReady &= Readiness.isPodReady(pod);
+        }
+
+        return new ReconciliationFingerprint(sha256(sb.toString()), podsReady);
+    }
+
+    private static void appendResourceVersion(StringBuilder sb, HasMetadata resource)  {
+        sb.append(resource.getKind())
+                .append('/')
+                .append(resource.getMetadata().getName())
+                .append('=')
+                .append(resource.getMetadata().getResourceVersion())
+                .append('\n');
+    }
+
+    private static Map<String, String> sorted(Map<String, String> map)  {
+        return map == null ? Map.of() : new TreeMap<>(map);
+    }
+
+    private static String sha256(String toBeHashed)  {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest(toBeHashed.getBytes(StandardCharsets.UTF_8));
+
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+
+    /**
+     * @return  Hash of the inputs and of the observed resources
+     */
+    public String hash() {
+        return hash;
+    }
+
+    /**
+     * @return  True if all Pods belonging to the cluster were ready. False otherwise.
+     */
+    public boolean podsReady() {
+        return podsReady;
+    }
+
+    /**
+     * Checks whether this fingerprint allows skipping the full reconciliation when compared with the fingerprint
+     * recorded after the last successful reconciliation.
+     *
+     * @param previous  Fingerprint recorded after the last successful full reconciliation
+     *
+     * @return  True if nothing changed and all the pods are ready. False otherwise.
+     */
+    public boolean allowsSkipping(ReconciliationFingerprint previous) {
+        return previous != null
+                && podsReady
+                && hash.equals(previous.hash);
+    }
+}
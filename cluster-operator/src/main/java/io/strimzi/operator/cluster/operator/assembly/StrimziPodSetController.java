@@ -46,6 +46,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +56,7 @@ public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
     private static final long DEFAULT_RESYNC_PERIOD = 5 * 60 * 1_000L; // 5 minutes by default
+    private static final long WORK_QUEUE_POLL_INTERVAL_MS = 1_000L; // How often the stop flag is checked when the queue is empty
 
     private final Thread controllerThread;
 
@@ -476,8 +478,13 @@ public class StrimziPodSetController implements Runnable {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                // The queue is polled with a timeout instead of interrupting the thread when stopping, so that the
+                // reconciliation in progress is never interrupted in the middle
+                SimplifiedReconciliation simplifiedReconciliation = workQueue.poll(WORK_QUEUE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+                if (simplifiedReconciliation != null) {
+                    reconcile(simplifiedReconciliation.toReconciliation());
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
@@ -499,12 +506,27 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Stops the controller: this method sets the stop flag and interrupt the run loop
+     * Stops the controller: this method sets the stop flag. The run loop finishes the reconciliation which is in
+     * progress and stops afterwards. Use {@link #awaitStopped(long)} to wait for it.
      */
     public void stop()  {
         LOGGER.infoOp("Requesting the StrimziPodSet controller to stop");
         this.stop = true;
-        controllerThread.interrupt();
+    }
+
+    /**
+     * Waits for the controller thread to finish the reconciliation in progress and stop. This is a blocking call and
+     * should be used only after {@link #stop()} was called.
+     *
+     * @param timeoutMs     Maximal time in milliseconds to wait for the controller to stop
+     *
+     * @return  True if the controller stopped within the timeout. False otherwise.
+     *
+     * @throws InterruptedException If the waiting thread is interrupted
+     */
+    public boolean awaitStopped(long timeoutMs) throws InterruptedException {
+        controllerThread.join(timeoutMs);
+        return !controllerThread.isAlive();
     }
 
     /**
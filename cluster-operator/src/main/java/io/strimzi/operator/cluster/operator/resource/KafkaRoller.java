@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,7 +36,12 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -45,6 +51,7 @@ import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -53,10 +60,17 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.KafkaFuture;
@@ -65,6 +79,8 @@ import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.SslAuthenticationException;
 
+import javax.net.ssl.SSLPeerUnverifiedException;
+
 import static java.util.Collections.singletonList;
 
 /**
@@ -96,6 +112,17 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>Before the pods are processed one by one, the configurations of all brokers which do not need to be restarted
+ * are described in a single call and the brokers which can be reconfigured dynamically are reconfigured at once with
+ * a single incremental alter configs call. Such brokers then only wait for readiness in step 3. Brokers where the
+ * batched reconfiguration is not possible or fails go through the algorithm above as usual.</p>
+ *
+ * <p>When the only reason for restarting a pod is its renewed broker certificate, the pod is not restarted if the
+ * broker can reload its keystores instead. The reload of the listener keystores is triggered by dynamically setting
+ * their locations to the same files. The dynamic configuration is deleted right afterwards, so that no per-broker
+ * override is left behind. The avoided restarts are counted in the {@code strimzi.restarts.avoided} metric. If the
+ * broker does not serve the renewed certificate before the operation timeout, the pod is restarted as usual.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -109,6 +136,9 @@ import static java.util.Collections.singletonList;
 public class KafkaRoller {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
+    private static final String PLACEHOLDER_BROKER_ID = "${STRIMZI_BROKER_ID}";
+    private static final String BROKER_CERTS_PATH = "/opt/kafka/broker-certs/";
+    /* test */ static final String METRICS_RESTARTS_AVOIDED = "strimzi.restarts.avoided";
 
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
@@ -127,32 +157,40 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final Function<Integer, X509Certificate> reloadableCertificateProvider;
+    private final MetricsProvider metricsProvider;
     private Admin allClient;
 
     /**
      * Constructor
      *
-     * @param reconciliation        Reconciliation marker
-     * @param vertx                 Vert.x instance
-     * @param podOperations         Pod operator for managing pods
-     * @param pollingIntervalMs     Polling interval in milliseconds
-     * @param operationTimeoutMs    Operation timeout in milliseconds
-     * @param backOffSupplier       Backoff supplier
-     * @param podList               List of Kafka pods
-     * @param clusterCaCertSecret   Secret with the Cluster CA public key
-     * @param coKeySecret           Secret with the Cluster CA private key
-     * @param adminClientProvider   Kafka Admin client provider
-     * @param kafkaConfigProvider   Kafka configuration provider
-     * @param kafkaLogging          Kafka logging configuration
-     * @param kafkaVersion          Kafka version
-     * @param allowReconfiguration  Flag indicting whether reconfiguration is allowed or not
-     * @param eventsPublisher       Kubernetes Events publisher for publishing events about pod restarts
+     * @param reconciliation                    Reconciliation marker
+     * @param vertx                             Vert.x instance
+     * @param podOperations                     Pod operator for managing pods
+     * @param pollingIntervalMs                 Polling interval in milliseconds
+     * @param operationTimeoutMs                Operation timeout in milliseconds
+     * @param backOffSupplier                   Backoff supplier
+     * @param podList                           List of Kafka pods
+     * @param clusterCaCertSecret               Secret with the Cluster CA public key
+     * @param coKeySecret                       Secret with the Cluster CA private key
+     * @param adminClientProvider               Kafka Admin client provider
+     * @param kafkaConfigProvider               Kafka configuration provider
+     * @param kafkaLogging                      Kafka logging configuration
+     * @param kafkaVersion                      Kafka version
+     * @param allowReconfiguration              Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher                   Kubernetes Events publisher for publishing events about pod restarts
+     * @param reloadableCertificateProvider     Provides the renewed broker certificate for the pods which can reload
+     *                                          it without restart. It returns null for the pods which cannot reload it.
+     *                                          Null to always restart the pods with renewed certificates.
+     * @param metricsProvider                   Metrics provider used to count the restarts avoided by reloading the
+     *                                          renewed certificates. Can be null.
      */
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
                        Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       Function<Integer, X509Certificate> reloadableCertificateProvider, MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.podList = podList;
@@ -173,6 +211,8 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.reloadableCertificateProvider = reloadableCertificateProvider;
+        this.metricsProvider = metricsProvider;
     }
 
     /**
@@ -187,6 +227,7 @@ public class KafkaRoller {
         runnable -> new Thread(runnable, "kafka-roller"));
 
     private ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
+    private final Set<Integer> reconfiguredPods = ConcurrentHashMap.newKeySet();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
     /**
@@ -226,6 +267,16 @@ public class KafkaRoller {
             }
 
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", pods);
+
+            try {
+                batchedDynamicUpdate(pods);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                LOGGER.warnCr(reconciliation, "Batched dynamic reconfiguration failed, the brokers will be processed one by one", e);
+                reconfiguredPods.clear();
+            }
+
             List<Future> futures = new ArrayList<>(podList.size());
             for (PodRef podRef: pods) {
                 futures.add(schedule(podRef, 0, TimeUnit.MILLISECONDS));
@@ -256,6 +307,7 @@ public class KafkaRoller {
         boolean forceRestart;
         KafkaBrokerConfigurationDiff diff;
         KafkaBrokerLoggingConfigurationDiff logDiff;
+        X509Certificate reloadCertificate;
 
         RestartContext(Supplier<BackOff> backOffSupplier) {
             promise = Promise.promise();
@@ -360,7 +412,17 @@ public class KafkaRoller {
         restartContext.restartReasons = podNeedsRestart.apply(pod);
 
         try {
-            checkReconfigurability(podRef, pod, restartContext);
+            if (reconfiguredPods.remove(podRef.getPodId()) && !restartContext.restartReasons.shouldRestart()) {
+                LOGGER.debugCr(reconciliation, "Pod {} was already reconfigured in the batched dynamic reconfiguration", podRef);
+                restartContext.needsRestart = false;
+                restartContext.needsReconfig = false;
+                restartContext.forceRestart = false;
+                restartContext.diff = null;
+                restartContext.logDiff = null;
+                restartContext.reloadCertificate = null;
+            } else {
+                checkReconfigurability(podRef, pod, restartContext);
+            }
             if (restartContext.forceRestart || restartContext.needsRestart || restartContext.needsReconfig) {
                 if (!restartContext.forceRestart && deferController(podRef, restartContext)) {
                     LOGGER.debugCr(reconciliation, "Pod {} is controller and there are other pods to roll", podRef);
@@ -368,7 +430,7 @@ public class KafkaRoller {
                 } else {
                     if (restartContext.forceRestart || canRoll(podRef, 60_000, TimeUnit.MILLISECONDS, false, restartContext)) {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
-                        if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(podRef.getPodId(), restartContext)) {
+                        if (restartContext.forceRestart || !maybeDynamicUpdateBrokerConfig(podRef, restartContext)) {
                             LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podRef);
                             restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS, restartContext);
                         } else {
@@ -433,19 +495,94 @@ public class KafkaRoller {
         return isPending(pod) || podWaitingBecauseOfAnyReasons(pod, set);
     }
 
+    /**
+     * Reconfigures all ready brokers which do not need to be restarted in a batch. The configurations of all such brokers are
+     * described with a single call. The brokers with only dynamically updatable changes are then reconfigured with a
+     * single incremental alter configs call, so the brokers apply the changes concurrently instead of one after
+     * another. The brokers which were successfully reconfigured (or which did not need any reconfiguration) are
+     * remembered and only checked for readiness when they are processed by the rolling algorithm. All other brokers
+     * are processed by the rolling algorithm as usual.
+     *
+     * @param pods  References of all pods
+     *
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    private void batchedDynamicUpdate(List<PodRef> pods) throws InterruptedException {
+        if (!allowReconfiguration) {
+            return;
+        }
+
+        List<Integer> candidates = new ArrayList<>(pods.size());
+        for (PodRef podRef : pods) {
+            Pod pod = podOperations.get(namespace, podRef.getPodName());
+
+            // Pods which are not ready are left to the rolling algorithm which handles them first
+            if (pod != null
+                    && !isPodStuck(pod)
+                    && podOperations.isReady(namespace, podRef.getPodName())
+                    && !podNeedsRestart.apply(pod).shouldRestart()) {
+                candidates.add(podRef.getPodId());
+            }
+        }
+
+        if (candidates.isEmpty() || !initAdminClient()) {
+            return;
+        }
+
+        Map<ConfigResource, Config> configs = brokerConfigs(candidates);
+        Map<Integer, KafkaBrokerConfigurationDiff> diffs = new HashMap<>(candidates.size());
+        Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs = new HashMap<>(candidates.size());
+
+        for (int podId : candidates) {
+            Config brokerConfig = configs.get(Util.getBrokersConfig(podId));
+            Config brokerLogging = configs.get(Util.getBrokersLogging(podId));
+
+            if (brokerConfig == null || brokerLogging == null) {
+                LOGGER.debugCr(reconciliation, "Configuration of broker {} is not known and it will be processed separately", podId);
+                continue;
+            }
+
+            KafkaBrokerConfigurationDiff diff = new KafkaBrokerConfigurationDiff(reconciliation, brokerConfig, kafkaConfigProvider.apply(podId), kafkaVersion, podId);
+            KafkaBrokerLoggingConfigurationDiff logDiff = new KafkaBrokerLoggingConfigurationDiff(reconciliation, brokerLogging, kafkaLogging);
+
+            if (diff.getDiffSize() > 0 && !diff.canBeUpdatedDynamically()) {
+                LOGGER.debugCr(reconciliation, "Broker {} cannot be reconfigured dynamically and it will be processed separately", podId);
+            } else if (diff.getDiffSize() > 0 || logDiff.getDiffSize() > 0) {
+                diffs.put(podId, diff);
+                logDiffs.put(podId, logDiff);
+            } else {
+                LOGGER.debugCr(reconciliation, "Broker {} does not need to be reconfigured", podId);
+                reconfiguredPods.add(podId);
+            }
+        }
+
+        if (!diffs.isEmpty()) {
+            Set<Integer> updated = dynamicUpdateBrokerConfigs(allClient, diffs, logDiffs);
+            if (!updated.isEmpty()) {
+                LOGGER.infoCr(reconciliation, "Batched dynamic reconfiguration for brokers {} was successful.", updated);
+                reconfiguredPods.addAll(updated);
+            }
+        }
+    }
+
     /**
      * Dynamically update the broker config if the plan says we can.
      * Return false if the broker was successfully updated dynamically.
      */
-    private boolean maybeDynamicUpdateBrokerConfig(int podId, RestartContext restartContext) throws InterruptedException {
+    private boolean maybeDynamicUpdateBrokerConfig(PodRef podRef, RestartContext restartContext) throws InterruptedException {
         boolean updatedDynamically;
 
         if (restartContext.needsReconfig) {
             try {
-                dynamicUpdateBrokerConfig(podId, allClient, restartContext.diff, restartContext.logDiff);
+                dynamicUpdateBrokerConfig(podRef.getPodId(), allClient, restartContext.diff, restartContext.logDiff);
+
+                if (restartContext.reloadCertificate != null) {
+                    reloadBrokerCertificate(podRef, restartContext.reloadCertificate);
+                }
+
                 updatedDynamically = true;
             } catch (ForceableProblem e) {
-                LOGGER.debugCr(reconciliation, "Pod {} could not be updated dynamically ({}), will restart", podId, e);
+                LOGGER.debugCr(reconciliation, "Pod {} could not be updated dynamically ({}), will restart", podRef.getPodId(), e);
                 updatedDynamically = false;
             }
         } else {
@@ -457,7 +594,7 @@ public class KafkaRoller {
     /**
      * Determine whether the pod should be restarted, or the broker reconfigured.
      */
-    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity"})
     private void checkReconfigurability(PodRef podRef, Pod pod, RestartContext restartContext) throws ForceableProblem, InterruptedException, FatalProblem {
 
         RestartReasons reasonToRestartPod = restartContext.restartReasons;
@@ -483,6 +620,11 @@ public class KafkaRoller {
         }
         // Unless the annotation is present, check the pod is at least ready.
         boolean needsRestart = reasonToRestartPod.shouldRestart();
+        X509Certificate reloadCertificate = reloadableCertificate(podRef, reasonToRestartPod);
+        if (needsRestart && reloadCertificate != null) {
+            LOGGER.infoCr(reconciliation, "Pod {} will try to reload its renewed certificate instead of restart", podRef);
+            needsRestart = false;
+        }
         KafkaBrokerConfigurationDiff diff = null;
         KafkaBrokerLoggingConfigurationDiff loggingDiff = null;
         boolean needsReconfig = false;
@@ -535,11 +677,220 @@ public class KafkaRoller {
             LOGGER.infoCr(reconciliation, "Pod {} needs to be restarted. Reason: {}", podRef, reasonToRestartPod.getAllReasonNotes());
         }
 
+        if (!needsRestart && reloadCertificate != null) {
+            needsReconfig = true;
+        } else {
+            reloadCertificate = null;
+        }
+
         restartContext.needsRestart = needsRestart;
         restartContext.needsReconfig = needsReconfig;
         restartContext.forceRestart = podStuck;
         restartContext.diff = diff;
         restartContext.logDiff = loggingDiff;
+        restartContext.reloadCertificate = reloadCertificate;
+    }
+
+    /**
+     * Checks whether the pod can reload its renewed broker certificate instead of being restarted. That is possible
+     * only when the renewed certificate is the only reason for the restart and when the certificate provider allows
+     * it for this pod.
+     *
+     * @param podRef    Reference of the pod
+     * @param reasons   Reasons why the pod should be restarted
+     *
+     * @return  The renewed certificate which should be reloaded by the pod or null if it has to be restarted
+     */
+    private X509Certificate reloadableCertificate(PodRef podRef, RestartReasons reasons) {
+        if (allowReconfiguration
+                && reloadableCertificateProvider != null
+                && reasons.getReasons().equals(Set.of(RestartReason.KAFKA_CERTIFICATES_CHANGED))) {
+            return reloadableCertificateProvider.apply(podRef.getPodId());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Makes the broker reload its keystores with the renewed certificate. The keystores are used directly from the
+     * mounted Secret. So it might take a while until the Secret update propagates to the pod. The reload is retried
+     * until the broker serves the renewed certificate or until the operation timeout.
+     *
+     * @param podRef        Reference of the pod
+     * @param certificate   The renewed certificate which the broker should serve
+     *
+     * @throws ForceableProblem     When the broker did not start to serve the renewed certificate
+     * @throws InterruptedException When interrupted while waiting
+     */
+    private void reloadBrokerCertificate(PodRef podRef, X509Certificate certificate) throws ForceableProblem, InterruptedException {
+        Collection<AlterConfigOp> keyStoreOps = keyStoreReloadOps(podRef.getPodId());
+
+        if (keyStoreOps.isEmpty()) {
+            throw new ForceableProblem("Pod " + podRef.getPodName() + " does not have any keystore which can be reloaded");
+        }
+
+        await(reloadUntilServed(podRef, certificate, keyStoreOps, System.currentTimeMillis() + operationTimeoutMs),
+                operationTimeoutMs + TimeUnit.SECONDS.toMillis(30), TimeUnit.MILLISECONDS,
+            error -> new ForceableProblem("Pod " + podRef.getPodName() + " did not start to use its renewed certificate", error)
+        );
+        LOGGER.infoCr(reconciliation, "Pod {} reloaded its renewed certificate without restart", podRef);
+        restartAvoided(RestartReason.KAFKA_CERTIFICATES_CHANGED);
+    }
+
+    /**
+     * Counts the pod restart which was avoided because the broker reloaded its renewed certificate instead.
+     *
+     * @param reason    Reason for which the pod would be restarted otherwise
+     */
+    private void restartAvoided(RestartReason reason) {
+        if (metricsProvider != null) {
+            metricsProvider.counter(METRICS_RESTARTS_AVOIDED,
+                    "Number of Kafka pod restarts avoided by reloading the renewed broker certificates",
+                    Tags.of(Tag.of("kind", Kafka.RESOURCE_KIND), Tag.of("namespace", namespace), Tag.of("reason", reason.pascalCased())))
+                    .increment();
+        }
+    }
+
+    /**
+     * Reloads the keystores of the broker and checks the certificate it serves afterwards. When the broker does not
+     * serve the renewed certificate yet, the reload is scheduled again using a Vert.x timer until the deadline.
+     *
+     * @param podRef        Reference of the pod
+     * @param certificate   The renewed certificate which the broker should serve
+     * @param keyStoreOps   Operations updating the keystores
+     * @param deadline      Time in milliseconds after which the reload is not retried anymore
+     *
+     * @return  Future which completes when the broker serves the renewed certificate
+     */
+    private Future<Void> reloadUntilServed(PodRef podRef, X509Certificate certificate, Collection<AlterConfigOp> keyStoreOps, long deadline) {
+        return reloadKeyStores(podRef.getPodId(), keyStoreOps)
+                .compose(i -> servedCertificate(podRef))
+                .compose(served -> {
+                    if (certificate.equals(served)) {
+                        return Future.succeededFuture();
+                    } else if (System.currentTimeMillis() > deadline) {
+                        return Future.failedFuture(new ForceableProblem("Pod " + podRef.getPodName() + " still serves its old certificate"));
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Pod {} does not use its renewed certificate yet. The certificates Secret might not be updated in the pod yet.", podRef);
+                    Promise<Void> retry = Promise.promise();
+                    vertx.setTimer(Math.max(1, Math.min(pollingIntervalMs * 10, deadline - System.currentTimeMillis())),
+                        timerId -> reloadUntilServed(podRef, certificate, keyStoreOps, deadline).onComplete(retry));
+                    return retry.future();
+                });
+    }
+
+    /**
+     * Finds the listener keystores which are used directly from the broker certificates Secret in the desired
+     * configuration. Setting their location again to the same file makes the broker reload them when the file
+     * changed.
+     *
+     * @param podId     ID of the pod
+     *
+     * @return  Collection with the operations which reload the keystores
+     */
+    private Collection<AlterConfigOp> keyStoreReloadOps(int podId) {
+        String desired = kafkaConfigProvider.apply(podId);
+        List<AlterConfigOp> ops = new ArrayList<>();
+
+        if (desired != null) {
+            for (String line : desired.split("\\R")) {
+                int separator = line.indexOf('=');
+
+                if (separator > 0) {
+                    String name = line.substring(0, separator).trim();
+                    String value = line.substring(separator + 1).trim().replace(PLACEHOLDER_BROKER_ID, String.valueOf(podId));
+
+                    if (name.startsWith("listener.name.")
+                            && name.endsWith(".ssl.keystore.location")
+                            && value.startsWith(BROKER_CERTS_PATH)) {
+                        ops.add(new AlterConfigOp(new ConfigEntry(name, value), AlterConfigOp.OpType.SET));
+                    }
+                }
+            }
+        }
+
+        return ops;
+    }
+
+    /**
+     * Dynamically updates the keystore configuration of the broker to make it reload the keystores. The same locations
+     * are configured in the static broker configuration. So the dynamic configuration is deleted again right after the
+     * reload to not leave a permanent per-broker override in the cluster metadata.
+     *
+     * @param podId         ID of the pod
+     * @param keyStoreOps   Operations updating the keystores
+     *
+     * @return  Future which completes when the keystores were reloaded
+     */
+    protected Future<Void> reloadKeyStores(int podId, Collection<AlterConfigOp> keyStoreOps) {
+        LOGGER.debugCr(reconciliation, "Reloading keystores of broker {}", podId);
+        ConfigResource resource = Util.getBrokersConfig(podId);
+        List<AlterConfigOp> deleteOps = keyStoreOps.stream()
+                .map(op -> new AlterConfigOp(new ConfigEntry(op.configEntry().name(), null), AlterConfigOp.OpType.DELETE))
+                .toList();
+
+        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.incrementalAlterConfigs(Map.of(resource, keyStoreOps)).values().get(resource))
+                .compose(i -> Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.incrementalAlterConfigs(Map.of(resource, deleteOps)).values().get(resource)));
+    }
+
+    /**
+     * Connects to the replication listener of the broker and returns the certificate it serves. The connection
+     * trusts only the cluster CA and uses the Cluster Operator certificate for the client authentication in the same
+     * way as the Kafka Admin client used by the roller.
+     *
+     * @param podRef    Reference of the pod
+     *
+     * @return  Future which completes with the certificate served by the broker
+     */
+    protected Future<X509Certificate> servedCertificate(PodRef podRef) {
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podRef.getPodName());
+        Promise<X509Certificate> served = Promise.promise();
+        NetClient client = vertx.createNetClient(servedCertificateClientOptions());
+
+        client.connect(KafkaCluster.REPLICATION_PORT, host, ar -> {
+            if (ar.failed()) {
+                served.fail(new ForceableProblem("Failed to connect to pod " + podRef.getPodName(), ar.cause()));
+            } else {
+                NetSocket socket = ar.result();
+
+                try {
+                    served.complete((X509Certificate) socket.peerCertificates().get(0));
+                } catch (SSLPeerUnverifiedException e) {
+                    served.fail(new ForceableProblem("Failed to get the certificate served by pod " + podRef.getPodName(), e));
+                } finally {
+                    socket.close();
+                }
+            }
+        });
+
+        return served.future().onComplete(i -> client.close());
+    }
+
+    /**
+     * @return  Options for the TLS client used to get the certificates served by the brokers
+     */
+    private NetClientOptions servedCertificateClientOptions() {
+        CertAndKey coCertKey = Ca.asCertAndKey(coKeySecret,
+                "cluster-operator.key", "cluster-operator.crt",
+                "cluster-operator.p12", "cluster-operator.password");
+        if (coCertKey == null) {
+            throw Util.missingSecretException(coKeySecret.getMetadata().getNamespace(), coKeySecret.getMetadata().getName());
+        }
+
+        PemTrustOptions trustOptions = new PemTrustOptions();
+        clusterCaCertSecret.getData().keySet().stream()
+                .filter(key -> key.endsWith(".crt"))
+                .forEach(key -> trustOptions.addCertValue(Buffer.buffer(Util.decodeFromSecret(clusterCaCertSecret, key))));
+
+        return new NetClientOptions()
+                .setConnectTimeout(10_000)
+                .setSsl(true)
+                .setHostnameVerificationAlgorithm("HTTPS")
+                .setPemKeyCertOptions(new PemKeyCertOptions()
+                        .setCertValue(Buffer.buffer(coCertKey.cert()))
+                        .setKeyValue(Buffer.buffer(coCertKey.key())))
+                .setPemTrustOptions(trustOptions);
     }
 
     /**
@@ -568,6 +919,75 @@ public class KafkaRoller {
         );
     }
 
+    /**
+     * Returns the configurations and the logging configurations of the given brokers described with a single call.
+     *
+     * @param brokerIds IDs of the brokers
+     *
+     * @return Map with the configurations. Configurations which could not be described are missing in the map.
+     *
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    protected Map<ConfigResource, Config> brokerConfigs(List<Integer> brokerIds) throws InterruptedException {
+        List<ConfigResource> resources = new ArrayList<>(2 * brokerIds.size());
+        for (int brokerId : brokerIds) {
+            resources.add(Util.getBrokersConfig(brokerId));
+            resources.add(Util.getBrokersLogging(brokerId));
+        }
+
+        Map<ConfigResource, KafkaFuture<Config>> futures = allClient.describeConfigs(resources).values();
+        Map<ConfigResource, Config> configs = new HashMap<>(resources.size());
+
+        for (ConfigResource resource : resources) {
+            try {
+                configs.put(resource, await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, futures.get(resource)), 30, TimeUnit.SECONDS,
+                    error -> new ForceableProblem("Error getting configuration " + resource, error)));
+            } catch (ForceableProblem e) {
+                LOGGER.debugCr(reconciliation, "Failed to describe {}", resource, e);
+            }
+        }
+
+        return configs;
+    }
+
+    /**
+     * Dynamically updates the configurations of multiple brokers with a single incremental alter configs call.
+     *
+     * @param ac                    Admin client
+     * @param configurationDiffs    Configuration differences per broker ID
+     * @param logDiffs              Logging configuration differences per broker ID
+     *
+     * @return IDs of the brokers which were successfully reconfigured
+     *
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    protected Set<Integer> dynamicUpdateBrokerConfigs(Admin ac, Map<Integer, KafkaBrokerConfigurationDiff> configurationDiffs,
+                                                      Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs) throws InterruptedException {
+        Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2 * configurationDiffs.size());
+        for (int podId : configurationDiffs.keySet()) {
+            updatedConfig.put(Util.getBrokersConfig(podId), configurationDiffs.get(podId).getConfigDiff());
+            updatedConfig.put(Util.getBrokersLogging(podId), logDiffs.get(podId).getLoggingDiff());
+        }
+
+        LOGGER.debugCr(reconciliation, "Altering configuration of brokers {}", configurationDiffs.keySet());
+        LOGGER.traceCr(reconciliation, "Altering configuration of brokers {} with {}", configurationDiffs.keySet(), updatedConfig);
+
+        Map<ConfigResource, KafkaFuture<Void>> futures = ac.incrementalAlterConfigs(updatedConfig).values();
+        Set<Integer> updated = new HashSet<>(configurationDiffs.keySet());
+
+        for (Map.Entry<ConfigResource, KafkaFuture<Void>> future : futures.entrySet()) {
+            try {
+                await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, future.getValue()), 30, TimeUnit.SECONDS,
+                    error -> new ForceableProblem("Error doing dynamic update of " + future.getKey(), error));
+            } catch (ForceableProblem e) {
+                LOGGER.warnCr(reconciliation, "Batched dynamic update of {} failed, the broker will be processed separately", future.getKey(), e);
+                updated.remove(Integer.parseInt(future.getKey().name()));
+            }
+        }
+
+        return updated;
+    }
+
     protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff)
             throws ForceableProblem, InterruptedException {
         Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2);
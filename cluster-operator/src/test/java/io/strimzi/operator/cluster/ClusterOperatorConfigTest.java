@@ -98,7 +98,7 @@ public class ClusterOperatorConfigTest {
                 false,
                 1024,
                 "operator_name",
-                null, null);
+                null, null, 0, 10, 4);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -136,6 +136,9 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
         assertThat(config.getDnsCacheTtlSec(), is(ClusterOperatorConfig.DEFAULT_DNS_CACHE_TTL));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS));
+        assertThat(config.getReconciliationFingerprintTtlMs(), is(ClusterOperatorConfig.DEFAULT_RECONCILIATION_FINGERPRINT_TTL_MS));
+        assertThat(config.getMaxConnectorReconciliationsInFlight(), is(ClusterOperatorConfig.DEFAULT_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT));
+        assertThat(config.getCertificateGenerationParallelism(), is(ClusterOperatorConfig.DEFAULT_CERTIFICATE_GENERATION_PARALLELISM));
     }
 
     private Map<String, String> envWithImages() {
@@ -401,4 +404,51 @@ public class ClusterOperatorConfigTest {
 
         assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testShardedLeaderElectionConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME, "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE, "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY, "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "4");
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, "namespace1,namespace2");
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig().getShards(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_NAMESPACE, "*");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("STRIMZI_LEADER_ELECTION_SHARDS can be used only with a list of watched namespaces"));
+    }
+
+    @Test
+    public void testReconciliationFingerprintTtl() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_FINGERPRINT_TTL_MS, "600000");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationFingerprintTtlMs(), is(600_000L));
+    }
+
+    @Test
+    public void testMaxConnectorReconciliationsInFlight() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT, "25");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getMaxConnectorReconciliationsInFlight(), is(25));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testCertificateGenerationParallelism() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERTIFICATE_GENERATION_PARALLELISM, "8");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertificateGenerationParallelism(), is(8));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CERTIFICATE_GENERATION_PARALLELISM, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
 }
@@ -12,9 +12,14 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.openshift.client.OpenShiftClient;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaRebalance;
 import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.platform.KubernetesVersion;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.junit5.VertxExtension;
@@ -29,15 +34,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
@@ -136,14 +145,114 @@ public class ClusterOperatorTest {
         startStopAllNamespaces(context, "*", false, true, true);
     }
 
+    @Test
+    public void testStartStopMultiNamespaceInWarmStandby(VertxTestContext context) throws InterruptedException {
+        startStop(context, "namespace1, namespace2", false, true, false, true);
+    }
+
+    /**
+     * Asserts that stopping a ClusterOperator verticle of a shard closes also the KafkaConnector and KafkaRebalance
+     * watches. Otherwise, this replica would still reconcile these resources after the shard moved to another replica.
+     *
+     * @param context   test context passed in for assertions
+     */
+    @Test
+    public void testStopShardVerticleClosesConnectorAndRebalanceWatches(VertxTestContext context) {
+        String namespace = "namespace";
+
+        KubernetesClient client = mock(KubernetesClient.class);
+        when(client.isAdaptable(eq(OpenShiftClient.class))).thenReturn(false);
+
+        try {
+            when(client.getMasterUrl()).thenReturn(new URL("http://localhost"));
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+
+        Set<Watch> openWatches = ConcurrentHashMap.newKeySet();
+        Set<Watch> openConnectorAndRebalanceWatches = ConcurrentHashMap.newKeySet();
+
+        MixedOperation mockCrs = mockWatchableResources(namespace, openWatches);
+        MixedOperation mockConnectorsAndRebalances = mockWatchableResources(namespace, openConnectorAndRebalanceWatches);
+        when(client.resources(any(), any())).thenReturn(mockCrs);
+        when(client.resources(eq(KafkaConnector.class), any())).thenReturn(mockConnectorsAndRebalances);
+        when(client.resources(eq(KafkaRebalance.class), any())).thenReturn(mockConnectorsAndRebalances);
+
+        MixedOperation mockPods = mockWatchableResources(namespace, openWatches);
+        when(client.pods()).thenReturn(mockPods);
+
+        Map<String, String> env = buildEnv(namespace, false, false);
+        env.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+        env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME, "my-lease");
+        env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE, "my-namespace");
+        env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY, "my-pod");
+        env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "2");
+
+        Main.deployClusterOperatorVerticles(VERTX, client, ResourceUtils.metricsProvider(), new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
+                    ClusterOperatorConfig.fromMap(env, KafkaVersionTestUtils.getKafkaVersionLookup()))
+            .compose(v -> {
+                context.verify(() -> {
+                    assertThat("A verticle per namespace", VERTX.deploymentIDs(), hasSize(1));
+                    assertThat("The KafkaConnector and KafkaRebalance watches should be open", openConnectorAndRebalanceWatches, hasSize(2));
+                });
+
+                @SuppressWarnings({ "rawtypes" })
+                List<Future> undeployments = new ArrayList<>();
+                for (String deploymentId : VERTX.deploymentIDs()) {
+                    undeployments.add(VERTX.undeploy(deploymentId));
+                }
+                return CompositeFuture.join(undeployments);
+            })
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Closed watches do not deliver any events => no KafkaConnector or KafkaRebalance reconciliations
+                // are triggered by this replica after the verticle of the shard is stopped
+                assertThat("The KafkaConnector and KafkaRebalance watches should be closed", openConnectorAndRebalanceWatches, is(empty()));
+                assertThat("All other watches should be closed", openWatches, is(empty()));
+
+                context.completeNow();
+            })));
+    }
+
+    /**
+     * Mocks resources in a namespace which can be watched. The watches which are open are tracked in the provided set.
+     *
+     * @param namespace     Namespace of the resources
+     * @param openWatches   Set where the open watches are tracked
+     *
+     * @return  Mocked resources
+     */
+    private static MixedOperation mockWatchableResources(String namespace, Set<Watch> openWatches) {
+        MixedOperation mockResources = mock(MixedOperation.class);
+        MixedOperation mockNamespacedResources = mock(MixedOperation.class);
+
+        when(mockNamespacedResources.watch(any())).thenAnswer(invo -> {
+            Watch mockWatch = mock(Watch.class);
+            doAnswer(invo2 -> {
+                openWatches.remove(mockWatch);
+                return null;
+            }).when(mockWatch).close();
+            openWatches.add(mockWatch);
+            return mockWatch;
+        });
+        when(mockNamespacedResources.withLabels(any())).thenReturn(mockNamespacedResources);
+        when(mockResources.inNamespace(namespace)).thenReturn(mockNamespacedResources);
+
+        return mockResources;
+    }
+
+    private void startStop(VertxTestContext context, String namespaces, boolean openShift, boolean strimziPodSets, boolean podSetsOnly) throws InterruptedException {
+        startStop(context, namespaces, openShift, strimziPodSets, podSetsOnly, false);
+    }
+
     /**
      * Asserts that Cluster Operator starts and then stops a verticle in each namespace
      *
      * @param context       test context passed in for assertions
      * @param namespaces    namespaces the operator should be watching and operating on
      * @param podSetsOnly   Only PodSets should be refactored
+     * @param warmStandby   Leader election with warm standby should be enabled
      */
-    private void startStop(VertxTestContext context, String namespaces, boolean openShift, boolean strimziPodSets, boolean podSetsOnly) throws InterruptedException {
+    private void startStop(VertxTestContext context, String namespaces, boolean openShift, boolean strimziPodSets, boolean podSetsOnly, boolean warmStandby) throws InterruptedException {
         AtomicInteger numWatchers = new AtomicInteger(0);
         AtomicInteger numInformers = new AtomicInteger(0);
 
@@ -209,6 +318,14 @@ public class ClusterOperatorTest {
 
         Map<String, String> env = buildEnv(namespaces, strimziPodSets, podSetsOnly);
 
+        if (warmStandby) {
+            env.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+            env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME, "my-lease");
+            env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE, "my-namespace");
+            env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY, "my-pod");
+            env.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_WARM_STANDBY, "true");
+        }
+
         CountDownLatch latch = new CountDownLatch(namespaceList.size() + 1);
 
         Main.deployClusterOperatorVerticles(VERTX, client, ResourceUtils.metricsProvider(), new PlatformFeaturesAvailability(openShift, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
@@ -225,10 +342,12 @@ public class ClusterOperatorTest {
                     });
                 }
 
-                int maximumExpectedNumberOfWatchers = podSetsOnly ? 0 : 7 * namespaceList.size();
+                // In warm standby, the connector and rebalance watches are opened only once the operator is activated
+                int maximumExpectedNumberOfWatchers = podSetsOnly ? 0 : (warmStandby ? 5 : 7) * namespaceList.size();
                 assertThat("Looks like there were more watchers than namespaces",
                         numWatchers.get(), lessThanOrEqualTo(maximumExpectedNumberOfWatchers));
 
+                // The informers are started also in warm standby to keep the caches in-sync
                 int expectedNumberOfInformers = strimziPodSets ? 3 * namespaceList.size() : 0;
                 assertThat("Looks like there were more informers than namespaces",
                         numInformers.get(), is(expectedNumberOfInformers));
@@ -635,7 +635,7 @@ public class ResourceUtils {
                 false,
                 1024,
                 "cluster-operator-name",
-                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null);
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null, 0, ClusterOperatorConfig.DEFAULT_MAX_CONNECTOR_RECONCILIATIONS_IN_FLIGHT, ClusterOperatorConfig.DEFAULT_CERTIFICATE_GENERATION_PARALLELISM);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions, long operationTimeoutMs) {
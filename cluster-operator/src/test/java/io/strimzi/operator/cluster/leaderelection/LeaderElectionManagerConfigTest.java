@@ -30,6 +30,9 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getLeaseDuration().toMillis(), is(15_000L));
         assertThat(config.getRenewDeadline().toMillis(), is(10_000L));
         assertThat(config.getRetryPeriod().toMillis(), is(2_000L));
+        assertThat(config.isWarmStandby(), is(false));
+        assertThat(config.getShards(), is(1));
+        assertThat(config.isSharded(), is(false));
     }
 
     @Test
@@ -52,6 +55,45 @@ public class LeaderElectionManagerConfigTest {
         assertThat(config.getRetryPeriod().toMillis(), is(5_000L));
     }
 
+    @Test
+    public void testWarmStandby() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME, "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE, "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY, "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_WARM_STANDBY, "true");
+
+        assertThat(LeaderElectionManagerConfig.fromMap(envVars).isWarmStandby(), is(true));
+    }
+
+    @Test
+    public void testShards() {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME, "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE, "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY, "my-pod");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "4");
+
+        LeaderElectionManagerConfig config = LeaderElectionManagerConfig.fromMap(envVars);
+        assertThat(config.getShards(), is(4));
+        assertThat(config.isSharded(), is(true));
+
+        LeaderElectionManagerConfig shardConfig = config.forShard(2);
+        assertThat(shardConfig.getLeaseName(), is("my-lease-shard-2"));
+        assertThat(shardConfig.getIdentity(), is("my-pod"));
+        assertThat(shardConfig.isSharded(), is(false));
+
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "0");
+        assertThrows(InvalidConfigurationException.class, () -> LeaderElectionManagerConfig.fromMap(envVars));
+
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "four");
+        assertThrows(InvalidConfigurationException.class, () -> LeaderElectionManagerConfig.fromMap(envVars));
+
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_SHARDS, "4");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_WARM_STANDBY, "true");
+        assertThrows(InvalidConfigurationException.class, () -> LeaderElectionManagerConfig.fromMap(envVars));
+    }
+
     @Test
     public void testMissingAllRequired() {
         Map<String, String> envVars = new HashMap<>();
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+@ParallelSuite
+public class ShardAssignmentTest {
+    private static final List<String> NAMESPACES = IntStream.range(0, 300).mapToObj(i -> "namespace-" + i).collect(Collectors.toList());
+
+    @ParallelTest
+    public void testNamespacesByShard() {
+        Map<Integer, Set<String>> namespacesByShard = ShardAssignment.namespacesByShard(NAMESPACES, 4);
+
+        assertThat(namespacesByShard.size(), is(4));
+
+        // Each namespace is in exactly one shard
+        assertThat(namespacesByShard.values().stream().mapToInt(Set::size).sum(), is(NAMESPACES.size()));
+        assertThat(namespacesByShard.values().stream().flatMap(Set::stream).collect(Collectors.toSet()).size(), is(NAMESPACES.size()));
+
+        // The namespaces are spread across the shards
+        for (Set<String> namespaces : namespacesByShard.values()) {
+            assertThat(namespaces.size() > NAMESPACES.size() / 8, is(true));
+        }
+
+        // The assignment is stable
+        assertThat(ShardAssignment.namespacesByShard(NAMESPACES, 4), is(namespacesByShard));
+    }
+
+    @ParallelTest
+    public void testAddingShardMovesOnlyToTheNewShard() {
+        for (String namespace : NAMESPACES) {
+            int before = ShardAssignment.shardOf(namespace, 4);
+            int after = ShardAssignment.shardOf(namespace, 5);
+
+            assertThat(after, anyOf(is(before), is(4)));
+        }
+    }
+
+    @ParallelTest
+    public void testOwnerOf() {
+        assertThat(ShardAssignment.ownerOf(0, Set.of()), is(nullValue()));
+        assertThat(ShardAssignment.ownerOf(0, Set.of("co-1")), is("co-1"));
+
+        Set<String> members = Set.of("co-1", "co-2", "co-3");
+        Set<String> joined = Set.of("co-1", "co-2", "co-3", "co-4");
+        Set<String> left = Set.of("co-1", "co-2");
+
+        for (int shard = 0; shard < 32; shard++) {
+            String owner = ShardAssignment.ownerOf(shard, members);
+
+            // When a replica joins, shards move only to the new replica
+            assertThat(ShardAssignment.ownerOf(shard, joined), anyOf(is(owner), is("co-4")));
+
+            // When a replica leaves, only its shards move
+            if (!"co-3".equals(owner)) {
+                assertThat(ShardAssignment.ownerOf(shard, left), is(owner));
+            } else {
+                assertThat(ShardAssignment.ownerOf(shard, left), is(not("co-3")));
+            }
+        }
+    }
+}
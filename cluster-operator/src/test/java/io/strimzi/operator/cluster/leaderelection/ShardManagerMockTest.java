@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.test.TestUtils;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+public class ShardManagerMockTest {
+    private final static String NAMESPACE = "my-le-namespace";
+    private final static String LEASE_NAME = "my-lease";
+    private final static int SHARDS = 4;
+    private final static Set<String> WATCHED_NAMESPACES = IntStream.range(0, 20).mapToObj(i -> "namespace-" + i).collect(Collectors.toSet());
+
+    private static Vertx vertx;
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testShardsAreRebalanced() {
+        Map<Integer, Set<String>> runningCo1 = new ConcurrentHashMap<>();
+        Map<Integer, Set<String>> runningCo2 = new ConcurrentHashMap<>();
+
+        ShardManager co1 = createShardManager("co-1", runningCo1);
+        ShardManager co2 = createShardManager("co-2", runningCo2);
+
+        // The first replica is alone => it owns all shards
+        rebalance(co1);
+        TestUtils.waitFor("All shards are started by co-1", 100, 10_000, () -> runningCo1.size() == SHARDS);
+        assertThat(allNamespaces(runningCo1), is(WATCHED_NAMESPACES));
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(co1.state(shard), is(ShardManager.ShardState.READY));
+            assertThat(getLease(shard).getSpec().getHolderIdentity(), is("co-1"));
+        }
+
+        // The second replica joins => it waits for its shards until the first replica releases them
+        rebalance(co2);
+        assertThat(co2.liveMembers(), is(Set.of("co-1", "co-2")));
+        assertThat(runningCo2.isEmpty(), is(true));
+
+        rebalance(co1);
+        Set<Integer> shardsOfCo2 = IntStream.range(0, SHARDS)
+                .filter(shard -> "co-2".equals(ShardAssignment.ownerOf(shard, Set.of("co-1", "co-2"))))
+                .boxed()
+                .collect(Collectors.toSet());
+
+        TestUtils.waitFor("Shards are moved to co-2", 100, 10_000, () -> runningCo2.keySet().equals(shardsOfCo2));
+
+        // The shards are never owned by both replicas
+        Set<Integer> overlap = new HashSet<>(runningCo1.keySet());
+        overlap.retainAll(runningCo2.keySet());
+        assertThat(overlap.isEmpty(), is(true));
+
+        Set<String> allNamespaces = new HashSet<>(allNamespaces(runningCo1));
+        allNamespaces.addAll(allNamespaces(runningCo2));
+        assertThat(allNamespaces, is(WATCHED_NAMESPACES));
+
+        for (int shard : shardsOfCo2) {
+            assertThat(co1.state(shard), is(ShardManager.ShardState.NOT_OWNED));
+            assertThat(getLease(shard).getSpec().getHolderIdentity(), is("co-2"));
+        }
+
+        // The second replica leaves => its shards move back to the first replica
+        co2.stop();
+        TestUtils.waitFor("Shards are released by co-2", 100, 10_000, runningCo2::isEmpty);
+        rebalance(co1);
+        TestUtils.waitFor("All shards are started by co-1 again", 100, 10_000, () -> runningCo1.size() == SHARDS);
+
+        co1.stop();
+    }
+
+    private ShardManager createShardManager(String identity, Map<Integer, Set<String>> running) {
+        LeaderElectionManagerConfig config = new LeaderElectionManagerConfig(LEASE_NAME, NAMESPACE, identity, Duration.ofMillis(5_000L), Duration.ofMillis(800L), Duration.ofMillis(200L), false, SHARDS);
+
+        return new ShardManager(vertx, client, config, WATCHED_NAMESPACES, ResourceUtils.metricsProvider(),
+                (shard, namespaces) -> {
+                    running.put(shard, namespaces);
+                    return Future.succeededFuture();
+                },
+                shard -> {
+                    running.remove(shard);
+                    return Future.succeededFuture();
+                });
+    }
+
+    private static void rebalance(ShardManager shardManager) {
+        try {
+            shardManager.rebalance().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Set<String> allNamespaces(Map<Integer, Set<String>> running) {
+        return running.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+    }
+
+    private Lease getLease(int shard) {
+        return client.leases().inNamespace(NAMESPACE).withName(LEASE_NAME + "-shard-" + shard).get();
+    }
+}
@@ -6,10 +6,14 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
@@ -20,9 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.File;
 import java.io.IOException;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -43,7 +50,8 @@ public class CaRenewalTest {
                 subjectFn,
                 null,
                 podNameFn,
-                isMaintenanceTimeWindowsSatisfied);
+                isMaintenanceTimeWindowsSatisfied,
+                true);
 
         assertThat(new String(newCerts.get("pod0").cert()), is("new-cert0"));
         assertThat(new String(newCerts.get("pod0").key()), is("new-key0"));
@@ -94,7 +102,8 @@ public class CaRenewalTest {
                 subjectFn,
                 initialSecret,
                 podNameFn,
-                isMaintenanceTimeWindowsSatisfied);
+                isMaintenanceTimeWindowsSatisfied,
+                true);
 
         assertThat(new String(newCerts.get("pod0").cert()), is("new-cert0"));
         assertThat(new String(newCerts.get("pod0").key()), is("new-key0"));
@@ -145,22 +154,23 @@ public class CaRenewalTest {
                 subjectFn,
                 initialSecret,
                 podNameFn,
-                isMaintenanceTimeWindowsSatisfied);
+                isMaintenanceTimeWindowsSatisfied,
+                true);
 
         assertThat(new String(newCerts.get("pod0").cert()), is("new-cert0"));
         assertThat(new String(newCerts.get("pod0").key()), is("new-key0"));
         assertThat(new String(newCerts.get("pod0").keyStore()), is("new-keystore0"));
-        assertThat(newCerts.get("pod0").storePassword(), is("new-password0"));
+        assertThat(newCerts.get("pod0").storePassword(), is("old-password"));
 
         assertThat(new String(newCerts.get("pod1").cert()), is("new-cert1"));
         assertThat(new String(newCerts.get("pod1").key()), is("new-key1"));
         assertThat(new String(newCerts.get("pod1").keyStore()), is("new-keystore1"));
-        assertThat(newCerts.get("pod1").storePassword(), is("new-password1"));
+        assertThat(newCerts.get("pod1").storePassword(), is("old-password"));
 
         assertThat(new String(newCerts.get("pod2").cert()), is("new-cert2"));
         assertThat(new String(newCerts.get("pod2").key()), is("new-key2"));
         assertThat(new String(newCerts.get("pod2").keyStore()), is("new-keystore2"));
-        assertThat(newCerts.get("pod2").storePassword(), is("new-password2"));
+        assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
 
     @ParallelTest
@@ -196,7 +206,8 @@ public class CaRenewalTest {
                 subjectFn,
                 initialSecret,
                 podNameFn,
-                isMaintenanceTimeWindowsSatisfied);
+                isMaintenanceTimeWindowsSatisfied,
+                true);
 
         assertThat(new String(newCerts.get("pod0").cert()), is("old-cert"));
         assertThat(new String(newCerts.get("pod0").key()), is("old-key"));
@@ -214,6 +225,54 @@ public class CaRenewalTest {
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
 
+    @ParallelTest
+    public void parallelGenerationOfStatefulSetCertificates() throws IOException {
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+
+        MockedCa mockedCa = new MockedCa(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile,
+                                                    String keyStorePassword, boolean includeCaInChain) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                inFlight.decrementAndGet();
+                return new CertAndKey(("key-" + subject.commonName()).getBytes(), ("cert-" + subject.commonName()).getBytes(), null, ("keystore-" + subject.commonName()).getBytes(), "password");
+            }
+        };
+        MeterRegistry registry = new SimpleMeterRegistry();
+        mockedCa.configureCertGeneration(3, new MicrometerMetricsProvider(registry).timer("strimzi.certificate.generation", "Certificate generation", Tags.empty()));
+
+        int replicas = 10;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION,
+                replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true,
+                true);
+
+        // The certificates are ordered by the pod index and each of them belongs to its pod
+        assertThat(List.copyOf(newCerts.keySet()), is(IntStream.range(0, replicas).mapToObj(i -> "pod" + i).collect(Collectors.toList())));
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("cert-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).key()), is("key-pod" + i));
+        }
+
+        assertThat(maxInFlight.get() <= 3, is(true));
+        assertThat(registry.get("strimzi.certificate.generation").timer().count(), is((long) replicas));
+    }
+
     public static class MockedCa extends Ca {
         private final AtomicInteger invocationCount = new AtomicInteger(0);
         private boolean isCertRenewed;
@@ -240,7 +299,8 @@ public class CaRenewalTest {
 
         @Override
         protected CertAndKey generateSignedCert(Subject subject,
-                                                File csrFile, File keyFile, File certFile, File keyStoreFile) {
+                                                File csrFile, File keyFile, File certFile, File keyStoreFile,
+                                                String keyStorePassword, boolean includeCaInChain) {
             int index = invocationCount.getAndIncrement();
 
             return new CertAndKey(
@@ -248,7 +308,7 @@ public class CaRenewalTest {
                     ("new-cert" + index).getBytes(),
                     ("new-truststore" + index).getBytes(),
                     ("new-keystore" + index).getBytes(),
-                    "new-password" + index
+                    keyStorePassword != null ? keyStorePassword : "new-password" + index
             );
         }
 
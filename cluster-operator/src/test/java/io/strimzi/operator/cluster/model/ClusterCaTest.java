@@ -7,12 +7,21 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Base64;
@@ -29,6 +38,31 @@ public class ClusterCaTest {
     private final String namespace = "test";
     private final String cluster = "my-cluster";
 
+    @ParallelTest
+    public void testOnlyBrokerKeyStoresContainCaCertificate() throws IOException, GeneralSecurityException {
+        ClusterCa clusterCa = new ClusterCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(10, "a", "a"), cluster, null, null);
+        clusterCa.createRenewOrReplace(namespace, cluster, emptyMap(), emptyMap(), emptyMap(), null, true);
+
+        // The brokers use the keystore directly for their TLS listeners => it has to contain the CA to serve the whole chain
+        CertAndKey brokerCertAndKey = clusterCa.generateBrokerCerts(namespace, cluster, 1, null, emptyMap(), true).get(KafkaResources.kafkaPodName(cluster, 0));
+        Certificate[] brokerChain = keyStore(brokerCertAndKey).getCertificateChain(KafkaResources.kafkaStatefulSetName(cluster));
+        assertThat(brokerChain.length, is(2));
+        assertThat(brokerChain[1], is(Ca.cert(clusterCa.caCertSecret(), Ca.CA_CRT)));
+
+        // The other keystores contain only their own certificate
+        CertAndKey zkCertAndKey = clusterCa.generateZkCerts(namespace, cluster, 1, true).get(KafkaResources.zookeeperPodName(cluster, 0));
+        assertThat(keyStore(zkCertAndKey).getCertificateChain(KafkaResources.zookeeperStatefulSetName(cluster)).length, is(1));
+
+        CertAndKey certAndKey = clusterCa.generateSignedCert("my-component");
+        assertThat(keyStore(certAndKey).getCertificateChain("my-component").length, is(1));
+    }
+
+    private static KeyStore keyStore(CertAndKey certAndKey) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new ByteArrayInputStream(certAndKey.keyStore()), certAndKey.storePassword().toCharArray());
+        return keyStore;
+    }
+
     @ParallelTest
     public void testRemoveExpiredCertificate() {
         // simulate certificate creation at following time, with expire at 365 days later (by default)
@@ -167,4 +201,25 @@ public class ClusterCaTest {
         assertThat(new String(Base64.getDecoder().decode(clusterCaCertDataInSecret.get(Ca.CA_STORE_PASSWORD))).equals("dummy-password"), is(true));
         assertThat(new String(Base64.getDecoder().decode(clusterCaCertDataInSecret.get("ca-2023-03-23T09-00-00Z.crt"))).equals("dummy-crt"), is(true));
     }
+
+    @ParallelTest
+    public void testKeyAlgorithmChange() {
+        ClusterCa clusterCa = new ClusterCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(10, "a", "a"), cluster, null, null);
+        clusterCa.createRenewOrReplace(namespace, cluster, emptyMap(), emptyMap(), emptyMap(), null, true);
+        assertThat(KeyAlgorithm.RSA.matches(Ca.cert(clusterCa.caCertSecret(), Ca.CA_CRT).getPublicKey()), is(true));
+
+        // the key is not replaced outside of the maintenance time windows ...
+        clusterCa = new ClusterCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(10, "a", "a"), cluster, clusterCa.caCertSecret(), clusterCa.caKeySecret(), 365, 30, true, null, CertificateKeyAlgorithm.ECDSA_P256);
+        clusterCa.createRenewOrReplace(namespace, cluster, emptyMap(), emptyMap(), emptyMap(), null, false);
+        assertThat(clusterCa.keyReplaced(), is(false));
+        assertThat(clusterCa.keyGeneration(), is(0));
+        assertThat(KeyAlgorithm.RSA.matches(Ca.cert(clusterCa.caCertSecret(), Ca.CA_CRT).getPublicKey()), is(true));
+
+        // ... but within them
+        clusterCa = new ClusterCa(Reconciliation.DUMMY_RECONCILIATION, new OpenSslCertManager(), new PasswordGenerator(10, "a", "a"), cluster, clusterCa.caCertSecret(), clusterCa.caKeySecret(), 365, 30, true, null, CertificateKeyAlgorithm.ECDSA_P256);
+        clusterCa.createRenewOrReplace(namespace, cluster, emptyMap(), emptyMap(), emptyMap(), null, true);
+        assertThat(clusterCa.keyReplaced(), is(true));
+        assertThat(clusterCa.keyGeneration(), is(1));
+        assertThat(KeyAlgorithm.ECDSA_P256.matches(Ca.cert(clusterCa.caCertSecret(), Ca.CA_CRT).getPublicKey()), is(true));
+    }
 }
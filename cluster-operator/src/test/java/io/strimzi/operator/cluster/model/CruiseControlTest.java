@@ -13,7 +13,13 @@ import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.HostAlias;
 import io.fabric8.kubernetes.api.model.HostAliasBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.NodeBuilder;
 import io.fabric8.kubernetes.api.model.NodeSelectorTermBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodSecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
@@ -54,6 +60,7 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.cruisecontrol.BrokerCapacity;
 import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
 import io.strimzi.operator.cluster.model.cruisecontrol.CpuCapacity;
+import io.strimzi.operator.cluster.model.cruisecontrol.ObservedCapacity;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
@@ -351,6 +358,90 @@ public class CruiseControlTest {
         }
     }
 
+    @ParallelTest
+    public void testObservedBrokerCapacities() {
+        Reconciliation reconciliation = new Reconciliation("test", Kafka.RESOURCE_KIND, namespace, cluster);
+        Kafka resource = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, 3, image, healthDelay, healthTimeout))
+                .editSpec()
+                    .editKafka()
+                        .withStorage(new PersistentClaimStorageBuilder().withSize("100Gi").build())
+                    .endKafka()
+                    .withCruiseControl(new CruiseControlSpecBuilder()
+                            .withNewBrokerCapacity()
+                                .withInboundNetwork("50000KiB/s")
+                                .addNewOverride()
+                                    .withBrokers(2)
+                                    .withInboundNetwork("10000KiB/s")
+                                .endOverride()
+                            .endBrokerCapacity()
+                            .build())
+                .endSpec()
+                .build();
+
+        List<Node> nodes = List.of(
+                node("node-0", Map.of(ObservedCapacity.ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY, "1GiB/s",
+                        ObservedCapacity.ANNO_STRIMZI_IO_OUTBOUND_NETWORK_CAPACITY, "500MiB/s")),
+                node("node-1", Map.of(ObservedCapacity.ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY, "fast")),
+                node("node-2", Map.of(ObservedCapacity.ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY, "1GiB/s")));
+        List<Pod> pods = List.of(
+                broker(KafkaResources.kafkaPodName(cluster, 0), "node-0"),
+                broker(KafkaResources.kafkaPodName(cluster, 1), "node-1"),
+                broker(KafkaResources.kafkaPodName(cluster, 2), "node-2"));
+        List<PersistentVolumeClaim> pvcs = List.of(new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                    .withName("data-" + KafkaResources.kafkaPodName(cluster, 1))
+                .endMetadata()
+                .withNewStatus()
+                    .withCapacity(Map.of("storage", new Quantity("200Gi")))
+                .endStatus()
+                .build());
+
+        ObservedCapacity observed = ObservedCapacity.fromResources(reconciliation, pods, nodes, pvcs);
+        Capacity capacity = new Capacity(reconciliation, resource.getSpec(), resource.getSpec().getKafka().getStorage(), observed);
+
+        Map<Integer, JsonObject> brokerCapacities = new HashMap<>();
+        for (Object brokerEntry : capacity.generateCapacityConfig().getJsonArray(Capacity.CAPACITIES_KEY)) {
+            JsonObject entry = (JsonObject) brokerEntry;
+            brokerCapacities.put(entry.getInteger("brokerId"), entry.getJsonObject(Capacity.CAPACITY_KEY));
+        }
+
+        // The default entry uses the values from the custom resource
+        assertThat(brokerCapacities.get(BrokerCapacity.DEFAULT_BROKER_ID).getString("NW_IN"), is("50000.0"));
+        assertThat(brokerCapacities.get(BrokerCapacity.DEFAULT_BROKER_ID).getString(Capacity.DISK_KEY), is("102400.0"));
+
+        // Broker 0 uses the capacity from the node annotations
+        assertThat(brokerCapacities.get(0).getString("NW_IN"), is(Capacity.getThroughputInKiB("1GiB/s")));
+        assertThat(brokerCapacities.get(0).getString("NW_OUT"), is(Capacity.getThroughputInKiB("500MiB/s")));
+        assertThat(brokerCapacities.get(0).getString(Capacity.DISK_KEY), is("102400.0"));
+
+        // Broker 1 ignores the invalid annotation, but uses the resized volume
+        assertThat(brokerCapacities.get(1).getString("NW_IN"), is("50000.0"));
+        assertThat(brokerCapacities.get(1).getString(Capacity.DISK_KEY), is("204800.0"));
+
+        // Broker 2 uses the override from the custom resource instead of the node annotation
+        assertThat(brokerCapacities.get(2).getString("NW_IN"), is("10000.0"));
+    }
+
+    private static Node node(String name, Map<String, String> annotations) {
+        return new NodeBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withAnnotations(annotations)
+                .endMetadata()
+                .build();
+    }
+
+    private static Pod broker(String name, String nodeName) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withNewSpec()
+                    .withNodeName(nodeName)
+                .endSpec()
+                .build();
+    }
+
     @ParallelTest
     public void testFromConfigMap() {
         assertThat(cc.namespace, is(namespace));
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.EntityOperatorSpec;
 import io.strimzi.api.kafka.model.EntityOperatorSpecBuilder;
 import io.strimzi.api.kafka.model.EntityUserOperatorSpec;
@@ -398,6 +399,33 @@ public class EntityUserOperatorTest {
         assertThat(f.getEnvVars().stream().filter(a -> EntityUserOperator.ENV_VAR_MAINTENANCE_TIME_WINDOWS.equals(a.getName())).findFirst().orElseThrow().getValue(), is("* * 8-10 * * ?;* * 14-15 * * ?"));
     }
 
+    @ParallelTest
+    public void testClientsCaKeyAlgorithm()    {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas,
+                image, healthDelay, healthTimeout, jmxMetricsConfig, singletonMap("foo", "bar"), emptyMap()))
+                .editSpec()
+                    .withNewEntityOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+
+        EntityUserOperator f = EntityUserOperator.fromCrd(new Reconciliation("test", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName()), kafkaAssembly, true);
+        assertThat(f.getEnvVars().stream().anyMatch(a -> EntityUserOperator.ENV_VAR_CLIENTS_CA_KEY_ALGORITHM.equals(a.getName())), is(false));
+
+        kafkaAssembly = new KafkaBuilder(kafkaAssembly)
+                .editSpec()
+                    .withNewClientsCa()
+                        .withKeyAlgorithm(CertificateKeyAlgorithm.ECDSA_P256)
+                    .endClientsCa()
+                .endSpec()
+                .build();
+
+        f = EntityUserOperator.fromCrd(new Reconciliation("test", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName()), kafkaAssembly, true);
+        assertThat(f.getEnvVars().stream().filter(a -> EntityUserOperator.ENV_VAR_CLIENTS_CA_KEY_ALGORITHM.equals(a.getName())).findFirst().orElseThrow().getValue(), is("ecdsa-p256"));
+    }
+
     @ParallelTest
     public void testNoWatchedNamespace() {
         EntityOperatorSpec entityOperatorSpec = new EntityOperatorSpecBuilder()
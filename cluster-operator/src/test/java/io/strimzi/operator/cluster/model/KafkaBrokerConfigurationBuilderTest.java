@@ -29,6 +29,7 @@ import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.kafka.oauth.server.ServerConfig;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlConfigurationParameters;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import org.hamcrest.Description;
@@ -110,11 +111,10 @@ public class KafkaBrokerConfigurationBuilderTest {
                 CruiseControlConfigurationParameters.METRICS_REPORTER_BOOTSTRAP_SERVERS + "=my-cluster-kafka-brokers:9091\n" +
                 CruiseControlConfigurationParameters.METRICS_REPORTER_SECURITY_PROTOCOL + "=SSL\n" +
                 CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_TYPE + "=PKCS12\n" +
-                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_LOCATION + "=/tmp/kafka/cluster.keystore.p12\n" +
-                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_PASSWORD + "=${CERTS_STORE_PASSWORD}\n" +
-                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_TYPE + "=PKCS12\n" +
-                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_LOCATION + "=/tmp/kafka/cluster.truststore.p12\n" +
-                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_PASSWORD + "=${CERTS_STORE_PASSWORD}\n" +
+                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_LOCATION + "=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12\n" +
+                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_KEYSTORE_PASSWORD + "=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}\n" +
+                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_TYPE + "=PEM\n" +
+                CruiseControlConfigurationParameters.METRICS_REPORTER_SSL_TRUSTSTORE_LOCATION + "=/tmp/kafka/cluster.truststore.pem\n" +
                 CruiseControlConfigurationParameters.METRICS_TOPIC_AUTO_CREATE + "=true\n" +
                 CruiseControlConfigurationParameters.METRICS_TOPIC_NUM_PARTITIONS + "=1\n" +
                 CruiseControlConfigurationParameters.METRICS_TOPIC_REPLICATION_FACTOR + "=1\n" +
@@ -186,12 +186,13 @@ public class KafkaBrokerConfigurationBuilderTest {
         assertThat(configuration, isEquivalent(String.format("zookeeper.connect=%s:%d\n", KafkaResources.zookeeperServiceName("my-cluster"), ZookeeperCluster.CLIENT_TLS_PORT) +
                 "zookeeper.clientCnxnSocket=org.apache.zookeeper.ClientCnxnSocketNetty\n" +
                 "zookeeper.ssl.client.enable=true\n" +
-                "zookeeper.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12\n" +
-                "zookeeper.ssl.keystore.password=${CERTS_STORE_PASSWORD}\n" +
+                "zookeeper.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12\n" +
+                "zookeeper.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}\n" +
                 "zookeeper.ssl.keystore.type=PKCS12\n" +
-                "zookeeper.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12\n" +
-                "zookeeper.ssl.truststore.password=${CERTS_STORE_PASSWORD}\n" +
-                "zookeeper.ssl.truststore.type=PKCS12"));
+                "zookeeper.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem\n" +
+                "zookeeper.ssl.truststore.type=PEM\n" +
+                "config.providers=strimzidir\n" +
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider"));
     }
 
     @ParallelTest
@@ -361,6 +362,25 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "super.users=User:CN=my-cluster-kafka,O=io.strimzi;User:CN=my-cluster-entity-topic-operator,O=io.strimzi;User:CN=my-cluster-entity-user-operator,O=io.strimzi;User:CN=my-cluster-kafka-exporter,O=io.strimzi;User:CN=my-cluster-cruise-control,O=io.strimzi;User:CN=cluster-operator,O=io.strimzi;User:jack;User:CN=conor"));
     }
 
+    @ParallelTest
+    public void testPerformanceTuning()  {
+        String configuration = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
+                .withPerformanceTuning(Map.of("num.io.threads", "16", "num.network.threads", "4"))
+                .build();
+
+        assertThat(configuration, isEquivalent("num.io.threads=16\n" +
+                "num.network.threads=4"));
+    }
+
+    @ParallelTest
+    public void testNoPerformanceTuning()  {
+        String configuration = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
+                .withPerformanceTuning(Map.of())
+                .build();
+
+        assertThat(configuration, isEquivalent(""));
+    }
+
     @ParallelTest
     public void testNullUserConfiguration()  {
         String configuration = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
@@ -402,6 +422,25 @@ public class KafkaBrokerConfigurationBuilderTest {
                                                             "transaction.state.log.min.isr=2"));
     }
 
+    @ParallelTest
+    public void testUserConfigurationWithConfigProviders()  {
+        Map<String, Object> userConfiguration = new HashMap<>();
+        userConfiguration.put("config.providers", "env");
+        userConfiguration.put("config.providers.env.class", "io.strimzi.kafka.EnvVarConfigProvider");
+
+        KafkaConfiguration kafkaConfiguration = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, userConfiguration.entrySet());
+
+        String configuration = new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION)
+                .withListeners("my-cluster", "my-namespace", emptyList())
+                .withUserConfiguration(kafkaConfiguration)
+                .build();
+
+        Map<String, String> properties = new OrderedProperties().addStringPairs(configuration).asMap();
+        assertThat(properties.get("config.providers"), is("strimzidir,env"));
+        assertThat(properties.get("config.providers.env.class"), is("io.strimzi.kafka.EnvVarConfigProvider"));
+        assertThat(properties.get("config.providers.strimzidir.class"), is("org.apache.kafka.common.config.provider.DirectoryConfigProvider"));
+    }
+
     @ParallelTest
     public void testEphemeralStorageLogDirs()  {
         Storage storage = new EphemeralStorageBuilder()
@@ -538,19 +577,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL",
@@ -570,19 +609,19 @@ public class KafkaBrokerConfigurationBuilderTest {
         assertThat(configuration, isEquivalent("broker.id=2",
                 "node.id=2",
                 "listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL",
@@ -637,19 +676,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listener.name.listener1-9100.max.connections=100",
                 "listener.name.listener1-9100.max.connection.creation.rate=10",
                 "listener.name.listener2-9101.max.connections=1000",
@@ -677,19 +716,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:PLAINTEXT",
@@ -716,19 +755,19 @@ public class KafkaBrokerConfigurationBuilderTest {
         assertThat(configuration, isEquivalent("broker.id=2",
                 "node.id=2",
                 "listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9092",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:PLAINTEXT",
@@ -759,19 +798,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "controller.listener.names=CONTROLPLANE-9090",
                 "controller.quorum.voters=0@my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc.cluster.local:9090,1@my-cluster-kafka-1.my-cluster-kafka-brokers.my-namespace.svc.cluster.local:9090,2@my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc.cluster.local:9090",
                 "listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9092",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:PLAINTEXT",
@@ -796,19 +835,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -834,19 +873,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,TLS-9093://0.0.0.0:9093",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,TLS-9093://${STRIMZI_TLS_9093_ADVERTISED_HOSTNAME}:${STRIMZI_TLS_9093_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,TLS-9093:SSL",
@@ -854,8 +893,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.tls-9093.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.tls-9093.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.tls-9093.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.tls-9093.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.tls-9093.ssl.keystore.type=PKCS12"));
     }
 
@@ -875,19 +914,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,TLS-9093://0.0.0.0:9093",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,TLS-9093://${STRIMZI_TLS_9093_ADVERTISED_HOSTNAME}:${STRIMZI_TLS_9093_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,TLS-9093:SSL",
@@ -896,11 +935,10 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
                 "listener.name.tls-9093.ssl.client.auth=required",
-                "listener.name.tls-9093.ssl.truststore.location=/tmp/kafka/clients.truststore.p12",
-                "listener.name.tls-9093.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.tls-9093.ssl.truststore.type=PKCS12",
-                "listener.name.tls-9093.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.tls-9093.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.tls-9093.ssl.truststore.location=/tmp/kafka/clients.truststore.pem",
+                "listener.name.tls-9093.ssl.truststore.type=PEM",
+                "listener.name.tls-9093.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.tls-9093.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.tls-9093.ssl.keystore.type=PKCS12"));
     }
 
@@ -925,19 +963,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,TLS-9093://0.0.0.0:9093",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,TLS-9093://${STRIMZI_TLS_9093_ADVERTISED_HOSTNAME}:${STRIMZI_TLS_9093_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,TLS-9093:SSL",
@@ -964,19 +1002,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -984,8 +1022,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1005,19 +1043,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1026,11 +1064,10 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
                 "listener.name.external-9094.ssl.client.auth=required",
-                "listener.name.external-9094.ssl.truststore.location=/tmp/kafka/clients.truststore.p12",
-                "listener.name.external-9094.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.external-9094.ssl.truststore.type=PKCS12",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.truststore.location=/tmp/kafka/clients.truststore.pem",
+                "listener.name.external-9094.ssl.truststore.type=PEM",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1050,19 +1087,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SASL_SSL",
@@ -1072,8 +1109,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "ssl.endpoint.identification.algorithm=HTTPS",
                 "listener.name.external-9094.scram-sha-512.sasl.jaas.config=org.apache.kafka.common.security.scram.ScramLoginModule required;",
                 "listener.name.external-9094.sasl.enabled.mechanisms=SCRAM-SHA-512",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1098,19 +1135,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1137,19 +1174,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1157,8 +1194,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1179,19 +1216,19 @@ public class KafkaBrokerConfigurationBuilderTest {
         assertThat(configuration, isEquivalent("broker.id=2",
                 "node.id=2",
                 "listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://my-lb.com:9094",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1199,8 +1236,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1218,19 +1255,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:PLAINTEXT",
@@ -1254,19 +1291,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1274,8 +1311,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1293,19 +1330,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:PLAINTEXT",
@@ -1332,19 +1369,19 @@ public class KafkaBrokerConfigurationBuilderTest {
         assertThat(configuration, isEquivalent("broker.id=2",
                 "node.id=2",
                 "listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-2.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-2.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:PLAINTEXT",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_NODEPORT_DEFAULT_ADDRESS}:31234",
@@ -1380,19 +1417,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1400,8 +1437,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1428,19 +1465,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:SSL",
@@ -1448,8 +1485,8 @@ public class KafkaBrokerConfigurationBuilderTest {
                 "inter.broker.listener.name=REPLICATION-9091",
                 "sasl.enabled.mechanisms=",
                 "ssl.endpoint.identification.algorithm=HTTPS",
-                "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.external-9094.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.external-9094.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.external-9094.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.external-9094.ssl.keystore.type=PKCS12"));
     }
 
@@ -1476,19 +1513,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,EXTERNAL-9094://0.0.0.0:9094",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,EXTERNAL-9094://${STRIMZI_EXTERNAL_9094_ADVERTISED_HOSTNAME}:${STRIMZI_EXTERNAL_9094_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,EXTERNAL-9094:PLAINTEXT",
@@ -1527,19 +1564,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -1584,19 +1621,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -1627,19 +1664,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -1680,19 +1717,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -1731,19 +1768,19 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,PLAIN-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://${STRIMZI_PLAIN_9092_ADVERTISED_HOSTNAME}:${STRIMZI_PLAIN_9092_ADVERTISED_PORT}",
                 "listener.security.protocol.map=CONTROLPLANE-9090:SSL,REPLICATION-9091:SSL,PLAIN-9092:SASL_PLAINTEXT",
@@ -1928,21 +1965,21 @@ public class KafkaBrokerConfigurationBuilderTest {
                 .build();
 
         assertThat(configuration, isEquivalent("listener.name.controlplane-9090.ssl.client.auth=required",
-                "listener.name.controlplane-9090.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.controlplane-9090.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.controlplane-9090.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.controlplane-9090.ssl.keystore.type=PKCS12",
-                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.controlplane-9090.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.controlplane-9090.ssl.truststore.type=PKCS12",
-                "listener.name.replication-9091.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.replication-9091.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "listener.name.controlplane-9090.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.controlplane-9090.ssl.truststore.type=PEM",
+                "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.replication-9091.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.replication-9091.ssl.keystore.type=PKCS12",
-                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.p12",
-                "listener.name.replication-9091.ssl.truststore.password=${CERTS_STORE_PASSWORD}",
-                "listener.name.replication-9091.ssl.truststore.type=PKCS12",
+                "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem",
+                "listener.name.replication-9091.ssl.truststore.type=PEM",
                 "listener.name.replication-9091.ssl.client.auth=required",
-                "listener.name.custom-listener-9092.ssl.keystore.location=/tmp/kafka/cluster.keystore.p12",
-                "listener.name.custom-listener-9092.ssl.keystore.password=${CERTS_STORE_PASSWORD}",
+                "config.providers=strimzidir",
+                "config.providers.strimzidir.class=org.apache.kafka.common.config.provider.DirectoryConfigProvider",
+                "listener.name.custom-listener-9092.ssl.keystore.location=/opt/kafka/broker-certs/my-cluster-kafka-${STRIMZI_BROKER_ID}.p12",
+                "listener.name.custom-listener-9092.ssl.keystore.password=${strimzidir:/opt/kafka/broker-certs:my-cluster-kafka-${STRIMZI_BROKER_ID}.password}",
                 "listener.name.custom-listener-9092.ssl.keystore.type=PKCS12",
                 "listeners=CONTROLPLANE-9090://0.0.0.0:9090,REPLICATION-9091://0.0.0.0:9091,CUSTOM-LISTENER-9092://0.0.0.0:9092",
                 "advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-${STRIMZI_BROKER_ID}.my-cluster" +
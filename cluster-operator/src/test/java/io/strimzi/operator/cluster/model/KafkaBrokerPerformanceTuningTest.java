@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.EphemeralStorageBuilder;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.storage.Storage;
+import io.strimzi.kafka.config.model.ConfigModel;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+@ParallelSuite
+public class KafkaBrokerPerformanceTuningTest {
+    private static final Map<String, ConfigModel> CONFIG_MODEL = KafkaConfiguration.readConfigModel(KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion());
+    private static final Storage EPHEMERAL = new EphemeralStorageBuilder().build();
+    private static final List<GenericKafkaListener> LISTENERS = List.of(
+            new GenericKafkaListenerBuilder().withName("plain").withPort(9092).withType(KafkaListenerType.INTERNAL).withTls(false).build(),
+            new GenericKafkaListenerBuilder().withName("tls").withPort(9093).withType(KafkaListenerType.INTERNAL).withTls(true).build()
+    );
+
+    private static ResourceRequirements cpu(String limit, String request) {
+        ResourceRequirementsBuilder builder = new ResourceRequirementsBuilder();
+
+        if (limit != null) {
+            builder.addToLimits("cpu", new Quantity(limit));
+        }
+
+        if (request != null) {
+            builder.addToRequests("cpu", new Quantity(request));
+        }
+
+        return builder.build();
+    }
+
+    private static KafkaConfiguration userConfiguration(Map<String, Object> config) {
+        return new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION, config.entrySet());
+    }
+
+    @ParallelTest
+    public void testDefaultProfile() {
+        assertThat(KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, null, cpu("8", null), EPHEMERAL, LISTENERS, userConfiguration(Map.of()), KafkaBrokerPerformanceTuningTest::unexpectedConfigModelRead), is(anEmptyMap()));
+        assertThat(KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.DEFAULT, cpu("8", null), EPHEMERAL, LISTENERS, userConfiguration(Map.of()), KafkaBrokerPerformanceTuningTest::unexpectedConfigModelRead), is(anEmptyMap()));
+    }
+
+    @ParallelTest
+    public void testNoResources() {
+        assertThat(KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, null, EPHEMERAL, LISTENERS, userConfiguration(Map.of()), () -> CONFIG_MODEL), is(anEmptyMap()));
+        assertThat(KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, cpu(null, null), EPHEMERAL, LISTENERS, userConfiguration(Map.of()), () -> CONFIG_MODEL), is(anEmptyMap()));
+    }
+
+    @ParallelTest
+    public void testCpus() {
+        assertThat(KafkaBrokerPerformanceTuning.cpus(cpu("8", "2")), is(8));
+        assertThat(KafkaBrokerPerformanceTuning.cpus(cpu(null, "2")), is(2));
+        assertThat(KafkaBrokerPerformanceTuning.cpus(cpu("1500m", null)), is(2));
+        assertThat(KafkaBrokerPerformanceTuning.cpus(cpu("500m", null)), is(1));
+        assertThat(KafkaBrokerPerformanceTuning.cpus(null), is(0));
+    }
+
+    @ParallelTest
+    public void testSmallBroker() {
+        Map<String, String> config = KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, cpu(null, "1"), EPHEMERAL, LISTENERS, userConfiguration(Map.of()), () -> CONFIG_MODEL);
+
+        // Small brokers keep the Kafka defaults
+        assertThat(config, is(Map.of(
+                KafkaBrokerPerformanceTuning.NUM_NETWORK_THREADS, "3",
+                KafkaBrokerPerformanceTuning.NUM_IO_THREADS, "8",
+                KafkaBrokerPerformanceTuning.NUM_REPLICA_FETCHERS, "1",
+                KafkaBrokerPerformanceTuning.NUM_RECOVERY_THREADS_PER_DATA_DIR, "1",
+                KafkaBrokerPerformanceTuning.BACKGROUND_THREADS, "10"
+        )));
+    }
+
+    @ParallelTest
+    public void testLargeBrokerWithJbod() {
+        Storage jbod = new JbodStorageBuilder()
+                .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                        new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").build(),
+                        new PersistentClaimStorageBuilder().withId(2).withSize("100Gi").build(),
+                        new PersistentClaimStorageBuilder().withId(3).withSize("100Gi").build())
+                .build();
+
+        Map<String, String> config = KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, cpu("16", "8"), jbod, LISTENERS, userConfiguration(Map.of()), () -> CONFIG_MODEL);
+
+        assertThat(config, is(Map.of(
+                KafkaBrokerPerformanceTuning.NUM_NETWORK_THREADS, "11",
+                KafkaBrokerPerformanceTuning.NUM_IO_THREADS, "32",
+                KafkaBrokerPerformanceTuning.NUM_REPLICA_FETCHERS, "4",
+                KafkaBrokerPerformanceTuning.NUM_RECOVERY_THREADS_PER_DATA_DIR, "4",
+                KafkaBrokerPerformanceTuning.BACKGROUND_THREADS, "16",
+                KafkaBrokerPerformanceTuning.SOCKET_SEND_BUFFER_BYTES, "1048576",
+                KafkaBrokerPerformanceTuning.SOCKET_RECEIVE_BUFFER_BYTES, "1048576"
+        )));
+    }
+
+    @ParallelTest
+    public void testUserConfigurationWins() {
+        Map<String, String> config = KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, cpu("8", null), EPHEMERAL, LISTENERS,
+                userConfiguration(Map.of(KafkaBrokerPerformanceTuning.NUM_IO_THREADS, 4, KafkaBrokerPerformanceTuning.SOCKET_SEND_BUFFER_BYTES, -1)), () -> CONFIG_MODEL);
+
+        assertThat(config, not(hasKey(KafkaBrokerPerformanceTuning.NUM_IO_THREADS)));
+        assertThat(config, not(hasKey(KafkaBrokerPerformanceTuning.SOCKET_SEND_BUFFER_BYTES)));
+        assertThat(config.get(KafkaBrokerPerformanceTuning.NUM_NETWORK_THREADS), is("6"));
+        assertThat(config.get(KafkaBrokerPerformanceTuning.SOCKET_RECEIVE_BUFFER_BYTES), is("1048576"));
+    }
+
+    @ParallelTest
+    public void testOptionsMissingInConfigModelAreSkipped() {
+        Map<String, ConfigModel> configModel = Map.of(KafkaBrokerPerformanceTuning.NUM_IO_THREADS, CONFIG_MODEL.get(KafkaBrokerPerformanceTuning.NUM_IO_THREADS));
+
+        Map<String, String> config = KafkaBrokerPerformanceTuning.configuration(Reconciliation.DUMMY_RECONCILIATION, KafkaPerformanceProfile.RESOURCE_BASED, cpu("8", null), EPHEMERAL, LISTENERS, userConfiguration(Map.of()), () -> configModel);
+
+        assertThat(config, is(Map.of(KafkaBrokerPerformanceTuning.NUM_IO_THREADS, "16")));
+    }
+
+    // The config model is read only for the resource-based profile
+    private static Map<String, ConfigModel> unexpectedConfigModelRead() {
+        throw new AssertionError("The config model should not be read");
+    }
+}
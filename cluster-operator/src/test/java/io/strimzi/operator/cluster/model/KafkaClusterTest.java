@@ -43,6 +43,7 @@ import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaExporterResources;
 import io.strimzi.api.kafka.model.KafkaJmxAuthenticationPasswordBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxOptionsBuilder;
+import io.strimzi.api.kafka.model.KafkaPerformanceProfile;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.MetricsConfig;
 import io.strimzi.api.kafka.model.ProbeBuilder;
@@ -300,6 +301,11 @@ public class KafkaClusterTest {
         assertThat(cont.getReadinessProbe().getTimeoutSeconds(), is(8));
         assertThat(cont.getReadinessProbe().getSuccessThreshold(), is(9));
         assertThat(cont.getReadinessProbe().getFailureThreshold(), is(10));
+        assertThat(cont.getLivenessProbe().getHttpGet().getPath(), is("/v1/live"));
+        assertThat(cont.getLivenessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.KAFKA_AGENT_PORT_NAME));
+        assertThat(cont.getReadinessProbe().getHttpGet().getPath(), is("/v1/ready"));
+        assertThat(cont.getReadinessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.KAFKA_AGENT_PORT_NAME));
+        assertThat(cont.getPorts().stream().anyMatch(port -> KafkaCluster.KAFKA_AGENT_PORT_NAME.equals(port.getName()) && port.getContainerPort() == 8080), is(true));
     }
 
     @ParallelTest
@@ -3542,6 +3548,28 @@ public class KafkaClusterTest {
         assertThat(brokerConfig, CoreMatchers.containsString(CruiseControlConfigurationParameters.METRICS_TOPIC_MIN_ISR + "=" + 1));
     }
 
+    @ParallelTest
+    public void testResourceBasedPerformanceProfile() {
+        Kafka kafkaAssembly = new KafkaBuilder(KAFKA)
+                .editSpec()
+                    .editKafka()
+                        .withPerformanceProfile(KafkaPerformanceProfile.RESOURCE_BASED)
+                        .withResources(new ResourceRequirementsBuilder().addToLimits("cpu", new Quantity("8")).build())
+                        .addToConfig("num.io.threads", 4)
+                    .endKafka()
+                .endSpec()
+                .build();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS);
+        String brokerConfig = kafkaCluster.generateSharedBrokerConfiguration();
+        assertThat(brokerConfig, CoreMatchers.containsString("num.network.threads=6"));
+        assertThat(brokerConfig, CoreMatchers.containsString("num.io.threads=4"));
+        assertThat(brokerConfig, CoreMatchers.not(CoreMatchers.containsString("num.io.threads=16")));
+
+        // Without the profile, the Kafka defaults are used
+        brokerConfig = KC.generateSharedBrokerConfiguration();
+        assertThat(brokerConfig, CoreMatchers.not(CoreMatchers.containsString("num.network.threads")));
+    }
+
     @ParallelTest
     public void testCruiseControlCustomMetricsReporterTopic() {
         int replicationFactor = 3;
@@ -15,6 +15,7 @@ import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectBuilder;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.connect.build.Artifact;
+import io.strimzi.api.kafka.model.connect.build.DockerOutput;
 import io.strimzi.api.kafka.model.connect.build.JarArtifactBuilder;
 import io.strimzi.api.kafka.model.connect.build.PluginBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
@@ -487,6 +488,63 @@ public class KafkaConnectBuildTest {
         assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(expectedArgs));
     }
 
+    @ParallelTest
+    public void testKanikoCacheOptions()   {
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(cluster)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-image:latest")
+                            .withAdditionalKanikoOptions("--cache-repo=my-registry/my-cache")
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        // Cache repository without enabled cache
+        KafkaConnectBuild build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+        Pod pod = build.generateBuilderPod(true, ImagePullPolicy.IFNOTPRESENT, null, null);
+        assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(List.of("--dockerfile=/dockerfile/Dockerfile",
+                "--image-name-with-digest-file=/dev/termination-log",
+                "--destination=my-image:latest",
+                "--cache-repo=my-registry/my-cache")));
+
+        // Enabled cache with custom cache repository
+        ((DockerOutput) kc.getSpec().getBuild().getOutput()).setAdditionalKanikoOptions(List.of("--cache=true", "--cache-repo=my-registry/my-cache"));
+        build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+        pod = build.generateBuilderPod(true, ImagePullPolicy.IFNOTPRESENT, null, null);
+        assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(List.of("--dockerfile=/dockerfile/Dockerfile",
+                "--image-name-with-digest-file=/dev/termination-log",
+                "--destination=my-image:latest",
+                "--cache=true",
+                "--cache-repo=my-registry/my-cache")));
+
+        // Enabled cache with the default cache repository
+        ((DockerOutput) kc.getSpec().getBuild().getOutput()).setAdditionalKanikoOptions(List.of("--cache"));
+        build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+        pod = build.generateBuilderPod(true, ImagePullPolicy.IFNOTPRESENT, null, null);
+        assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(List.of("--dockerfile=/dockerfile/Dockerfile",
+                "--image-name-with-digest-file=/dev/termination-log",
+                "--destination=my-image:latest",
+                "--cache-repo=my-image-cache",
+                "--cache")));
+    }
+
+    @ParallelTest
+    public void testCacheRepository()   {
+        assertThat(KafkaConnectBuild.cacheRepository("my-image"), is("my-image-cache"));
+        assertThat(KafkaConnectBuild.cacheRepository("my-image:latest"), is("my-image-cache"));
+        assertThat(KafkaConnectBuild.cacheRepository("my-registry:5000/my-org/my-image"), is("my-registry:5000/my-org/my-image-cache"));
+        assertThat(KafkaConnectBuild.cacheRepository("my-registry:5000/my-org/my-image:latest"), is("my-registry:5000/my-org/my-image-cache"));
+        assertThat(KafkaConnectBuild.cacheRepository("quay.io/my-org/my-image@sha256:1234"), is("quay.io/my-org/my-image-cache"));
+    }
+
     @ParallelTest
     public void testInvalidKanikoOptions()   {
         KafkaConnect kc = new KafkaConnectBuilder()
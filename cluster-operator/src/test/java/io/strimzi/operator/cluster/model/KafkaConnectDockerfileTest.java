@@ -25,6 +25,7 @@ import static io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilderT
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -215,8 +216,8 @@ public class KafkaConnectDockerfileTest {
         assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\",
-                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'",
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\",
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar' \\",
+                "      && 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
@@ -328,8 +329,8 @@ public class KafkaConnectDockerfileTest {
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' 'https://mydomain.tld/my.tgz' \\",
                 "      && 'tar' 'xvfz' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' '-C' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
-                "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz'",
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
+                "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' \\",
+                "      && 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz' 'https://mydomain.tld/my2.tgz' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/638bd501.tgz' > '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512' \\",
@@ -356,8 +357,8 @@ public class KafkaConnectDockerfileTest {
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' 'https://mydomain.tld/my.zip' \\",
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' '-type' 'l' | 'xargs' 'rm' '-f' \\",
-                "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip'",
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
+                "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' \\",
+                "      && 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' 'https://mydomain.tld/my2.zip' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/90e04094.zip' > '/opt/kafka/plugins/my-connector-plugin/90e04094.zip.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip.sha512' \\",
@@ -394,9 +395,8 @@ public class KafkaConnectDockerfileTest {
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\\n" +
-                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'\n" +
-                "\n" +
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar' \\\n" +
+                "      && 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\\n" +
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\\n" +
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
@@ -478,7 +478,7 @@ public class KafkaConnectDockerfileTest {
 
         assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
                 "USER root:root",
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
+                "      && 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'curl' '-f' '-k' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' 'https://mydomain.tld/my2.zip' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/90e04094.zip' > '/opt/kafka/plugins/my-connector-plugin/90e04094.zip.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip.sha512' \\",
@@ -487,7 +487,7 @@ public class KafkaConnectDockerfileTest {
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/90e04094' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip'",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7' \\",
-                "      && 'curl' '-f' '-k' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7/my.so' 'https://mydomain.tld/download?artifact=my.so'",
+                "      && 'curl' '-f' '-k' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7/my.so' 'https://mydomain.tld/download?artifact=my.so' \\",
                 "USER 1001"));
     }
 
@@ -534,9 +534,8 @@ public class KafkaConnectDockerfileTest {
                 "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
-                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar'\n" +
-                "\n" +
-                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/9983060e/pom.xml' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.pom' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/9983060e/pom.xml' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/9983060e.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/9983060e.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/9983060e' '-f' '/tmp/my-connector-plugin/9983060e/pom.xml' \\\n" +
                 "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/9983060e/a2-v2.jar' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.jar'\n" +
@@ -551,9 +550,7 @@ public class KafkaConnectDockerfileTest {
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' \\\n" +
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
                 "\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
-                "\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/9983060e' '/opt/kafka/plugins/my-connector-plugin/9983060e'\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
                 "\n" +
                 "##########\n" +
                 "# Connector plugin other-connector-plugin\n" +
@@ -604,7 +601,7 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
@@ -649,12 +646,51 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
     }
 
+    @ParallelTest
+    public void testPluginOrderDoesNotChangeDockerfile()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder().withName("plugin-a").withArtifacts(jarArtifactNoChecksum).build(),
+                        new PluginBuilder().withName("plugin-b").withArtifacts(tgzArtifactWithChecksum).build(),
+                        new PluginBuilder().withName("plugin-c").withArtifacts(zipArtifactNoChecksum, otherArtifactNoChecksum).build())
+                .build();
+
+        Build reorderedConnectBuild = new BuildBuilder()
+                .withPlugins(connectBuild.getPlugins().get(2), connectBuild.getPlugins().get(0), connectBuild.getPlugins().get(1))
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild);
+        KafkaConnectDockerfile reorderedDf = new KafkaConnectDockerfile("myImage:latest", reorderedConnectBuild);
+
+        assertThat(reorderedDf.getDockerfile(), is(df.getDockerfile()));
+        assertThat(reorderedDf.buildRevision(), is(df.buildRevision()));
+
+        // Each plugin is installed in a single layer
+        assertThat(df.getDockerfile().lines().filter(line -> line.startsWith("RUN ")).count(), is(3L));
+    }
+
+    @ParallelTest
+    public void testBuildRevision()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder().withName("plugin-a").withArtifacts(jarArtifactNoChecksum).build())
+                .build();
+
+        Build changedConnectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder().withName("plugin-a").withArtifacts(jarArtifactWithChecksum).build())
+                .build();
+
+        String revision = new KafkaConnectDockerfile("myImage:latest", connectBuild).buildRevision();
+
+        assertThat(new KafkaConnectDockerfile("myImage:latest", connectBuild).buildRevision(), is(revision));
+        assertThat(new KafkaConnectDockerfile("myImage:latest", changedConnectBuild).buildRevision(), is(not(revision)));
+        assertThat(new KafkaConnectDockerfile("myOtherImage:latest", connectBuild).buildRevision(), is(not(revision)));
+    }
+
     private static Build connectBuildFromGavAndUrl(String g, String a, String v, String url) {
         MavenArtifact mvn = new MavenArtifactBuilder()
                 .withGroup(g)
@@ -70,7 +70,6 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
@@ -147,6 +146,18 @@ public class ConnectorMockTest {
         return Future.succeededFuture(statusNode);
     }
 
+    private Map<String, String> kafkaConnectApiConfigMock(String host, String connectorName)   {
+        ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+        Map<String, String> map = new HashMap<>();
+        map.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : connectorState.config) {
+            if (entry.getValue() != null) {
+                map.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
     @SuppressWarnings({"checkstyle:MethodLength"})
     @BeforeEach
     public void setup(VertxTestContext testContext) {
@@ -188,7 +199,6 @@ public class ConnectorMockTest {
         Checkpoint async = testContext.checkpoint();
         // Fail test if watcher closes for any reason
         kafkaConnectOperator.createWatch(NAMESPACE, e -> testContext.failNow(e))
-            .onComplete(testContext.succeedingThenComplete())
             .compose(watch -> {
                 connectWatch = watch;
                 return AbstractConnectOperator.createConnectorWatch(kafkaConnectOperator, NAMESPACE, null);
@@ -203,13 +213,17 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
-            String host = i.getArgument(0);
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenAnswer(i -> {
+            String host = i.getArgument(1);
             String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
+            Map<String, Map<String, Object>> connectors = new HashMap<>();
+            runningConnectors.keySet().stream()
                     .filter(s -> s.startsWith(matchingKeyPrefix))
                     .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
+                    .forEach(connectorName -> connectors.put(connectorName, Map.of(
+                            "status", kafkaConnectApiStatusMock(host, connectorName).result(),
+                            "info", Map.of("name", connectorName, "config", kafkaConnectApiConfigMock(host, connectorName)))));
+            return Future.succeededFuture(connectors);
         });
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
@@ -223,16 +237,8 @@ public class ConnectorMockTest {
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenAnswer(invocation -> {
             String host = invocation.getArgument(2);
             String connectorName = invocation.getArgument(4);
-            ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
-            if (connectorState != null) {
-                Map<String, String> map = new HashMap<>();
-                map.put("name", connectorName);
-                for (Map.Entry<String, Object> entry : connectorState.config) {
-                    if (entry.getValue() != null) {
-                        map.put(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-                return Future.succeededFuture(map);
+            if (runningConnectors.containsKey(key(host, connectorName))) {
+                return Future.succeededFuture(kafkaConnectApiConfigMock(host, connectorName));
             } else {
                 return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", ""));
             }
@@ -639,7 +645,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -661,7 +667,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -701,7 +707,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -724,7 +730,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // Might be triggered multiple times (Connect creation, Connector Status update, Connect Status update), depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
@@ -765,7 +771,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -787,7 +793,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(1)).createOrUpdatePutRequest(any(),
@@ -828,7 +834,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -851,7 +857,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // Triggered once or twice (Connect creation, Connector Status update), depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
@@ -966,6 +972,61 @@ public class ConnectorMockTest {
             })));
     }
 
+    /** Unchanged connector is reconciled from the connectors listing, changed connector is reconfigured */
+    @Test
+    public void testConnectorReconciliationUsesConnectorsListing(VertxTestContext context) {
+        String host = KafkaConnectResources.qualifiedServiceName("cluster", NAMESPACE);
+        String connectorName = "connector";
+
+        runningConnectors.put(key(host, connectorName), new ConnectorState(false, new JsonObject()
+                .put("connector.class", "Dummy")
+                .put("tasks.max", "1")
+                .put("file", "/tmp/file")));
+
+        KafkaConnector connector = new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, "cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withClassName("Dummy")
+                    .withTasksMax(1)
+                    .withConfig(Map.of("file", "/tmp/file"))
+                .endSpec()
+                .build();
+
+        KafkaConnector changedConnector = new KafkaConnectorBuilder(connector)
+                .editSpec()
+                    .withConfig(Map.of("file", "/tmp/other-file"))
+                .endSpec()
+                .build();
+
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaConnect", NAMESPACE, "cluster");
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(reconciliation, host, KafkaConnectCluster.REST_API_PORT)
+            .compose(connectors -> kafkaConnectOperator.maybeCreateOrUpdateConnector(reconciliation, host, api, connectorName, connector.getSpec(), connector, connectors.get(connectorName)))
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                assertThat(status.statusResult.get("name"), is(connectorName));
+                assertThat(status.topics, is(List.of("my-topic")));
+
+                // Config and status come from the listing => only the topics are queried
+                verify(api, never()).getConnectorConfig(any(), any(), any(), anyInt(), any());
+                verify(api, never()).status(any(), any(), anyInt(), anyString());
+                verify(api, never()).statusWithBackOff(any(), any(), any(), anyInt(), anyString());
+                verify(api, never()).createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any());
+                verify(api, times(1)).getConnectorTopics(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+            })))
+            .compose(i -> api.listWithStatusAndInfo(reconciliation, host, KafkaConnectCluster.REST_API_PORT))
+            .compose(connectors -> kafkaConnectOperator.maybeCreateOrUpdateConnector(reconciliation, host, api, connectorName, changedConnector.getSpec(), changedConnector, connectors.get(connectorName)))
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                // Config differs from the listing => the connector is reconfigured
+                verify(api, never()).getConnectorConfig(any(), any(), any(), anyInt(), any());
+                verify(api, times(1)).createOrUpdatePutRequest(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+                async.flag();
+            })));
+    }
+
     /** Create connect, create connector, delete connector, delete connect */
     @Test
     public void testConnectorNotReadyWhenExceptionFromConnectRestApi() {
@@ -993,7 +1054,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered at least once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1013,7 +1074,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // Might be triggered multiple times depending on the timing
         verify(api, atLeastOnce()).createOrUpdatePutRequest(any(),
@@ -1043,7 +1104,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1065,7 +1126,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1131,7 +1192,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1153,7 +1214,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1214,7 +1275,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1236,7 +1297,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1295,7 +1356,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1317,7 +1378,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1377,7 +1438,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1399,7 +1460,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1458,7 +1519,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1480,14 +1541,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1524,7 +1585,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1546,14 +1607,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).resource(connector).create();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1666,7 +1727,7 @@ public class ConnectorMockTest {
         String connectName = "cluster";
 
         // this connector should be deleted on connect reconciliation
-        when(api.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(List.of("connector")));
+        when(api.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(Map.of("connector", emptyMap())));
         when(api.delete(any(), anyString(), anyInt(), anyString())).thenReturn(Future.failedFuture(new RuntimeException("deletion error")));
 
         KafkaConnect kafkaConnect = new KafkaConnectBuilder()
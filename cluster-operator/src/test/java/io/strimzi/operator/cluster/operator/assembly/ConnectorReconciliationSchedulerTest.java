@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConnectorReconciliationSchedulerTest {
+    @Test
+    public void testNoTasks() {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(2, new AtomicInteger(), new AtomicInteger());
+
+        assertThat(scheduler.run().succeeded(), is(true));
+    }
+
+    @Test
+    public void testMaxInFlightAndOrder() {
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        List<Integer> started = new ArrayList<>();
+        List<Promise<Void>> promises = new ArrayList<>();
+
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(2, queued, inFlight);
+
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            scheduler.add(() -> {
+                started.add(id);
+                Promise<Void> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            });
+        }
+
+        Future<Void> result = scheduler.run();
+
+        assertThat(started, contains(0, 1));
+        assertThat(queued.get(), is(3));
+        assertThat(inFlight.get(), is(2));
+
+        promises.get(1).complete();
+        assertThat(started, contains(0, 1, 2));
+        assertThat(queued.get(), is(2));
+        assertThat(inFlight.get(), is(2));
+
+        promises.get(0).complete();
+        promises.get(2).complete();
+        assertThat(started, contains(0, 1, 2, 3, 4));
+        assertThat(queued.get(), is(0));
+        assertThat(inFlight.get(), is(2));
+        assertThat(result.isComplete(), is(false));
+
+        promises.get(3).complete();
+        promises.get(4).complete();
+        assertThat(inFlight.get(), is(0));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailuresDoNotStopOtherTasks() {
+        AtomicInteger executed = new AtomicInteger();
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(1, new AtomicInteger(), new AtomicInteger());
+
+        scheduler.add(() -> {
+            executed.incrementAndGet();
+            return Future.failedFuture("first failure");
+        });
+        scheduler.add(() -> {
+            executed.incrementAndGet();
+            throw new RuntimeException("second failure");
+        });
+        scheduler.add(() -> {
+            executed.incrementAndGet();
+            return Future.succeededFuture();
+        });
+
+        Future<Void> result = scheduler.run();
+
+        assertThat(executed.get(), is(3));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("first failure"));
+    }
+
+    @Test
+    public void testInvalidMaxInFlight() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectorReconciliationScheduler(0, new AtomicInteger(), new AtomicInteger()));
+    }
+}
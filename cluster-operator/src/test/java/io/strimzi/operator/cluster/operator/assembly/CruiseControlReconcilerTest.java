@@ -5,16 +5,22 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.NodeBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.CruiseControlSpec;
 import io.strimzi.api.kafka.model.CruiseControlSpecBuilder;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.balancing.BrokerCapacityBuilder;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
@@ -22,9 +28,12 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.ClusterCa;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.cruisecontrol.Capacity;
+import io.strimzi.operator.cluster.model.cruisecontrol.ObservedCapacity;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
@@ -33,6 +42,8 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -41,6 +52,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -50,6 +62,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -94,6 +108,24 @@ public class CruiseControlReconcilerTest {
         when(mockDepOps.waitForObserved(any(), eq(NAMESPACE), eq(CruiseControlResources.deploymentName(NAME)), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
         when(mockDepOps.readiness(any(), eq(NAMESPACE), eq(CruiseControlResources.deploymentName(NAME)), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
 
+        Node node = new NodeBuilder()
+                .withNewMetadata()
+                    .withName("node-0")
+                    .withAnnotations(Map.of(ObservedCapacity.ANNO_STRIMZI_IO_INBOUND_NETWORK_CAPACITY, "125000KiB/s"))
+                .endMetadata()
+                .build();
+        Pod broker = new PodBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaPodName(NAME, 0))
+                .endMetadata()
+                .withNewSpec()
+                    .withNodeName("node-0")
+                .endSpec()
+                .build();
+        when(supplier.nodeOperator.getAsync("node-0")).thenReturn(Future.succeededFuture(node));
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of(broker)));
+        when(supplier.pvcOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+
         Kafka kafka = new KafkaBuilder(ResourceUtils.createKafka(NAMESPACE, NAME, 3, "foo", 120, 30))
                 .editSpec()
                     .withCruiseControl(cruiseControlSpec)
@@ -141,6 +173,19 @@ public class CruiseControlReconcilerTest {
                     assertThat(depCaptor.getAllValues().size(), is(1));
                     assertThat(depCaptor.getValue(), is(notNullValue()));
 
+                    // The observed network capacity is used for the broker on the annotated node
+                    String capacity = depCaptor.getValue().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv().stream()
+                            .filter(env -> "CRUISE_CONTROL_CAPACITY_CONFIGURATION".equals(env.getName()))
+                            .findFirst()
+                            .orElseThrow()
+                            .getValue();
+                    JsonArray brokerCapacities = new JsonObject(capacity).getJsonArray(Capacity.CAPACITIES_KEY);
+                    for (Object brokerCapacity : brokerCapacities) {
+                        JsonObject entry = (JsonObject) brokerCapacity;
+                        String expectedInbound = entry.getInteger("brokerId") == 0 ? "125000.0" : "9765.625";
+                        assertThat(entry.getJsonObject(Capacity.CAPACITY_KEY).getString("NW_IN"), is(expectedInbound));
+                    }
+
                     async.flag();
                 })));
     }
@@ -222,4 +267,47 @@ public class CruiseControlReconcilerTest {
                     async.flag();
                 })));
     }
+
+    @Test
+    public void capacityWithoutAccessToNodes(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        Pod broker = new PodBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaPodName(NAME, 0))
+                .endMetadata()
+                .withNewSpec()
+                    .withNodeName("node-0")
+                .endSpec()
+                .build();
+        when(supplier.nodeOperator.getAsync("node-0")).thenReturn(Future.failedFuture(new KubernetesClientException("Forbidden", 403, null)));
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of(broker)));
+        when(supplier.pvcOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+
+        Kafka kafka = new KafkaBuilder(ResourceUtils.createKafka(NAMESPACE, NAME, 3, "foo", 120, 30))
+                .editSpec()
+                    .withCruiseControl(cruiseControlSpec)
+                .endSpec()
+                .build();
+
+        CruiseControlReconciler rcnclr = new CruiseControlReconciler(
+                new Reconciliation("test", Kafka.RESOURCE_KIND, NAMESPACE, NAME),
+                ResourceUtils.dummyClusterOperatorConfig(),
+                supplier,
+                kafka,
+                VERSIONS,
+                kafka.getSpec().getKafka().getStorage(),
+                null
+        );
+
+        Checkpoint async = context.checkpoint();
+        rcnclr.capacity()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // Only the node of the broker pod is requested and the nodes are never listed
+                    verify(supplier.nodeOperator).getAsync("node-0");
+                    verify(supplier.nodeOperator, never()).listAsync(any(Labels.class));
+
+                    async.flag();
+                })));
+    }
 }
@@ -15,7 +15,11 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -62,6 +66,57 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        String body = "{\"my-connector\": {" +
+                "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"worker:8083\"}, \"tasks\": [], \"type\": \"source\"}, " +
+                "\"info\": {\"name\": \"my-connector\", \"config\": {\"name\": \"my-connector\", \"tasks.max\": \"1\"}, \"tasks\": [], \"type\": \"source\"}}}";
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors".equals(request.path()) && request.params().getAll("expand").containsAll(List.of("status", "info"))) {
+                request.response().setStatusCode(200).end(body);
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+                    assertThat(AbstractConnectOperator.configFromSnapshot(connectors.get("my-connector")), is(Map.of("name", "my-connector", "tasks.max", "1")));
+                    assertThat(AbstractConnectOperator.statusFromSnapshot(connectors.get("my-connector")).get("connector"), is(Map.of("state", "RUNNING", "worker_id", "worker:8083")));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testCreateOrUpdateRetriesDuringRebalance(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        AtomicInteger requests = new AtomicInteger(0);
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if (requests.incrementAndGet() < 3) {
+                request.response().setStatusCode(409).end("{\"message\": \"Cannot complete request momentarily due to stale configuration (typically caused by a concurrent config change)\"}");
+            } else {
+                request.response().setStatusCode(200).end("{\"name\": \"my-connector\", \"config\": {}, \"tasks\": []}");
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+
+        Checkpoint async = context.checkpoint();
+        api.createOrUpdatePutRequest(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector", new JsonObject())
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res.get("name"), is("my-connector"));
+                    assertThat(requests.get(), is(3));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
@@ -45,6 +45,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -153,7 +154,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
             .build());
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
@@ -181,7 +182,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
                 .build());
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
@@ -229,7 +229,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -461,7 +461,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(emptyMap(), false, null, null);
-            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub());
+            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision());
             dep.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("my-connect-build@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -534,7 +534,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -632,7 +632,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = oldConnect.generateDeployment(emptyMap(), false, null, null);
-            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
+            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision() + Util.hashStub(oldBuild.getBuild().getOutput().getImage()));
             dep.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("my-connect-build-2@sha256:olddigest");
             return Future.succeededFuture(dep);
         });
@@ -705,7 +705,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                     Deployment dep = capturedDeps.get(0);
                     assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                     assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build-2@sha256:blablabla"));
-                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + Util.hashStub(build.getBuild().getOutput().getImage())));
+                    assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + Util.hashStub(build.getBuild().getOutput().getImage())));
 
                     // Verify ConfigMap
                     List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -827,7 +827,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -837,7 +837,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -888,7 +888,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1007,7 +1007,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1017,7 +1017,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1069,7 +1069,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1191,7 +1191,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1204,7 +1204,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .withNewMetadata()
                     .withName(KafkaConnectResources.buildPodName(NAME))
                     .withNamespace(NAMESPACE)
-                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().hashStub()))
+                    .withAnnotations(singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, oldBuild.generateDockerfile().buildRevision()))
                 .endMetadata()
                 .withNewSpec()
                 .endSpec()
@@ -1255,7 +1255,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1338,7 +1338,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = connect.generateDeployment(emptyMap(), false, null, null);
-            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB);
+            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB);
             dep.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("my-connect-build@sha256:blablabla");
             return Future.succeededFuture(dep);
         });
@@ -1387,7 +1387,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -1467,7 +1467,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
         when(mockDepOps.reconcile(any(), anyString(), anyString(), depCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockDepOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.deploymentName(NAME)))).thenAnswer(inv -> {
             Deployment dep = connect.generateDeployment(emptyMap(), false, null, null);
-            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().hashStub());
+            dep.getSpec().getTemplate().getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, build.generateDockerfile().buildRevision());
             dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD, "true");
             dep.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("my-connect-build@sha256:blablabla");
             return Future.succeededFuture(dep);
@@ -1539,7 +1539,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 Deployment dep = capturedDeps.get(0);
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:rebuiltblablabla"));
-                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().buildRevision() + OUTPUT_IMAGE_HASH_STUB));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -0,0 +1,254 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.platform.KubernetesVersion;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationFingerprintTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster";
+    private static final Kafka KAFKA = new KafkaBuilder()
+            .withNewMetadata()
+                .withName(NAME)
+                .withNamespace(NAMESPACE)
+                .withGeneration(1L)
+            .endMetadata()
+            .withNewSpec()
+                .withNewKafka()
+                    .withReplicas(3)
+                    .withListeners(new GenericKafkaListenerBuilder()
+                            .withName("plain")
+                            .withPort(9092)
+                            .withType(KafkaListenerType.INTERNAL)
+                            .withTls(false)
+                            .build())
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endKafka()
+                .withNewZookeeper()
+                    .withReplicas(3)
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endZookeeper()
+            .endSpec()
+            .build();
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static List<Secret> caSecrets(String resourceVersion)    {
+        return List.of(
+                secret(KafkaResources.clusterCaCertificateSecretName(NAME), resourceVersion),
+                secret(KafkaResources.clusterCaKeySecretName(NAME), resourceVersion),
+                secret(KafkaResources.clientsCaCertificateSecretName(NAME), resourceVersion),
+                secret(KafkaResources.clientsCaKeySecretName(NAME), resourceVersion)
+        );
+    }
+
+    private static Secret secret(String name, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private static List<HasMetadata> podSets()   {
+        return List.of(new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaStatefulSetName(NAME))
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("10")
+                .endMetadata()
+                .build());
+    }
+
+    private static List<Pod> pods(boolean ready)   {
+        return List.of(new PodBuilder()
+                .withNewMetadata()
+                    .withName(KafkaResources.kafkaPodName(NAME, 0))
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("20")
+                .endMetadata()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(ready ? "True" : "False")
+                    .endCondition()
+                .endStatus()
+                .build());
+    }
+
+    @Test
+    public void testFingerprintIsStable() {
+        ReconciliationFingerprint first = ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true));
+        ReconciliationFingerprint second = ReconciliationFingerprint.fromResources(new KafkaBuilder(KAFKA).build(), "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true));
+
+        assertThat(second.hash(), is(first.hash()));
+        assertThat(second.podsReady(), is(true));
+        assertThat(second.allowsSkipping(first), is(true));
+        assertThat(second.allowsSkipping(null), is(false));
+    }
+
+    @Test
+    public void testFingerprintChanges() {
+        ReconciliationFingerprint original = ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true));
+
+        Kafka changedSpec = new KafkaBuilder(KAFKA).editSpec().editKafka().withReplicas(4).endKafka().endSpec().build();
+        assertThat(ReconciliationFingerprint.fromResources(changedSpec, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true)).allowsSkipping(original), is(false));
+
+        Kafka changedAnnotations = new KafkaBuilder(KAFKA).editMetadata().withAnnotations(Map.of("strimzi.io/my-annotation", "true")).endMetadata().build();
+        assertThat(ReconciliationFingerprint.fromResources(changedAnnotations, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true)).allowsSkipping(original), is(false));
+
+        assertThat(ReconciliationFingerprint.fromResources(KAFKA, "1.0.1", VERSIONS, caSecrets("1"), podSets(), pods(true)).allowsSkipping(original), is(false));
+        assertThat(ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("2"), podSets(), pods(true)).allowsSkipping(original), is(false));
+        assertThat(ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), List.of(), pods(true)).allowsSkipping(original), is(false));
+    }
+
+    @Test
+    public void testFingerprintWithUnreadyPods() {
+        ReconciliationFingerprint original = ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(true));
+        ReconciliationFingerprint unready = ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), podSets(), pods(false));
+        ReconciliationFingerprint noPods = ReconciliationFingerprint.fromResources(KAFKA, "1.0.0", VERSIONS, caSecrets("1"), podSets(), List.of());
+
+        assertThat(unready.hash(), is(original.hash()));
+        assertThat(unready.podsReady(), is(false));
+        assertThat(unready.allowsSkipping(original), is(false));
+        assertThat(noPods.hash(), is(not(original.hash())));
+        assertThat(noPods.podsReady(), is(false));
+    }
+
+    @Test
+    public void testPeriodicReconciliationIsSkipped(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        CrdOperator<KubernetesClient, Kafka, KafkaList> mockKafkaOps = supplier.kafkaOperator;
+        when(mockKafkaOps.getAsync(eq(NAMESPACE), eq(NAME))).thenReturn(Future.succeededFuture(KAFKA));
+        when(mockKafkaOps.get(eq(NAMESPACE), eq(NAME))).thenReturn(KAFKA);
+        when(mockKafkaOps.updateStatusAsync(any(), any(Kafka.class))).thenReturn(Future.succeededFuture());
+
+        when(supplier.secretOperations.getAsync(eq(NAMESPACE), anyString())).thenAnswer(i -> Future.succeededFuture(secret(i.getArgument(1), "1")));
+        when(supplier.strimziPodSetOperator.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(pods(true)));
+
+        ClusterOperatorConfig config = new ClusterOperatorConfig(
+                singleton(NAMESPACE),
+                60_000,
+                120_000,
+                300_000,
+                false,
+                true,
+                VERSIONS,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "",
+                10,
+                10_000,
+                30,
+                false,
+                1024,
+                "cluster-operator-name",
+                ClusterOperatorConfig.DEFAULT_POD_SECURITY_PROVIDER_CLASS, null, 600_000L, 10, 4);
+
+        CountingKafkaAssemblyOperator kao = new CountingKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier, config);
+
+        Checkpoint async = context.checkpoint();
+        kao.reconcile(new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME))
+                .onComplete(context.succeeding(v -> context.verify(() -> assertThat(kao.reconciliations.get(), is(1)))))
+                // Nothing changed => the periodic reconciliation is skipped
+                .compose(i -> kao.reconcile(new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME)))
+                .onComplete(context.succeeding(v -> context.verify(() -> assertThat(kao.reconciliations.get(), is(1)))))
+                // Watch triggered reconciliations are never skipped
+                .compose(i -> kao.reconcile(new Reconciliation("watch", Kafka.RESOURCE_KIND, NAMESPACE, NAME)))
+                .onComplete(context.succeeding(v -> context.verify(() -> assertThat(kao.reconciliations.get(), is(2)))))
+                // A pod changed => full reconciliation
+                .compose(i -> {
+                    when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(pods(false)));
+                    return kao.reconcile(new Reconciliation("timer", Kafka.RESOURCE_KIND, NAMESPACE, NAME));
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(kao.reconciliations.get(), is(3));
+                    async.flag();
+                })));
+    }
+
+    static class CountingKafkaAssemblyOperator extends KafkaAssemblyOperator  {
+        private final AtomicInteger reconciliations = new AtomicInteger(0);
+
+        public CountingKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+            super(vertx, pfa, certManager, passwordGenerator, supplier, config);
+        }
+
+        @Override
+        Future<Void> reconcile(ReconciliationState reconcileState)  {
+            reconciliations.incrementAndGet();
+            return Future.succeededFuture();
+        }
+    }
+}
@@ -705,4 +705,35 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests that the controller finishes the reconciliation in progress and stops when requested
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testStopWaitsForTheController(VertxTestContext context) throws InterruptedException {
+        String podSetName = "basic-test";
+        String podName = podSetName + "-0";
+
+        try {
+            Pod pod = pod(podName, KAFKA_NAME, podSetName);
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, pod)).create();
+
+            // Check that pod is created
+            TestUtils.waitFor(
+                    "Wait for Pod to be created",
+                    100,
+                    10_000,
+                    () -> client.pods().inNamespace(NAMESPACE).withName(podName).get() != null,
+                    () -> context.failNow("Test timed out waiting for pod creation!"));
+
+            controller.stop();
+            assertThat(controller.awaitStopped(10_000), is(true));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
 }
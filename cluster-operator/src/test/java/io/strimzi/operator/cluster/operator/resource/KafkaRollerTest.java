@@ -7,15 +7,20 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
@@ -25,10 +30,12 @@ import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,13 +46,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -76,6 +87,7 @@ public class KafkaRollerTest {
 
     private static Vertx vertx;
     private List<String> restarted;
+    private final MetricsProvider metricsProvider = ResourceUtils.metricsProvider();
 
     @BeforeAll
     public static void before() {
@@ -486,6 +498,48 @@ public class KafkaRollerTest {
                 emptyList());
     }
 
+    @Test
+    public void testDynamicReconfigurationIsBatched(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null,
+                noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), false, new DefaultAdminClientProvider(), false, 2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        assertThat(restarted(), is(emptyList()));
+                        // All brokers are reconfigured with a single call and none of them is reconfigured separately
+                        assertThat(kafkaRoller.batchedUpdates, is(singletonList(Set.of(0, 1, 2, 3, 4))));
+                        assertThat(kafkaRoller.dynamicUpdates, is(emptyList()));
+                    });
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                }));
+    }
+
+    @Test
+    public void testBatchedDynamicReconfigurationFallsBackToRolling(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(null, null, addPodNames(REPLICAS), podOps,
+                noException(), null,
+                noException(), podId -> podId == 1 ? new KafkaRoller.ForceableProblem("could not alter config") : null, noException(),
+            brokerId -> succeededFuture(true), false, new DefaultAdminClientProvider(), false, 2);
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 3 ? RestartReasons.of(RestartReason.MANUAL_ROLLING_UPDATE) : RestartReasons.empty())
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        // Pod 3 is not part of the batch because it needs a restart and pod 1 falls back to a restart because the update fails
+                        assertThat(kafkaRoller.batchedUpdates, is(singletonList(Set.of(0, 1, 2, 4))));
+                        assertThat(kafkaRoller.dynamicUpdates, is(singletonList(1)));
+                        assertThat(restarted(), is(asList(1, 3)));
+                    });
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                }));
+    }
+
     @Test
     public void testControllerAndOneMoreNeverRollable(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -501,6 +555,88 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testCertificateReloadAvoidsRestart(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        X509Certificate certificate = mock(X509Certificate.class);
+        TestingKafkaRoller kafkaRoller = rollerWithCertificateReload(podOps, podId -> certificate, podId -> certificate);
+
+        doSuccessfulCertificateRenewal(testContext, kafkaRoller, RestartReasons.of(RestartReason.KAFKA_CERTIFICATES_CHANGED),
+                emptyList(), () -> {
+                    assertThat(kafkaRoller.keyStoreReloads, is(asList("c-kafka-0", "c-kafka-1", "c-kafka-3", "c-kafka-4", "c-kafka-2")));
+                    assertThat(restartsAvoided(RestartReason.KAFKA_CERTIFICATES_CHANGED), is(5.0));
+                });
+    }
+
+    @Test
+    public void testCertificateReloadFailureRestartsPod(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        X509Certificate certificate = mock(X509Certificate.class);
+        X509Certificate oldCertificate = mock(X509Certificate.class);
+        TestingKafkaRoller kafkaRoller = rollerWithCertificateReload(podOps, podId -> certificate,
+            podId -> podId == 1 ? oldCertificate : certificate);
+
+        doSuccessfulCertificateRenewal(testContext, kafkaRoller, RestartReasons.of(RestartReason.KAFKA_CERTIFICATES_CHANGED),
+                singletonList(1), () -> {
+                    assertThat(kafkaRoller.keyStoreReloads.contains("c-kafka-1"), is(true));
+                    // The restart of the pod which did not reload its certificate is not counted as avoided
+                    assertThat(restartsAvoided(RestartReason.KAFKA_CERTIFICATES_CHANGED), is(4.0));
+                });
+    }
+
+    @Test
+    public void testCertificateReloadNotUsedWithOtherRestartReasons(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        X509Certificate certificate = mock(X509Certificate.class);
+        TestingKafkaRoller kafkaRoller = rollerWithCertificateReload(podOps, podId -> certificate, podId -> certificate);
+
+        doSuccessfulCertificateRenewal(testContext, kafkaRoller,
+                RestartReasons.of(RestartReason.KAFKA_CERTIFICATES_CHANGED).add(RestartReason.CA_CERT_RENEWED),
+                asList(0, 1, 3, 4, 2), () -> assertThat(kafkaRoller.keyStoreReloads, is(emptyList())));
+    }
+
+    @Test
+    public void testCertificateReloadNotUsedForPodsWithoutReloadableCertificate(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        X509Certificate certificate = mock(X509Certificate.class);
+        TestingKafkaRoller kafkaRoller = rollerWithCertificateReload(podOps, podId -> podId == 3 ? null : certificate, podId -> certificate);
+
+        doSuccessfulCertificateRenewal(testContext, kafkaRoller, RestartReasons.of(RestartReason.KAFKA_CERTIFICATES_CHANGED),
+                singletonList(3), () -> assertThat(kafkaRoller.keyStoreReloads, is(asList("c-kafka-0", "c-kafka-1", "c-kafka-4", "c-kafka-2"))));
+    }
+
+    private double restartsAvoided(RestartReason reason) {
+        Counter counter = metricsProvider.meterRegistry().find(KafkaRoller.METRICS_RESTARTS_AVOIDED)
+                .tags("kind", Kafka.RESOURCE_KIND, "namespace", stsNamespace(), "reason", reason.pascalCased())
+                .counter();
+
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private TestingKafkaRoller rollerWithCertificateReload(PodOperator podOps,
+                                                           Function<Integer, X509Certificate> reloadableCertificateProvider,
+                                                           Function<Integer, X509Certificate> servedCertificate) {
+        return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+                false, new DefaultAdminClientProvider(), false,
+                reloadableCertificateProvider, servedCertificate, 2);
+    }
+
+    private void doSuccessfulCertificateRenewal(VertxTestContext testContext, TestingKafkaRoller kafkaRoller,
+                                                RestartReasons reasons, List<Integer> expected, Runnable onCompletion) {
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> reasons)
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        assertThat(restarted(), is(expected));
+                        onCompletion.run();
+                    });
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                }));
+    }
+
     private TestingKafkaRoller rollerWithControllers(PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(null, null, addPodNames(KafkaRollerTest.REPLICAS), podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -633,7 +769,11 @@ public class KafkaRollerTest {
         private boolean delegateControllerCall;
         private boolean delegateAdminClientCall;
         private final int[] controllers;
+        private final Function<Integer, X509Certificate> servedCertificate;
         private List<String> tcpProbes = new ArrayList<>();
+        private final List<String> keyStoreReloads = new ArrayList<>();
+        private final List<Set<Integer>> batchedUpdates = new ArrayList<>();
+        private final List<Integer> dynamicUpdates = new ArrayList<>();
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
@@ -647,6 +787,26 @@ public class KafkaRollerTest {
                                    boolean delegateControllerCall,
                                    AdminClientProvider adminClientProvider,
                                    boolean delegateAdminClientCall, int... controllers) {
+            this(clusterCaCertSecret, coKeySecret, podList, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, delegateControllerCall, adminClientProvider,
+                    delegateAdminClientCall, null, null, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   boolean delegateControllerCall,
+                                   AdminClientProvider adminClientProvider,
+                                   boolean delegateAdminClientCall,
+                                   Function<Integer, X509Certificate> reloadableCertificateProvider,
+                                   Function<Integer, X509Certificate> servedCertificate,
+                                   int... controllers) {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
@@ -658,12 +818,17 @@ public class KafkaRollerTest {
                     clusterCaCertSecret,
                     coKeySecret,
                     adminClientProvider,
-                    brokerId -> "",
+                    brokerId -> "listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/c-kafka-${STRIMZI_BROKER_ID}.p12\n"
+                            + "listener.name.replication-9091.ssl.truststore.location=/tmp/kafka/cluster.truststore.pem\n"
+                            + "listener.name.external-9094.ssl.keystore.location=/tmp/kafka/custom-external-9094.keystore.p12",
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
                     true,
-                    mock(KubernetesRestartEventPublisher.class)
+                    mock(KubernetesRestartEventPublisher.class),
+                    reloadableCertificateProvider,
+                    KafkaRollerTest.this.metricsProvider
             );
+            this.servedCertificate = servedCertificate;
             this.delegateControllerCall = delegateControllerCall;
             this.delegateAdminClientCall = delegateAdminClientCall;
             this.controllers = controllers;
@@ -755,14 +920,57 @@ public class KafkaRollerTest {
             return new Config(emptyList());
         }
 
+        @Override
+        protected Map<ConfigResource, Config> brokerConfigs(List<Integer> brokerIds) {
+            Map<ConfigResource, Config> configs = new HashMap<>();
+            for (int brokerId : brokerIds) {
+                if (getConfigsException.apply(brokerId) == null) {
+                    configs.put(Util.getBrokersConfig(brokerId), new Config(emptyList()));
+                    configs.put(Util.getBrokersLogging(brokerId), new Config(emptyList()));
+                }
+            }
+            return configs;
+        }
+
         @Override
         protected void dynamicUpdateBrokerConfig(int podId, Admin ac, KafkaBrokerConfigurationDiff configurationDiff, KafkaBrokerLoggingConfigurationDiff logDiff) throws ForceableProblem {
+            dynamicUpdates.add(podId);
             ForceableProblem problem = alterConfigsException.apply(podId);
             if (problem != null) {
                 throw problem;
             }
         }
 
+        @Override
+        protected Set<Integer> dynamicUpdateBrokerConfigs(Admin ac, Map<Integer, KafkaBrokerConfigurationDiff> configurationDiffs,
+                                                          Map<Integer, KafkaBrokerLoggingConfigurationDiff> logDiffs) {
+            batchedUpdates.add(new TreeSet<>(configurationDiffs.keySet()));
+            return configurationDiffs.keySet().stream()
+                    .filter(podId -> alterConfigsException.apply(podId) == null)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        protected Future<Void> reloadKeyStores(int podId, Collection<AlterConfigOp> keyStoreOps) {
+            // The custom listener keystore is not part of the broker certificates Secret and is not reloaded. The
+            // truststores are built only when the container starts, so there is nothing to reload either.
+            assertThat(keyStoreOps.stream().map(op -> op.configEntry().name() + "=" + op.configEntry().value()).collect(Collectors.toList()),
+                    is(singletonList("listener.name.replication-9091.ssl.keystore.location=/opt/kafka/broker-certs/c-kafka-" + podId + ".p12")));
+            keyStoreReloads.add(KafkaResources.kafkaPodName(clusterName(), podId));
+            return succeededFuture();
+        }
+
+        @Override
+        protected Future<X509Certificate> servedCertificate(PodRef podRef) {
+            X509Certificate certificate = servedCertificate.apply(podRef.getPodId());
+
+            if (certificate == null) {
+                return failedFuture(new ForceableProblem("No certificate served by pod " + podRef.getPodName()));
+            }
+
+            return succeededFuture(certificate);
+        }
+
         @Override
         protected Future<Void> restart(Pod pod, RestartContext restartContext) {
             restarted.add(pod.getMetadata().getName());
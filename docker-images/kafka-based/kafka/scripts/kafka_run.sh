@@ -63,11 +63,13 @@ if [ "$STRIMZI_KRAFT_ENABLED" = "true" ]; then
     echo "Kraft storage is already formatted"
   fi
 
+  # The Kafka agent serves the health endpoints used by the liveness and readiness probes
+  KAFKA_OPTS="${KAFKA_OPTS} -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=8080:kraft"
 else
-  rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
-  KAFKA_OPTS="${KAFKA_OPTS} -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
-  export KAFKA_OPTS
+  # The Kafka agent serves the health endpoints used by the liveness and readiness probes
+  KAFKA_OPTS="${KAFKA_OPTS} -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=8080"
 fi
+export KAFKA_OPTS
 
 # Configure Garbage Collection logging
 . ./set_kafka_gc_options.sh
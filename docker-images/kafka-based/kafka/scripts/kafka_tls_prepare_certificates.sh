@@ -4,36 +4,13 @@ set -e
 # Load predefined functions for preparing trust- and keystores
 source ./tls_utils.sh
 
+# The broker keystore is used by Kafka directly from the mounted Secret, so that it can be reloaded when the Secret is
+# updated. Only the CA certificates are concatenated into a PEM truststore. This does not need to fork keytool or
+# openssl, so it does not slow down the broker start.
 echo "Preparing truststore for replication listener"
-# Add each certificate to the trust store
-STORE=/tmp/kafka/cluster.truststore.p12
-rm -f "$STORE"
-for CRT in /opt/kafka/cluster-ca-certs/*.crt; do
-  ALIAS=$(basename "$CRT" .crt)
-  echo "Adding $CRT to truststore $STORE with alias $ALIAS"
-  create_truststore "$STORE" "$CERTS_STORE_PASSWORD" "$CRT" "$ALIAS"
-done
+cat /opt/kafka/cluster-ca-certs/*.crt > /tmp/kafka/cluster.truststore.pem
 echo "Preparing truststore for replication listener is complete"
 
-echo "Looking for the right CA"
-CA=$(find_ca /opt/kafka/cluster-ca-certs "/opt/kafka/broker-certs/$HOSTNAME.crt")
-
-if [ ! -f "$CA" ]; then
-    echo "No CA found. Thus exiting."
-    exit 1
-fi
-echo "Found the right CA: $CA"
-
-echo "Preparing keystore for replication and clienttls listener"
-STORE=/tmp/kafka/cluster.keystore.p12
-rm -f "$STORE"
-create_keystore "$STORE" "$CERTS_STORE_PASSWORD" \
-    "/opt/kafka/broker-certs/$HOSTNAME.crt" \
-    "/opt/kafka/broker-certs/$HOSTNAME.key" \
-    "$CA" \
-    "$HOSTNAME"
-echo "Preparing keystore for replication and clienttls listener is complete"
-
 regex="^\/opt\/kafka\/certificates\/(custom|oauth)-(.+)-(.+)-certs$"
 for CERT_DIR in /opt/kafka/certificates/*; do
   if [[ $CERT_DIR =~ $regex ]]; then
@@ -60,14 +37,7 @@ for CERT_DIR in /opt/kafka/certificates/*; do
 done
 
 echo "Preparing truststore for client authentication"
-# Add each certificate to the trust store
-STORE=/tmp/kafka/clients.truststore.p12
-rm -f "$STORE"
-for CRT in /opt/kafka/client-ca-certs/*.crt; do
-  ALIAS=$(basename "$CRT" .crt)
-  echo "Adding $CRT to truststore $STORE with alias $ALIAS"
-  create_truststore "$STORE" "$CERTS_STORE_PASSWORD" "$CRT" "$ALIAS"
-done
+cat /opt/kafka/client-ca-certs/*.crt > /tmp/kafka/clients.truststore.pem
 echo "Preparing truststore for client authentication is complete"
 
 AUTHZ_KEYCLOAK_DIR="/opt/kafka/certificates/authz-keycloak-certs"
@@ -4,6 +4,8 @@
  */
 package io.strimzi.kafka.agent;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import com.yammer.metrics.core.Gauge;
 import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
@@ -12,17 +14,41 @@ import com.yammer.metrics.core.MetricsRegistryListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 /**
- * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
- * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
- * creates a given file.
- * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * A very simple Java agent which serves the health of the Kafka node over HTTP. The health is derived from the
+ * {@code kafka.server:type=KafkaServer,name=BrokerState} and
+ * {@code kafka.server:type=SessionExpireListener,name=SessionState} Yammer Metrics. The agent registers a listener
+ * on the metrics registry to get the gauges once Kafka adds them and reads their values only when a request is
+ * received. So no thread polls the gauges and no file has to be checked by an "exec" probe.
+ *
+ * The following endpoints are served:
+ * <ul>
+ *     <li>{@code /v1/ready} returns 200 once the broker state reaches the value 3 (meaning "running as broker", see
+ *     {@code kafka.server.BrokerState}) and 503 otherwise</li>
+ *     <li>{@code /v1/live} returns 200 when the broker is ready and listens on the replication port or when it is
+ *     not ready yet but has a ZooKeeper session, and 503 otherwise</li>
+ *     <li>{@code /v1/broker-state} returns the broker state and the ZooKeeper session state as JSON. It is served
+ *     only to requests from the same host, because the probes do not need it.</li>
+ * </ul>
+ *
+ * In KRaft mode, the node is ready once its broker state reaches the running state as well. It is considered alive as
+ * long as the agent serves the requests. That is the best check we can do in a combined node until KafkaRoller is
+ * updated (see proposal 046 for more details).
  */
 public class KafkaAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
@@ -35,22 +61,39 @@ public class KafkaAgent {
     private static final byte BROKER_RUNNING_STATE = 3;
     private static final byte BROKER_UNKNOWN_STATE = 127;
 
-    private final File sessionConnectedFile;
-    private final File brokerReadyFile;
-    private MetricName brokerStateName;
-    private Gauge brokerState;
-    private MetricName sessionStateName;
-    private Gauge sessionState;
+    private static final String KRAFT_MODE = "kraft";
+
+    private static final int REPLICATION_PORT = 9091;
+    private static final List<Path> PROC_NET_TCP = List.of(Paths.get("/proc/net/tcp"), Paths.get("/proc/net/tcp6"));
+    private static final String TCP_LISTEN_STATE = "0A";
+
+    private final int port;
+    private final boolean kraft;
+    private final int replicationPort;
+    /* test */ volatile Gauge<?> brokerState;
+    /* test */ volatile Gauge<?> sessionState;
+
+    /**
+     * Constructor of the KafkaAgent
+     *
+     * @param port      Port on which the HTTP endpoint is served
+     * @param kraft     Indicates whether Kafka runs in the KRaft mode
+     */
+    public KafkaAgent(int port, boolean kraft) {
+        this(port, kraft, REPLICATION_PORT);
+    }
 
     /**
      * Constructor of the KafkaAgent
      *
-     * @param brokerReadyFile       File which is touched (created) when the broker is ready
-     * @param sessionConnectedFile  File which is touched (created) when the Kafka broker connects successfully to ZooKeeper
+     * @param port              Port on which the HTTP endpoint is served
+     * @param kraft             Indicates whether Kafka runs in the KRaft mode
+     * @param replicationPort   Port of the replication listener which is checked by the liveness endpoint
      */
-    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
-        this.brokerReadyFile = brokerReadyFile;
-        this.sessionConnectedFile = sessionConnectedFile;
+    /* test */ KafkaAgent(int port, boolean kraft, int replicationPort) {
+        this.port = port;
+        this.kraft = kraft;
+        this.replicationPort = replicationPort;
     }
 
     private void run() {
@@ -70,26 +113,158 @@ public class KafkaAgent {
                             && "BrokerState".equals(metricName.getName())
                             && metric instanceof Gauge) {
                         LOGGER.debug("Metric {} added ", metricName);
-                        brokerStateName = metricName;
-                        brokerState = (Gauge) metric;
+                        brokerState = (Gauge<?>) metric;
                     } else if ("SessionExpireListener".equals(metricName.getType())
                             && "SessionState".equals(metricName.getName())
                             && metric instanceof Gauge) {
-                        sessionStateName = metricName;
-                        sessionState = (Gauge) metric;
+                        LOGGER.debug("Metric {} added ", metricName);
+                        sessionState = (Gauge<?>) metric;
                     }
                 }
                 if (brokerState != null
-                        && sessionState != null) {
+                        && (kraft || sessionState != null)) {
                     metricsRegistry.removeListener(this);
-                    LOGGER.info("Starting poller");
-                    Thread pollerThread = new Thread(poller(),
-                            "KafkaAgentPoller");
-                    pollerThread.setDaemon(true);
-                    pollerThread.start();
                 }
             }
         });
+
+        try {
+            startHttpServer();
+        } catch (IOException e) {
+            LOGGER.error("Failed to start the HTTP server on port {}", port, e);
+        }
+    }
+
+    /**
+     * Starts the HTTP server with the health endpoints. The server uses a single daemon thread, so it does not
+     * prevent the JVM from exiting.
+     *
+     * @return  The started HTTP server
+     *
+     * @throws IOException  When the server cannot be started
+     */
+    /* test */ HttpServer startHttpServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/v1/ready", exchange -> respondWithStatus(exchange, this::isReady));
+        server.createContext("/v1/live", exchange -> respondWithStatus(exchange, this::isAlive));
+        server.createContext("/v1/broker-state", exchange -> {
+            if (exchange.getRemoteAddress().getAddress().isLoopbackAddress()) {
+                respond(exchange, 200, brokerStateJson());
+            } else {
+                respond(exchange, 403, "{}");
+            }
+        });
+        server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KafkaAgentHttpServer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+
+        LOGGER.info("Started HTTP server on port {}", server.getAddress().getPort());
+        return server;
+    }
+
+    /**
+     * @return  True when the broker is running. False otherwise.
+     */
+    /* test */ boolean isReady() {
+        Gauge<?> state = brokerState;
+        if (state != null) {
+            byte observedState = ((Number) state.value()).byteValue();
+            return BROKER_RUNNING_STATE <= observedState && BROKER_UNKNOWN_STATE != observedState;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @return  True when the broker is running and listens on the replication port or when it is not running yet but
+     *          it is connected to ZooKeeper. Always true in KRaft mode. False otherwise.
+     */
+    /* test */ boolean isAlive() {
+        if (kraft) {
+            return true;
+        } else if (isReady()) {
+            return isListening(replicationPort, PROC_NET_TCP);
+        }
+
+        Gauge<?> state = sessionState;
+        return state != null && "CONNECTED".equals(String.valueOf(state.value()));
+    }
+
+    /**
+     * Checks whether any process listens on the given TCP port. It reads the sockets from the {@code /proc/net/tcp}
+     * files, in the same way as {@code netstat -lnt}, so that it does not open any connection to Kafka.
+     *
+     * @param port      The TCP port
+     * @param files     The files with the TCP sockets
+     *
+     * @return  True when a socket in the LISTEN state uses the port. False otherwise.
+     */
+    /* test */ static boolean isListening(int port, List<Path> files) {
+        String localPort = String.format(":%04X", port);
+
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+
+            try (Stream<String> lines = Files.lines(file)) {
+                // The columns are: sl local_address rem_address st ...
+                boolean listening = lines.skip(1)
+                        .map(line -> line.trim().split("\\s+"))
+                        .anyMatch(columns -> columns.length > 3 && columns[1].endsWith(localPort) && TCP_LISTEN_STATE.equals(columns[3]));
+
+                if (listening) {
+                    return true;
+                }
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.warn("Failed to read the TCP sockets from {}", file, e);
+            }
+        }
+
+        return false;
+    }
+
+    private String brokerStateJson() {
+        Gauge<?> broker = brokerState;
+        Gauge<?> session = sessionState;
+
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"brokerState\":").append(broker != null ? ((Number) broker.value()).byteValue() : BROKER_UNKNOWN_STATE);
+        if (!kraft) {
+            json.append(",\"sessionState\":\"").append(session != null ? String.valueOf(session.value()) : "UNKNOWN").append("\"");
+        }
+        json.append(",\"ready\":").append(isReady());
+        json.append(",\"live\":").append(isAlive());
+        json.append("}");
+
+        return json.toString();
+    }
+
+    private void respondWithStatus(HttpExchange exchange, BooleanSupplier check) throws IOException {
+        if (check.getAsBoolean()) {
+            respond(exchange, 200, brokerStateJson());
+        } else {
+            respond(exchange, 503, brokerStateJson());
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+            } else {
+                byte[] response = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, response.length);
+
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            }
+        }
     }
 
     /**
@@ -135,101 +310,23 @@ public class KafkaAgent {
         }
     }
 
-    private Runnable poller() {
-        return new Runnable() {
-            int i = 0;
-
-            @Override
-            public void run() {
-                while (true) {
-                    handleSessionState();
-
-                    if (handleBrokerState()) {
-                        break;
-                    }
-
-                    try {
-                        Thread.sleep(1000L);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
-            }
-
-            boolean handleBrokerState() {
-                LOGGER.trace("Polling {}", brokerStateName);
-                boolean ready = false;
-                byte observedState = (byte) brokerState.value();
-
-                boolean stateIsRunning = BROKER_RUNNING_STATE <= observedState && BROKER_UNKNOWN_STATE != observedState;
-                if (stateIsRunning) {
-                    try {
-                        LOGGER.trace("Running as server according to {} => ready", brokerStateName);
-                        touch(brokerReadyFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write readiness file {}", brokerReadyFile, e);
-                    }
-                    ready = true;
-                } else if (i++ % 60 == 0) {
-                    LOGGER.debug("Metric {} = {}", brokerStateName, observedState);
-                }
-                return ready;
-            }
-
-            void handleSessionState() {
-                LOGGER.trace("Polling {}", sessionStateName);
-                String sessionStateStr = String.valueOf(sessionState.value());
-                if ("CONNECTED".equals(sessionStateStr)) {
-                    if (!sessionConnectedFile.exists()) {
-                        try {
-                            touch(sessionConnectedFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write session connected file {}", sessionConnectedFile, e);
-                        }
-                    }
-                } else {
-                    if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
-                        LOGGER.error("Could not delete session connected file {}", sessionConnectedFile);
-                    }
-                    if (i++ % 60 == 0) {
-                        LOGGER.debug("Metric {} = {}", sessionStateName, sessionStateStr);
-                    }
-                }
-            }
-        };
-    }
-
-    private void touch(File file) throws IOException {
-        try (FileOutputStream out = new FileOutputStream(file)) {
-            file.deleteOnExit();
-        }
-    }
-
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     *
+     * @param agentArgs The agent arguments in the format {@code <port>[:kraft]}
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs != null ? agentArgs.split(":") : new String[0];
+
+        try {
+            int port = Integer.parseInt(args[0]);
+            boolean kraft = args.length > 1 && KRAFT_MODE.equals(args[1]);
+
+            LOGGER.info("Starting KafkaAgent with port={} and kraft={}", port, kraft);
+            new KafkaAgent(port, kraft).run();
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
-        } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
-            if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
-                LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
-                System.exit(1);
-            } else if (sessionConnectedFile.exists() && !sessionConnectedFile.delete()) {
-                LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
-                System.exit(1);
-            } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
-            }
         }
     }
 }
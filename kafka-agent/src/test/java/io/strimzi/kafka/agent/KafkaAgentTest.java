@@ -0,0 +1,149 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.sun.net.httpserver.HttpServer;
+import com.yammer.metrics.core.Gauge;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaAgentTest {
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private HttpServer server;
+
+    @AfterEach
+    public void afterEach() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static Gauge<?> gauge(Object value) {
+        return new Gauge<>() {
+            @Override
+            public Object value() {
+                return value;
+            }
+        };
+    }
+
+    private int start(KafkaAgent agent) throws IOException {
+        server = agent.startHttpServer();
+        return server.getAddress().getPort();
+    }
+
+    private static HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testBrokerStarting() throws IOException, InterruptedException {
+        KafkaAgent agent = new KafkaAgent(0, false);
+        int port = start(agent);
+
+        // No metrics yet
+        assertThat(get(port, "/v1/ready").statusCode(), is(503));
+        assertThat(get(port, "/v1/live").statusCode(), is(503));
+
+        // Connected to ZooKeeper, but still recovering
+        agent.brokerState = gauge((byte) 2);
+        agent.sessionState = gauge("CONNECTED");
+        assertThat(get(port, "/v1/ready").statusCode(), is(503));
+        assertThat(get(port, "/v1/live").statusCode(), is(200));
+
+        HttpResponse<String> state = get(port, "/v1/broker-state");
+        assertThat(state.statusCode(), is(200));
+        assertThat(state.body(), is("{\"brokerState\":2,\"sessionState\":\"CONNECTED\",\"ready\":false,\"live\":true}"));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    public void testRunningBrokerChecksTheReplicationPort() throws IOException, InterruptedException {
+        try (ServerSocket replicationListener = new ServerSocket(0)) {
+            KafkaAgent agent = new KafkaAgent(0, false, replicationListener.getLocalPort());
+            int port = start(agent);
+            agent.brokerState = gauge((byte) 3);
+            agent.sessionState = gauge("CONNECTED");
+
+            assertThat(get(port, "/v1/ready").statusCode(), is(200));
+            assertThat(get(port, "/v1/live").statusCode(), is(200));
+
+            // The broker is running, but it does not listen on the replication port anymore
+            replicationListener.close();
+            assertThat(get(port, "/v1/ready").statusCode(), is(200));
+            assertThat(get(port, "/v1/live").statusCode(), is(503));
+        }
+    }
+
+    @Test
+    public void testUnknownBrokerStateIsNotReady() throws IOException, InterruptedException {
+        KafkaAgent agent = new KafkaAgent(0, false);
+        int port = start(agent);
+        agent.brokerState = gauge((byte) 127);
+
+        assertThat(get(port, "/v1/ready").statusCode(), is(503));
+    }
+
+    @Test
+    public void testKRaftReadinessUsesTheBrokerState() throws IOException, InterruptedException {
+        KafkaAgent agent = new KafkaAgent(0, true);
+        int port = start(agent);
+
+        assertThat(get(port, "/v1/ready").statusCode(), is(503));
+        assertThat(get(port, "/v1/live").statusCode(), is(200));
+
+        agent.brokerState = gauge((byte) 3);
+        assertThat(get(port, "/v1/ready").statusCode(), is(200));
+        assertThat(get(port, "/v1/broker-state").body(), is("{\"brokerState\":3,\"ready\":true,\"live\":true}"));
+    }
+
+    @Test
+    public void testOnlyGetIsAllowed() throws IOException, InterruptedException {
+        int port = start(new KafkaAgent(0, false));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/ready"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        assertThat(CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).statusCode(), is(405));
+    }
+
+    @Test
+    public void testIsListening(@TempDir Path dir) throws IOException {
+        Path tcp = dir.resolve("tcp");
+        Path tcp6 = dir.resolve("tcp6");
+        Files.writeString(tcp, String.join("\n",
+                "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode",
+                "   0: 00000000:238B 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 1 1 0000000000000000 100 0 0 10 0",
+                "   1: 0100007F:2384 0100007F:C350 01 00000000:00000000 00:00000000 00000000  1001        0 2 1 0000000000000000 20 4 30 10 -1"));
+        Files.writeString(tcp6, String.join("\n",
+                "  sl  local_address                         remote_address                        st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode",
+                "   0: 00000000000000000000000000000000:2383 00000000000000000000000000000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 3 1 0000000000000000 100 0 0 10 0"));
+
+        // 0x238B = 9099 is listening on IPv4, 0x2383 = 9091 on IPv6
+        assertThat(KafkaAgent.isListening(9099, List.of(tcp, tcp6)), is(true));
+        assertThat(KafkaAgent.isListening(9091, List.of(tcp, tcp6)), is(true));
+        // 0x2384 = 9092 has only an established connection
+        assertThat(KafkaAgent.isListening(9092, List.of(tcp, tcp6)), is(false));
+        assertThat(KafkaAgent.isListening(9091, List.of(dir.resolve("missing"))), is(false));
+    }
+}
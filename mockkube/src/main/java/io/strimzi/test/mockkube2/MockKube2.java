@@ -14,8 +14,10 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBridge;
 import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.KafkaRebalance;
 import io.strimzi.api.kafka.model.KafkaTopic;
@@ -210,6 +212,27 @@ public class MockKube2 {
             return this;
         }
 
+        /**
+         * Registers the KafkaMirrorMaker CRD
+         *
+         * @return  MockKube builder instance
+         */
+        @SuppressWarnings("deprecation") // KafkaMirrorMaker is deprecated
+        public MockKube2Builder withKafkaMirrorMakerCrd()  {
+            mock.registerCrd("kafka.strimzi.io/v1beta2", "KafkaMirrorMaker", KafkaMirrorMaker.class, TestUtils.CRD_KAFKA_MIRROR_MAKER);
+            return this;
+        }
+
+        /**
+         * Registers the KafkaBridge CRD
+         *
+         * @return  MockKube builder instance
+         */
+        public MockKube2Builder withKafkaBridgeCrd()  {
+            mock.registerCrd("kafka.strimzi.io/v1beta2", "KafkaBridge", KafkaBridge.class, TestUtils.CRD_KAFKA_BRIDGE);
+            return this;
+        }
+
         /**
          * Registers the KafkaMirrorMaker2 CRD
          *
@@ -7,9 +7,12 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.SecretCertProvider;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Annotations;
@@ -42,10 +45,16 @@ import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -240,6 +249,9 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private final KeyAlgorithm keyAlgorithm;
+    private int certGenerationParallelism = 1;
+    private Timer certGenerationTimer;
 
     /**
      * Constructs the CA object
@@ -261,6 +273,34 @@ public abstract class Ca {
               String caCertSecretName, Secret caCertSecret,
               String caKeySecretName, Secret caKeySecret,
               int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, commonName, caCertSecretName, caCertSecret, caKeySecretName,
+                caKeySecret, validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Constructs the CA object
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param commonName            Common name which should be used by this CA
+     * @param caCertSecretName      Name of the Kubernetes Secret where the CA public key wil be stored
+     * @param caCertSecret          Kubernetes Secret where the CA public key will be stored
+     * @param caKeySecretName       Name of the Kubernetes Secret where the CA private key wil be stored
+     * @param caKeySecret           Kubernetes Secret where the CA private key will be stored
+     * @param validityDays          Number of days for which the CA certificate should be value
+     * @param renewalDays           Number of day before expiration, when the certificate should be renewed
+     * @param generateCa            Flag indicating whether the CA should be generated by Strimzi or not
+     * @param policy                Policy defining the behavior when the CA expires (renewal or completely replacing the CA)
+     * @param keyAlgorithm          Algorithm of the private keys generated for the CA and for the certificates signed
+     *                              by it. Defaults to RSA when null.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public Ca(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
+              String caCertSecretName, Secret caCertSecret,
+              String caKeySecretName, Secret caKeySecret,
+              int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy,
+              CertificateKeyAlgorithm keyAlgorithm) {
         this.reconciliation = reconciliation;
         this.commonName = commonName;
         this.caCertSecret = caCertSecret;
@@ -273,6 +313,7 @@ public abstract class Ca {
         this.renewalDays = renewalDays;
         this.generateCa = generateCa;
         this.policy = policy == null ? CertificateExpirationPolicy.RENEW_CERTIFICATE : policy;
+        this.keyAlgorithm = keyAlgorithm(keyAlgorithm);
         this.renewalType = RenewalType.NOOP;
         this.clock = Clock.systemUTC();
     }
@@ -281,12 +322,109 @@ public abstract class Ca {
         this.clock = clock;
     }
 
+    /**
+     * Configures how the node certificates are generated. By default, they are generated one by one in the calling
+     * thread. Otherwise, each call generating the node certificates uses its own thread pool. So the parallelism limits
+     * the threads used by a single call only, not all certificates generated by the operator at the same time.
+     *
+     * @param parallelism   Maximum number of node certificates generated in parallel by a single call of this CA
+     * @param timer         Timer used to record the generation time of each certificate or null to not record it
+     */
+    public void configureCertGeneration(int parallelism, Timer timer) {
+        if (parallelism < 1)    {
+            throw new IllegalArgumentException("The certificate generation parallelism has to be positive");
+        }
+
+        this.certGenerationParallelism = parallelism;
+        this.certGenerationTimer = timer;
+    }
+
+    /**
+     * Converts the key algorithm from the custom resource to the key algorithm used by the certificate manager
+     *
+     * @param keyAlgorithm  Key algorithm from the custom resource or null if not set
+     *
+     * @return  The key algorithm. RSA is used when the key algorithm is not set.
+     */
+    public static KeyAlgorithm keyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        if (keyAlgorithm == null) {
+            return KeyAlgorithm.RSA;
+        }
+
+        switch (keyAlgorithm) {
+            case ECDSA_P256:
+                return KeyAlgorithm.ECDSA_P256;
+            case ECDSA_P384:
+                return KeyAlgorithm.ECDSA_P384;
+            default:
+                return KeyAlgorithm.RSA;
+        }
+    }
+
+    /**
+     * @return  Algorithm of the private keys generated for this CA and for the certificates signed by it
+     */
+    public KeyAlgorithm keyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * Checks whether the key of the certificate was generated with a different algorithm than the one configured for
+     * this CA. Certificates which cannot be parsed are logged and considered unchanged.
+     *
+     * @param certificate   The certificate in PEM format
+     *
+     * @return  True if the certificate should be regenerated to use the configured key algorithm. False otherwise.
+     */
+    public boolean keyAlgorithmChanged(byte[] certificate) {
+        try {
+            return !keyAlgorithm.matches(x509Certificate(certificate).getPublicKey());
+        } catch (CertificateException e) {
+            LOGGER.warnCr(reconciliation, "Failed to parse the existing certificate to check its key algorithm", e);
+            return false;
+        }
+    }
+
     private static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
         }
     }
 
+    /**
+     * Stores the private key and the certificate in a PKCS12 keystore. The Kafka brokers use their keystores directly
+     * from the Secret for their TLS listeners. So for them, the certificate of this CA is stored together with the
+     * certificate to make sure it is part of the certificate chain served to the clients. The other components get
+     * only their own certificate in the keystore.
+     *
+     * @param keyFile           File with the private key
+     * @param certFile          File with the certificate
+     * @param alias             Alias of the key in the keystore
+     * @param keyStoreFile      File for the keystore
+     * @param keyStorePassword  Password of the keystore
+     * @param includeCaInChain  Flag indicating whether the CA certificate should be added to the certificate chain
+     *
+     * @throws IOException  Throws an IOException if something fails when working with the files
+     */
+    private void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword, boolean includeCaInChain) throws IOException {
+        if (!includeCaInChain) {
+            certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+            return;
+        }
+
+        File chainFile = Files.createTempFile("tls", "chain").toFile();
+
+        try {
+            String cert = Files.readString(certFile.toPath(), StandardCharsets.US_ASCII);
+            String chain = cert + (cert.endsWith("\n") ? "" : "\n") + new String(currentCaCertBytes(), StandardCharsets.US_ASCII);
+            Files.writeString(chainFile.toPath(), chain, StandardCharsets.US_ASCII);
+
+            certManager.addKeyAndCertToKeyStore(keyFile, chainFile, alias, keyStoreFile, keyStorePassword);
+        } finally {
+            delete(reconciliation, chainFile);
+        }
+    }
+
     /**
      * Returns the given {@code cert} and {@code key} values from the given {@code Secret} as a {@code CertAndKey},
      * or null if the given {@code secret} is null.
@@ -334,6 +472,22 @@ public abstract class Ca {
      * @throws IOException  Throws an IOException if something fails when working with the files
      */
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
+        return addKeyAndCertToKeyStore(alias, key, cert, false);
+    }
+
+    /**
+     * Adds a certificate into a PKCS12 keystore
+     *
+     * @param alias             Alias under which it should be stored in the PKCS12 store
+     * @param key               Private key
+     * @param cert              Public key
+     * @param includeCaInChain  Flag indicating whether the CA certificate should be added to the certificate chain
+     *
+     * @return  PKCS12 store with the certificate
+     *
+     * @throws IOException  Throws an IOException if something fails when working with the files
+     */
+    private CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert, boolean includeCaInChain) throws IOException {
         File keyFile = Files.createTempFile("tls", "key").toFile();
         File certFile = Files.createTempFile("tls", "cert").toFile();
         File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
@@ -342,7 +496,7 @@ public abstract class Ca {
         Files.write(certFile.toPath(), cert);
 
         String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
+        addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword, includeCaInChain);
 
         CertAndKey result = new CertAndKey(
                 Files.readAllBytes(keyFile.toPath()),
@@ -358,16 +512,59 @@ public abstract class Ca {
         return result;
     }
 
+    /**
+     * Generates a certificate signed by this CA and stores it together with its private key in a PKCS12 keystore
+     *
+     * @param subject           Subject of the certificate
+     * @param csrFile           Temporary file for the CSR
+     * @param keyFile           Temporary file for the private key
+     * @param certFile          Temporary file for the certificate
+     * @param keyStoreFile      Temporary file for the keystore
+     * @param keyStorePassword  Password of the keystore or null if a new password should be generated
+     * @param includeCaInChain  Flag indicating whether the CA certificate should be added to the certificate chain in
+     *                          the keystore
+     *
+     * @return  The CertAndKey
+     *
+     * @throws IOException  Throws an IOException if something fails when working with the files
+     */
     /*test*/ CertAndKey generateSignedCert(Subject subject,
-                                           File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                                           File csrFile, File keyFile, File certFile, File keyStoreFile,
+                                           String keyStorePassword, boolean includeCaInChain) throws IOException {
         LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", subject, this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
+        certManager.generateCsr(keyFile, csrFile, subject, keyAlgorithm);
+
+        return signCsr(subject, csrFile, keyFile, certFile, keyStoreFile, keyStorePassword, includeCaInChain);
+    }
+
+    /**
+     * Signs the CSR with this CA and stores the resulting certificate together with its private key in a PKCS12
+     * keystore
+     *
+     * @param subject           Subject of the certificate
+     * @param csrFile           File with the CSR
+     * @param keyFile           File with the private key
+     * @param certFile          Temporary file for the certificate
+     * @param keyStoreFile      Temporary file for the keystore
+     * @param keyStorePassword  Password of the keystore or null if a new password should be generated
+     * @param includeCaInChain  Flag indicating whether the CA certificate should be added to the certificate chain in
+     *                          the keystore
+     *
+     * @return  The CertAndKey
+     *
+     * @throws IOException  Throws an IOException if something fails when working with the files
+     */
+    private CertAndKey signCsr(Subject subject, File csrFile, File keyFile, File certFile, File keyStoreFile,
+                               String keyStorePassword, boolean includeCaInChain) throws IOException {
         certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
                 certFile, subject, validityDays);
 
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
+        if (keyStorePassword == null) {
+            keyStorePassword = passwordGenerator.generate();
+        }
+
+        addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword, includeCaInChain);
 
         return new CertAndKey(
                 Files.readAllBytes(keyFile.toPath()),
@@ -411,7 +608,7 @@ public abstract class Ca {
         subject.withCommonName(commonName);
 
         CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
+                csrFile, keyFile, certFile, keyStoreFile, null, false);
 
         delete(reconciliation, csrFile);
         delete(reconciliation, keyFile);
@@ -420,9 +617,44 @@ public abstract class Ca {
         return result;
     }
 
+    /**
+     * Generates a certificate signed by this CA for an existing private key. This allows the private keys to be
+     * generated in advance so that only the signing has to be done when the certificate is needed.
+     *
+     * @param commonName    The CN of the certificate to be generated.
+     * @param privateKey    The private key in PEM format for which the certificate should be generated.
+     * @return The CertAndKey
+     * @throws IOException If the cert could not be generated.
+     */
+    public CertAndKey generateSignedCertForKey(String commonName, byte[] privateKey) throws IOException {
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File certFile = Files.createTempFile("tls", "cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
+
+        try {
+            Subject subject = new Subject.Builder().withCommonName(commonName).build();
+            LOGGER.infoCr(reconciliation, "Generating certificate {} for an existing key, signed by CA {}", subject, this);
+
+            Files.write(keyFile.toPath(), privateKey);
+            certManager.generateCsrForExistingKey(keyFile, csrFile, subject);
+
+            return signCsr(subject, csrFile, keyFile, certFile, keyStoreFile, null, false);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
     /**
      * Copy already existing certificates from provided Secret based on number of effective replicas
-     * and maybe generate new ones for new replicas (i.e. scale-up).
+     * and maybe generate new ones for new replicas (i.e. scale-up). The certificates which need to be (re)generated
+     * are generated in parallel (see {@link #configureCertGeneration(int, Timer)}). The returned map is ordered by
+     * the pod index regardless of the order in which the certificates were generated. The CA certificate is added to
+     * the certificate chain in the keystores only when {@code includeCaInChain} is set. That is needed only for the
+     * Kafka brokers which serve the chain from the keystore on their TLS listeners.
      */
     protected Map<String, CertAndKey> maybeCopyOrGenerateCerts(
            Reconciliation reconciliation,
@@ -430,7 +662,8 @@ public abstract class Ca {
            Function<Integer, Subject> subjectFn,
            Secret secret,
            Function<Integer, String> podNameFn,
-           boolean isMaintenanceTimeWindowsSatisfied) throws IOException {
+           boolean isMaintenanceTimeWindowsSatisfied,
+           boolean includeCaInChain) throws IOException {
         int replicasInSecret;
         if (secret == null || secret.getData() == null || this.certRenewed())   {
             replicasInSecret = 0;
@@ -438,13 +671,9 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = Files.createTempFile("tls", "broker-csr").toFile();
-        File brokerKeyFile = Files.createTempFile("tls", "broker-key").toFile();
-        File brokerCertFile = Files.createTempFile("tls", "broker-cert").toFile();
-        File brokerKeyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> existingCerts = new HashMap<>(replicasInNewSecret);
+        Map<String, NodeCertRequest> certsToGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -466,7 +695,8 @@ public abstract class Ca {
                 // coming from an older operator version, the secret exists but without keystore and password
                 certAndKey = addKeyAndCertToKeyStore(subject.commonName(),
                         Base64.getDecoder().decode(secret.getData().get(podName + ".key")),
-                        Base64.getDecoder().decode(secret.getData().get(podName + ".crt")));
+                        Base64.getDecoder().decode(secret.getData().get(podName + ".crt")),
+                        includeCaInChain);
             }
 
             List<String> reasons = new ArrayList<>(2);
@@ -479,6 +709,10 @@ public abstract class Ca {
                 reasons.add("certificate is expiring");
             }
 
+            if (keyAlgorithmChanged(certAndKey.cert()) && isMaintenanceTimeWindowsSatisfied)  {
+                reasons.add("key algorithm changed");
+            }
+
             if (renewalType.equals(RenewalType.CREATE)) {
                 reasons.add("certificate added");
             }
@@ -486,10 +720,11 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 LOGGER.infoCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                // The keystore password is kept => the password loaded by the running pod stays valid and the pod
+                // can reload the keystore with the renewed certificate without restart
+                certsToGenerate.put(podName, new NodeCertRequest(subject, certAndKey.storePassword(), includeCaInChain));
             }   else {
-                certs.put(podName, certAndKey);
+                existingCerts.put(podName, certAndKey);
             }
         }
 
@@ -500,18 +735,127 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for pod {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certsToGenerate.put(podName, new NodeCertRequest(subjectFn.apply(i), null, includeCaInChain));
+        }
+
+        Map<String, CertAndKey> generatedCerts = generateNodeCerts(reconciliation, certsToGenerate);
+
+        Map<String, CertAndKey> certs = new LinkedHashMap<>(replicas);
+        for (int i = 0; i < replicas; i++) {
+            String podName = podNameFn.apply(i);
+            certs.put(podName, generatedCerts.getOrDefault(podName, existingCerts.get(podName)));
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
 
         return certs;
     }
 
+    /**
+     * Generates the node certificates. When more than one certificate is requested, they are generated in a thread
+     * pool with at most the configured number of threads. The thread pool is used only for this call.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param requests          Map with the requested certificates indexed by the pod name
+     *
+     * @return  Map with the generated certificates indexed by the pod name
+     *
+     * @throws IOException  Throws IOException when the generation of any of the certificates fails
+     */
+    private Map<String, CertAndKey> generateNodeCerts(Reconciliation reconciliation, Map<String, NodeCertRequest> requests) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(requests.size());
+        int threads = Math.min(certGenerationParallelism, requests.size());
+
+        if (threads <= 1) {
+            for (Map.Entry<String, NodeCertRequest> request : requests.entrySet()) {
+                certs.put(request.getKey(), generateNodeCert(request.getValue()));
+            }
+
+            return certs;
+        }
+
+        LOGGER.debugCr(reconciliation, "Generating {} certificates using {} threads", requests.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "certificate-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Map<String, Future<CertAndKey>> futures = new HashMap<>(requests.size());
+            for (Map.Entry<String, NodeCertRequest> request : requests.entrySet()) {
+                futures.put(request.getKey(), executor.submit(() -> generateNodeCert(request.getValue())));
+            }
+
+            for (Map.Entry<String, Future<CertAndKey>> future : futures.entrySet()) {
+                certs.put(future.getKey(), future.getValue().get());
+            }
+
+            return certs;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new RuntimeException("Failed to generate the certificates", e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating the certificates", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates a single node certificate using its own temporary files
+     *
+     * @param request   The requested certificate
+     *
+     * @return  The generated certificate
+     *
+     * @throws IOException  Throws IOException when the certificate generation or working with the files fails
+     */
+    private CertAndKey generateNodeCert(NodeCertRequest request) throws IOException {
+        File csrFile = Files.createTempFile("tls", "broker-csr").toFile();
+        File keyFile = Files.createTempFile("tls", "broker-key").toFile();
+        File certFile = Files.createTempFile("tls", "broker-cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
+
+        try {
+            long start = System.nanoTime();
+            CertAndKey certAndKey = generateSignedCert(request.subject, csrFile, keyFile, certFile, keyStoreFile, request.storePassword, request.includeCaInChain);
+
+            if (certGenerationTimer != null) {
+                certGenerationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+
+            return certAndKey;
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
+    /**
+     * Node certificate which should be generated
+     */
+    private static class NodeCertRequest {
+        private final Subject subject;
+        private final String storePassword;
+        private final boolean includeCaInChain;
+
+        /**
+         * @param subject           Subject of the certificate
+         * @param storePassword     Password of the keystore which should be kept or null to generate a new password
+         * @param includeCaInChain  Flag indicating whether the CA certificate should be added to the certificate chain
+         */
+        NodeCertRequest(Subject subject, String storePassword, boolean includeCaInChain) {
+            this.subject = subject;
+            this.storePassword = storePassword;
+            this.includeCaInChain = includeCaInChain;
+        }
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -710,6 +1054,15 @@ public abstract class Ca {
                 && Annotations.booleanAnnotation(this.caKeySecret, ANNO_STRIMZI_IO_FORCE_REPLACE, false)) {
             reason = "CA key secret " + caKeySecretName + " is annotated with " + ANNO_STRIMZI_IO_FORCE_REPLACE;
 
+            if (maintenanceWindowSatisfied) {
+                renewalType = RenewalType.REPLACE_KEY;
+            } else {
+                renewalType = RenewalType.POSTPONED;
+            }
+        } else if (currentCert != null
+                && !keyAlgorithm.matches(currentCert.getPublicKey())) {
+            reason = "CA key algorithm changed to " + keyAlgorithm;
+
             if (maintenanceWindowSatisfied) {
                 renewalType = RenewalType.REPLACE_KEY;
             } else {
@@ -1090,7 +1443,7 @@ public abstract class Ca {
                         trustStorePassword = passwordGenerator.generate();
                     }
                     try {
-                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays);
+                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays, keyAlgorithm);
                         certManager.addCertToTrustStore(certFile, CA_CRT, trustStoreFile, trustStorePassword);
                         CertAndKey ca = new CertAndKey(
                                 Files.readAllBytes(keyFile.toPath()),
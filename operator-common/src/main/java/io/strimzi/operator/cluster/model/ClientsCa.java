@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
@@ -34,10 +35,35 @@ public class ClientsCa extends Ca {
     public ClientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String caCertSecretName, Secret clientsCaCert,
                      String caSecretKeyName, Secret clientsCaKey,
                      int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, caCertSecretName, clientsCaCert, caSecretKeyName, clientsCaKey,
+                validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Creates a ClientsCA instance
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param caCertSecretName      Name of the Kubernetes Secret where the Clients CA public key wil be stored
+     * @param clientsCaCert         Kubernetes Secret where the Clients CA public key will be stored
+     * @param caSecretKeyName       Name of the Kubernetes Secret where the Clients CA private key wil be stored
+     * @param clientsCaKey          Kubernetes Secret where the Clients CA private key will be stored
+     * @param validityDays          Number of days for which the Clients CA certificate should be value
+     * @param renewalDays           Number of day before expiration, when the certificate should be renewed
+     * @param generateCa            Flag indicating whether the Clients CA should be generated by Strimzi or not
+     * @param policy                Policy defining the behavior when the Clients CA expires (renewal or completely replacing the Clients CA)
+     * @param keyAlgorithm          Algorithm of the private keys generated for the Clients CA and the user certificates
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ClientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String caCertSecretName, Secret clientsCaCert,
+                     String caSecretKeyName, Secret clientsCaKey,
+                     int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy,
+                     CertificateKeyAlgorithm keyAlgorithm) {
         super(reconciliation, certManager, passwordGenerator,
                 "clients-ca", caCertSecretName,
                 forceRenewal(clientsCaCert, clientsCaKey, "clients-ca.key"), caSecretKeyName,
-                adapt060ClientsCaSecret(clientsCaKey), validityDays, renewalDays, generateCa, policy);
+                adapt060ClientsCaSecret(clientsCaKey), validityDays, renewalDays, generateCa, policy, keyAlgorithm);
     }
 
     /**
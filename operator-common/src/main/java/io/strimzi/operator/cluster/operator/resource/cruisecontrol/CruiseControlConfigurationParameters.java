@@ -129,11 +129,6 @@ public enum CruiseControlConfigurationParameters {
      */
     METRICS_REPORTER_SSL_TRUSTSTORE_LOCATION("cruise.control.metrics.reporter.ssl.truststore.location"),
 
-    /**
-     * Metrics reporter truststore password
-     */
-    METRICS_REPORTER_SSL_TRUSTSTORE_PASSWORD("cruise.control.metrics.reporter.ssl.truststore.password"),
-
     // Metrics topic configurations
     /**
      * Name of the Cruise Control metrics topic
@@ -7,6 +7,7 @@ package io.strimzi.operator.common;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tag;
@@ -21,10 +22,12 @@ import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.resource.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -32,6 +35,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -86,6 +90,17 @@ public abstract class AbstractOperator<
 
     private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
+    // Failover priorities of the resources which should be reconciled when the operator leaves the standby mode
+    /* test */ static final int FAILOVER_PRIORITY_CHANGED = 0;
+    /* test */ static final int FAILOVER_PRIORITY_NOT_READY = 1;
+    /* test */ static final int FAILOVER_PRIORITY_NONE = -1;
+
+    private volatile boolean standby = false;
+    private final Map<NamespaceAndName, Integer> deferredReconciliations = new ConcurrentHashMap<>();
+
+    // Operations waiting for or holding the per-resource locks, grouped by namespace
+    private final Map<String, Set<Future<?>>> lockedOperations = new ConcurrentHashMap<>();
+
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
      * OperatorMetricsHolder instance. This constructor is used by subclasses which want to use specialized metrics
@@ -177,6 +192,14 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (standby) {
+            // Nothing is written in standby. We do not know the state of the resource here, so it will be reconciled
+            // together with the resources which are not ready.
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} will be reconciled once the operator is activated", kind(), name, namespace);
+            deferredReconciliations.putIfAbsent(new NamespaceAndName(namespace, name), FAILOVER_PRIORITY_NOT_READY);
+            return Future.succeededFuture();
+        }
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
 
@@ -389,7 +412,34 @@ public abstract class AbstractOperator<
                 handler.fail(new UnableToAcquireLockException());
             }
         });
-        return handler.future();
+
+        Future<T> result = handler.future();
+        Set<Future<?>> inNamespace = lockedOperations.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet());
+        inNamespace.add(result);
+        result.onComplete(ignored -> inNamespace.remove(result));
+
+        return result;
+    }
+
+    /**
+     * Returns a Future which completes when the operations in the given namespace which are holding or waiting for
+     * their per-resource lock at the time of the call are finished. It is used to make sure nothing is being reconciled
+     * anymore after the watches and the periodic reconciliation for the namespace are stopped.
+     *
+     * @param namespace     Namespace of the resources. Use "*" for all namespaces.
+     *
+     * @return  Future which completes when the operations are finished, regardless of their result
+     */
+    public Future<Void> lockedOperationsFinished(String namespace) {
+        @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+        List<Future> operations = lockedOperations.entrySet().stream()
+                .filter(entry -> AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(namespace) || entry.getKey().equals(namespace))
+                .flatMap(entry -> entry.getValue().stream())
+                .collect(Collectors.toList());
+
+        return CompositeFuture.join(operations)
+                .<Void>mapEmpty()
+                .recover(error -> Future.succeededFuture());
     }
 
     /**
@@ -448,6 +498,142 @@ public abstract class AbstractOperator<
         return Future.succeededFuture();
     }
 
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes. In standby, the periodic
+     * reconciliation is skipped because the leader takes care of it.
+     *
+     * @param trigger   The cause of this reconciliation (for logging).
+     * @param namespace The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param handler   Handler called on completion.
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        if (standby) {
+            LOGGER.debugOp("Skipping {} reconciliation of {} resources in namespace {} in standby", trigger, kind(), namespace);
+            handler.handle(Future.succeededFuture());
+        } else {
+            Operator.super.reconcileAll(trigger, namespace, handler);
+        }
+    }
+
+    /**
+     * Switches the operator into the standby mode. In standby, the watch events are only used to track which resources
+     * need to be reconciled after a failover and nothing is reconciled. This is used by operator replicas which are
+     * not the leader so that they can take over quickly once they become the leader.
+     */
+    public void standby() {
+        LOGGER.infoOp("{} operator is in standby", kind());
+        standby = true;
+    }
+
+    /**
+     * @return  True if the operator is in the standby mode. False otherwise.
+     */
+    public boolean isStandby() {
+        return standby;
+    }
+
+    /**
+     * Leaves the standby mode and reconciles the resources from the given namespace which changed or were not ready
+     * while the operator was in standby. The resources with changed spec (or deleted resources) are reconciled first,
+     * followed by the resources which are not ready. All other resources are reconciled by the next periodic
+     * reconciliation.
+     *
+     * @param namespace The namespace which should be activated, or {@code *} to activate all namespaces.
+     *
+     * @return  Future which completes when the deferred reconciliations are complete
+     */
+    public Future<Void> activate(String namespace) {
+        standby = false;
+
+        List<NamespaceAndName> changed = new ArrayList<>();
+        List<NamespaceAndName> notReady = new ArrayList<>();
+
+        for (NamespaceAndName resource : deferredReconciliations.keySet()) {
+            if ("*".equals(namespace) || namespace.equals(resource.getNamespace())) {
+                Integer priority = deferredReconciliations.remove(resource);
+
+                if (priority != null && priority == FAILOVER_PRIORITY_CHANGED) {
+                    changed.add(resource);
+                } else if (priority != null) {
+                    notReady.add(resource);
+                }
+            }
+        }
+
+        LOGGER.infoOp("{} operator activated in namespace {}: {} changed and {} not ready resources will be reconciled", kind(), namespace, changed.size(), notReady.size());
+
+        return reconcileDeferred(changed)
+                .compose(i -> reconcileDeferred(notReady));
+    }
+
+    private Future<Void> reconcileDeferred(List<NamespaceAndName> resources) {
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(resources.size());
+
+        for (NamespaceAndName resource : resources) {
+            futures.add(reconcile(new Reconciliation("failover", kind(), resource.getNamespace(), resource.getName()))
+                    .recover(error -> Future.succeededFuture())); // Failures are already handled by the reconciliation
+        }
+
+        return CompositeFuture.join(futures).mapEmpty();
+    }
+
+    /**
+     * Tracks the watch event received in standby to decide whether and how urgently the resource has to be reconciled
+     * after a failover.
+     *
+     * @param action    Action from the watch event
+     * @param resource  Resource from the watch event
+     */
+    /* test */ void deferReconciliation(Watcher.Action action, T resource) {
+        NamespaceAndName ref = new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+        int priority = failoverPriority(action, resource);
+
+        if (priority == FAILOVER_PRIORITY_NONE) {
+            deferredReconciliations.remove(ref);
+        } else {
+            deferredReconciliations.put(ref, priority);
+        }
+    }
+
+    /**
+     * Decides how urgently the resource has to be reconciled after a failover:
+     * <ul>
+     *     <li>Deleted resources, resources without status and resources whose spec was not reconciled yet are reconciled
+     *     first</li>
+     *     <li>Resources which are not ready are reconciled next</li>
+     *     <li>Ready resources do not need to be reconciled right away</li>
+     * </ul>
+     *
+     * @param action    Action from the watch event
+     * @param resource  Resource from the watch event
+     *
+     * @return  The failover priority of the resource
+     */
+    /* test */ static int failoverPriority(Watcher.Action action, CustomResource<?, ? extends Status> resource) {
+        Status status = resource.getStatus();
+
+        if (action == Watcher.Action.DELETED
+                || status == null
+                || resource.getMetadata().getGeneration() == null
+                || status.getObservedGeneration() != resource.getMetadata().getGeneration()) {
+            return FAILOVER_PRIORITY_CHANGED;
+        } else if (status.getConditions() == null
+                || status.getConditions().stream().noneMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()))) {
+            return FAILOVER_PRIORITY_NOT_READY;
+        } else {
+            return FAILOVER_PRIORITY_NONE;
+        }
+    }
+
+    /**
+     * @return  Number of resources which will be reconciled when the operator leaves the standby mode
+     */
+    /* test */ int deferredReconciliations() {
+        return deferredReconciliations.size();
+    }
+
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
         return resourceOperator.listAsync(namespace, selector())
                 .map(resourceList ->
@@ -9,6 +9,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -42,6 +43,18 @@ public interface MetricsProvider {
      */
     Timer timer(String name, String description, Tags tags);
 
+    /**
+     * Creates new Timer type metric with custom histogram buckets. This is useful for operations which take much
+     * shorter or longer than the default buckets of the timer metrics expect.
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    Timer timer(String name, String description, Tags tags, Duration... buckets);
+
     /**
      * Creates new Gauge type metric
      *
@@ -79,6 +79,24 @@ public class MicrometerMetricsProvider implements MetricsProvider {
                 .register(metrics);
     }
 
+    /**
+     * Creates new Timer type metric with custom histogram buckets
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    @Override
+    public Timer timer(String name, String description, Tags tags, Duration... buckets) {
+        return Timer.builder(name)
+                .description(description)
+                .sla(buckets)
+                .tags(tags)
+                .register(metrics);
+    }
+
     /**
      * Creates new Gauge type metric
      *
@@ -4,7 +4,7 @@
  */
 package io.strimzi.operator.common;
 
-import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 
@@ -14,13 +14,13 @@ import java.util.function.Consumer;
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
  * @param <T> The resource type
  */
-class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
+class OperatorWatcher<T extends CustomResource<?, ?>> implements Watcher<T> {
     private final String namespace;
     private final Consumer<WatcherException> onClose;
-    private Operator operator;
+    private final AbstractOperator<T, ?, ?, ?> operator;
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorWatcher.class);
 
-    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+    OperatorWatcher(AbstractOperator<T, ?, ?, ?> operator, String namespace, Consumer<WatcherException> onClose) {
         this.namespace = namespace;
         this.onClose = onClose;
         this.operator = operator;
@@ -34,6 +34,11 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case ADDED:
             case DELETED:
             case MODIFIED:
+                if (operator.isStandby()) {
+                    operator.deferReconciliation(action, resource);
+                    break;
+                }
+
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", operator.kind(), name, namespace, action);
                 operator.reconcile(reconciliation);
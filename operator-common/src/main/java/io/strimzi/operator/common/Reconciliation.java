@@ -48,6 +48,13 @@ public class Reconciliation {
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
+    /**
+     * @return  Trigger of the reconciliation (e.g. timer or watch)
+     */
+    public String trigger() {
+        return trigger;
+    }
+
     /**
      * @return  Kind of the reconciled resource
      */
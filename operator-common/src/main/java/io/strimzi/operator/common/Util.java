@@ -24,6 +24,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.CompositeFuture;
@@ -135,10 +136,11 @@ public class Util {
         Promise<Void> promise = Promise.promise();
         LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
         long deadline = System.currentTimeMillis() + timeoutMs;
+        KubernetesOperationExecutor executor = KubernetesOperationExecutor.shared(vertx);
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                executor.<Void>execute(KubernetesOperationExecutor.OperationType.WAIT,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -152,28 +154,27 @@ public class Util {
                             future.fail(e);
                         }
                     },
-                    true,
-                    res -> {
-                        if (res.succeeded()) {
-                            LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
-                            promise.complete();
+                    false
+                ).onComplete(res -> {
+                    if (res.succeeded()) {
+                        LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                        promise.complete();
+                    } else {
+                        if (failOnError.test(res.cause())) {
+                            promise.fail(res.cause());
                         } else {
-                            if (failOnError.test(res.cause())) {
-                                promise.fail(res.cause());
+                            long timeLeft = deadline - System.currentTimeMillis();
+                            if (timeLeft <= 0) {
+                                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                                LOGGER.errorCr(reconciliation, exceptionMessage);
+                                promise.fail(new TimeoutException(exceptionMessage));
                             } else {
-                                long timeLeft = deadline - System.currentTimeMillis();
-                                if (timeLeft <= 0) {
-                                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
-                                    LOGGER.errorCr(reconciliation, exceptionMessage);
-                                    promise.fail(new TimeoutException(exceptionMessage));
-                                } else {
-                                    // Schedule ourselves to run again
-                                    vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
-                                }
+                                // Schedule ourselves to run again
+                                vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
                             }
                         }
                     }
-                );
+                });
             }
         };
 
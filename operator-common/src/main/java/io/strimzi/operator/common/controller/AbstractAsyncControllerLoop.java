@@ -0,0 +1,247 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous variant of the controller loop. Unlike the AbstractControllerLoop, it does not wait for the
+ * reconciliation to finish. A single thread takes the events from the queue and starts the reconciliations which then
+ * run as asynchronous pipelines. The number of reconciliations running in parallel is limited by the in-flight cap.
+ * When the cap is reached, no more events are taken from the queue until some reconciliation finishes.
+ */
+public abstract class AbstractAsyncControllerLoop {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractAsyncControllerLoop.class);
+    private static final long PROGRESS_WARNING_MS = 60_000L;
+    private static final long LOCKED_REQUEUE_DELAY_MS = 1_000L;
+
+    private final String name;
+    private final Thread controllerThread;
+    private final ControllerQueue workQueue;
+    private final ReconciliationLockManager lockManager;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Semaphore inFlightPermits;
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+
+    private volatile boolean stop = false;
+    private volatile boolean running = false;
+
+    /**
+     * Creates the controller loop.
+     *
+     * @param name                  The name of this controller loop. The name should help to identify what kind
+     *                              of look this is and what does it control / reconciler.
+     * @param workQueue             Queue from which events should be consumed
+     * @param lockManager           Lock manager for making sure no parallel reconciliations for a given resource can happen
+     * @param scheduledExecutor     Scheduled executor service used to run the progress warnings and re-queue the locked
+     *                              reconciliations
+     * @param maxInFlight           Maximal number of reconciliations running in parallel
+     */
+    public AbstractAsyncControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximal number of in-flight reconciliations has to be at least 1");
+        }
+
+        this.name = name;
+        this.workQueue = workQueue;
+        this.lockManager = lockManager;
+        this.scheduledExecutor = scheduledExecutor;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.controllerThread = new Thread(new Runner(), name);
+    }
+
+    /**
+     * The main reconciliation logic which handles the reconciliations. It should not block the calling thread.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished
+     */
+    protected abstract CompletionStage<Void> reconcile(Reconciliation reconciliation);
+
+    /**
+     * Returns the Controller Metrics Holder instance, which is used to hold the various controller metrics
+     *
+     * @return Controller metrics holder instance
+     */
+    protected abstract ControllerMetricsHolder metrics();
+
+    /**
+     * Starts the controller: this method creates a new thread in which the controller will run
+     */
+    public void start() {
+        LOGGER.debugOp("{}: Starting the controller loop", name);
+        controllerThread.start();
+    }
+
+    /**
+     * Stops the controller: this method sets the stop flag and interrupt the run loop. The reconciliations which are
+     * already in progress are not interrupted.
+     *
+     * @throws InterruptedException InterruptedException is thrown when interrupted while joining the thread
+     */
+    public void stop() throws InterruptedException {
+        LOGGER.infoOp("{}: Requesting the controller loop to stop", name);
+        this.stop = true;
+        controllerThread.interrupt();
+        controllerThread.join();
+    }
+
+    /**
+     * Indicates whether the controller is inside the run loop..
+     *
+     * @return  True when the controller is in the run loop, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Indicates whether the controller loop thread is alive or not
+     *
+     * @return  True when the controller loop thread is alive, false otherwise
+     */
+    public boolean isAlive() {
+        return controllerThread.isAlive();
+    }
+
+    /**
+     * @return  Number of reconciliations currently in progress
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Starts the reconciliation if the lock for the resource is free or re-queues it for later otherwise. The lock
+     * and the in-flight permit are released when the reconciliation completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void reconcileWithLock(SimplifiedReconciliation reconciliation) {
+        String lockName = reconciliation.lockName();
+
+        // The reconciliation itself owns the lock, because it is released from the thread which completes it
+        if (lockManager.tryLock(lockName, reconciliation)) {
+            inFlight.incrementAndGet();
+            CompletionStage<Void> result;
+
+            try {
+                result = reconcileWrapper(reconciliation.toReconciliation());
+            } catch (Throwable t) {
+                result = CompletableFuture.failedFuture(t);
+            }
+
+            result.whenComplete((i, e) -> {
+                // We have to unlock the resource in any situation
+                lockManager.unlock(lockName, reconciliation);
+                inFlight.decrementAndGet();
+                inFlightPermits.release();
+            });
+        } else {
+            // Failed to get the lock => other reconciliation is in progress. We do not wait for the lock, so we re-queue
+            // the resource with a delay to not spin on it.
+            LOGGER.warnOp("{}: Failed to acquire lock {}. The resource will be re-queued for later.", name, lockName);
+            metrics().lockedReconciliationsCounter(reconciliation.namespace).increment();
+            inFlightPermits.release();
+
+            try {
+                scheduledExecutor.schedule(() -> workQueue.enqueue(reconciliation), LOCKED_REQUEUE_DELAY_MS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debugOp("{}: Failed to re-queue {} because the executor is stopped", name, lockName);
+            }
+        }
+    }
+
+    /**
+     * Wrapper method to handle reconciliation. It is used to handle common tasks such as:
+     *     - Progress warnings
+     *     - Reconciliation metrics
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished
+     */
+    private CompletionStage<Void> reconcileWrapper(Reconciliation reconciliation) {
+        // Tasks before reconciliation
+        ScheduledFuture<?> progressWarning = scheduledExecutor
+                .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
+        metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
+        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+
+        // Reconciliation
+        CompletionStage<Void> result;
+        try {
+            result = reconcile(reconciliation);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+
+        return result.whenComplete((i, e) -> {
+            if (e != null) {
+                LOGGER.warnCr(reconciliation, "{}: reconciliation failed", name, e);
+            }
+
+            // Tasks after reconciliation
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
+            progressWarning.cancel(true); // Stop the progress warning
+        });
+    }
+
+    /**
+     * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
+     * it as a public method.
+     */
+    private class Runner implements Runnable {
+        /**
+         * The run loop of the controller loop thread. It waits for a free in-flight permit, picks the next
+         * reconciliation from the work queue and starts it.
+         */
+        @Override
+        public void run() {
+            LOGGER.debugOp("{}: Starting", name);
+            running = true; // We indicate that we are entering the controller loop
+
+            while (!stop) {
+                boolean permitted = false;
+
+                try {
+                    inFlightPermits.acquire();
+                    permitted = true;
+
+                    LOGGER.debugOp("{}: Waiting for next event from work queue", name);
+                    SimplifiedReconciliation reconciliation = workQueue.take();
+
+                    // From now on, the permit is released by the reconciliation
+                    permitted = false;
+                    reconcileWithLock(reconciliation);
+                } catch (InterruptedException e) {
+                    LOGGER.debugOp("{}: was interrupted", name, e);
+                } catch (Exception e) {
+                    LOGGER.warnOp("{}: reconciliation failed", name, e);
+                } finally {
+                    if (permitted) {
+                        inFlightPermits.release();
+                    }
+                }
+            }
+
+            LOGGER.infoOp("{}: Stopping", name);
+            running = false; // We indicate that we are exiting the controller loop
+        }
+    }
+}
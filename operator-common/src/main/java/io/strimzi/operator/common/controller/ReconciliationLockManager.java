@@ -8,15 +8,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A simple lock manager used to track the reconciliations which are in progress. This is used to make sure that a given
  * resource is not reconciled multiple times in parallel.
  *
+ * Each lock is held by an owner. The blocking methods use the current thread as the owner. An asynchronous
+ * reconciliation passes its own owner object instead, so that it can release its lock from whichever thread completes
+ * it. Only the owner can release the lock. Unlocking a lock held by someone else is ignored.
+ *
  * This implementation is inspired by https://www.baeldung.com/java-acquire-lock-by-key
  */
 public class ReconciliationLockManager {
@@ -40,21 +43,48 @@ public class ReconciliationLockManager {
     public boolean tryLock(String key, long time, TimeUnit unit) throws InterruptedException {
         ReconciliationLock rLock = locks.compute(key, (k, v) -> v == null ? new ReconciliationLock() : v.incrementQueueAndGet());
         LOGGER.debug("Trying to obtain lock {}", key);
-        return rLock.tryLock(time, unit);
+        return rLock.tryLock(Thread.currentThread(), time, unit);
     }
 
+    /**
+     * Tries to lock the lock for given key without waiting for it.
+     *
+     * @param key   The key for which the lock should be obtained
+     * @param owner The owner of the lock which has to be used to unlock it
+     *
+     * @return  True if the lock was successfully obtained. False otherwise
+     */
+    public boolean tryLock(String key, Object owner) {
+        ReconciliationLock rLock = locks.compute(key, (k, v) -> v == null ? new ReconciliationLock() : v.incrementQueueAndGet());
+        LOGGER.debug("Trying to obtain lock {} without waiting", key);
+        return rLock.tryLock(owner);
+    }
+
+    /**
+     * Unlocks the lock for given key held by the current thread.
+     *
+     * @param key   The key of the lock which should be unlocked
+     */
+    public void unlock(String key)    {
+        unlock(key, Thread.currentThread());
+    }
 
     /**
      * Unlocks the lock for given key. The unlocking happens within the locks.compute(...) call to ensure the
      * atomicity. If there is nobody queued for the lock, the lock is removed from the map to not keep it forever.
+     * The lock is not unlocked when it is not held by the given owner.
      *
      * @param key   The key of the lock which should be unlocked
+     * @param owner The owner which obtained the lock
      */
-    public void unlock(String key)    {
+    public void unlock(String key, Object owner)    {
         locks.compute(key, (k, v) -> {
             if (v == null)  {
                 LOGGER.warn("Lock with key {} does not exist and cannot be unlocked", key);
                 return null;
+            } else if (v.owner != owner) {
+                LOGGER.warn("Lock with key {} is not held by {} and cannot be unlocked", key, owner);
+                return v;
             } else {
                 LOGGER.debug("Trying to release lock {}", key);
 
@@ -74,7 +104,9 @@ public class ReconciliationLockManager {
      * detect when the lock is not used anymore and should be removed from the lock manager.
      */
     public static class ReconciliationLock    {
-        private final Lock lock = new ReentrantLock();
+        // Semaphore is used instead of a lock because it can be released by a different thread than the one which acquired it
+        private final Semaphore lock = new Semaphore(1);
+        private volatile Object owner;
         /*test*/ final AtomicInteger lockQueue = new AtomicInteger(1); // Initializes at 1, because it is created as part of an tryLock() call
 
         private ReconciliationLock incrementQueueAndGet()   {
@@ -87,6 +119,7 @@ public class ReconciliationLockManager {
          * counter for interested parties is increased either when initializing the object or when getting it from the
          * map. So in this method, we take care only of decreasing it in case we fail to acquire the lock.
          *
+         * @param owner The owner of the lock
          * @param time  How many units of time should we wait for the lock
          * @param unit  How long the unit of waiting is
          *
@@ -94,11 +127,13 @@ public class ReconciliationLockManager {
          *
          * @throws InterruptedException Throws InterruptedException if interrupted while waiting for the lock
          */
-        private boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        private boolean tryLock(Object owner, long time, TimeUnit unit) throws InterruptedException {
             try {
-                boolean locked = lock.tryLock(time, unit);
+                boolean locked = lock.tryAcquire(time, unit);
 
-                if (!locked) {
+                if (locked) {
+                    this.owner = owner;
+                } else {
                     // We did not get the lock and return false => we decrement the counter of interested parties
                     lockQueue.decrementAndGet();
                 }
@@ -111,6 +146,26 @@ public class ReconciliationLockManager {
             }
         }
 
+        /**
+         * Tries to obtain the lock without waiting for it. If the lock cannot be obtained, the counter of interested
+         * parties is decreased.
+         *
+         * @param owner The owner of the lock
+         *
+         * @return  True if the lock was locked. False otherwise.
+         */
+        private boolean tryLock(Object owner) {
+            boolean locked = lock.tryAcquire();
+
+            if (locked) {
+                this.owner = owner;
+            } else {
+                lockQueue.decrementAndGet();
+            }
+
+            return locked;
+        }
+
         /**
          * Releases the lock and returns an integer indicating if someone is still interested in the lock. The returned
          * integer is used to determine if the lock can be deleted from the map.
@@ -118,7 +173,8 @@ public class ReconciliationLockManager {
          * @return  Number of parties waiting for this lock
          */
         private int unlock()   {
-            lock.unlock();
+            owner = null;
+            lock.release();
             return lockQueue.decrementAndGet();
         }
     }
@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedPeriodicReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +42,17 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Counter metric for number of resources which were not enqueued by the periodic reconciliation because their
+     * desired state did not change and their current state did not drift from it.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter skippedPeriodicReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.periodical.skipped", metricsProvider, selectorLabels, skippedPeriodicReconciliationsCounterMap,
+                "Number of resources skipped by the periodic reconciliation because they did not change");
+    }
 }
@@ -22,7 +22,6 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.util.ArrayList;
@@ -97,8 +96,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return executor.execute(KubernetesOperationExecutor.OperationType.WRITE,
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
@@ -121,10 +119,8 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                 }
 
             },
-            false,
-            promise
+            false
         );
-        return promise.future();
     }
 
     /**
@@ -17,7 +17,6 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.util.List;
@@ -79,8 +78,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return executor.execute(KubernetesOperationExecutor.OperationType.WRITE,
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -103,10 +101,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                 }
 
             },
-            false,
-            promise
+            false
         );
-        return promise.future();
     }
 
     /**
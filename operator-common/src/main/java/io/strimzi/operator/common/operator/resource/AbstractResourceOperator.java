@@ -43,6 +43,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    protected final KubernetesOperationExecutor executor;
 
     /**
      * Constructor.
@@ -52,7 +53,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      */
     public AbstractResourceOperator(Vertx vertx, C client, String resourceKind) {
         this.vertx = vertx;
-        this.resourceSupport = new ResourceSupport(vertx);
+        this.executor = new KubernetesOperationExecutor(vertx);
+        this.resourceSupport = new ResourceSupport(vertx, executor);
         this.client = client;
         this.resourceKind = resourceKind;
     }
@@ -71,7 +71,7 @@ public class BuildConfigOperator extends AbstractNamespacedResourceOperator<Open
      * @return              The Build which was created
      */
     public Future<Build> startBuild(String namespace, String name, BuildRequest buildRequest)   {
-        return resourceSupport.executeBlocking(
+        return resourceSupport.executeBlocking(KubernetesOperationExecutor.OperationType.WRITE,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(operation().inNamespace(namespace).withName(name).instantiate(buildRequest));
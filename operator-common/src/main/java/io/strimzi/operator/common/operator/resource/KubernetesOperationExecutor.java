@@ -0,0 +1,265 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking Kubernetes API calls of the resource operators. Each class of operations has its own bounded worker
+ * pool, so that for example slow deletions or long waits cannot use all the threads needed to read or update the
+ * resources.
+ *
+ * When the Vert.x metrics are enabled, the executor also records how long the operations waited in the queue for a free
+ * thread and how long they took to execute. A long queue wait with a short execution means the pool is too small. A long
+ * execution means the Kubernetes API server is the bottleneck.
+ */
+public class KubernetesOperationExecutor {
+    /**
+     * Prefix of the names of the worker pools used for the Kubernetes operations
+     */
+    public static final String POOL_NAME_PREFIX = "kubernetes-ops-pool-";
+
+    /* test */ static final String METRICS_PREFIX = "strimzi.kubernetes.operations.";
+
+    private static final Map<OperationType, AtomicInteger> QUEUED = new EnumMap<>(OperationType.class);
+    private static final Map<OperationType, AtomicInteger> IN_FLIGHT = new EnumMap<>(OperationType.class);
+
+    // Vert.x instances for which the worker pools were created with createPools and are kept alive by their holders
+    private static final Set<Vertx> POOLS_CREATED = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    static {
+        for (OperationType type : OperationType.values()) {
+            QUEUED.put(type, new AtomicInteger(0));
+            IN_FLIGHT.put(type, new AtomicInteger(0));
+        }
+    }
+
+    /**
+     * Classes of the Kubernetes operations. Each class uses its own worker pool.
+     */
+    public enum OperationType {
+        /**
+         * Gets and lists
+         */
+        READ,
+
+        /**
+         * Creates, patches, replaces and scaling
+         */
+        WRITE,
+
+        /**
+         * Deletions
+         */
+        DELETE,
+
+        /**
+         * Polling and waiting for a resource to reach some state
+         */
+        WAIT;
+
+        /**
+         * @return  Name of the worker pool used for this class of operations
+         */
+        public String poolName() {
+            return POOL_NAME_PREFIX + name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    // Executor shared by the callers which do not have their own, such as Util.waitFor
+    private static volatile KubernetesOperationExecutor shared = null;
+
+    private final Vertx vertx;
+    private final Map<OperationType, Timer> queueWaitTimers = new EnumMap<>(OperationType.class);
+    private final Map<OperationType, Timer> executionTimers = new EnumMap<>(OperationType.class);
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     */
+    public KubernetesOperationExecutor(Vertx vertx) {
+        this(vertx, BackendRegistries.getDefaultNow());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx     Vertx instance
+     * @param metrics   Meter registry used for the metrics or null if the metrics should not be collected
+     */
+    /* test */ KubernetesOperationExecutor(Vertx vertx, MeterRegistry metrics) {
+        this.vertx = vertx;
+
+        if (metrics != null) {
+            for (OperationType type : OperationType.values()) {
+                Tags tags = Tags.of("operation", type.name().toLowerCase(Locale.ENGLISH));
+
+                queueWaitTimers.put(type, timer(metrics, METRICS_PREFIX + "queue.wait", "Time the Kubernetes operations waited for a free worker thread", tags));
+                executionTimers.put(type, timer(metrics, METRICS_PREFIX + "duration", "Time spent executing the Kubernetes operations", tags));
+
+                // Registering the same gauge again returns the existing one, so the shared counters are used for all executors
+                Gauge.builder(METRICS_PREFIX + "queued", QUEUED.get(type), AtomicInteger::get)
+                        .description("Number of Kubernetes operations waiting for a free worker thread")
+                        .tags(tags)
+                        .register(metrics);
+                Gauge.builder(METRICS_PREFIX + "in.flight", IN_FLIGHT.get(type), AtomicInteger::get)
+                        .description("Number of Kubernetes operations currently being executed")
+                        .tags(tags)
+                        .register(metrics);
+            }
+        }
+    }
+
+    /**
+     * Returns an executor shared by the callers which execute only occasional operations and do not keep their own
+     * executor. The executor is created again only when it is requested for a different Vertx instance.
+     *
+     * @param vertx     Vertx instance
+     *
+     * @return  Shared executor for the Vertx instance
+     */
+    public static KubernetesOperationExecutor shared(Vertx vertx) {
+        KubernetesOperationExecutor executor = shared;
+
+        if (executor == null || executor.vertx != vertx) {
+            executor = new KubernetesOperationExecutor(vertx);
+            shared = executor;
+        }
+
+        return executor;
+    }
+
+    private static Timer timer(MeterRegistry metrics, String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .sla(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofMillis(1000), Duration.ofMillis(5000), Duration.ofMillis(30000))
+                .tags(tags)
+                .register(metrics);
+    }
+
+    /**
+     * Creates the worker pools with the given size. It should be called before any operation is executed, because the
+     * size of a shared worker pool cannot be changed once the pool exists. When the pools are not created, the
+     * operations are executed in the default Vert.x worker pool.
+     *
+     * @param vertx     Vertx instance
+     * @param poolSize  Number of threads in each of the pools
+     *
+     * @return  List with the worker executors. They are returned only to keep the pools alive.
+     */
+    public static List<WorkerExecutor> createPools(Vertx vertx, int poolSize) {
+        List<WorkerExecutor> executors = new ArrayList<>(OperationType.values().length);
+
+        for (OperationType type : OperationType.values()) {
+            executors.add(vertx.createSharedWorkerExecutor(type.poolName(), poolSize, TimeUnit.SECONDS.toNanos(120)));
+        }
+
+        POOLS_CREATED.add(vertx);
+
+        return executors;
+    }
+
+    /**
+     * Executes the blocking code in the worker pool of the given class of operations. The operation is considered
+     * finished when the blocking code completes the promise.
+     *
+     * @param type          Class of the operation
+     * @param blockingCode  Blocking code which should be executed
+     * @param ordered       Whether the operations should be executed in the order in which they were submitted. The
+     *                      ordered operations share a single queue per Vert.x context, regardless of their class. So
+     *                      an ordered operation waits for all ordered operations submitted before it from the same
+     *                      context, even when they use a different pool. Use it only when the order is needed.
+     *
+     * @param <T>   Type of the result
+     *
+     * @return  Future which completes with the result of the blocking code
+     */
+    public <T> Future<T> execute(OperationType type, Handler<Promise<T>> blockingCode, boolean ordered) {
+        AtomicInteger queued = QUEUED.get(type);
+        AtomicInteger inFlight = IN_FLIGHT.get(type);
+        long submitted = System.nanoTime();
+        queued.incrementAndGet();
+
+        Handler<Promise<T>> operation = promise -> {
+            long started = System.nanoTime();
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            record(queueWaitTimers.get(type), started - submitted);
+
+            // The blocking code might complete the operation asynchronously, so it is finished only when it
+            // completes the promise
+            Promise<T> result = Promise.promise();
+            result.future().onComplete(res -> {
+                inFlight.decrementAndGet();
+                record(executionTimers.get(type), System.nanoTime() - started);
+                promise.handle(res);
+            });
+
+            try {
+                blockingCode.handle(result);
+            } catch (Throwable t) {
+                result.tryFail(t);
+            }
+        };
+
+        if (!POOLS_CREATED.contains(vertx)) {
+            // Without the pools kept alive by their holders, a new pool would be created and closed for every operation
+            return vertx.executeBlocking(operation, ordered);
+        }
+
+        // Each operation holds its own reference to the shared pool until it completes. Otherwise, the pool might be
+        // closed when the unused executor is garbage collected while the operation is still running.
+        WorkerExecutor worker = vertx.createSharedWorkerExecutor(type.poolName());
+
+        return worker.executeBlocking(operation, ordered)
+                .onComplete(ignored -> worker.close());
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param type  Class of the operations
+     *
+     * @return  Number of operations of given class waiting for a free worker thread
+     */
+    public static int queued(OperationType type) {
+        return QUEUED.get(type).get();
+    }
+
+    /**
+     * @param type  Class of the operations
+     *
+     * @return  Number of operations of given class currently being executed
+     */
+    public static int inFlight(OperationType type) {
+        return IN_FLIGHT.get(type).get();
+    }
+}
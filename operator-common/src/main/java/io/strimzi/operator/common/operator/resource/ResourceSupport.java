@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor.OperationType;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -34,14 +35,17 @@ public class ResourceSupport {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceSupport.class);
 
     private final Vertx vertx;
+    private final KubernetesOperationExecutor executor;
 
     /**
      * Constructor
      *
      * @param vertx     Vertx instance
+     * @param executor  Executor used for the blocking Kubernetes operations
      */
-    ResourceSupport(Vertx vertx) {
+    ResourceSupport(Vertx vertx, KubernetesOperationExecutor executor) {
         this.vertx = vertx;
+        this.executor = executor;
     }
 
     /**
@@ -52,7 +56,7 @@ public class ResourceSupport {
      * @return The Future
      */
     public Future<Void> closeOnWorkerThread(Closeable closeable) {
-        return executeBlocking(
+        return executeBlocking(OperationType.WAIT,
             blockingFuture -> {
                 try {
                     LOGGER.debugOp("Closing {}", closeable);
@@ -64,11 +68,8 @@ public class ResourceSupport {
             });
     }
 
-    <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler) {
-        Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                .executeBlocking(blockingCodeHandler, true, result);
-        return result.future();
+    <T> Future<T> executeBlocking(OperationType type, Handler<Promise<T>> blockingCodeHandler) {
+        return executor.execute(type, blockingCodeHandler, false);
     }
 
     /**
@@ -191,26 +192,35 @@ public class ResourceSupport {
 
             @Override
             public void eventReceived(Action action, T resource) {
-                vertx.executeBlocking(
+                // The events which do not satisfy the watch complete with null, so that they do not keep the worker
+                // thread accounted as busy
+                // The events of the watch are processed in the order in which they were received
+                executor.<U>execute(OperationType.WAIT,
                     f -> {
                         try {
                             U apply = watchFn.apply(action, resource);
                             if (apply != null) {
                                 LOGGER.debugCr(reconciliation, "Satisfied: {}", watchFnDescription);
-                                f.tryComplete(apply);
                                 vertx.cancelTimer(timerId);
                             } else {
                                 LOGGER.debugCr(reconciliation, "Not yet satisfied: {}", watchFnDescription);
                             }
+                            f.complete(apply);
                         } catch (Throwable t) {
-                            if (!f.tryFail(t)) {
+                            f.fail(t);
+                        }
+                    },
+                    true)
+                    .onComplete(res -> {
+                        if (res.failed()) {
+                            if (!donePromise.tryFail(res.cause())) {
                                 LOGGER.debugCr(reconciliation, "Ignoring exception thrown while " +
-                                        "evaluating watch {} because the future was already completed", watchFnDescription, t);
+                                        "evaluating watch {} because the future was already completed", watchFnDescription, res.cause());
                             }
+                        } else if (res.result() != null) {
+                            donePromise.tryComplete(res.result());
                         }
-                    },
-                    true,
-                        donePromise);
+                    });
             }
 
             @Override
@@ -231,7 +241,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     Future<Void> deleteAsync(Deletable resource) {
-        return executeBlocking(
+        return executeBlocking(OperationType.DELETE,
             blockingFuture -> {
                 try {
                     // Returns TRUE when resource was deleted and FALSE when it was not found (see BaseOperation Fabric8 class)
@@ -252,7 +262,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T> Future<T> getAsync(Gettable<T> resource) {
-        return executeBlocking(
+        return executeBlocking(OperationType.READ,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.get());
@@ -269,7 +279,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<List<T>> listAsync(Listable<L> resource) {
-        return executeBlocking(
+        return executeBlocking(OperationType.READ,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.list().getItems());
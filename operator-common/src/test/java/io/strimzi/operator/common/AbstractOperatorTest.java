@@ -8,9 +8,13 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.Spec;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedNamespacedResourceOperator;
@@ -157,6 +161,38 @@ class AbstractOperatorTest {
             })));
     }
 
+    @Test
+    /**
+     * Verifies that lockedOperationsFinished completes only once the operations in the namespace holding or waiting
+     * for their locks are finished.
+     */
+    void testLockedOperationsFinished(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        Reconciliation otherReconciliation = new Reconciliation("test", "TestResource", "other-namespace", "my-resource");
+
+        Promise<String> inProgress = Promise.promise();
+        @SuppressWarnings("unchecked")
+        Future<String> holding = target.withLockTest(reconciliation, inProgress::future);
+        @SuppressWarnings("unchecked")
+        Future<String> waiting = target.withLockTest(reconciliation, () -> Future.failedFuture(new UnsupportedOperationException(EXPECTED_MESSAGE)));
+        @SuppressWarnings("unchecked")
+        Future<String> other = target.withLockTest(otherReconciliation, Promise.<String>promise()::future);
+
+        Checkpoint finished = context.checkpoint();
+        target.lockedOperationsFinished("my-namespace")
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(holding.succeeded(), is(true));
+                assertThat(waiting.failed(), is(true));
+                assertThat(other.isComplete(), is(false));
+                finished.flag();
+            })));
+
+        vertx.setTimer(100, id -> inProgress.complete("OK"));
+    }
+
     @Test
     /**
      * Verifies that lock is released by call to `releaseLockAndTimer`. 
@@ -210,6 +246,86 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    void testFailoverPriority() {
+        KafkaUser ready = new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("my-user")
+                    .withNamespace("my-namespace")
+                    .withGeneration(2L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+                .build();
+
+        assertThat(AbstractOperator.failoverPriority(Watcher.Action.MODIFIED, ready), is(AbstractOperator.FAILOVER_PRIORITY_NONE));
+        assertThat(AbstractOperator.failoverPriority(Watcher.Action.DELETED, ready), is(AbstractOperator.FAILOVER_PRIORITY_CHANGED));
+
+        KafkaUser notReady = new KafkaUserBuilder(ready)
+                .editStatus()
+                    .withConditions(new ConditionBuilder().withType("NotReady").withStatus("True").build())
+                .endStatus()
+                .build();
+        assertThat(AbstractOperator.failoverPriority(Watcher.Action.MODIFIED, notReady), is(AbstractOperator.FAILOVER_PRIORITY_NOT_READY));
+
+        KafkaUser changed = new KafkaUserBuilder(ready)
+                .editMetadata()
+                    .withGeneration(3L)
+                .endMetadata()
+                .build();
+        assertThat(AbstractOperator.failoverPriority(Watcher.Action.MODIFIED, changed), is(AbstractOperator.FAILOVER_PRIORITY_CHANGED));
+
+        KafkaUser withoutStatus = new KafkaUserBuilder(ready)
+                .withStatus(null)
+                .build();
+        assertThat(AbstractOperator.failoverPriority(Watcher.Action.ADDED, withoutStatus), is(AbstractOperator.FAILOVER_PRIORITY_CHANGED));
+    }
+
+    @Test
+    void testStandbyDefersReconciliations(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        KafkaUser ready = new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("my-ready-user")
+                    .withNamespace("my-namespace")
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+                .build();
+
+        target.standby();
+        assertThat(target.isStandby(), is(true));
+
+        Checkpoint async = context.checkpoint();
+        target.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-user"))
+                .compose(i -> {
+                    context.verify(() -> assertThat(target.deferredReconciliations(), is(1)));
+
+                    // Ready resources do not need to be reconciled after the failover
+                    target.deferReconciliation(Watcher.Action.MODIFIED, ready);
+                    context.verify(() -> assertThat(target.deferredReconciliations(), is(1)));
+
+                    // The resource is deleted while in standby
+                    target.deferReconciliation(Watcher.Action.DELETED, ready);
+                    context.verify(() -> assertThat(target.deferredReconciliations(), is(2)));
+
+                    // Resources from other namespaces are not touched
+                    return target.activate("other-namespace");
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(target.isStandby(), is(false));
+                    assertThat(target.deferredReconciliations(), is(2));
+                    async.flag();
+                })));
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AbstractAsyncControllerLoopTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private MeterRegistry metricsRegistry;
+    private ControllerMetricsHolder metrics;
+    private ControllerQueue queue;
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    public void beforeEach() {
+        metricsRegistry = new SimpleMeterRegistry();
+        metrics = new ControllerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(metricsRegistry));
+        queue = new ControllerQueue(1_000, metrics);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testReconciliationsRunInParallelUpToTheCap() throws InterruptedException {
+        Map<String, CompletableFuture<Void>> reconciliations = new ConcurrentHashMap<>();
+        TestLoop loop = new TestLoop(5, r -> reconciliations.computeIfAbsent(r.name(), k -> new CompletableFuture<>()));
+
+        for (int i = 0; i < 20; i++) {
+            queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "name-" + i));
+        }
+
+        loop.start();
+
+        // A single controller thread has 5 reconciliations in progress at the same time, but not more
+        TestUtils.waitFor("Reconciliations are in flight", 10, 5_000, () -> reconciliations.size() == 5);
+        assertThat(loop.inFlight(), is(5));
+        assertThat(queue.queue.size(), is(15));
+
+        // Completing the reconciliations allows the next ones to start
+        List.copyOf(reconciliations.values()).forEach(f -> f.complete(null));
+        TestUtils.waitFor("More reconciliations are started", 10, 5_000, () -> reconciliations.size() == 10);
+        assertThat(loop.inFlight(), is(5));
+
+        // Failed reconciliations release the permits as well
+        List.copyOf(reconciliations.values()).forEach(f -> f.completeExceptionally(new RuntimeException("Failed")));
+        TestUtils.waitFor("More reconciliations are started", 10, 5_000, () -> reconciliations.size() == 15);
+
+        List.copyOf(reconciliations.values()).forEach(f -> f.complete(null));
+        TestUtils.waitFor("All reconciliations are started", 10, 5_000, () -> reconciliations.size() == 20);
+        List.copyOf(reconciliations.values()).forEach(f -> f.complete(null));
+        TestUtils.waitFor("All reconciliations are finished", 10, 5_000, () -> loop.inFlight() == 0);
+
+        assertThat(metricsRegistry.get("strimzi.reconciliations").tag("namespace", NAMESPACE).counter().count(), is(20.0));
+
+        loop.stop();
+        assertThat(loop.isAlive(), is(false));
+    }
+
+    @Test
+    public void testLockedReconciliationIsRequeued() throws InterruptedException {
+        ReconciliationLockManager lockManager = new ReconciliationLockManager();
+        AtomicInteger reconciled = new AtomicInteger(0);
+        TestLoop loop = new TestLoop(lockManager, 5, r -> {
+            reconciled.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        SimplifiedReconciliation reconciliation = new SimplifiedReconciliation("kind", NAMESPACE, "name");
+        Object owner = new Object();
+        assertThat(lockManager.tryLock(reconciliation.lockName(), owner), is(true));
+
+        queue.enqueue(reconciliation);
+        loop.start();
+
+        TestUtils.waitFor("Reconciliation is locked", 10, 5_000, () -> metricsRegistry.get("strimzi.reconciliations.locked").tag("namespace", NAMESPACE).counter().count() >= 1.0);
+        assertThat(reconciled.get(), is(0));
+        assertThat(loop.inFlight(), is(0));
+
+        // The lock is released from another thread than the one which obtained it
+        CompletableFuture.runAsync(() -> lockManager.unlock(reconciliation.lockName(), owner));
+        TestUtils.waitFor("Reconciliation is done", 10, 5_000, () -> reconciled.get() == 1);
+
+        loop.stop();
+    }
+
+    @Test
+    public void testExceptionInReconcileReleasesTheLock() throws InterruptedException {
+        ReconciliationLockManager lockManager = new ReconciliationLockManager();
+        AtomicInteger attempts = new AtomicInteger(0);
+        TestLoop loop = new TestLoop(lockManager, 1, r -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("Failed");
+        });
+
+        queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "name-1"));
+        queue.enqueue(new SimplifiedReconciliation("kind", NAMESPACE, "name-2"));
+        loop.start();
+
+        TestUtils.waitFor("Both reconciliations were attempted", 10, 5_000, () -> attempts.get() == 2);
+        TestUtils.waitFor("All locks are released", 10, 5_000, () -> lockManager.locks.isEmpty() && loop.inFlight() == 0);
+
+        loop.stop();
+    }
+
+    interface Reconciler {
+        CompletionStage<Void> reconcile(Reconciliation reconciliation);
+    }
+
+    class TestLoop extends AbstractAsyncControllerLoop {
+        private final Reconciler reconciler;
+
+        TestLoop(int maxInFlight, Reconciler reconciler) {
+            this(new ReconciliationLockManager(), maxInFlight, reconciler);
+        }
+
+        TestLoop(ReconciliationLockManager lockManager, int maxInFlight, Reconciler reconciler) {
+            super("test-loop", queue, lockManager, scheduledExecutor, maxInFlight);
+            this.reconciler = reconciler;
+        }
+
+        @Override
+        protected CompletionStage<Void> reconcile(Reconciliation reconciliation) {
+            return reconciler.reconcile(reconciliation);
+        }
+
+        @Override
+        protected ControllerMetricsHolder metrics() {
+            return metrics;
+        }
+    }
+}
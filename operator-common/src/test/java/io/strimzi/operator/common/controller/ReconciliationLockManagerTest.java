@@ -103,4 +103,47 @@ public class ReconciliationLockManagerTest {
 
         assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
     }
+
+    // Lock without waiting and unlock from another thread
+    @Test
+    public void testTryLockWithoutWaitingAndUnlockFromAnotherThread() throws Exception {
+        ReconciliationLockManager lockMan = new ReconciliationLockManager();
+
+        Object owner = new Object();
+        assertThat(lockMan.tryLock("my-lock", owner), is(true));
+        assertThat(lockMan.tryLock("my-lock", new Object()), is(false));
+        assertThat(lockMan.locks.get("my-lock").lockQueue.get(), is(1));
+
+        CompletableFuture.runAsync(() -> lockMan.unlock("my-lock", owner)).get(1, TimeUnit.SECONDS);
+        assertThat(lockMan.locks.size(), is(0));
+
+        assertThat(lockMan.tryLock("my-lock", owner), is(true));
+        lockMan.unlock("my-lock", owner);
+
+        assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
+    }
+
+    // Unlock by someone who does not hold the lock
+    @Test
+    public void testUnlockByOtherOwnerDoesNotReleaseTheLock() throws Exception {
+        ReconciliationLockManager lockMan = new ReconciliationLockManager();
+
+        Object owner = new Object();
+        assertThat(lockMan.tryLock("my-lock", owner), is(true));
+
+        // Another reconciliation and another thread cannot release it
+        lockMan.unlock("my-lock", new Object());
+        CompletableFuture.runAsync(() -> lockMan.unlock("my-lock")).get(1, TimeUnit.SECONDS);
+        assertThat(lockMan.tryLock("my-lock", new Object()), is(false));
+        assertThat(lockMan.locks.get("my-lock").lockQueue.get(), is(1));
+
+        // A lock obtained by a thread cannot be released by another thread
+        assertThat(lockMan.tryLock("my-lock2", 10, TimeUnit.MILLISECONDS), is(true));
+        CompletableFuture.runAsync(() -> lockMan.unlock("my-lock2")).get(1, TimeUnit.SECONDS);
+        assertThat(CompletableFuture.supplyAsync(() -> lockMan.tryLock("my-lock2", new Object())).get(1, TimeUnit.SECONDS), is(false));
+        lockMan.unlock("my-lock2");
+
+        lockMan.unlock("my-lock", owner);
+        assertThat(lockMan.locks.size(), is(0)); // Should be empty at the end
+    }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.operator;
 
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.Subject;
 
 import java.io.ByteArrayOutputStream;
@@ -198,6 +199,11 @@ public class MockCertManager implements CertManager {
         write(certFile, CLUSTER_CERT);
     }
 
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
     /**
      * Renew a new self-signed certificate, keeping the existing private key
      *
@@ -257,6 +263,26 @@ public class MockCertManager implements CertManager {
         write(csrFile, "csr file");
     }
 
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj, KeyAlgorithm keyAlgorithm) throws IOException {
+        generateCsr(keyFile, csrFile, sbj);
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        write(keyFile, "key file");
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile, KeyAlgorithm keyAlgorithm) throws IOException {
+        generatePrivateKey(keyFile);
+    }
+
+    @Override
+    public void generateCsrForExistingKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        write(csrFile, "csr file");
+    }
+
     @Override
     public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
         write(crtFile, "crt file");
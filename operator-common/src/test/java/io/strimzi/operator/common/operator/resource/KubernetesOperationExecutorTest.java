@@ -0,0 +1,157 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor.OperationType;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+
+@ExtendWith(VertxExtension.class)
+public class KubernetesOperationExecutorTest {
+    private static Vertx vertx;
+    private static List<WorkerExecutor> pools;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+        pools = KubernetesOperationExecutor.createPools(vertx, 1);
+    }
+
+    @AfterAll
+    public static void after() {
+        pools.forEach(WorkerExecutor::close);
+        vertx.close();
+    }
+
+    @Test
+    public void testOperationsUseTheirOwnPool(VertxTestContext context) {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        KubernetesOperationExecutor executor = new KubernetesOperationExecutor(vertx, metrics);
+        Checkpoint checkpoint = context.checkpoint(OperationType.values().length);
+
+        for (OperationType type : OperationType.values()) {
+            executor.<String>execute(type, promise -> promise.complete(Thread.currentThread().getName()), true)
+                    .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                        assertThat(threadName, startsWith(type.poolName()));
+                        assertThat(timer(metrics, "queue.wait", type).count(), is(1L));
+                        assertThat(timer(metrics, "duration", type).count(), is(1L));
+                        checkpoint.flag();
+                    })));
+        }
+    }
+
+    @Test
+    public void testDefaultWorkerPoolIsUsedWithoutPools(VertxTestContext context) {
+        Vertx vertxWithoutPools = Vertx.vertx();
+        KubernetesOperationExecutor executor = new KubernetesOperationExecutor(vertxWithoutPools, new SimpleMeterRegistry());
+
+        executor.<String>execute(OperationType.READ, promise -> promise.complete(Thread.currentThread().getName()), true)
+                .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                    assertThat(threadName, startsWith("vert.x-worker-thread"));
+                    vertxWithoutPools.close();
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testFailedOperationIsRecorded(VertxTestContext context) {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        KubernetesOperationExecutor executor = new KubernetesOperationExecutor(vertx, metrics);
+
+        executor.<Void>execute(OperationType.DELETE, promise -> {
+            throw new RuntimeException("Failed");
+        }, true)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Failed"));
+                    assertThat(timer(metrics, "duration", OperationType.DELETE).count(), is(1L));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes"})
+    public void testPoolIsBounded(VertxTestContext context) {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        KubernetesOperationExecutor executor = new KubernetesOperationExecutor(vertx, metrics);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        List<Future> operations = List.of(
+                executor.<Void>execute(OperationType.WAIT, promise -> slowOperation(running, maxRunning, promise::complete), false),
+                executor.<Void>execute(OperationType.WAIT, promise -> slowOperation(running, maxRunning, promise::complete), false),
+                executor.<Void>execute(OperationType.WAIT, promise -> slowOperation(running, maxRunning, promise::complete), false)
+        );
+
+        CompositeFuture.join(operations)
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // The pools created in this test have a single thread
+                    assertThat(maxRunning.get(), is(1));
+                    assertThat(timer(metrics, "queue.wait", OperationType.WAIT).count(), is(3L));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testSlowOperationDoesNotBlockOtherPools(VertxTestContext context) {
+        KubernetesOperationExecutor executor = new KubernetesOperationExecutor(vertx, new SimpleMeterRegistry());
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+
+        // Both operations are submitted from the same context
+        vertx.runOnContext(v -> {
+            Future<Void> slow = executor.execute(OperationType.WAIT, promise -> slowOperation(running, maxRunning, promise::complete), false);
+
+            executor.<Boolean>execute(OperationType.READ, promise -> promise.complete(slow.isComplete()), false)
+                    .onComplete(context.succeeding(slowCompleted -> context.verify(() -> {
+                        assertThat(slowCompleted, is(false));
+                        context.completeNow();
+                    })));
+        });
+    }
+
+    @Test
+    public void testSharedExecutorIsReused() {
+        assertThat(KubernetesOperationExecutor.shared(vertx) == KubernetesOperationExecutor.shared(vertx), is(true));
+    }
+
+    private static void slowOperation(AtomicInteger running, AtomicInteger maxRunning, Runnable complete) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        running.decrementAndGet();
+        complete.run();
+    }
+
+    private static Timer timer(MeterRegistry metrics, String name, OperationType type) {
+        return metrics.get(KubernetesOperationExecutor.METRICS_PREFIX + name)
+                .tag("operation", type.name().toLowerCase(Locale.ENGLISH))
+                .timer();
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -43,7 +44,7 @@ public class PodOperatorMockTest {
             .build();
 
     protected static Vertx vertx;
-    private static WorkerExecutor sharedWorkerExecutor;
+    private static List<WorkerExecutor> sharedWorkerExecutors;
 
     // Injected by Fabric8 Mock Kubernetes Server
     @SuppressWarnings("unused")
@@ -52,18 +53,17 @@ public class PodOperatorMockTest {
     @BeforeAll
     public static void before() {
         vertx = Vertx.vertx();
-        sharedWorkerExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+        sharedWorkerExecutors = KubernetesOperationExecutor.createPools(vertx, 10);
     }
 
     @AfterAll
     public static void after() {
-        sharedWorkerExecutor.close();
+        sharedWorkerExecutors.forEach(WorkerExecutor::close);
         vertx.close();
     }
 
     @Test
     public void testCreateReadUpdate(VertxTestContext context) {
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool", 10);
         PodOperator pr = new PodOperator(vertx, client);
 
         pr.list(NAMESPACE, Labels.EMPTY);
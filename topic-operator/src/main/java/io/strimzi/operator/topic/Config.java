@@ -109,6 +109,8 @@ public class Config {
     protected static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
     protected static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     protected static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
+    protected static final String TC_REASSIGN_MAX_PARTITION_MOVEMENTS = "STRIMZI_REASSIGN_MAX_PARTITION_MOVEMENTS";
+    protected static final String TC_REPLICATION_FACTOR_CHANGES_ENABLED = "STRIMZI_REPLICATION_FACTOR_CHANGES_ENABLED";
     protected static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     protected static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
@@ -130,6 +132,9 @@ public class Config {
     protected static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     protected static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     protected static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    protected static final String TC_USE_PERSISTENT_TOPIC_STORE = "STRIMZI_USE_PERSISTENT_TOPIC_STORE";
+    protected static final String TC_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
+    protected static final String TC_CONFIG_UPDATE_BATCH_WINDOW_MS = "STRIMZI_CONFIG_UPDATE_BATCH_WINDOW_MS";
 
     protected static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
@@ -168,6 +173,12 @@ public class Config {
      */
     public static final Value<Long> REASSIGN_VERIFY_INTERVAL_MS = new Value<>(TC_REASSIGN_VERIFY_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximum number of partitions which are reassigned at the same time when changing the replication factor of topics. */
+    public static final Value<Integer> REASSIGN_MAX_PARTITION_MOVEMENTS = new Value<>(TC_REASSIGN_MAX_PARTITION_MOVEMENTS, POSITIVE_INTEGER, "20");
+
+    /** Do we change the replication factor of topics when spec.replicas of the KafkaTopic changes */
+    public static final Value<Boolean> REPLICATION_FACTOR_CHANGES_ENABLED = new Value<>(TC_REPLICATION_FACTOR_CHANGES_ENABLED, BOOLEAN, "false");
+
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
@@ -207,6 +218,12 @@ public class Config {
     public static final Value<String> APPLICATION_ID = new Value<>(TC_APPLICATION_ID, STRING, "__strimzi-topic-operator-kstreams");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /** Do we keep the Kafka Streams based TopicStore in a persistent RocksDB store instead of in memory */
+    public static final Value<Boolean> USE_PERSISTENT_TOPIC_STORE = new Value<>(TC_USE_PERSISTENT_TOPIC_STORE, BOOLEAN, "false");
+    /** The local state directory for the persistent Kafka Streams based TopicStore. Kafka Streams default is used when empty. */
+    public static final Value<String> STORE_STATE_DIR = new Value<>(TC_STORE_STATE_DIR, STRING, "");
+    /** The time for which the topic config updates are collected before they are sent to Kafka in a single request */
+    public static final Value<Long> CONFIG_UPDATE_BATCH_WINDOW_MS = new Value<>(TC_CONFIG_UPDATE_BATCH_WINDOW_MS, DURATION, "100");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
@@ -223,6 +240,8 @@ public class Config {
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
+        addConfigValue(configValues, REASSIGN_MAX_PARTITION_MOVEMENTS);
+        addConfigValue(configValues, REPLICATION_FACTOR_CHANGES_ENABLED);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
@@ -240,6 +259,9 @@ public class Config {
         addConfigValue(configValues, STORE_NAME);
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, USE_PERSISTENT_TOPIC_STORE);
+        addConfigValue(configValues, STORE_STATE_DIR);
+        addConfigValue(configValues, CONFIG_UPDATE_BATCH_WINDOW_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
     }
 
@@ -17,8 +17,8 @@ import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +37,7 @@ public class K8sImpl implements K8s {
     private final CrdOperator<KubernetesClient, KafkaTopic, KafkaTopicList> crdOperator;
 
     private final Vertx vertx;
+    private final KubernetesOperationExecutor executor;
 
     /**
      * Constructor
@@ -48,6 +49,7 @@ public class K8sImpl implements K8s {
      */
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
         this.vertx = vertx;
+        this.executor = new KubernetesOperationExecutor(vertx);
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, KafkaTopic.RESOURCE_KIND);
         this.labels = labels;
@@ -62,8 +64,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executor.execute(KubernetesOperationExecutor.OperationType.WRITE, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).resource(topicResource).create();
                 LOGGER.debug("KafkaTopic {} created with version {}->{}",
@@ -74,8 +75,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        }, false);
     }
 
     /**
@@ -86,8 +86,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executor.execute(KubernetesOperationExecutor.OperationType.WRITE, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), topicResource);
                 LOGGER.debug("KafkaTopic {} updated with version {}->{}",
@@ -98,8 +97,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        }, false);
     }
 
     /**
@@ -123,8 +121,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<Void> deleteResource(Reconciliation reconciliation, ResourceName resourceName) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executor.execute(KubernetesOperationExecutor.OperationType.DELETE, future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
                 operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete();
@@ -138,8 +135,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        }, false);
     }
 
     private MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation() {
@@ -172,8 +168,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<Void> createEvent(Event event) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return executor.execute(KubernetesOperationExecutor.OperationType.WRITE, future -> {
             try {
                 try {
                     LOGGER.debug("Creating event {}", event);
@@ -185,7 +180,6 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        }, false);
     }
 }
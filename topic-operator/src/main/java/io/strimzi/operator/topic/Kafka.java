@@ -54,14 +54,16 @@ public interface Kafka {
     /**
      * Asynchronously update the topic config in Kafka,
      * completing the returned Future when the topic has been updated.
+     * Only the config entries changed by the given diff are updated.
      * If the operation fails the returned Future will be failed with the
      * KafkaException (not an ExecutionException).
      *
      * @param reconciliation The reconciliation.
-     * @param topic The topic config to update.
+     * @param topic The topic with the desired config.
+     * @param diff The difference between the topic in Kafka and the desired topic.
      * @return A future which is completed once the topic has been updated.
      */
-    Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic);
+    Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic, TopicDiff diff);
 
     /**
      * Asynchronously increase the topic's partitions in Kafka,
@@ -75,6 +77,20 @@ public interface Kafka {
      */
     Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic);
 
+    /**
+     * Asynchronously start changing the replication factor of the topic in Kafka,
+     * completing the returned Future with the progress of the change once it has been started.
+     * The partitions are reassigned in the background, so the change might not be finished yet
+     * when the returned Future completes.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topic The topic with the desired replication factor.
+     * @return A future which is completed with the progress of the change.
+     */
+    Future<ReplicationFactorChangeProgress> changeReplicationFactor(Reconciliation reconciliation, Topic topic);
+
     /**
      * Asynchronously fetch the topic metadata in Kafka,
      * completing the returned Future with the requested metadata.
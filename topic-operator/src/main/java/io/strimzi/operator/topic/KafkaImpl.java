@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -16,6 +18,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
@@ -38,19 +41,43 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    /* test */ static final int MAX_CONFIG_BATCH_SIZE = 500;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
 
+    private final long configBatchWindowMs;
+    private final ReplicationFactorChanger replicationFactorChanger;
+    private Map<ConfigResource, Collection<AlterConfigOp>> pendingConfigOps = new LinkedHashMap<>();
+    private Map<ConfigResource, Promise<Void>> pendingConfigResults = new LinkedHashMap<>();
+    private Long configBatchTimer = null;
+
     /**
-     * Constructor
+     * Constructor. The topic config updates are sent to Kafka right away without batching.
      *
      * @param adminClient  Instance of the Kafka AdminClient API
      * @param vertx        The Vertx instance
      */
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, 0, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient               Instance of the Kafka AdminClient API
+     * @param vertx                     The Vertx instance
+     * @param configBatchWindowMs       Time in milliseconds for which the topic config updates are collected before
+     *                                  they are sent to Kafka in a single request. The updates are not batched when it is 0.
+     * @param replicationFactorChanger  Changes the replication factor of the topics or null if the replication factor
+     *                                  changes are not supported
+     */
+    public KafkaImpl(Admin adminClient, Vertx vertx, long configBatchWindowMs, ReplicationFactorChanger replicationFactorChanger) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.configBatchWindowMs = configBatchWindowMs;
+        this.replicationFactorChanger = replicationFactorChanger;
     }
 
     /**
@@ -107,19 +134,78 @@ public class KafkaImpl implements Kafka {
 
 
     /**
-     * Updates the topic configuration via the Kafka AdminClient API
-     * (in a different thread) with the result.
+     * Updates the topic configuration via the Kafka AdminClient API using incremental config operations, so that only
+     * the config entries changed by the diff are sent. Updates of different topics which arrive within the batch window
+     * are sent to Kafka in a single request. The returned Future completes with the result for this topic only.
      *
      * @param reconciliation    Reconciliation marker
-     * @param topic             The Kafka Topic
+     * @param topic             The Kafka Topic with the desired config
+     * @param diff              The difference between the topic in Kafka and the desired topic
      * @return Future which completes when the topic is altered successfully.
      */
-    @SuppressWarnings("deprecation")
     @Override
-    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
-        Map<ConfigResource, Config> configs = TopicSerialization.toTopicConfig(topic);
-        KafkaFuture<Void> future = adminClient.alterConfigs(configs).values().get(configs.keySet().iterator().next());
-        return mapFuture(future);
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic, TopicDiff diff) {
+        Collection<AlterConfigOp> ops = TopicSerialization.toAlterConfigOps(diff);
+        if (ops.isEmpty()) {
+            LOGGER.debugCr(reconciliation, "No config changes for topic {}", topic.getTopicName());
+            return Future.succeededFuture();
+        }
+
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topic.getTopicName().toString());
+        Promise<Void> result = Promise.promise();
+        LOGGER.debugCr(reconciliation, "Updating config of topic {} with {}", topic.getTopicName(), diff);
+
+        synchronized (this) {
+            if (pendingConfigOps.containsKey(resource)) {
+                // A single request cannot alter the same topic twice => the earlier update is sent first
+                flushConfigUpdates();
+            }
+
+            pendingConfigOps.put(resource, ops);
+            pendingConfigResults.put(resource, result);
+
+            if (configBatchWindowMs <= 0 || pendingConfigOps.size() >= MAX_CONFIG_BATCH_SIZE) {
+                flushConfigUpdates();
+            } else if (configBatchTimer == null) {
+                configBatchTimer = vertx.setTimer(configBatchWindowMs, id -> {
+                    synchronized (this) {
+                        configBatchTimer = null;
+                        flushConfigUpdates();
+                    }
+                });
+            }
+        }
+
+        return result.future();
+    }
+
+    /**
+     * Sends all pending config updates in a single incrementalAlterConfigs request and completes the Future of each
+     * update with the result for its topic. The caller has to hold the lock of this instance.
+     */
+    private void flushConfigUpdates() {
+        if (configBatchTimer != null) {
+            vertx.cancelTimer(configBatchTimer);
+            configBatchTimer = null;
+        }
+
+        if (pendingConfigOps.isEmpty()) {
+            return;
+        }
+
+        Map<ConfigResource, Collection<AlterConfigOp>> request = pendingConfigOps;
+        Map<ConfigResource, Promise<Void>> results = pendingConfigResults;
+        pendingConfigOps = new LinkedHashMap<>();
+        pendingConfigResults = new LinkedHashMap<>();
+
+        LOGGER.debugOp("Updating config of {} topics", request.size());
+
+        try {
+            Map<ConfigResource, KafkaFuture<Void>> futures = adminClient.incrementalAlterConfigs(request).values();
+            results.forEach((resource, result) -> mapFuture(futures.get(resource)).onComplete(result));
+        } catch (Exception e) {
+            results.values().forEach(result -> result.fail(e));
+        }
     }
 
     /**
@@ -182,6 +268,27 @@ public class KafkaImpl implements Kafka {
         }
     }
 
+    /**
+     * Start changing the replication factor of a topic via the Kafka AdminClient API. The partitions are reassigned
+     * by the {@link ReplicationFactorChanger}.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param topic             The Kafka topic with the desired replication factor
+     * @return Future which completes with the progress of the change once it has been started
+     */
+    @Override
+    public Future<ReplicationFactorChangeProgress> changeReplicationFactor(Reconciliation reconciliation, Topic topic) {
+        if (replicationFactorChanger == null) {
+            return Future.failedFuture(new UnsupportedOperationException("Changing the replication factor is not enabled"));
+        }
+
+        try {
+            return replicationFactorChanger.changeReplicationFactor(reconciliation, topic.getTopicName(), topic.getNumReplicas());
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     /**
      * Create a new topic via the Kafka AdminClient API, calling the given handler
      * (in a different thread) with the result.
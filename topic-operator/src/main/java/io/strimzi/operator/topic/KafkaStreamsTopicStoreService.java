@@ -8,7 +8,8 @@ import io.apicurio.registry.utils.kafka.AsyncProducer;
 import io.apicurio.registry.utils.kafka.ProducerActions;
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
-import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.KafkaFuture;
@@ -39,10 +40,27 @@ public class KafkaStreamsTopicStoreService {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamsTopicStoreService.class);
 
     private final List<AutoCloseable> closeables = new ArrayList<>();
+    private final MeterRegistry metrics;
 
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
 
+    /**
+     * Constructor
+     */
+    public KafkaStreamsTopicStoreService() {
+        this(BackendRegistries.getDefaultNow());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param metrics   Meter registry used for the metrics or null if the metrics should not be collected
+     */
+    /* test */ KafkaStreamsTopicStoreService(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
     protected CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
         String storeName = config.get(Config.STORE_NAME);
@@ -120,11 +138,20 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        boolean persistent = config.get(Config.USE_PERSISTENT_TOPIC_STORE);
+        String stateDir = config.get(Config.STORE_STATE_DIR);
+        if (persistent) {
+            LOGGER.info("Using persistent store in state directory {}", stateDir.isEmpty() ? "(default)" : stateDir);
+            if (!stateDir.isEmpty()) {
+                streamsProperties.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+            }
+        }
+
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, persistent, streamsProperties, dispatcher).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
-        streams.setGlobalStateRestoreListener(new LoggingStateRestoreListener());
+        streams.setGlobalStateRestoreListener(new TopicStoreRestoreListener(metrics));
         closeables.add(streams);
         streams.start();
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+/**
+ * Snapshot of the progress of a replication factor change of a single topic
+ */
+public class ReplicationFactorChangeProgress {
+    private final TopicName topicName;
+    private final short targetReplicationFactor;
+    private final int totalPartitions;
+    private final int completedPartitions;
+    private final int inProgressPartitions;
+
+    /**
+     * Constructor
+     *
+     * @param topicName                 Name of the topic
+     * @param targetReplicationFactor   The desired replication factor
+     * @param totalPartitions           Number of partitions which have to be reassigned
+     * @param completedPartitions       Number of partitions which were already reassigned
+     * @param inProgressPartitions      Number of partitions which are being reassigned right now
+     */
+    public ReplicationFactorChangeProgress(TopicName topicName, short targetReplicationFactor, int totalPartitions, int completedPartitions, int inProgressPartitions) {
+        this.topicName = topicName;
+        this.targetReplicationFactor = targetReplicationFactor;
+        this.totalPartitions = totalPartitions;
+        this.completedPartitions = completedPartitions;
+        this.inProgressPartitions = inProgressPartitions;
+    }
+
+    /**
+     * @return  Name of the topic
+     */
+    public TopicName getTopicName() {
+        return topicName;
+    }
+
+    /**
+     * @return  The desired replication factor
+     */
+    public short getTargetReplicationFactor() {
+        return targetReplicationFactor;
+    }
+
+    /**
+     * @return  Number of partitions which have to be reassigned
+     */
+    public int getTotalPartitions() {
+        return totalPartitions;
+    }
+
+    /**
+     * @return  Number of partitions which were already reassigned
+     */
+    public int getCompletedPartitions() {
+        return completedPartitions;
+    }
+
+    /**
+     * @return  Number of partitions which are being reassigned right now
+     */
+    public int getInProgressPartitions() {
+        return inProgressPartitions;
+    }
+
+    /**
+     * @return  True if all partitions have the desired replication factor
+     */
+    public boolean isDone() {
+        return completedPartitions >= totalPartitions;
+    }
+
+    @Override
+    public String toString() {
+        return "Reassigned " + completedPartitions + " of " + totalPartitions + " partitions of topic " + topicName
+                + " to replication factor " + targetReplicationFactor + " (" + inProgressPartitions + " in progress)";
+    }
+}
@@ -0,0 +1,868 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.micrometer.backends.BackendRegistries;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+
+/**
+ * Changes the replication factor of topics by reassigning their partitions. The new replicas are assigned rack-aware:
+ * a new replica is placed on a rack which does not have a replica of the partition yet whenever possible, and the
+ * replicas which are removed are taken from racks with more than one replica first. The preferred leader is never
+ * removed.
+ *
+ * The reassignments of all topics share a bound on the number of partitions being moved at the same time. The
+ * remaining partitions wait until the progress verification, which runs periodically, finds that some of the moves
+ * completed. While any reassignment is in progress, the replication traffic of the moved replicas is throttled to
+ * the configured rate in the same way as kafka-reassign-partitions does it: the leader throttle covers the existing
+ * replicas of the moved partitions and the follower throttle covers the new replicas. The throttled replicas are
+ * added to the ones already configured on the topic, and the throttle rates the brokers had before are restored once
+ * the reassignments complete.
+ *
+ * The reassignments which change the replication factor are recovered from Kafka by {@link #recover()}, so that a
+ * restarted operator finishes them and removes their throttles. The throttle rates the brokers had before the restart
+ * cannot be recovered. The brokers whose rate is the configured throttle rate get it removed.
+ */
+public class ReplicationFactorChanger {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReplicationFactorChanger.class);
+
+    /* test */ static final String LEADER_THROTTLED_RATE = "leader.replication.throttled.rate";
+    /* test */ static final String FOLLOWER_THROTTLED_RATE = "follower.replication.throttled.rate";
+    /* test */ static final String LEADER_THROTTLED_REPLICAS = "leader.replication.throttled.replicas";
+    /* test */ static final String FOLLOWER_THROTTLED_REPLICAS = "follower.replication.throttled.replicas";
+    private static final List<String> THROTTLED_RATES = List.of(LEADER_THROTTLED_RATE, FOLLOWER_THROTTLED_RATE);
+
+    /* test */ static final String PENDING_METRIC = TopicOperator.METRICS_PREFIX + "reassignment.partitions.pending";
+    /* test */ static final String IN_PROGRESS_METRIC = TopicOperator.METRICS_PREFIX + "reassignment.partitions.in.progress";
+    /* test */ static final String COMPLETED_METRIC = TopicOperator.METRICS_PREFIX + "reassignment.partitions.completed";
+
+    private final Admin adminClient;
+    private final Vertx vertx;
+    private final long throttleRate;
+    private final long verifyIntervalMs;
+    private final int maxPartitionMovements;
+    private final Counter completedPartitions;
+
+    private final Map<TopicName, TopicChange> changes = new LinkedHashMap<>();
+    private final Map<TopicName, Throwable> failures = new HashMap<>();
+    // The throttle rates of the brokers before they were throttled. A missing rate means it was not set.
+    private final Map<Integer, Map<String, String>> throttledBrokers = new HashMap<>();
+    private Handler<TopicName> completionHandler = null;
+    private Long verifyTimer = null;
+
+    /**
+     * The state of the replication factor change of a single topic
+     */
+    private static class TopicChange {
+        private final TopicName topicName;
+        private final short replicationFactor;
+        private final boolean recovered;
+        private final Deque<Map.Entry<TopicPartition, List<Integer>>> pending;
+        private final Set<TopicPartition> inProgress = new HashSet<>();
+        private final Set<TopicPartition> submitted = new HashSet<>();
+        private final Set<Integer> brokers = new HashSet<>();
+        // The throttled replicas in the partition:broker format which were added to the topic config by this change
+        private final Set<String> leaderThrottledReplicas = new TreeSet<>();
+        private final Set<String> followerThrottledReplicas = new TreeSet<>();
+        private boolean throttled = false;
+        private int total;
+        private int completed = 0;
+
+        TopicChange(TopicName topicName, short replicationFactor, boolean recovered) {
+            this.topicName = topicName;
+            this.replicationFactor = replicationFactor;
+            this.recovered = recovered;
+            this.pending = new ArrayDeque<>();
+        }
+
+        /**
+         * Adds a partition which should be moved from its current replicas to the target replicas
+         */
+        void addMove(TopicPartition partition, List<Integer> current, List<Integer> target) {
+            total++;
+            pending.add(Map.entry(partition, target));
+            addThrottledReplicas(partition, current, target);
+        }
+
+        /**
+         * Adds a partition whose reassignment is already in progress in Kafka
+         */
+        void addInProgress(TopicPartition partition, List<Integer> current, List<Integer> target) {
+            total++;
+            inProgress.add(partition);
+            submitted.add(partition);
+            addThrottledReplicas(partition, current, target);
+        }
+
+        private void addThrottledReplicas(TopicPartition partition, List<Integer> current, List<Integer> target) {
+            for (Integer broker : current) {
+                leaderThrottledReplicas.add(partition.partition() + ":" + broker);
+            }
+
+            for (Integer broker : target) {
+                if (!current.contains(broker)) {
+                    followerThrottledReplicas.add(partition.partition() + ":" + broker);
+                }
+            }
+
+            brokers.addAll(current);
+            brokers.addAll(target);
+        }
+
+        boolean isDone() {
+            return pending.isEmpty() && inProgress.isEmpty();
+        }
+
+        ReplicationFactorChangeProgress progress() {
+            return new ReplicationFactorChangeProgress(topicName, replicationFactor, total, completed, inProgress.size());
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param adminClient               Instance of the Kafka AdminClient API
+     * @param vertx                     The Vertx instance
+     * @param throttleRate              Replication throttle in bytes per second. {@code Long.MAX_VALUE} disables the throttle.
+     * @param verifyIntervalMs          Interval in milliseconds in which the progress of the reassignments is verified
+     * @param maxPartitionMovements     Maximal number of partitions which are reassigned at the same time
+     */
+    public ReplicationFactorChanger(Admin adminClient, Vertx vertx, long throttleRate, long verifyIntervalMs, int maxPartitionMovements) {
+        this(adminClient, vertx, throttleRate, verifyIntervalMs, maxPartitionMovements, BackendRegistries.getDefaultNow());
+    }
+
+    /* test */ ReplicationFactorChanger(Admin adminClient, Vertx vertx, long throttleRate, long verifyIntervalMs, int maxPartitionMovements, MeterRegistry metrics) {
+        this.adminClient = adminClient;
+        this.vertx = vertx;
+        this.throttleRate = throttleRate;
+        this.verifyIntervalMs = verifyIntervalMs;
+        this.maxPartitionMovements = maxPartitionMovements;
+
+        if (metrics != null) {
+            Gauge.builder(PENDING_METRIC, this, ReplicationFactorChanger::pendingPartitions)
+                    .description("Number of partitions waiting to be reassigned to change the replication factor of their topic")
+                    .register(metrics);
+            Gauge.builder(IN_PROGRESS_METRIC, this, ReplicationFactorChanger::inProgressPartitions)
+                    .description("Number of partitions being reassigned to change the replication factor of their topic")
+                    .register(metrics);
+            this.completedPartitions = Counter.builder(COMPLETED_METRIC)
+                    .description("Number of partitions reassigned to change the replication factor of their topic")
+                    .register(metrics);
+        } else {
+            this.completedPartitions = null;
+        }
+    }
+
+    /**
+     * Sets the handler which is called with the name of the topic whenever all partitions of a topic were reassigned
+     * to the new replication factor.
+     *
+     * @param completionHandler     Handler called with the name of the topic
+     */
+    public synchronized void completionHandler(Handler<TopicName> completionHandler) {
+        this.completionHandler = completionHandler;
+    }
+
+    /**
+     * Recovers the replication factor changes which were in progress when the operator was stopped. The partition
+     * reassignments in progress which change the number of replicas of their partition are tracked again, and the
+     * brokers involved in them which have the configured throttle rate are considered to be throttled by this
+     * operator. Once the recovered reassignments of a topic complete, the remaining partitions of the topic are
+     * reassigned as well.
+     *
+     * @return  Future which completes once the state was recovered
+     */
+    public Future<Void> recover() {
+        return mapFuture(adminClient.listPartitionReassignments().reassignments())
+                .compose(reassignments -> {
+                    Map<TopicName, TopicChange> recovered = new LinkedHashMap<>();
+
+                    for (Map.Entry<TopicPartition, PartitionReassignment> entry : reassignments.entrySet()) {
+                        PartitionReassignment reassignment = entry.getValue();
+                        List<Integer> current = new ArrayList<>(reassignment.replicas());
+                        current.removeAll(reassignment.addingReplicas());
+                        List<Integer> target = new ArrayList<>(reassignment.replicas());
+                        target.removeAll(reassignment.removingReplicas());
+
+                        if (current.size() == target.size()) {
+                            // Does not change the replication factor, so it was not started by this operator
+                            continue;
+                        }
+
+                        TopicName topicName = new TopicName(entry.getKey().topic());
+                        recovered.computeIfAbsent(topicName, t -> new TopicChange(t, (short) target.size(), true))
+                                .addInProgress(entry.getKey(), current, target);
+                    }
+
+                    if (recovered.isEmpty()) {
+                        return Future.succeededFuture();
+                    }
+
+                    Set<Integer> brokers = recovered.values().stream().flatMap(c -> c.brokers.stream()).collect(Collectors.toSet());
+                    LOGGER.infoOp("Recovered the replication factor changes of topics {} which were in progress", recovered.keySet());
+
+                    return recoverThrottledBrokers(brokers)
+                            .map(i -> {
+                                synchronized (this) {
+                                    recovered.forEach((topicName, change) -> {
+                                        change.throttled = true;
+                                        changes.putIfAbsent(topicName, change);
+                                    });
+                                }
+
+                                submitPending();
+                                return null;
+                            });
+                });
+    }
+
+    /**
+     * Marks the brokers which have the configured throttle rate set as throttled
+     */
+    private Future<Void> recoverThrottledBrokers(Set<Integer> brokers) {
+        if (throttleRate == Long.MAX_VALUE) {
+            return Future.succeededFuture();
+        }
+
+        List<ConfigResource> resources = brokers.stream()
+                .map(broker -> new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker)))
+                .collect(Collectors.toList());
+
+        return mapFuture(adminClient.describeConfigs(resources).all())
+                .map(configs -> {
+                    synchronized (this) {
+                        configs.forEach((resource, config) -> {
+                            boolean throttled = THROTTLED_RATES.stream()
+                                    .allMatch(name -> String.valueOf(throttleRate).equals(dynamicValue(config, name, ConfigEntry.ConfigSource.DYNAMIC_BROKER_CONFIG)));
+
+                            if (throttled) {
+                                throttledBrokers.putIfAbsent(Integer.valueOf(resource.name()), new HashMap<>());
+                            }
+                        });
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * Starts changing the replication factor of the topic. When a change to the same replication factor is already in
+     * progress, it only returns its progress.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param topicName             Name of the topic
+     * @param replicationFactor     The desired replication factor
+     *
+     * @return  Future which completes with the progress of the change once it has been started. It fails when the
+     *          previous change of this topic failed or when a change to a different replication factor is in progress.
+     */
+    public Future<ReplicationFactorChangeProgress> changeReplicationFactor(Reconciliation reconciliation, TopicName topicName, short replicationFactor) {
+        synchronized (this) {
+            Throwable failure = failures.remove(topicName);
+            if (failure != null) {
+                return Future.failedFuture(failure);
+            }
+
+            TopicChange change = changes.get(topicName);
+            if (change != null) {
+                if (change.replicationFactor == replicationFactor) {
+                    return Future.succeededFuture(change.progress());
+                } else {
+                    return Future.failedFuture(new IllegalStateException("The replication factor of topic " + topicName
+                            + " is already being changed to " + change.replicationFactor + ". It can be changed again once that completes."));
+                }
+            }
+        }
+
+        String name = topicName.toString();
+        Future<Collection<Node>> nodesFuture = mapFuture(adminClient.describeCluster().nodes());
+        Future<TopicDescription> descriptionFuture = mapFuture(adminClient.describeTopics(singleton(name)).topicNameValues().get(name));
+
+        return nodesFuture
+                .compose(nodes -> descriptionFuture.map(description -> {
+                    Map<Integer, String> racks = new TreeMap<>();
+                    for (Node node : nodes) {
+                        racks.put(node.id(), node.rack());
+                    }
+
+                    Map<Integer, List<Integer>> current = new TreeMap<>();
+                    for (TopicPartitionInfo partition : description.partitions()) {
+                        current.put(partition.partition(), partition.replicas().stream().map(Node::id).collect(Collectors.toList()));
+                    }
+
+                    TopicChange change = new TopicChange(topicName, replicationFactor, false);
+                    assignReplicas(current, racks, replicationFactor).forEach((partition, replicas) -> {
+                        if (!replicas.equals(current.get(partition))) {
+                            change.addMove(new TopicPartition(name, partition), current.get(partition), replicas);
+                        }
+                    });
+
+                    return change;
+                }))
+                .compose(candidate -> {
+                    if (candidate.isDone()) {
+                        LOGGER.debugCr(reconciliation, "All partitions of topic {} already have replication factor {}", topicName, replicationFactor);
+                        return Future.succeededFuture(candidate.progress());
+                    }
+
+                    TopicChange change;
+                    synchronized (this) {
+                        change = changes.putIfAbsent(topicName, candidate);
+                    }
+
+                    if (change != null) {
+                        // Another reconciliation started the change in the meantime
+                        return Future.succeededFuture(change.progress());
+                    }
+
+                    LOGGER.infoCr(reconciliation, "Changing the replication factor of topic {} to {} by reassigning {} partitions", topicName, replicationFactor, candidate.total);
+                    return throttle(candidate)
+                            .recover(e -> {
+                                // The error is returned right away, so it is not kept for the next attempt
+                                fail(topicName, e);
+                                synchronized (this) {
+                                    failures.remove(topicName);
+                                }
+
+                                return Future.failedFuture(e);
+                            })
+                            .map(i -> {
+                                synchronized (this) {
+                                    candidate.throttled = true;
+                                }
+
+                                submitPending();
+                                return candidate.progress();
+                            });
+                });
+    }
+
+    /**
+     * @param topicName     Name of the topic
+     *
+     * @return  The progress of the replication factor change of the topic or null if there is none in progress
+     */
+    public synchronized ReplicationFactorChangeProgress progress(TopicName topicName) {
+        TopicChange change = changes.get(topicName);
+        return change != null ? change.progress() : null;
+    }
+
+    /* test */ synchronized int pendingPartitions() {
+        return changes.values().stream().mapToInt(c -> c.pending.size()).sum();
+    }
+
+    /* test */ synchronized int inProgressPartitions() {
+        return changes.values().stream().mapToInt(c -> c.inProgress.size()).sum();
+    }
+
+    /**
+     * Computes the new replica assignment of a topic with the desired replication factor. The existing replicas are
+     * kept wherever possible and the first replica (the preferred leader) is never removed.
+     *
+     * @param current               Current assignment of the partitions to the brokers
+     * @param brokerRacks           Racks of the brokers in the cluster. Brokers without a rack have a null value.
+     * @param replicationFactor     The desired replication factor
+     *
+     * @return  The new assignment of the partitions
+     */
+    /* test */ static Map<Integer, List<Integer>> assignReplicas(Map<Integer, List<Integer>> current, Map<Integer, String> brokerRacks, int replicationFactor) {
+        if (replicationFactor > brokerRacks.size()) {
+            throw new InvalidReplicationFactorException("Replication factor " + replicationFactor
+                    + " is larger than the number of brokers " + brokerRacks.size());
+        }
+
+        // Brokers without a rack are treated as if each of them was in its own rack
+        Map<Integer, String> racks = new HashMap<>();
+        brokerRacks.forEach((broker, rack) -> racks.put(broker, rack != null ? rack : "broker-" + broker));
+
+        Map<Integer, Integer> load = new HashMap<>();
+        brokerRacks.keySet().forEach(broker -> load.put(broker, 0));
+        current.values().forEach(replicas -> replicas.forEach(broker -> load.merge(broker, 1, Integer::sum)));
+
+        List<Integer> brokers = new ArrayList<>(new TreeMap<>(brokerRacks).keySet());
+        Map<Integer, List<Integer>> target = new TreeMap<>();
+
+        for (Map.Entry<Integer, List<Integer>> partition : new TreeMap<>(current).entrySet()) {
+            List<Integer> replicas = new ArrayList<>(partition.getValue());
+            int leaderIndex = Math.max(brokers.indexOf(replicas.get(0)), 0);
+
+            while (replicas.size() < replicationFactor) {
+                Set<String> usedRacks = replicas.stream().map(racks::get).collect(Collectors.toSet());
+                // Ties are broken by the distance from the leader, so that the partitions with different leaders get
+                // their new replicas on different brokers
+                int broker = brokers.stream()
+                        .filter(candidate -> !replicas.contains(candidate))
+                        .min(Comparator.<Integer>comparingInt(candidate -> usedRacks.contains(racks.get(candidate)) ? 1 : 0)
+                                .thenComparingInt(load::get)
+                                .thenComparingInt(candidate -> Math.floorMod(brokers.indexOf(candidate) - leaderIndex, brokers.size())))
+                        .orElseThrow();
+                replicas.add(broker);
+                load.merge(broker, 1, Integer::sum);
+            }
+
+            while (replicas.size() > replicationFactor) {
+                Map<String, Long> replicasPerRack = replicas.stream().collect(Collectors.groupingBy(racks::get, Collectors.counting()));
+                int broker = replicas.subList(1, replicas.size()).stream()
+                        .max(Comparator.<Integer>comparingLong(candidate -> replicasPerRack.get(racks.get(candidate)))
+                                .thenComparingInt(candidate -> load.getOrDefault(candidate, 0))
+                                .thenComparingInt(candidate -> candidate))
+                        .orElseThrow();
+                replicas.remove(Integer.valueOf(broker));
+                load.merge(broker, -1, Integer::sum);
+            }
+
+            target.put(partition.getKey(), replicas);
+        }
+
+        return target;
+    }
+
+
+    /**
+     * Submits the pending partition reassignments, as long as the maximal number of partition movements is not reached
+     */
+    private void submitPending() {
+        Map<TopicPartition, Optional<NewPartitionReassignment>> batch = new LinkedHashMap<>();
+        Map<TopicPartition, TopicName> topics = new HashMap<>();
+
+        synchronized (this) {
+            int free = maxPartitionMovements - changes.values().stream().mapToInt(c -> c.inProgress.size()).sum();
+
+            for (TopicChange change : changes.values()) {
+                while (change.throttled && free > 0 && !change.pending.isEmpty()) {
+                    Map.Entry<TopicPartition, List<Integer>> move = change.pending.poll();
+                    batch.put(move.getKey(), Optional.of(new NewPartitionReassignment(move.getValue())));
+                    topics.put(move.getKey(), change.topicName);
+                    change.inProgress.add(move.getKey());
+                    free--;
+                }
+            }
+
+            if (verifyTimer == null && !changes.isEmpty()) {
+                verifyTimer = vertx.setPeriodic(verifyIntervalMs, id -> verify());
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            LOGGER.debugOp("Submitting reassignment of {} partitions", batch.size());
+
+            Map<TopicPartition, KafkaFuture<Void>> results;
+            try {
+                results = adminClient.alterPartitionReassignments(batch).values();
+            } catch (Exception e) {
+                topics.values().stream().distinct().forEach(topicName -> fail(topicName, e));
+                return;
+            }
+
+            results.forEach((partition, result) -> mapFuture(result).onComplete(res -> {
+                if (res.succeeded()) {
+                    synchronized (this) {
+                        TopicChange change = changes.get(topics.get(partition));
+                        if (change != null) {
+                            change.submitted.add(partition);
+                        }
+                    }
+                } else {
+                    fail(topics.get(partition), res.cause());
+                }
+            }));
+        }
+    }
+
+    /**
+     * Verifies which of the submitted partition reassignments completed. The topics whose partitions were all
+     * reassigned have their throttles removed and the next pending partitions are submitted.
+     */
+    private void verify() {
+        Set<TopicPartition> submitted;
+        synchronized (this) {
+            submitted = changes.values().stream().flatMap(c -> c.submitted.stream()).collect(Collectors.toSet());
+        }
+
+        if (submitted.isEmpty()) {
+            return;
+        }
+
+        mapFuture(adminClient.listPartitionReassignments(submitted).reassignments()).onComplete(res -> {
+            if (res.failed()) {
+                LOGGER.warnOp("Failed to verify the progress of the partition reassignments", res.cause());
+                return;
+            }
+
+            List<TopicChange> done = new ArrayList<>();
+            boolean allDone;
+
+            synchronized (this) {
+                for (TopicChange change : changes.values()) {
+                    for (TopicPartition partition : new ArrayList<>(change.submitted)) {
+                        if (!res.result().containsKey(partition)) {
+                            change.submitted.remove(partition);
+                            change.inProgress.remove(partition);
+                            change.completed++;
+
+                            if (completedPartitions != null) {
+                                completedPartitions.increment();
+                            }
+                        }
+                    }
+
+                    if (change.isDone()) {
+                        done.add(change);
+                    } else {
+                        LOGGER.infoOp("{}", change.progress());
+                    }
+                }
+
+                done.forEach(change -> changes.remove(change.topicName));
+                allDone = changes.isEmpty();
+            }
+
+            for (TopicChange change : done) {
+                removeTopicThrottle(change);
+            }
+
+            if (allDone) {
+                stopVerification();
+            } else {
+                submitPending();
+            }
+
+            for (TopicChange change : done) {
+                if (change.recovered) {
+                    resume(change);
+                } else {
+                    completed(change.topicName);
+                }
+            }
+        });
+    }
+
+    /**
+     * Continues the recovered replication factor change of a topic with the partitions which were not reassigned
+     * before the operator was restarted
+     */
+    private void resume(TopicChange change) {
+        LOGGER.infoOp("The recovered reassignments of topic {} completed, reassigning its remaining partitions", change.topicName);
+
+        Reconciliation reconciliation = new Reconciliation("recovery", KafkaTopic.RESOURCE_KIND, null, change.topicName.toString());
+        changeReplicationFactor(reconciliation, change.topicName, change.replicationFactor)
+                .onSuccess(progress -> {
+                    if (progress.isDone()) {
+                        completed(change.topicName);
+                    }
+                })
+                .onFailure(e -> LOGGER.warnCr(reconciliation, "Failed to resume the replication factor change of topic {}", change.topicName, e));
+    }
+
+    private void completed(TopicName topicName) {
+        LOGGER.infoOp("The replication factor of topic {} was changed", topicName);
+
+        Handler<TopicName> handler;
+        synchronized (this) {
+            handler = completionHandler;
+        }
+
+        if (handler != null) {
+            handler.handle(topicName);
+        }
+    }
+
+    /**
+     * Stops tracking the replication factor change of the topic after one of its reassignments failed. The error is
+     * returned by the next attempt to change the replication factor of the topic.
+     */
+    private void fail(TopicName topicName, Throwable error) {
+        TopicChange change;
+        boolean allDone;
+
+        synchronized (this) {
+            change = changes.remove(topicName);
+            if (change == null) {
+                return;
+            }
+
+            failures.put(topicName, error);
+            allDone = changes.isEmpty();
+        }
+
+        LOGGER.warnOp("Failed to change the replication factor of topic {}", topicName, error);
+        removeTopicThrottle(change);
+
+        if (allDone) {
+            stopVerification();
+        }
+    }
+
+    /**
+     * Stops the progress verification and restores the throttle rates the brokers had before, once no change is in
+     * progress anymore
+     */
+    private void stopVerification() {
+        Map<Integer, Map<String, String>> brokers;
+
+        synchronized (this) {
+            if (!changes.isEmpty()) {
+                return;
+            }
+
+            if (verifyTimer != null) {
+                vertx.cancelTimer(verifyTimer);
+                verifyTimer = null;
+            }
+
+            brokers = new TreeMap<>(throttledBrokers);
+            throttledBrokers.clear();
+        }
+
+        if (!brokers.isEmpty()) {
+            Map<ConfigResource, Collection<AlterConfigOp>> configs = new LinkedHashMap<>();
+            brokers.forEach((broker, previousRates) -> configs.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker)),
+                    THROTTLED_RATES.stream()
+                            .map(name -> previousRates.get(name) != null
+                                    ? new AlterConfigOp(new ConfigEntry(name, previousRates.get(name)), AlterConfigOp.OpType.SET)
+                                    : new AlterConfigOp(new ConfigEntry(name, null), AlterConfigOp.OpType.DELETE))
+                            .collect(Collectors.toList())));
+
+            alterConfigs(configs, "restore the replication throttle rates of brokers " + brokers.keySet());
+        }
+    }
+
+    /**
+     * Adds the replicas moved by the change to the throttled replicas of the topic and sets the throttle rate on the
+     * brokers which are not throttled yet. The previous throttle rates of the brokers are kept, so that they can be
+     * restored later.
+     */
+    private Future<Void> throttle(TopicChange change) {
+        if (throttleRate == Long.MAX_VALUE) {
+            return Future.succeededFuture();
+        }
+
+        ConfigResource topicResource = new ConfigResource(ConfigResource.Type.TOPIC, change.topicName.toString());
+        List<ConfigResource> resources = new ArrayList<>(singletonList(topicResource));
+        Set<String> leaderReplicas;
+        Set<String> followerReplicas;
+        Set<Integer> brokers = new TreeSet<>();
+
+        synchronized (this) {
+            // Only the replicas which were not throttled before are tracked by the change, so that only they are removed later
+            leaderReplicas = new TreeSet<>(change.leaderThrottledReplicas);
+            followerReplicas = new TreeSet<>(change.followerThrottledReplicas);
+            change.leaderThrottledReplicas.clear();
+            change.followerThrottledReplicas.clear();
+
+            for (Integer broker : change.brokers) {
+                if (!throttledBrokers.containsKey(broker)) {
+                    throttledBrokers.put(broker, new HashMap<>());
+                    brokers.add(broker);
+                    resources.add(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker)));
+                }
+            }
+        }
+
+        return mapFuture(adminClient.describeConfigs(resources).all())
+                .onFailure(e -> {
+                    synchronized (this) {
+                        brokers.forEach(throttledBrokers::remove);
+                    }
+                })
+                .compose(configs -> {
+                    Map<ConfigResource, Collection<AlterConfigOp>> ops = new LinkedHashMap<>();
+                    List<AlterConfigOp> topicOps = new ArrayList<>();
+
+                    synchronized (this) {
+                        addThrottledReplicas(configs.get(topicResource), LEADER_THROTTLED_REPLICAS, leaderReplicas, change.leaderThrottledReplicas, topicOps);
+                        addThrottledReplicas(configs.get(topicResource), FOLLOWER_THROTTLED_REPLICAS, followerReplicas, change.followerThrottledReplicas, topicOps);
+
+                        if (!topicOps.isEmpty()) {
+                            ops.put(topicResource, topicOps);
+                        }
+
+                        for (Integer broker : brokers) {
+                            ConfigResource brokerResource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker));
+                            Map<String, String> previousRates = throttledBrokers.computeIfAbsent(broker, b -> new HashMap<>());
+
+                            for (String name : THROTTLED_RATES) {
+                                String previousRate = dynamicValue(configs.get(brokerResource), name, ConfigEntry.ConfigSource.DYNAMIC_BROKER_CONFIG);
+                                if (previousRate != null) {
+                                    previousRates.put(name, previousRate);
+                                }
+                            }
+
+                            ops.put(brokerResource, THROTTLED_RATES.stream()
+                                    .map(name -> new AlterConfigOp(new ConfigEntry(name, String.valueOf(throttleRate)), AlterConfigOp.OpType.SET))
+                                    .collect(Collectors.toList()));
+                        }
+                    }
+
+                    return ops.isEmpty() ? Future.succeededFuture() : mapFuture(adminClient.incrementalAlterConfigs(ops).all());
+                });
+    }
+
+    /**
+     * Removes the replicas which were throttled by the change from the throttled replicas of the topic
+     */
+    private void removeTopicThrottle(TopicChange change) {
+        Set<String> leaderReplicas;
+        Set<String> followerReplicas;
+
+        synchronized (this) {
+            leaderReplicas = new TreeSet<>(change.leaderThrottledReplicas);
+            followerReplicas = new TreeSet<>(change.followerThrottledReplicas);
+        }
+
+        if (throttleRate == Long.MAX_VALUE || (leaderReplicas.isEmpty() && followerReplicas.isEmpty())) {
+            return;
+        }
+
+        ConfigResource topicResource = new ConfigResource(ConfigResource.Type.TOPIC, change.topicName.toString());
+        String description = "remove the replication throttle from topic " + change.topicName;
+
+        try {
+            mapFuture(adminClient.describeConfigs(singletonList(topicResource)).all())
+                    .onSuccess(configs -> {
+                        List<AlterConfigOp> ops = new ArrayList<>();
+                        removeThrottledReplicas(configs.get(topicResource), LEADER_THROTTLED_REPLICAS, leaderReplicas, ops);
+                        removeThrottledReplicas(configs.get(topicResource), FOLLOWER_THROTTLED_REPLICAS, followerReplicas, ops);
+
+                        if (!ops.isEmpty()) {
+                            alterConfigs(Map.of(topicResource, ops), description);
+                        }
+                    })
+                    .onFailure(e -> LOGGER.warnOp("Failed to {}", description, e));
+        } catch (Exception e) {
+            LOGGER.warnOp("Failed to {}", description, e);
+        }
+    }
+
+    /**
+     * Adds the replicas to the throttled replicas config of the topic, unless all replicas of the topic are throttled
+     * already. The replicas which were not throttled before are added to the added set.
+     */
+    private static void addThrottledReplicas(Config config, String name, Set<String> replicas, Set<String> added, List<AlterConfigOp> ops) {
+        Set<String> throttled = throttledReplicas(config, name);
+        if (throttled.contains("*")) {
+            return;
+        }
+
+        for (String replica : replicas) {
+            if (throttled.add(replica)) {
+                added.add(replica);
+            }
+        }
+
+        if (!added.isEmpty()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(name, String.join(",", throttled)), AlterConfigOp.OpType.SET));
+        }
+    }
+
+    /**
+     * Removes the replicas from the throttled replicas config of the topic. The config is deleted when no throttled
+     * replica remains.
+     */
+    private static void removeThrottledReplicas(Config config, String name, Set<String> replicas, List<AlterConfigOp> ops) {
+        Set<String> throttled = throttledReplicas(config, name);
+        if (!throttled.removeAll(replicas)) {
+            return;
+        }
+
+        if (throttled.isEmpty()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(name, null), AlterConfigOp.OpType.DELETE));
+        } else {
+            ops.add(new AlterConfigOp(new ConfigEntry(name, String.join(",", throttled)), AlterConfigOp.OpType.SET));
+        }
+    }
+
+    private static Set<String> throttledReplicas(Config config, String name) {
+        Set<String> replicas = new LinkedHashSet<>();
+        String value = dynamicValue(config, name, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG);
+
+        if (value != null) {
+            for (String replica : value.split(",")) {
+                if (!replica.isBlank()) {
+                    replicas.add(replica.trim());
+                }
+            }
+        }
+
+        return replicas;
+    }
+
+    /**
+     * @return  The value of the config when it is set from the given source or null otherwise
+     */
+    private static String dynamicValue(Config config, String name, ConfigEntry.ConfigSource source) {
+        ConfigEntry entry = config != null ? config.get(name) : null;
+        return entry != null && entry.source() == source ? entry.value() : null;
+    }
+
+    private void alterConfigs(Map<ConfigResource, Collection<AlterConfigOp>> configs, String description) {
+        try {
+            mapFuture(adminClient.incrementalAlterConfigs(configs).all())
+                    .onFailure(e -> LOGGER.warnOp("Failed to {}", description, e));
+        } catch (Exception e) {
+            LOGGER.warnOp("Failed to {}", description, e);
+        }
+    }
+
+    private <T> Future<T> mapFuture(KafkaFuture<T> future) {
+        Promise<T> handler = Promise.promise();
+        try {
+            future.whenComplete((result, error) -> {
+                vertx.runOnContext(ignored -> {
+                    if (error != null) {
+                        handler.fail(error);
+                    } else {
+                        handler.complete(result);
+                    }
+                });
+            });
+        } catch (Exception e) {
+            handler.fail(e);
+        }
+        return handler.future();
+    }
+}
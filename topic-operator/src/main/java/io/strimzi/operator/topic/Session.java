@@ -11,6 +11,7 @@ import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.KubernetesOperationExecutor;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Context;
@@ -18,6 +19,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpServer;
 import io.vertx.micrometer.backends.BackendRegistries;
@@ -35,6 +37,7 @@ import io.strimzi.operator.common.InvalidConfigurationException;
 import java.security.Security;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -63,6 +66,9 @@ public class Session extends AbstractVerticle {
     // this field is required to keep the underlying shared worker pool alive
     @SuppressWarnings("unused")
     private WorkerExecutor kubernetesOpsExecutor;
+    // this field is required to keep the underlying shared worker pools alive
+    @SuppressWarnings("unused")
+    private List<WorkerExecutor> kubernetesOperationExecutors;
     private final TopicOperatorState topicOperatorState;
     private final KubernetesClient kubeClient;
     private final BiFunction<Zk, Config, TopicStore> topicStoreCreator;
@@ -70,6 +76,7 @@ public class Session extends AbstractVerticle {
 
     /*test*/ KafkaImpl kafka;
     private AdminClient adminClient;
+    private ReplicationFactorChanger replicationFactorChanger; // if used
     /*test*/ K8sImpl k8s;
     private KafkaStreamsTopicStoreService service; // if used
     /*test*/ TopicOperator topicOperator;
@@ -127,6 +134,7 @@ public class Session extends AbstractVerticle {
         super.init(vertx, context);
         executor = vertx.createSharedWorkerExecutor("blocking-startup-ops", 1);
         kubernetesOpsExecutor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+        kubernetesOperationExecutors = KubernetesOperationExecutor.createPools(vertx, VertxOptions.DEFAULT_WORKER_POOL_SIZE);
     }
 
     /**
@@ -213,7 +221,11 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProperties());
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        if (config.get(Config.REPLICATION_FACTOR_CHANGES_ENABLED)) {
+            replicationFactorChanger = new ReplicationFactorChanger(adminClient, vertx, config.get(Config.REASSIGN_THROTTLE),
+                    config.get(Config.REASSIGN_VERIFY_INTERVAL_MS), config.get(Config.REASSIGN_MAX_PARTITION_MOVEMENTS));
+        }
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.CONFIG_UPDATE_BATCH_WINDOW_MS), replicationFactorChanger);
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -233,6 +245,7 @@ public class Session extends AbstractVerticle {
                 .compose(zk -> createTopicStoreAsync(zk, config))
                 .onSuccess(topicStore -> LOGGER.debug("Using TopicStore {}", topicStore))
                 .compose(topicStore -> createTopicOperatorAndZkWatchers(labels, namespace, topicStore))
+                .compose(topicOperator -> recoverReplicationFactorChanges(namespace).map(topicOperator))
                 .compose(this::createK8sWatcher)
                 .onSuccess(this::createPeriodicReconcileTrigger)
                 .onSuccess(ignored -> {
@@ -293,6 +306,28 @@ public class Session extends AbstractVerticle {
         return Future.succeededFuture(topicOperator);
     }
 
+    /**
+     * Lets the Topic Operator update the topics whose replication factor was changed and recovers the replication
+     * factor changes which were in progress before the restart. A failed recovery is only logged, so that the
+     * operator starts anyway.
+     */
+    private Future<Void> recoverReplicationFactorChanges(String namespace) {
+        if (replicationFactorChanger == null) {
+            return Future.succeededFuture();
+        }
+
+        replicationFactorChanger.completionHandler(topicName -> {
+            LogContext logContext = LogContext.periodic("replication factor change " + topicName, namespace, topicName.asKubeName().toString());
+            topicOperator.onTopicReplicationFactorChanged(logContext, topicName);
+        });
+
+        return replicationFactorChanger.recover()
+                .recover(cause -> {
+                    LOGGER.warn("Failed to recover the replication factor changes in progress", cause);
+                    return Future.succeededFuture();
+                });
+    }
+
     private void createPeriodicReconcileTrigger(Promise<Void> initReconcilePromise) {
         final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
         Handler<Long> periodic = new Handler<>() {
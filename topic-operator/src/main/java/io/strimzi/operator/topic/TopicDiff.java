@@ -312,6 +312,32 @@ class TopicDiff {
         return false;
     }
 
+    /**
+     * @return The config entries which this diff adds or changes, keyed by the config key.
+     */
+    protected Map<String, String> changedConfig() {
+        Map<String, String> changed = new HashMap<>();
+        for (Difference d : differences.values()) {
+            if (d instanceof AddedConfigEntry) {
+                changed.put(((AddedConfigEntry) d).configKey, ((AddedConfigEntry) d).configValue);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return The keys of the config entries which this diff removes.
+     */
+    protected Set<String> removedConfig() {
+        Set<String> removed = new HashSet<>();
+        for (Difference d : differences.values()) {
+            if (d instanceof RemovedConfigEntry) {
+                removed.add(((RemovedConfigEntry) d).configKey);
+            }
+        }
+        return removed;
+    }
+
     protected boolean changesReplicationFactor() {
         return this.differences.containsKey(NumReplicasDifference.ADDRESS);
     }
@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
@@ -364,6 +365,7 @@ class TopicOperator {
         private final HasMetadata involvedObject;
 
         private final Topic topic;
+        private final TopicDiff diff;
         private final Handler<AsyncResult<Void>> handler;
         private final LogContext logContext;
 
@@ -372,12 +374,14 @@ class TopicOperator {
          *
          * @param logContext         The context for correlating the logs
          * @param topic              The topic whose configs needs to be updated
+         * @param diff               The difference between the topic in Kafka and the updated topic
          * @param involvedObject  Involved kubernetes object
          * @param handler            Handles the events
          */
-        public UpdateKafkaConfig(LogContext logContext, Topic topic, HasMetadata involvedObject, Handler<AsyncResult<Void>> handler) {
+        public UpdateKafkaConfig(LogContext logContext, Topic topic, TopicDiff diff, HasMetadata involvedObject, Handler<AsyncResult<Void>> handler) {
             this.logContext = logContext;
             this.topic = topic;
+            this.diff = diff;
             this.involvedObject = involvedObject;
             this.handler = handler;
         }
@@ -385,7 +389,7 @@ class TopicOperator {
         /** Handles the event that has happened */
         @Override
         public void handle(Void v) throws OperatorException {
-            kafka.updateTopicConfig(logContext.toReconciliation(), topic).onComplete(ar -> {
+            kafka.updateTopicConfig(logContext.toReconciliation(), topic, diff).onComplete(ar -> {
                 if (ar.failed()) {
                     enqueue(logContext, new Event(logContext, involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -813,7 +817,7 @@ class TopicOperator {
                     .compose(updatedResource -> {
                         reconciliation.observedTopicFuture(updatedResource);
                         Promise<Void> x = Promise.promise();
-                        enqueue(logContext, new UpdateKafkaConfig(logContext, mergedTopic, involvedObject, x));
+                        enqueue(logContext, new UpdateKafkaConfig(logContext, mergedTopic, TopicDiff.diff(kafkaTopic, mergedTopic), involvedObject, x));
                         return x.future().compose(ignore -> createInTopicStore(logContext, mergedTopic, involvedObject));
                     });
         } else {
@@ -868,7 +872,8 @@ class TopicOperator {
                     }));
                     reconciliationResultHandler = Future.failedFuture(new PartitionDecreaseException(involvedObject, message));
                 } else if (oursK8s.changesReplicationFactor()
-                            && !oursKafka.changesReplicationFactor()) {
+                            && !oursKafka.changesReplicationFactor()
+                            && !config.get(Config.REPLICATION_FACTOR_CHANGES_ENABLED)) {
                     reconciliationResultHandler = Future.failedFuture(new ReplicationFactorChangeException(involvedObject,
                                     "Changing 'spec.replicas' is not supported. " +
                                             "This KafkaTopic's 'spec.replicas' should be reverted to " +
@@ -881,7 +886,9 @@ class TopicOperator {
                     // depending on what the diffs are.
                     LOGGER.debugCr(logContext.toReconciliation(), "Updating KafkaTopic, kafka topic and topicStore");
                     TopicDiff kubeDiff = TopicDiff.diff(k8sTopic, result);
-                    reconciliationResultHandler = Future.succeededFuture()
+                    AtomicReference<Topic> storeTopic = new AtomicReference<>(result);
+                    reconciliationResultHandler = maybeChangeReplicationFactor(reconciliation, logContext,
+                            oursK8s.changesReplicationFactor() && !oursKafka.changesReplicationFactor(), privateTopic, result, storeTopic)
                         .compose(updatedKafkaTopic -> {
                             Future<Void> configFuture;
                             TopicDiff kafkaDiff = TopicDiff.diff(kafkaTopic, result);
@@ -890,7 +897,7 @@ class TopicOperator {
                                 Promise<Void> promise = Promise.promise();
                                 configFuture = promise.future();
                                 LOGGER.debugCr(logContext.toReconciliation(), "Updating kafka config with {}", kafkaDiff);
-                                enqueue(logContext, new UpdateKafkaConfig(logContext, result, involvedObject, promise));
+                                enqueue(logContext, new UpdateKafkaConfig(logContext, result, kafkaDiff, involvedObject, promise));
                             } else {
                                 LOGGER.debugCr(logContext.toReconciliation(), "No need to update kafka topic with {}", kafkaDiff);
                                 configFuture = Future.succeededFuture();
@@ -922,7 +929,7 @@ class TopicOperator {
                             }
                         }).compose(ignored -> {
                             Promise<Void> topicStorePromise = Promise.promise();
-                            enqueue(logContext, new UpdateInTopicStore(logContext, result, involvedObject, topicStorePromise));
+                            enqueue(logContext, new UpdateInTopicStore(logContext, storeTopic.get(), involvedObject, topicStorePromise));
                             return topicStorePromise.future();
                         });
                 }
@@ -931,6 +938,30 @@ class TopicOperator {
         return reconciliationResultHandler;
     }
 
+    /**
+     * Starts the change of the replication factor in Kafka when the KafkaTopic changed it. Until all partitions are
+     * reassigned, the topic store keeps the old replication factor, so that the next reconciliations do not consider
+     * the replication factor in Kafka as changed and keep checking the progress instead. Once all partitions
+     * are reassigned, {@link #onTopicReplicationFactorChanged(LogContext, TopicName)} updates the topic store.
+     */
+    private Future<Void> maybeChangeReplicationFactor(Reconciliation reconciliation, LogContext logContext, boolean changesReplicationFactor,
+                                                      Topic privateTopic, Topic result, AtomicReference<Topic> storeTopic) {
+        if (!changesReplicationFactor) {
+            return Future.succeededFuture();
+        }
+
+        return kafka.changeReplicationFactor(logContext.toReconciliation(), result)
+                .map(progress -> {
+                    if (!progress.isDone()) {
+                        LOGGER.infoCr(logContext.toReconciliation(), "{}", progress);
+                        reconciliation.replicationFactorChange(progress);
+                        storeTopic.set(new Topic.Builder(result).withNumReplicas(privateTopic.getNumReplicas()).build());
+                    }
+
+                    return null;
+                });
+    }
+
     void enqueue(LogContext logContext, Handler<Void> event) {
         LOGGER.debugCr(logContext.toReconciliation(), "Enqueuing event {}", event);
         vertx.runOnContext(event);
@@ -990,6 +1021,24 @@ class TopicOperator {
                 });
     }
 
+    /**
+     * Called when all partitions of the topic were reassigned to change its replication factor. The reconciliation
+     * updates the replication factor in the topic store and removes the progress from the KafkaTopic status.
+     */
+    Future<Void> onTopicReplicationFactorChanged(LogContext logContext, TopicName topicName) {
+        return executeWithTopicLockHeld(logContext, topicName,
+                new Reconciliation(logContext, "onTopicReplicationFactorChanged", true) {
+                    @Override
+                    public Future<Void> execute() {
+                        return kafka.topicMetadata(logContext.toReconciliation(), topicName)
+                                .compose(metadata -> {
+                                    Topic topic = TopicSerialization.fromTopicMetadata(metadata);
+                                    return reconcileOnTopicChange(logContext, topicName, topic, this);
+                                });
+                    }
+                });
+    }
+
     /**
      * Called when ZK watch notifies of a change to the topic's partitions
      */
@@ -1112,6 +1161,7 @@ class TopicOperator {
         private final boolean watchedForMetrics;
         public AsyncResult<Void> result;
         public volatile KafkaTopic topic;
+        private volatile ReplicationFactorChangeProgress replicationFactorChange;
         Timer.Sample reconciliationTimerSample;
 
         public Reconciliation(LogContext logContext, String name, boolean watchedForMetrics) {
@@ -1156,6 +1206,10 @@ class TopicOperator {
             topic = observedTopic;
         }
 
+        protected void replicationFactorChange(ReplicationFactorChangeProgress progress) {
+            replicationFactorChange = progress;
+        }
+
         private Future<Void> updateStatus(LogContext logContext) {
             try {
                 KafkaTopic topic = this.topic;
@@ -1177,6 +1231,14 @@ class TopicOperator {
 
                     if (Annotations.isReconciliationPausedWithAnnotation(topic)) {
                         kts.setConditions(singletonList(StatusUtils.getPausedCondition()));
+                    } else if (replicationFactorChange != null && result.succeeded()) {
+                        kts.addCondition(new ConditionBuilder()
+                                .withLastTransitionTime(StatusUtils.iso8601Now())
+                                .withType("ReplicationFactorChange")
+                                .withStatus("True")
+                                .withReason("InProgress")
+                                .withMessage(replicationFactorChange.toString())
+                                .build());
                     }
 
                     StatusDiff ksDiff = new StatusDiff(topic.getStatus(), kts);
@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -22,6 +23,7 @@ import org.apache.kafka.common.config.ConfigResource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -222,6 +224,27 @@ class TopicSerialization {
                 new Config(entries));
     }
 
+    /**
+     * Create the incremental config operations which apply the config changes of the given TopicDiff.
+     * Added and changed entries are set, removed entries are deleted so that they revert to the broker default.
+     *
+     * @param diff The difference between the current and the desired topic.
+     * @return The config operations. Empty when the diff does not change the config.
+     */
+    static Collection<AlterConfigOp> toAlterConfigOps(TopicDiff diff) {
+        List<AlterConfigOp> ops = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : diff.changedConfig().entrySet()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(entry.getKey(), entry.getValue()), AlterConfigOp.OpType.SET));
+        }
+
+        for (String key : diff.removedConfig()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(key, null), AlterConfigOp.OpType.DELETE));
+        }
+
+        return ops;
+    }
+
     /**
      * Create a Topic to reflect the given TopicMetadata.
      */
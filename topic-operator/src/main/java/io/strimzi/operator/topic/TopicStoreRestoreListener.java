@@ -0,0 +1,88 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restore listener for the Kafka Streams based TopicStore. It logs the restoration progress and records how long the
+ * restoration of the store took and how many records had to be restored. With the persistent store, only the changes
+ * made since the last checkpoint are restored.
+ */
+class TopicStoreRestoreListener implements StateRestoreListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicStoreRestoreListener.class);
+
+    /* test */ static final String RESTORE_DURATION_METRIC = TopicOperator.METRICS_PREFIX + "topic.store.restore.duration";
+    /* test */ static final String RESTORED_RECORDS_METRIC = TopicOperator.METRICS_PREFIX + "topic.store.restored.records";
+
+    private final StateRestoreListener delegate = new LoggingStateRestoreListener();
+    private final Map<TopicPartition, Long> restoreStarts = new ConcurrentHashMap<>();
+    private final Timer restoreTimer;
+    private final Counter restoredRecords;
+
+    /**
+     * Constructor
+     *
+     * @param metrics   Meter registry used for the metrics or null if the metrics should not be collected
+     */
+    TopicStoreRestoreListener(MeterRegistry metrics) {
+        if (metrics != null) {
+            this.restoreTimer = Timer.builder(RESTORE_DURATION_METRIC)
+                    .description("Time spent restoring the topic store from its changelog when the Topic Operator starts")
+                    .sla(Duration.ofMillis(1000), Duration.ofMillis(5000), Duration.ofMillis(10000), Duration.ofMillis(30000), Duration.ofMillis(60000), Duration.ofMillis(120000), Duration.ofMillis(300000))
+                    .register(metrics);
+            this.restoredRecords = Counter.builder(RESTORED_RECORDS_METRIC)
+                    .description("Number of records restored into the topic store from its changelog")
+                    .register(metrics);
+        } else {
+            this.restoreTimer = null;
+            this.restoredRecords = null;
+        }
+    }
+
+    @Override
+    public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset, long endingOffset) {
+        LOGGER.info("Restoring {} records of store {} from {}", endingOffset - startingOffset, storeName, topicPartition);
+        restoreStarts.put(topicPartition, System.nanoTime());
+        delegate.onRestoreStart(topicPartition, storeName, startingOffset, endingOffset);
+    }
+
+    @Override
+    public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset, long numRestored) {
+        if (restoredRecords != null) {
+            restoredRecords.increment(numRestored);
+        }
+
+        delegate.onBatchRestored(topicPartition, storeName, batchEndOffset, numRestored);
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        Long started = restoreStarts.remove(topicPartition);
+
+        if (started != null) {
+            long duration = System.nanoTime() - started;
+            LOGGER.info("Restored {} records of store {} from {} in {} ms", totalRestored, storeName, topicPartition, TimeUnit.NANOSECONDS.toMillis(duration));
+
+            if (restoreTimer != null) {
+                restoreTimer.record(duration, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        delegate.onRestoreEnd(topicPartition, storeName, totalRestored);
+    }
+}
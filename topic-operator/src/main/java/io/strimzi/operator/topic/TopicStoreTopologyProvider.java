@@ -29,17 +29,20 @@ import java.util.function.Supplier;
 public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String storeTopic;
     private final String topicStoreName;
+    private final boolean persistent;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
 
     protected TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
+            boolean persistent,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
+        this.persistent = persistent;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
     }
@@ -65,10 +68,13 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         );
 
         // Data structure holds all topic information
+        // The persistent store is kept in RocksDB in the local state directory. Together with the checkpointed
+        // changelog offsets, it allows to restore only the changes made since the last checkpoint after a restart
+        // instead of replaying the whole changelog.
         StoreBuilder<KeyValueStore<String /* topic */, Topic>> topicStoreBuilder =
                 Stores
                         .keyValueStoreBuilder(
-                                Stores.inMemoryKeyValueStore(topicStoreName),
+                                persistent ? Stores.persistentKeyValueStore(topicStoreName) : Stores.inMemoryKeyValueStore(topicStoreName),
                                 Serdes.String(), new TopicSerde()
                         )
                         .withCachingEnabled()
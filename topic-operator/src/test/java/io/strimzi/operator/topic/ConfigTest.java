@@ -48,6 +48,20 @@ public class ConfigTest {
         assertThat(c.get(Config.ZOOKEEPER_SESSION_TIMEOUT_MS).intValue(), is(18_000));
     }
 
+    @Test
+    public void testPersistentTopicStore() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        Config c = new Config(map);
+        assertThat(c.get(Config.USE_PERSISTENT_TOPIC_STORE), is(false));
+        assertThat(c.get(Config.STORE_STATE_DIR), is(""));
+
+        map.put(Config.TC_USE_PERSISTENT_TOPIC_STORE, "true");
+        map.put(Config.TC_STORE_STATE_DIR, "/tmp/topic-store");
+        c = new Config(map);
+        assertThat(c.get(Config.USE_PERSISTENT_TOPIC_STORE), is(true));
+        assertThat(c.get(Config.STORE_STATE_DIR), is("/tmp/topic-store"));
+    }
+
     @Test
     public void testOverrideZookeeperSessionTimeout() {
         Map<String, String> map = new HashMap<>(MANDATORY);
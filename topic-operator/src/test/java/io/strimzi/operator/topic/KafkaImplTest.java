@@ -4,14 +4,22 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
@@ -28,17 +36,24 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -270,5 +285,102 @@ public class KafkaImplTest {
             testContext.completeNow();
         })));
     }
-}
 
+    private Topic topic(String name, Map<String, String> config) {
+        return new Topic.Builder(name, 1, (short) 1, config).build();
+    }
+
+    private void mockIncrementalAlterConfigs(Admin admin, Map<ConfigResource, Either<Void, Exception>> result) {
+        AlterConfigsResult alterConfigsResult = mock(AlterConfigsResult.class);
+        when(alterConfigsResult.values()).thenReturn(result.entrySet().stream().collect(toMap(
+            Map.Entry::getKey,
+            entry -> {
+                KafkaFutureImpl<Void> kafkaFuture = new KafkaFutureImpl<>();
+                if (entry.getValue().isLeft()) {
+                    kafkaFuture.complete(null);
+                } else {
+                    kafkaFuture.completeExceptionally(entry.getValue().right());
+                }
+                return kafkaFuture;
+            })));
+        when(admin.incrementalAlterConfigs(any())).thenReturn(alterConfigsResult);
+    }
+
+    @Test
+    public void testUpdateTopicConfigSendsOnlyChangedEntries(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, "test");
+        mockIncrementalAlterConfigs(admin, singletonMap(resource, Either.ofLeft(null)));
+
+        Topic kafkaTopic = topic("test", Map.of("retention.ms", "1000", "cleanup.policy", "compact", "segment.bytes", "1024"));
+        Topic desiredTopic = topic("test", Map.of("retention.ms", "2000", "segment.bytes", "1024", "min.insync.replicas", "2"));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.updateTopicConfig(Reconciliation.DUMMY_RECONCILIATION, desiredTopic, TopicDiff.diff(kafkaTopic, desiredTopic))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    @SuppressWarnings("unchecked")
+                    ArgumentCaptor<Map<ConfigResource, Collection<AlterConfigOp>>> captor = ArgumentCaptor.forClass(Map.class);
+                    verify(admin).incrementalAlterConfigs(captor.capture());
+
+                    Map<String, AlterConfigOp> ops = captor.getValue().get(resource).stream()
+                            .collect(toMap(op -> op.configEntry().name(), op -> op));
+                    assertThat(ops.keySet(), is(Set.of("retention.ms", "cleanup.policy", "min.insync.replicas")));
+                    assertThat(ops.get("retention.ms").opType(), is(AlterConfigOp.OpType.SET));
+                    assertThat(ops.get("retention.ms").configEntry().value(), is("2000"));
+                    assertThat(ops.get("min.insync.replicas").opType(), is(AlterConfigOp.OpType.SET));
+                    assertThat(ops.get("cleanup.policy").opType(), is(AlterConfigOp.OpType.DELETE));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testUpdateTopicConfigWithoutConfigChanges(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+
+        Topic kafkaTopic = topic("test", Map.of("retention.ms", "1000"));
+        Topic desiredTopic = new Topic.Builder("test", 2, (short) 1, Map.of("retention.ms", "1000")).build();
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.updateTopicConfig(Reconciliation.DUMMY_RECONCILIATION, desiredTopic, TopicDiff.diff(kafkaTopic, desiredTopic))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    verify(admin, never()).incrementalAlterConfigs(any());
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testUpdateTopicConfigBatchesUpdates(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        ConfigResource resource1 = new ConfigResource(ConfigResource.Type.TOPIC, "test1");
+        ConfigResource resource2 = new ConfigResource(ConfigResource.Type.TOPIC, "test2");
+        ConfigResource resource3 = new ConfigResource(ConfigResource.Type.TOPIC, "test3");
+        mockIncrementalAlterConfigs(admin, Map.of(
+                resource1, Either.ofLeft(null),
+                resource2, Either.ofRight(new TimeoutException()),
+                resource3, Either.ofLeft(null)));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 100, null);
+        List<Future<Void>> results = new ArrayList<>();
+
+        for (String name : List.of("test1", "test2", "test3")) {
+            Topic kafkaTopic = topic(name, Map.of("retention.ms", "1000"));
+            Topic desiredTopic = topic(name, Map.of("retention.ms", "2000"));
+            results.add(impl.updateTopicConfig(Reconciliation.DUMMY_RECONCILIATION, desiredTopic, TopicDiff.diff(kafkaTopic, desiredTopic)));
+        }
+
+        CompositeFuture.join(new ArrayList<>(results)).onComplete(ignored -> testContext.verify(() -> {
+            // All three updates were sent in a single request
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<ConfigResource, Collection<AlterConfigOp>>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(admin, times(1)).incrementalAlterConfigs(captor.capture());
+            assertThat(captor.getValue().keySet(), is(Set.of(resource1, resource2, resource3)));
+
+            // Each update gets the result of its own topic
+            assertThat(results.get(0).succeeded(), is(true));
+            assertThat(results.get(1).failed(), is(true));
+            assertThat(results.get(1).cause() instanceof TimeoutException, is(true));
+            assertThat(results.get(2).succeeded(), is(true));
+            testContext.completeNow();
+        }));
+    }
+}
@@ -177,7 +177,7 @@ public class MockKafka implements Kafka {
     }
 
     @Override
-    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic, TopicDiff diff) {
         Future<Void> event = updateTopicResponse.apply(topic.getTopicName());
         if (event.succeeded()) {
             Topic t = topics.get(topic.getTopicName());
@@ -190,6 +190,21 @@ public class MockKafka implements Kafka {
         return event;
     }
 
+    @Override
+    public Future<ReplicationFactorChangeProgress> changeReplicationFactor(Reconciliation reconciliation, Topic topic) {
+        Future<Void> event = updateTopicResponse.apply(topic.getTopicName());
+        if (event.succeeded()) {
+            Topic t = topics.get(topic.getTopicName());
+            if (t == null) {
+                return failedFuture("No such topic " + topic.getTopicName());
+            }
+            t = new Topic.Builder(t).withNumReplicas(topic.getNumReplicas()).build();
+            topics.put(topic.getTopicName(), t);
+            return Future.succeededFuture(new ReplicationFactorChangeProgress(topic.getTopicName(), topic.getNumReplicas(), t.getNumPartitions(), t.getNumPartitions(), 0));
+        }
+        return event.map(ignored -> null);
+    }
+
     @Override
     public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
         Future<Void> event = updateTopicResponse.apply(topic.getTopicName());
@@ -0,0 +1,326 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.TestUtils;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.AlterPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicationFactorChangerTest {
+    private static final Vertx VERTX = Vertx.vertx();
+    private static final String TOPIC = "my-topic";
+
+    @AfterAll
+    public static void afterAll() {
+        VERTX.close();
+    }
+
+    @Test
+    public void testIncreaseIsRackAware() {
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-a", 2, "zone-b", 3, "zone-c");
+        Map<Integer, List<Integer>> current = Map.of(0, List.of(0), 1, List.of(1), 2, List.of(2));
+
+        Map<Integer, List<Integer>> target = ReplicationFactorChanger.assignReplicas(current, racks, 3);
+
+        for (Map.Entry<Integer, List<Integer>> partition : target.entrySet()) {
+            List<Integer> replicas = partition.getValue();
+            // The existing replica stays the preferred leader and all replicas are in different racks
+            assertThat(replicas.get(0), is(current.get(partition.getKey()).get(0)));
+            assertThat(replicas.size(), is(3));
+            assertThat(replicas.stream().map(racks::get).collect(Collectors.toSet()).size(), is(3));
+        }
+    }
+
+    @Test
+    public void testIncreaseWithoutRacks() {
+        Map<Integer, String> noRacks = new HashMap<>();
+        for (int broker = 0; broker < 3; broker++) {
+            noRacks.put(broker, null);
+        }
+
+        Map<Integer, List<Integer>> target = ReplicationFactorChanger.assignReplicas(Map.of(0, List.of(0), 1, List.of(1), 2, List.of(2)), noRacks, 2);
+
+        // The new replicas are spread evenly over the brokers
+        Map<Integer, Long> load = target.values().stream().flatMap(List::stream).collect(Collectors.groupingBy(b -> b, Collectors.counting()));
+        assertThat(load, is(Map.of(0, 2L, 1, 2L, 2, 2L)));
+    }
+
+    @Test
+    public void testDecreaseRemovesReplicasFromSharedRacks() {
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-a", 2, "zone-b", 3, "zone-c");
+        Map<Integer, List<Integer>> current = Map.of(0, List.of(1, 0, 2, 3));
+
+        Map<Integer, List<Integer>> target = ReplicationFactorChanger.assignReplicas(current, racks, 3);
+
+        // Broker 0 shares the rack with the preferred leader, so it is the one which is removed
+        assertThat(target.get(0), is(List.of(1, 2, 3)));
+    }
+
+    @Test
+    public void testReplicationFactorLargerThanBrokers() {
+        assertThrows(InvalidReplicationFactorException.class,
+            () -> ReplicationFactorChanger.assignReplicas(Map.of(0, List.of(0)), Map.of(0, "zone-a", 1, "zone-b"), 3));
+    }
+
+    @Test
+    public void testReassignmentsAreBoundedAndThrottled() throws InterruptedException, ExecutionException, TimeoutException {
+        Admin admin = mock(Admin.class);
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        Set<TopicPartition> ongoing = ConcurrentHashMap.newKeySet();
+        List<Map<TopicPartition, Optional<NewPartitionReassignment>>> submitted = new ArrayList<>();
+        List<Map<ConfigResource, Collection<AlterConfigOp>>> configChanges = new ArrayList<>();
+        Map<ConfigResource, Map<String, String>> dynamicConfigs = new ConcurrentHashMap<>();
+        // The user configured a throttle rate on broker 1 and a throttled replica on the topic
+        dynamicConfigs.put(new ConfigResource(ConfigResource.Type.BROKER, "1"), new ConcurrentHashMap<>(Map.of(ReplicationFactorChanger.LEADER_THROTTLED_RATE, "5000")));
+        dynamicConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, TOPIC), new ConcurrentHashMap<>(Map.of(ReplicationFactorChanger.LEADER_THROTTLED_REPLICAS, "5:2")));
+
+        List<Node> nodes = mockCluster(admin);
+        mockTopic(admin, nodes, List.of(List.of(0), List.of(1)));
+        mockReassignments(admin, ongoing, submitted);
+        mockConfigs(admin, dynamicConfigs, configChanges);
+
+        ReplicationFactorChanger changer = new ReplicationFactorChanger(admin, VERTX, 1_000_000L, 50L, 1, metrics);
+        TopicName topicName = new TopicName(TOPIC);
+        List<TopicName> completed = new CopyOnWriteArrayList<>();
+        changer.completionHandler(completed::add);
+
+        ReplicationFactorChangeProgress progress = changer.changeReplicationFactor(Reconciliation.DUMMY_RECONCILIATION, topicName, (short) 2)
+                .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertThat(progress.getTotalPartitions(), is(2));
+        assertThat(progress.isDone(), is(false));
+
+        // Only the moved replicas are throttled, in addition to the ones throttled before
+        ConfigResource topicResource = new ConfigResource(ConfigResource.Type.TOPIC, TOPIC);
+        Map<ConfigResource, Collection<AlterConfigOp>> throttles = configChanges.get(0);
+        assertThat(opValue(throttles, topicResource, ReplicationFactorChanger.LEADER_THROTTLED_REPLICAS), is("5:2,0:0,1:1"));
+        List<String> followers = List.of(opValue(throttles, topicResource, ReplicationFactorChanger.FOLLOWER_THROTTLED_REPLICAS).split(","));
+        assertThat(followers.size(), is(2));
+        assertThat(followers.stream().noneMatch(replica -> replica.equals("0:0") || replica.equals("1:1")), is(true));
+        assertThat(opValue(throttles, new ConfigResource(ConfigResource.Type.BROKER, "0"), ReplicationFactorChanger.FOLLOWER_THROTTLED_RATE), is("1000000"));
+
+        // Only one partition is moved at a time
+        TestUtils.waitFor("First reassignment", 10, 5_000, () -> submitted.size() == 1);
+        assertThat(submitted.get(0).size(), is(1));
+        assertThat(changer.pendingPartitions(), is(1));
+
+        // The next partition is moved once the first one completes
+        ongoing.clear();
+        TestUtils.waitFor("Second reassignment", 10, 5_000, () -> submitted.size() == 2);
+        assertThat(submitted.get(1).size(), is(1));
+
+        ongoing.clear();
+        TestUtils.waitFor("Reassignments completed", 10, 5_000, () -> changer.progress(topicName) == null);
+        assertThat(metrics.get(ReplicationFactorChanger.COMPLETED_METRIC).counter().count(), is(2.0));
+        TestUtils.waitFor("Completion handler called", 10, 5_000, () -> completed.equals(List.of(topicName)));
+
+        // All partitions have two replicas in different racks
+        for (Map<TopicPartition, Optional<NewPartitionReassignment>> batch : submitted) {
+            for (Optional<NewPartitionReassignment> reassignment : batch.values()) {
+                List<Integer> replicas = reassignment.orElseThrow().targetReplicas();
+                assertThat(replicas.size(), is(2));
+                assertThat(replicas.stream().map(b -> nodes.get(b).rack()).distinct().count(), is(2L));
+            }
+        }
+
+        // The throttles are removed at the end and the configuration of the user is restored
+        TestUtils.waitFor("Throttles removed", 10, 5_000, () -> configChanges.size() == 3);
+        assertThat(dynamicConfigs.get(topicResource), is(Map.of(ReplicationFactorChanger.LEADER_THROTTLED_REPLICAS, "5:2")));
+        assertThat(dynamicConfigs.get(new ConfigResource(ConfigResource.Type.BROKER, "0")), is(Map.of()));
+        assertThat(dynamicConfigs.get(new ConfigResource(ConfigResource.Type.BROKER, "1")), is(Map.of(ReplicationFactorChanger.LEADER_THROTTLED_RATE, "5000")));
+    }
+
+    @Test
+    public void testReassignmentsAreRecovered() throws InterruptedException, ExecutionException, TimeoutException {
+        Admin admin = mock(Admin.class);
+        Set<TopicPartition> ongoing = ConcurrentHashMap.newKeySet();
+        List<Map<TopicPartition, Optional<NewPartitionReassignment>>> submitted = new ArrayList<>();
+        List<Map<ConfigResource, Collection<AlterConfigOp>>> configChanges = new ArrayList<>();
+        Map<ConfigResource, Map<String, String>> dynamicConfigs = new ConcurrentHashMap<>();
+
+        // The previous operator moved partition 0 from broker 0 to brokers 0 and 1 and throttled it
+        TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+        ongoing.add(partition0);
+        dynamicConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, TOPIC), new ConcurrentHashMap<>(Map.of(
+                ReplicationFactorChanger.LEADER_THROTTLED_REPLICAS, "0:0",
+                ReplicationFactorChanger.FOLLOWER_THROTTLED_REPLICAS, "0:1")));
+        for (String broker : List.of("0", "1")) {
+            dynamicConfigs.put(new ConfigResource(ConfigResource.Type.BROKER, broker), new ConcurrentHashMap<>(Map.of(
+                    ReplicationFactorChanger.LEADER_THROTTLED_RATE, "1000000",
+                    ReplicationFactorChanger.FOLLOWER_THROTTLED_RATE, "1000000")));
+        }
+
+        List<Node> nodes = mockCluster(admin);
+        // Partition 0 is being reassigned, partition 1 was not reassigned yet
+        mockTopic(admin, nodes, List.of(List.of(0, 1), List.of(1)));
+        mockReassignments(admin, ongoing, submitted);
+        mockConfigs(admin, dynamicConfigs, configChanges);
+
+        ReplicationFactorChanger changer = new ReplicationFactorChanger(admin, VERTX, 1_000_000L, 50L, 10, null);
+        TopicName topicName = new TopicName(TOPIC);
+        List<TopicName> completed = new CopyOnWriteArrayList<>();
+        changer.completionHandler(completed::add);
+
+        changer.recover().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        ReplicationFactorChangeProgress progress = changer.progress(topicName);
+        assertThat(progress.getTotalPartitions(), is(1));
+        assertThat(progress.getInProgressPartitions(), is(1));
+
+        // A reconciliation in the meantime does not start a new change
+        assertThat(changer.changeReplicationFactor(Reconciliation.DUMMY_RECONCILIATION, topicName, (short) 2)
+                .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS).getTotalPartitions(), is(1));
+        assertThat(submitted.isEmpty(), is(true));
+
+        // Once the recovered reassignment completes, the remaining partition is reassigned
+        ongoing.clear();
+        TestUtils.waitFor("Remaining partition reassigned", 10, 5_000, () -> submitted.size() == 1);
+        assertThat(submitted.get(0).keySet(), is(Set.of(new TopicPartition(TOPIC, 1))));
+
+        ongoing.clear();
+        TestUtils.waitFor("Completion handler called", 10, 5_000, () -> completed.equals(List.of(topicName)));
+        TestUtils.waitFor("Throttles removed", 10, 5_000, () -> dynamicConfigs.values().stream().allMatch(Map::isEmpty));
+    }
+
+    private static List<Node> mockCluster(Admin admin) {
+        List<Node> nodes = List.of(new Node(0, "broker-0", 9092, "zone-a"), new Node(1, "broker-1", 9092, "zone-b"), new Node(2, "broker-2", 9092, "zone-c"));
+        DescribeClusterResult describeClusterResult = mock(DescribeClusterResult.class);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(nodes));
+        when(admin.describeCluster()).thenReturn(describeClusterResult);
+        return nodes;
+    }
+
+    private static void mockTopic(Admin admin, List<Node> nodes, List<List<Integer>> assignment) {
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+        for (int partition = 0; partition < assignment.size(); partition++) {
+            List<Node> replicas = assignment.get(partition).stream().map(nodes::get).collect(Collectors.toList());
+            partitions.add(new TopicPartitionInfo(partition, replicas.get(0), replicas, replicas));
+        }
+
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(TOPIC, KafkaFuture.completedFuture(new TopicDescription(TOPIC, false, partitions))));
+        when(admin.describeTopics(singleton(TOPIC))).thenReturn(describeTopicsResult);
+    }
+
+    /**
+     * Mocks the partition reassignments. The reassignments in progress are reported as moving partition 0 from
+     * broker 0 to brokers 0 and 1.
+     */
+    private static void mockReassignments(Admin admin, Set<TopicPartition> ongoing, List<Map<TopicPartition, Optional<NewPartitionReassignment>>> submitted) {
+        when(admin.alterPartitionReassignments(any())).thenAnswer(invocation -> {
+            Map<TopicPartition, Optional<NewPartitionReassignment>> batch = invocation.getArgument(0);
+            synchronized (submitted) {
+                submitted.add(batch);
+            }
+            ongoing.addAll(batch.keySet());
+            AlterPartitionReassignmentsResult result = mock(AlterPartitionReassignmentsResult.class);
+            when(result.values()).thenReturn(batch.keySet().stream().collect(Collectors.toMap(tp -> tp, tp -> KafkaFuture.completedFuture((Void) null))));
+            return result;
+        });
+
+        Answer<ListPartitionReassignmentsResult> listReassignments = invocation -> {
+            Map<TopicPartition, PartitionReassignment> reassignments = ongoing.stream()
+                    .collect(Collectors.toMap(tp -> tp, tp -> new PartitionReassignment(List.of(0, 1), List.of(1), List.of())));
+            ListPartitionReassignmentsResult result = mock(ListPartitionReassignmentsResult.class);
+            when(result.reassignments()).thenReturn(KafkaFuture.completedFuture(reassignments));
+            return result;
+        };
+        when(admin.listPartitionReassignments(anySet())).thenAnswer(listReassignments);
+        when(admin.listPartitionReassignments()).thenAnswer(listReassignments);
+    }
+
+    /**
+     * Mocks the dynamic configs of the topics and brokers. The config changes are applied to the dynamic configs.
+     */
+    private static void mockConfigs(Admin admin, Map<ConfigResource, Map<String, String>> dynamicConfigs, List<Map<ConfigResource, Collection<AlterConfigOp>>> configChanges) {
+        when(admin.describeConfigs(any())).thenAnswer(invocation -> {
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            Map<ConfigResource, Config> configs = new HashMap<>();
+            for (ConfigResource resource : resources) {
+                ConfigEntry.ConfigSource source = resource.type() == ConfigResource.Type.TOPIC
+                        ? ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG : ConfigEntry.ConfigSource.DYNAMIC_BROKER_CONFIG;
+                configs.put(resource, new Config(dynamicConfigs.getOrDefault(resource, Map.of()).entrySet().stream()
+                        .map(e -> new ConfigEntry(e.getKey(), e.getValue(), source, false, false, List.of(), ConfigEntry.ConfigType.STRING, null))
+                        .collect(Collectors.toList())));
+            }
+            DescribeConfigsResult result = mock(DescribeConfigsResult.class);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(configs));
+            return result;
+        });
+
+        when(admin.incrementalAlterConfigs(any())).thenAnswer(invocation -> {
+            Map<ConfigResource, Collection<AlterConfigOp>> changes = invocation.getArgument(0);
+            synchronized (configChanges) {
+                configChanges.add(changes);
+            }
+            changes.forEach((resource, ops) -> {
+                Map<String, String> config = dynamicConfigs.computeIfAbsent(resource, r -> new ConcurrentHashMap<>());
+                for (AlterConfigOp op : ops) {
+                    if (op.opType() == AlterConfigOp.OpType.DELETE) {
+                        config.remove(op.configEntry().name());
+                    } else {
+                        config.put(op.configEntry().name(), op.configEntry().value());
+                    }
+                }
+            });
+            AlterConfigsResult result = mock(AlterConfigsResult.class);
+            when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+            return result;
+        });
+    }
+
+    private static String opValue(Map<ConfigResource, Collection<AlterConfigOp>> configs, ConfigResource resource, String name) {
+        return configs.get(resource).stream()
+                .filter(op -> op.configEntry().name().equals(name))
+                .map(op -> op.configEntry().value())
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -871,6 +871,61 @@ public class TopicOperatorTest {
             }));
     }
 
+    /** Test reconciliation when the replication factor changed in the KafkaTopic, but changing it is not enabled */
+    @Test
+    public void testReconcile_withResource_withKafka_withPrivate_replicationFactorChangeDisabled(VertxTestContext context) {
+        Topic kubeTopic = new Topic.Builder(topicName, resourceName, 10, (short) 3, map("cleanup.policy", "bar"), metadata).build();
+        Topic kafkaTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        Topic privateTopic = kafkaTopic;
+
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        Future<Void> kafkaTopicFuture = mockKafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, kafkaTopic);
+        mockKafka.setUpdateTopicResponse(topicName -> Future.succeededFuture());
+
+        KafkaTopic resource = TopicSerialization.toTopicResource(kubeTopic, labels);
+        LogContext logContext = LogContext.periodic(topicName.toString(), topicOperator.getNamespace(), topicName.toString());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        Future<Void> privateTopicFuture = mockTopicStore.create(privateTopic);
+
+        CompositeFuture.all(kafkaTopicFuture, privateTopicFuture)
+            .compose(v -> topicOperator.reconcile(reconciliation(logContext), logContext, resource, kubeTopic, kafkaTopic, privateTopic))
+            .onComplete(context.failing(error -> {
+                context.verify(() -> assertThat(error instanceof ReplicationFactorChangeException, is(true)));
+                context.verify(() -> assertThat(mockKafka.getTopicState(topicName).getNumReplicas(), is((short) 2)));
+                context.completeNow();
+            }));
+    }
+
+    /** Test reconciliation when the replication factor changed in the KafkaTopic and changing it is enabled */
+    @Test
+    public void testReconcile_withResource_withKafka_withPrivate_replicationFactorChange(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.REPLICATION_FACTOR_CHANGES_ENABLED.key, "true");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        Topic kubeTopic = new Topic.Builder(topicName, resourceName, 10, (short) 3, map("cleanup.policy", "bar"), metadata).build();
+        Topic kafkaTopic = new Topic.Builder(topicName, resourceName, 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        Topic privateTopic = kafkaTopic;
+
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        Future<Void> kafkaTopicFuture = mockKafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, kafkaTopic);
+        mockKafka.setUpdateTopicResponse(topicName -> Future.succeededFuture());
+
+        KafkaTopic resource = TopicSerialization.toTopicResource(kubeTopic, labels);
+        LogContext logContext = LogContext.periodic(topicName.toString(), topicOperator.getNamespace(), topicName.toString());
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        Future<Void> privateTopicFuture = mockTopicStore.create(privateTopic);
+
+        CompositeFuture.all(kafkaTopicFuture, privateTopicFuture)
+            .compose(v -> topicOperator.reconcile(reconciliation(logContext), logContext, resource, kubeTopic, kafkaTopic, privateTopic))
+            .compose(v -> mockTopicStore.read(topicName))
+            .onComplete(context.succeeding(readResult -> {
+                context.verify(() -> assertThat(readResult, is(kubeTopic)));
+                context.verify(() -> assertThat(mockKafka.getTopicState(topicName), is(kubeTopic)));
+                context.completeNow();
+            }));
+    }
+
     // TODO 3way reconcilation where kafka and kube agree
     // TODO 3way reconcilation where all three agree
     // TODO 3way reconcilation with conflict
@@ -0,0 +1,43 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+public class TopicStoreRestoreListenerTest {
+    private static final TopicPartition CHANGELOG = new TopicPartition("__strimzi-topic-operator-kstreams-topic-store-changelog", 0);
+
+    @Test
+    public void testRestoreIsRecorded() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TopicStoreRestoreListener listener = new TopicStoreRestoreListener(metrics);
+
+        listener.onRestoreStart(CHANGELOG, "topic-store", 100, 250);
+        listener.onBatchRestored(CHANGELOG, "topic-store", 200, 100);
+        listener.onBatchRestored(CHANGELOG, "topic-store", 250, 50);
+        listener.onRestoreEnd(CHANGELOG, "topic-store", 150);
+
+        assertThat(metrics.get(TopicStoreRestoreListener.RESTORE_DURATION_METRIC).timer().count(), is(1L));
+        assertThat(metrics.get(TopicStoreRestoreListener.RESTORED_RECORDS_METRIC).counter().count(), is(150.0));
+    }
+
+    @Test
+    public void testWithoutMetrics() {
+        TopicStoreRestoreListener listener = new TopicStoreRestoreListener(null);
+
+        assertDoesNotThrow(() -> {
+            listener.onRestoreStart(CHANGELOG, "topic-store", 0, 10);
+            listener.onBatchRestored(CHANGELOG, "topic-store", 10, 10);
+            listener.onRestoreEnd(CHANGELOG, "topic-store", 10);
+        });
+    }
+}
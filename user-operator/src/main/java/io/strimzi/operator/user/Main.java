@@ -15,6 +15,8 @@ import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
@@ -25,6 +27,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.user.operator.DisabledScramCredentialsOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.PrivateKeyPool;
 import io.strimzi.operator.user.operator.QuotasOperator;
 import io.strimzi.operator.user.operator.ScramCredentialsOperator;
 import io.strimzi.operator.user.operator.SimpleAclOperator;
@@ -40,6 +43,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * The main class of the Strimzi User Operator
  */
+@SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class Main {
     private final static Logger LOGGER = LogManager.getLogger(Main.class);
 
@@ -78,18 +82,19 @@ public class Main {
         Admin adminClient = createAdminClient(config, client, new DefaultAdminClientProvider());
         AtomicInteger kafkaUserOperatorExecutorThreadCounter = new AtomicInteger(0);
         ExecutorService kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + kafkaUserOperatorExecutorThreadCounter.getAndIncrement()));
+        MetricsProvider metricsProvider = createMetricsProvider();
+        CertManager certManager = new OpenSslCertManager();
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
                 client,
-                new OpenSslCertManager(),
+                certManager,
                 config.isKraftEnabled() ? new DisabledScramCredentialsOperator() : new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
                 new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
                 config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator(),
-                kafkaUserOperatorExecutor
+                kafkaUserOperatorExecutor,
+                config.getPrivateKeyPoolSize() > 0 ? new PrivateKeyPool(certManager, config.getPrivateKeyPoolSize(), Ca.keyAlgorithm(config.getClientsCaKeyAlgorithm()), metricsProvider) : null
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
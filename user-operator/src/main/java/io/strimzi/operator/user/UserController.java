@@ -30,10 +30,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * User controller is responsible for queueing the reconciliations of the Kafka Users. It does so by watching for the
@@ -49,6 +51,8 @@ public class UserController {
     private final ControllerMetricsHolder metrics;
     private final ControllerQueue workQueue;
     private final List<UserControllerLoop> threadPool;
+    private final UserControllerAsyncLoop asyncLoop;
+    private final ExecutorService asyncLoopExecutor;
 
     private final String watchedNamespace;
     private final String secretPrefix;
@@ -56,7 +60,11 @@ public class UserController {
     private final long operationTimeoutMs;
 
     private final SharedIndexInformer<Secret> secretInformer;
+    private final SharedIndexInformer<Secret> desiredPasswordSecretInformer;
     private final SharedIndexInformer<KafkaUser> userInformer;
+    private final Lister<Secret> secretLister;
+    private final Lister<Secret> desiredPasswordSecretLister;
+    private final Lister<KafkaUser> userLister;
 
     private final ScheduledExecutorService scheduledExecutor;
 
@@ -93,11 +101,17 @@ public class UserController {
 
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = client.secrets().inNamespace(watchedNamespace).withLabels(secretSelector).inform();
-        Lister<Secret> secretLister = new Lister<>(secretInformer.getIndexer());
+        this.secretLister = new Lister<>(secretInformer.getIndexer());
+
+        // The Secrets with the desired passwords are not labeled by the operator. They are cached by a separate
+        // informer without the user Secrets so that the periodic reconciliation does not need to get them from the
+        // Kubernetes API
+        this.desiredPasswordSecretInformer = client.secrets().inNamespace(watchedNamespace).withoutLabel("strimzi.io/kind", RESOURCE_KIND).inform();
+        this.desiredPasswordSecretLister = new Lister<>(desiredPasswordSecretInformer.getIndexer());
 
         // KafkaUser informer and lister is used to get events about Users and get Users quickly
         this.userInformer = Crds.kafkaUserOperation(client).inNamespace(watchedNamespace).withLabels(userSelector).inform();
-        Lister<KafkaUser> userLister = new Lister<>(userInformer.getIndexer());
+        this.userLister = new Lister<>(userInformer.getIndexer());
 
         // Creates the scheduled executor service used for periodical reconciliations and progress warnings
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerScheduledExecutor"));
@@ -105,10 +119,22 @@ public class UserController {
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
-        // Create a thread pool for the reconciliation loops and add the reconciliation loops
-        this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
-        for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
+        if (config.getControllerMaxInFlightReconciliations() > 0) {
+            // Create a single asynchronous reconciliation loop. The controller thread pool is used only for the blocking
+            // parts of the reconciliations and does not limit how many reconciliations are in progress.
+            LOGGER.infoOp("Using asynchronous controller loop with up to {} reconciliations in progress", config.getControllerMaxInFlightReconciliations());
+            this.threadPool = List.of();
+            AtomicInteger asyncLoopExecutorThreadCounter = new AtomicInteger(0);
+            this.asyncLoopExecutor = Executors.newFixedThreadPool(config.getControllerThreadPoolSize(), r -> new Thread(r, RESOURCE_KIND + "-ControllerExecutor-" + asyncLoopExecutorThreadCounter.getAndIncrement()));
+            this.asyncLoop = new UserControllerAsyncLoop(RESOURCE_KIND + "-AsyncControllerLoop", workQueue, lockManager, scheduledExecutor, asyncLoopExecutor, client, userLister, secretLister, userOperator, metrics, config);
+        } else {
+            // Create a thread pool for the reconciliation loops and add the reconciliation loops
+            this.asyncLoop = null;
+            this.asyncLoopExecutor = null;
+            this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
+            for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
+                threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
+            }
         }
     }
 
@@ -150,7 +176,7 @@ public class UserController {
      * @return  True when all informers are synced. False otherwise.
      */
     protected boolean isSynced() {
-        return secretInformer.hasSynced() && userInformer.hasSynced();
+        return secretInformer.hasSynced() && desiredPasswordSecretInformer.hasSynced() && userInformer.hasSynced();
     }
 
     /**
@@ -162,6 +188,7 @@ public class UserController {
 
         LOGGER.infoOp("Stopping informers");
         secretInformer.stop();
+        desiredPasswordSecretInformer.stop();
         userInformer.stop();
 
         LOGGER.infoOp("Stopping User Controller loops");
@@ -172,6 +199,16 @@ public class UserController {
                 LOGGER.debugOp("Interrupted while stopping controller loop", e);
             }
         });
+
+        if (asyncLoop != null) {
+            try {
+                asyncLoop.stop();
+            } catch (InterruptedException e) {
+                LOGGER.debugOp("Interrupted while stopping asynchronous controller loop", e);
+            }
+
+            asyncLoopExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -249,6 +286,10 @@ public class UserController {
         LOGGER.infoOp("Starting User Controller loops");
         threadPool.forEach(AbstractControllerLoop::start);
 
+        if (asyncLoop != null) {
+            asyncLoop.start();
+        }
+
         // Configure the periodic reconciliation
         schedulePeriodicReconciliations();
     }
@@ -265,6 +306,10 @@ public class UserController {
             ready &= t.isRunning();
         }
 
+        if (asyncLoop != null) {
+            ready &= asyncLoop.isRunning();
+        }
+
         return ready;
     }
 
@@ -281,6 +326,10 @@ public class UserController {
             ready &= t.isAlive();
         }
 
+        if (asyncLoop != null) {
+            ready &= asyncLoop.isAlive();
+        }
+
         return ready;
     }
 
@@ -292,8 +341,9 @@ public class UserController {
     }
 
     /**
-     * Internal timer tasks which gets the list of all usernames based on the custom resources, ACLs, Quotas or SCRAM
-     * credentials and queues them for reconciliation.
+     * Internal timer tasks which gets the list of usernames based on the custom resources from the informer and the
+     * ACLs, Quotas or SCRAM credentials from the caches and queues for reconciliation the users which are not ready,
+     * drifted from their desired state or should be deleted.
      */
     class PeriodicReconciliation implements Runnable  {
         @Override
@@ -301,10 +351,15 @@ public class UserController {
             LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", RESOURCE_KIND, watchedNamespace);
             metrics.periodicReconciliationsCounter(watchedNamespace).increment();
 
-            CompletionStage<Set<NamespaceAndName>> allUsersFuture = userOperator.getAllUsers(watchedNamespace);
+            CompletionStage<Set<NamespaceAndName>> allUsersFuture = userOperator.getUsersToReconcile(watchedNamespace, userLister, secretLister, desiredPasswordSecretLister);
 
             try {
                 Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
+                long skippedUsers = userLister.namespace(watchedNamespace).list().stream()
+                        .filter(user -> !allUsers.contains(new NamespaceAndName(watchedNamespace, user.getMetadata().getName())))
+                        .count();
+                metrics.skippedPeriodicReconciliationsCounter(watchedNamespace).increment(skippedUsers);
+                LOGGER.debugOp("Periodic reconciliation of {} resources for namespace {} queued {} users and skipped {} unchanged users", RESOURCE_KIND, watchedNamespace, allUsers.size(), skippedUsers);
                 allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), "timer")));
             } catch (TimeoutException e)    {
                 LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, watchedNamespace, e);
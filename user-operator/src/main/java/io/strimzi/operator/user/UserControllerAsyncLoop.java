@@ -0,0 +1,162 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.KafkaUserStatus;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.controller.AbstractAsyncControllerLoop;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.strimzi.operator.user.model.KafkaUserModel;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous variant of the User controller loop. It reconciles the KafkaUser and the secrets and Kafka settings
+ * which belong to it the same way as the UserControllerLoop. But it does not block any thread while waiting for the
+ * Kafka Admin API or the Kubernetes API. The blocking parts of the reconciliation, such as generating the credentials
+ * or updating the status, run on the executor passed to the constructor.
+ */
+public class UserControllerAsyncLoop extends AbstractAsyncControllerLoop {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerAsyncLoop.class);
+
+    private final KubernetesClient client;
+    private final Lister<KafkaUser> userLister;
+    private final Lister<Secret> secretLister;
+    private final KafkaUserOperator userOperator;
+    private final ControllerMetricsHolder metrics;
+    private final ExecutorService executor;
+
+    private final String secretPrefix;
+    private final long operationTimeoutMs;
+
+    /**
+     * Constructor of the asynchronous UserController reconciliation loop
+     *
+     * @param name                  Name of the reconciliation loop
+     * @param workQueue             ControllerQueue from which the reconciliation events should be taken
+     * @param lockManager           LockManager which is used to avoid the same resource being reconciled in parallel
+     * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractAsyncControllerLoop
+     *                              and used to run the progress warnings
+     * @param executor              Executor used to run the blocking parts of the reconciliation
+     * @param client                The Kubernetes client
+     * @param userLister            The KafkaUser resource lister for getting the resources
+     * @param secretLister          The Secret lister for getting the secrets
+     * @param userOperator          The KafkaUserOperator which has the logic for updating the Kubernetes or Kafka resources
+     * @param metrics               The metrics holder for providing metrics about the reconciliation
+     * @param config                The User Operator config
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public UserControllerAsyncLoop(
+            String name,
+            ControllerQueue workQueue,
+            ReconciliationLockManager lockManager,
+            ScheduledExecutorService scheduledExecutor,
+            ExecutorService executor,
+            KubernetesClient client,
+            Lister<KafkaUser> userLister,
+            Lister<Secret> secretLister,
+            KafkaUserOperator userOperator,
+            ControllerMetricsHolder metrics,
+            UserOperatorConfig config
+    ) {
+        super(name, workQueue, lockManager, scheduledExecutor, config.getControllerMaxInFlightReconciliations());
+
+        this.executor = executor;
+        this.client = client;
+        this.userLister = userLister;
+        this.secretLister = secretLister;
+        this.userOperator = userOperator;
+        this.metrics = metrics;
+
+        this.secretPrefix = config.getSecretPrefix();
+        this.operationTimeoutMs = config.getOperationTimeoutMs();
+    }
+
+    /**
+     * The main reconciliation logic which handles the reconciliations.
+     *
+     * @param reconciliation    Reconciliation identifier used for logging
+     *
+     * @return  CompletionStage which completes when the reconciliation is finished
+     */
+    @Override
+    protected CompletionStage<Void> reconcile(Reconciliation reconciliation) {
+        LOGGER.infoCr(reconciliation, "{} will be reconciled", reconciliation.kind());
+
+        KafkaUser user = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
+
+        if (user != null && Annotations.isReconciliationPausedWithAnnotation(user)) {
+            // Reconciliation is paused => we make sure the status is up-to-date but don't do anything
+            LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+            KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
+            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+
+            return CompletableFuture.runAsync(() -> UserControllerUtils.maybeUpdateStatus(reconciliation, client, userLister, user, status), executor);
+        } else {
+            // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
+            Secret userSecret = secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
+            Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
+
+            // The KafkaUserOperator generates the credentials before returning the CompletionStage. So it is called
+            // from the executor to not block the controller loop thread.
+            return CompletableFuture.supplyAsync(() -> userOperator.reconcile(reconciliation, user, userSecret), executor)
+                    .thenCompose(reconciliationResult -> reconciliationResult)
+                    .orTimeout(operationTimeoutMs, TimeUnit.MILLISECONDS)
+                    .handle((status, error) -> {
+                        if (error == null) {
+                            LOGGER.infoCr(reconciliation, "reconciled");
+                            metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
+
+                            return status;
+                        } else {
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                            LOGGER.errorCr(reconciliation, "{} {} in namespace {} reconciliation failed", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), cause);
+                            metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
+
+                            KafkaUserStatus failedStatus = new KafkaUserStatus();
+                            if (user != null) {
+                                StatusUtils.setStatusConditionAndObservedGeneration(user, failedStatus, cause);
+                            }
+
+                            return failedStatus;
+                        }
+                    })
+                    .thenAcceptAsync(status -> {
+                        // Update the status if the user exists
+                        if (user != null) {
+                            StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
+                            UserControllerUtils.maybeUpdateStatus(reconciliation, client, userLister, user, status);
+                        }
+                    }, executor)
+                    .exceptionally(t -> {
+                        // Updating status failed
+                        LOGGER.errorCr(reconciliation, "Failed to update status for {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                        return null;
+                    });
+        }
+    }
+
+    @Override
+    protected ControllerMetricsHolder metrics() {
+        return metrics;
+    }
+}
@@ -6,14 +6,10 @@ package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
-import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -105,7 +101,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-            maybeUpdateStatus(reconciliation, user, status);
+            UserControllerUtils.maybeUpdateStatus(reconciliation, client, userLister, user, status);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
@@ -131,7 +127,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                     // Update the status if the user exists
                     if (user != null) {
                         StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
-                        maybeUpdateStatus(reconciliation, user, status);
+                        UserControllerUtils.maybeUpdateStatus(reconciliation, client, userLister, user, status);
                     }
                 }
             } catch (Throwable t) {
@@ -141,40 +137,6 @@ public class UserControllerLoop extends AbstractControllerLoop {
         }
     }
 
-    /**
-     * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
-     *
-     * @param reconciliation    Reconciliation in which this is executed
-     * @param kafkaUser         Original KafkaUser with the current status
-     * @param desiredStatus     The desired status which should be set if it differs
-     */
-    private void maybeUpdateStatus(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
-        // KafkaUser or desiredStatus being null means deletion => no status to update
-        if (kafkaUser != null && desiredStatus != null) {
-            if (!new StatusDiff(kafkaUser.getStatus(), desiredStatus).isEmpty())  {
-                try {
-                    LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    KafkaUser latestKafkaUser = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
-                    if (latestKafkaUser != null) {
-                        KafkaUser updateKafkaUser = new KafkaUserBuilder(latestKafkaUser)
-                                .withStatus(desiredStatus)
-                                .build();
-
-                        Crds.kafkaUserOperation(client).inNamespace(reconciliation.namespace()).resource(updateKafkaUser).replaceStatus();
-                    }
-                } catch (KubernetesClientException e)   {
-                    if (e.getCode() == 409) {
-                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} changed while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    } else if (e.getCode() == 404) {
-                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} was deleted while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    } else {
-                        LOGGER.errorCr(reconciliation, "Failed to update status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
-                    }
-                }
-            }
-        }
-    }
-
     @Override
     protected ControllerMetricsHolder metrics() {
         return metrics;
@@ -4,10 +4,17 @@
  */
 package io.strimzi.operator.user;
 
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
+import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 
 import java.util.ArrayList;
@@ -17,6 +24,8 @@ import java.util.Set;
  * Various utility methods used by the UserOperatorController to make leaner and easier to read
  */
 public class UserControllerUtils {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerUtils.class);
+
     /**
      * Creates a new KafkaUSer status which indicates that the resource reconciliation is paused
      *
@@ -35,4 +44,40 @@ public class UserControllerUtils {
 
         return status;
     }
+
+    /**
+     * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param client            Kubernetes client
+     * @param userLister        KafkaUser lister used to get the latest version of the KafkaUser
+     * @param kafkaUser         Original KafkaUser with the current status
+     * @param desiredStatus     The desired status which should be set if it differs
+     */
+    public static void maybeUpdateStatus(Reconciliation reconciliation, KubernetesClient client, Lister<KafkaUser> userLister, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
+        // KafkaUser or desiredStatus being null means deletion => no status to update
+        if (kafkaUser != null && desiredStatus != null) {
+            if (!new StatusDiff(kafkaUser.getStatus(), desiredStatus).isEmpty())  {
+                try {
+                    LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    KafkaUser latestKafkaUser = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
+                    if (latestKafkaUser != null) {
+                        KafkaUser updateKafkaUser = new KafkaUserBuilder(latestKafkaUser)
+                                .withStatus(desiredStatus)
+                                .build();
+
+                        Crds.kafkaUserOperation(client).inNamespace(reconciliation.namespace()).resource(updateKafkaUser).replaceStatus();
+                    }
+                } catch (KubernetesClientException e)   {
+                    if (e.getCode() == 409) {
+                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} changed while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    } else if (e.getCode() == 404) {
+                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} was deleted while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    } else {
+                        LOGGER.errorCr(reconciliation, "Failed to update status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
+                    }
+                }
+            }
+        }
+    }
 }
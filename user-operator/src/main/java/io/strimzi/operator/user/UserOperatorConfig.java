@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -31,6 +32,7 @@ public class UserOperatorConfig {
     static final String STRIMZI_KAFKA_BOOTSTRAP_SERVERS = "STRIMZI_KAFKA_BOOTSTRAP_SERVERS";
     static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
+    static final String STRIMZI_CLIENTS_CA_KEY_ALGORITHM = "STRIMZI_CA_KEY_ALGORITHM";
     static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
     static final String STRIMZI_KRAFT_ENABLED = "STRIMZI_KRAFT_ENABLED";
@@ -45,6 +47,10 @@ public class UserOperatorConfig {
     static final String STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE = "STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE";
     static final String STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS = "STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS";
     static final String STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE";
+    static final String STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS = "STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS";
+    static final String STRIMZI_PRIVATE_KEY_POOL_SIZE = "STRIMZI_PRIVATE_KEY_POOL_SIZE";
+    static final String STRIMZI_SECRET_OPERATIONS_QPS = "STRIMZI_SECRET_OPERATIONS_QPS";
+    static final String STRIMZI_SECRET_OPERATIONS_MAX_IN_FLIGHT = "STRIMZI_SECRET_OPERATIONS_MAX_IN_FLIGHT";
 
     // Default values
     static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
@@ -68,6 +74,13 @@ public class UserOperatorConfig {
     static final int DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE = 100;
     static final int DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS = 100;
     static final int DEFAULT_USER_OPERATIONS_THREAD_POOL_SIZE = 4;
+    // 0 means that the blocking controller loops are used
+    static final int DEFAULT_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS = 0;
+    // 0 means that the private keys are generated during the reconciliation
+    static final int DEFAULT_PRIVATE_KEY_POOL_SIZE = 0;
+    // 0 means that the Secret operations are not rate limited
+    static final int DEFAULT_SECRET_OPERATIONS_QPS = 100;
+    static final int DEFAULT_SECRET_OPERATIONS_MAX_IN_FLIGHT = 10;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -94,6 +107,11 @@ public class UserOperatorConfig {
     private final int batchMaxBlockSize;
     private final int batchMaxBlockTime;
     private final int userOperationsThreadPoolSize;
+    private final int controllerMaxInFlightReconciliations;
+    private final int privateKeyPoolSize;
+    private final CertificateKeyAlgorithm clientsCaKeyAlgorithm;
+    private final int secretOperationsQps;
+    private final int secretOperationsMaxInFlight;
 
     /**
      * Constructor
@@ -124,6 +142,14 @@ public class UserOperatorConfig {
      * @param batchMaxBlockTime Maximal batch time for micro-batching the Kafka Admin API requests
      * @param userOperationsThreadPoolSize Size of the thread pool for user operations done by KafkaUserOperator and
      *                                     the classes used by it
+     * @param controllerMaxInFlightReconciliations Maximal number of asynchronous reconciliations in progress at the same
+     *                                             time. 0 means that the blocking controller threads are used instead.
+     * @param privateKeyPoolSize Number of private keys for the TLS users which are generated in advance. 0 means that
+     *                           the private keys are generated during the reconciliation.
+     * @param clientsCaKeyAlgorithm Algorithm of the private keys generated for the user certificates
+     * @param secretOperationsQps Maximal number of Kubernetes API requests per second used to create, update or delete
+     *                            the user Secrets. 0 means that the requests are not rate limited.
+     * @param secretOperationsMaxInFlight Maximal number of user Secrets created, updated or deleted at the same time
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -150,7 +176,12 @@ public class UserOperatorConfig {
                               int batchQueueSize,
                               int batchMaxBlockSize,
                               int batchMaxBlockTime,
-                              int userOperationsThreadPoolSize
+                              int userOperationsThreadPoolSize,
+                              int controllerMaxInFlightReconciliations,
+                              int privateKeyPoolSize,
+                              CertificateKeyAlgorithm clientsCaKeyAlgorithm,
+                              int secretOperationsQps,
+                              int secretOperationsMaxInFlight
     ) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -177,6 +208,11 @@ public class UserOperatorConfig {
         this.batchMaxBlockSize = batchMaxBlockSize;
         this.batchMaxBlockTime = batchMaxBlockTime;
         this.userOperationsThreadPoolSize = userOperationsThreadPoolSize;
+        this.controllerMaxInFlightReconciliations = controllerMaxInFlightReconciliations;
+        this.privateKeyPoolSize = privateKeyPoolSize;
+        this.clientsCaKeyAlgorithm = clientsCaKeyAlgorithm;
+        this.secretOperationsQps = secretOperationsQps;
+        this.secretOperationsMaxInFlight = secretOperationsMaxInFlight;
     }
 
     /**
@@ -206,6 +242,10 @@ public class UserOperatorConfig {
         int batchMaxBlockSize = getIntProperty(map, STRIMZI_BATCH_MAXIMUM_BLOCK_SIZE, DEFAULT_BATCH_MAXIMUM_BLOCK_SIZE);
         int batchMaxBlockTime = getIntProperty(map, STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS, DEFAULT_BATCH_MAXIMUM_BLOCK_TIME_MS);
         int userOperationsThreadPoolSize = getIntProperty(map, STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE, DEFAULT_USER_OPERATIONS_THREAD_POOL_SIZE);
+        int controllerMaxInFlightReconciliations = getIntProperty(map, STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS, DEFAULT_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS);
+        int privateKeyPoolSize = getIntProperty(map, STRIMZI_PRIVATE_KEY_POOL_SIZE, DEFAULT_PRIVATE_KEY_POOL_SIZE);
+        int secretOperationsQps = getIntProperty(map, STRIMZI_SECRET_OPERATIONS_QPS, DEFAULT_SECRET_OPERATIONS_QPS);
+        int secretOperationsMaxInFlight = getIntProperty(map, STRIMZI_SECRET_OPERATIONS_MAX_IN_FLIGHT, DEFAULT_SECRET_OPERATIONS_MAX_IN_FLIGHT);
 
         String kafkaBootstrapServers = DEFAULT_KAFKA_BOOTSTRAP_SERVERS;
         String kafkaBootstrapServersEnvVar = map.get(UserOperatorConfig.STRIMZI_KAFKA_BOOTSTRAP_SERVERS);
@@ -248,12 +288,15 @@ public class UserOperatorConfig {
 
         Properties kafkaAdminClientConfiguration = parseKafkaAdminClientConfiguration(map.get(UserOperatorConfig.STRIMZI_KAFKA_ADMIN_CLIENT_CONFIGURATION));
 
+        CertificateKeyAlgorithm clientsCaKeyAlgorithm = parseKeyAlgorithm(map.get(UserOperatorConfig.STRIMZI_CLIENTS_CA_KEY_ALGORITHM));
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, euoKeySecretName, caNamespace, secretPrefix,
                 aclsAdminApiSupported, kraftEnabled, clientsCaValidityDays, clientsCaRenewalDays,
                 scramPasswordLength, maintenanceWindows, kafkaAdminClientConfiguration, operationTimeout, workQueueSize,
                 controllerThreadPoolSize, cacheRefresh, batchQueueSize, batchMaxBlockSize, batchMaxBlockTime,
-                userOperationsThreadPoolSize);
+                userOperationsThreadPoolSize, controllerMaxInFlightReconciliations, privateKeyPoolSize, clientsCaKeyAlgorithm,
+                secretOperationsQps, secretOperationsMaxInFlight);
     }
 
     /**
@@ -277,6 +320,27 @@ public class UserOperatorConfig {
         return kafkaAdminClientConfiguration;
     }
 
+    /**
+     * Parse the algorithm of the private keys of the user certificates from the environment variable
+     *
+     * @param keyAlgorithm  The key algorithm from the environment variable. Null if no algorithm is set.
+     *
+     * @return  The key algorithm. RSA is used when no algorithm is set.
+     */
+    /* test */ static CertificateKeyAlgorithm parseKeyAlgorithm(String keyAlgorithm) {
+        if (keyAlgorithm == null || keyAlgorithm.isEmpty())   {
+            return CertificateKeyAlgorithm.RSA;
+        }
+
+        CertificateKeyAlgorithm algorithm = CertificateKeyAlgorithm.forValue(keyAlgorithm);
+
+        if (algorithm == null)  {
+            throw new InvalidConfigurationException("Unsupported key algorithm " + keyAlgorithm + " in " + UserOperatorConfig.STRIMZI_CLIENTS_CA_KEY_ALGORITHM);
+        }
+
+        return algorithm;
+    }
+
     /**
      * @return  Clients CA validity in days
      */
@@ -291,6 +355,13 @@ public class UserOperatorConfig {
         return clientsCaRenewalDays;
     }
 
+    /**
+     * @return  Algorithm of the private keys generated for the user certificates
+     */
+    public CertificateKeyAlgorithm getClientsCaKeyAlgorithm() {
+        return clientsCaKeyAlgorithm;
+    }
+
     /**
      * Extracts the int type environment variable from the Map.
      *
@@ -525,6 +596,37 @@ public class UserOperatorConfig {
         return userOperationsThreadPoolSize;
     }
 
+    /**
+     * @return  Maximal number of asynchronous reconciliations in progress at the same time or 0 when the blocking
+     *          controller threads should be used
+     */
+    public int getControllerMaxInFlightReconciliations() {
+        return controllerMaxInFlightReconciliations;
+    }
+
+    /**
+     * @return  Number of private keys for the TLS users which are generated in advance or 0 when the private keys are
+     *          generated during the reconciliation
+     */
+    public int getPrivateKeyPoolSize() {
+        return privateKeyPoolSize;
+    }
+
+    /**
+     * @return  Maximal number of Kubernetes API requests per second used for the user Secrets or 0 when the requests
+     *          are not rate limited
+     */
+    public int getSecretOperationsQps() {
+        return secretOperationsQps;
+    }
+
+    /**
+     * @return  Maximal number of user Secrets created, updated or deleted at the same time
+     */
+    public int getSecretOperationsMaxInFlight() {
+        return secretOperationsMaxInFlight;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -552,6 +654,11 @@ public class UserOperatorConfig {
                 ", batchMaxBlockSize=" + batchMaxBlockSize +
                 ", batchMaxBlockTime=" + batchMaxBlockTime +
                 ", userOperationsThreadPoolSize=" + userOperationsThreadPoolSize +
+                ", controllerMaxInFlightReconciliations=" + controllerMaxInFlightReconciliations +
+                ", privateKeyPoolSize=" + privateKeyPoolSize +
+                ", clientsCaKeyAlgorithm=" + clientsCaKeyAlgorithm +
+                ", secretOperationsQps=" + secretOperationsQps +
+                ", secretOperationsMaxInFlight=" + secretOperationsMaxInFlight +
                 ")";
     }
 }
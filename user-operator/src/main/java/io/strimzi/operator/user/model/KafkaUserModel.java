@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserAuthentication;
 import io.strimzi.api.kafka.model.KafkaUserAuthorizationSimple;
@@ -41,6 +42,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -226,10 +228,38 @@ public class KafkaUserModel {
      * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
      *              That time is used for checking maintenance windows
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
                                           int renewalDays, List<String> maintenanceWindows, Clock clock) {
+        maybeGenerateCertificates(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret,
+                userSecret, validityDays, renewalDays, maintenanceWindows, clock, null, null);
+    }
+
+    /**
+     * Manage certificates generation based on those already present in the Secrets. When a new certificate is needed,
+     * the private key is taken from the private key supplier if it provides one.
+     *
+     * @param reconciliation The reconciliation
+     * @param certManager CertManager instance for handling certificates creation
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @param userSecret Secret with the user certificate
+     * @param validityDays The number of days the certificate should be valid for.
+     * @param renewalDays The renewal days.
+     * @param maintenanceWindows List of configured maintenance windows
+     * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
+     *              That time is used for checking maintenance windows
+     * @param privateKeySupplier Supplier of pre-generated private keys or null if the private keys should be always
+     *                           generated together with the certificate. The supplier might return null when no
+     *                           pre-generated key is available.
+     * @param keyAlgorithm Algorithm of the private key of the user certificate. RSA is used when null.
+     */
+    @SuppressWarnings({"checkstyle:BooleanExpressionComplexity", "checkstyle:ParameterNumber"})
+    public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
+                                          int renewalDays, List<String> maintenanceWindows, Clock clock, Supplier<byte[]> privateKeySupplier,
+                                          CertificateKeyAlgorithm keyAlgorithm) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
         ClientsCa clientsCa = new ClientsCa(
@@ -243,7 +273,8 @@ public class KafkaUserModel {
                 validityDays,
                 renewalDays,
                 false,
-                null);
+                null,
+                keyAlgorithm);
         this.caCert = clientsCa.currentCaCertBase64();
 
         if (userSecret != null) {
@@ -259,15 +290,24 @@ public class KafkaUserModel {
                     && !userCrt.isEmpty()
                     && userKey != null
                     && !userKey.isEmpty()) {
+                String renewalReason = null;
+
                 if (clientsCa.isExpiring(userSecret, "user.crt"))   {
                     // The certificate exists but is expiring
+                    renewalReason = "is within the renewal period";
+                } else if (clientsCa.keyAlgorithmChanged(decodeFromSecret(userSecret, "user.crt")))   {
+                    // The certificate exists but its key was generated with a different algorithm
+                    renewalReason = "does not use the " + clientsCa.keyAlgorithm() + " key algorithm";
+                }
+
+                if (renewalReason != null)   {
                     if (Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant()))   {
                         // => if we are in compliance with maintenance window, we renew it
-                        LOGGER.infoCr(reconciliation, "Certificate for user {} in namespace {} is within the renewal period and will be renewed", name, namespace);
-                        this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa);
+                        LOGGER.infoCr(reconciliation, "Certificate for user {} in namespace {} {} and will be renewed", name, namespace, renewalReason);
+                        this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa, privateKeySupplier);
                     } else {
                         // => if we are outside of maintenance window, we reuse it
-                        LOGGER.infoCr(reconciliation, "Certificate for user {} in namespace {} is within the renewal period and will be renewed in the next maintenance window", name, namespace);
+                        LOGGER.infoCr(reconciliation, "Certificate for user {} in namespace {} {} and will be renewed in the next maintenance window", name, namespace, renewalReason);
                         this.userCertAndKey = reuseCertificate(reconciliation, clientsCa, userSecret);
                     }
                 } else {
@@ -276,17 +316,23 @@ public class KafkaUserModel {
                 }
             } else {
                 // User secret exists, but does not seem to contain the complete user certificate => we have to generate a new user certificate
-                this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa);
+                this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa, privateKeySupplier);
             }
         } else {
             // User secret does not exist yet => we have to generate a new user certificate
-            this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa);
+            this.userCertAndKey = generateNewCertificate(reconciliation, clientsCa, privateKeySupplier);
         }
     }
 
-    CertAndKey generateNewCertificate(Reconciliation reconciliation, Ca clientsCa) {
+    CertAndKey generateNewCertificate(Reconciliation reconciliation, Ca clientsCa, Supplier<byte[]> privateKeySupplier) {
         try {
-            return clientsCa.generateSignedCert(name);
+            byte[] privateKey = privateKeySupplier != null ? privateKeySupplier.get() : null;
+
+            if (privateKey != null) {
+                return clientsCa.generateSignedCertForKey(name, privateKey);
+            } else {
+                return clientsCa.generateSignedCert(name);
+            }
         } catch (IOException e) {
             LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
             return null;
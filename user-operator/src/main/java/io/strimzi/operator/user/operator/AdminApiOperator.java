@@ -10,6 +10,7 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 /**
  * Interface for operators using the Kafka Admin API
@@ -32,6 +33,25 @@ public interface AdminApiOperator<T, S extends Collection<String>> {
      */
     CompletionStage<S> getAllUsers();
 
+    /**
+     * Returns stream with all usernames which have some value set right now. Unlike getAllUsers(), the stream is backed
+     * directly by the cache and does not copy the usernames into a new collection.
+     *
+     * @return Stream with all usernames which have some value set right now
+     */
+    Stream<String> streamAllUsers();
+
+    /**
+     * Checks whether the current value of the user known from the cache differs from the desired value. This does not
+     * query Kafka and is used to find the users which need to be reconciled.
+     *
+     * @param username  Username of the user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The desired object or null if the user should not have any value set
+     *
+     * @return True if the current value differs from the desired value. False otherwise.
+     */
+    boolean isDrifted(String username, T desired);
+
     /**
      * Starts the API Operator - this is used for example to start the Cache and BatchReconcilers
      */
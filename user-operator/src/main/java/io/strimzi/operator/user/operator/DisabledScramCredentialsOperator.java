@@ -10,6 +10,7 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 /**
  * DisabledScramCredentialsOperator is used when the use of SCRAM-SHA users is not allowed. It does not provide any
@@ -36,6 +37,16 @@ public class DisabledScramCredentialsOperator implements AdminApiOperator<String
         return CompletableFuture.failedFuture(new UnsupportedOperationException("DisabledScramCredentialsOperator cannot be used to get list of all users"));
     }
 
+    @Override
+    public Stream<String> streamAllUsers() {
+        throw new UnsupportedOperationException("DisabledScramCredentialsOperator cannot be used to get list of all users");
+    }
+
+    @Override
+    public boolean isDrifted(String username, String desired) {
+        throw new UnsupportedOperationException("DisabledScramCredentialsOperator cannot be used to check users");
+    }
+
     @Override
     public void start() {
         // Nothing to do
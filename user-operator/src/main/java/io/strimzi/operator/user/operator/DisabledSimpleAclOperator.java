@@ -11,6 +11,7 @@ import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 /**
  * DisabledSimpleAclOperator is used when the management of ACL rules is not allowed. It does not provide any
@@ -37,6 +38,16 @@ public class DisabledSimpleAclOperator implements AdminApiOperator<Set<SimpleAcl
         return CompletableFuture.failedFuture(new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to get list of all users"));
     }
 
+    @Override
+    public Stream<String> streamAllUsers() {
+        throw new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to get list of all users");
+    }
+
+    @Override
+    public boolean isDrifted(String username, Set<SimpleAclRule> desired) {
+        throw new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to check users");
+    }
+
     @Override
     public void start() {
         // Nothing to do
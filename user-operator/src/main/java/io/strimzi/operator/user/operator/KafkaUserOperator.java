@@ -4,38 +4,46 @@
  */
 package io.strimzi.operator.user.operator;
 
-import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.strimzi.api.kafka.Crds;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
-import io.strimzi.operator.common.operator.resource.ResourceDiff;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 
+import java.security.cert.X509Certificate;
 import java.time.Clock;
-import java.util.Collection;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Operator for a Kafka Users.
@@ -51,7 +59,13 @@ public class KafkaUserOperator {
     private final ExecutorService executor;
     private final UserOperatorConfig config;
     private final PasswordGenerator passwordGenerator;
-    private final LabelSelector selector;
+    private final PrivateKeyPool privateKeyPool;
+    private final SecretWriter secretWriter;
+
+    // Caches used by the periodic reconciliation to avoid building the user model and parsing the user certificate
+    // for users which did not change since the previous periodic reconciliation
+    private final Map<NamespaceAndName, CachedModel> modelCache = new ConcurrentHashMap<>();
+    private final Map<NamespaceAndName, CachedCertificate> certificateCache = new ConcurrentHashMap<>();
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -72,6 +86,32 @@ public class KafkaUserOperator {
             AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
             AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
             ExecutorService executor
+    ) {
+        this(config, client, certManager, scramCredentialsOperator, quotasOperator, aclOperator, executor, null);
+    }
+
+    /**
+     * Creates the instance of KafkaUserOperator
+     *
+     * @param config                   User operator configuration
+     * @param client                   Kubernetes client
+     * @param certManager              For managing certificates.
+     * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
+     * @param quotasOperator           For operating on Kafka User quotas.
+     * @param aclOperator              For operating on ACLs.
+     * @param executor                 Shared executor for executing async operations
+     * @param privateKeyPool           Pool with pre-generated private keys for TLS users or null if the private keys
+     *                                 should be generated during the reconciliation
+     */
+    public KafkaUserOperator(
+            UserOperatorConfig config,
+            KubernetesClient client,
+            CertManager certManager,
+            AdminApiOperator<String, List<String>> scramCredentialsOperator,
+            AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator,
+            AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator,
+            ExecutorService executor,
+            PrivateKeyPool privateKeyPool
     ) {
         this.certManager = certManager;
         this.client = client;
@@ -80,9 +120,10 @@ public class KafkaUserOperator {
         this.aclOperator = aclOperator;
         this.executor = executor;
         this.config = config;
+        this.privateKeyPool = privateKeyPool;
 
-        this.selector = (config.getLabels() == null || config.getLabels().toMap().isEmpty()) ? new LabelSelector() : new LabelSelector(null, config.getLabels().toMap());
         this.passwordGenerator = new PasswordGenerator(this.config.getScramPasswordLength());
+        this.secretWriter = new SecretWriter(client, config.getSecretOperationsQps(), config.getSecretOperationsMaxInFlight());
     }
 
     /**
@@ -92,6 +133,10 @@ public class KafkaUserOperator {
         quotasOperator.start();
         aclOperator.start();
         scramCredentialsOperator.start();
+
+        if (privateKeyPool != null) {
+            privateKeyPool.start();
+        }
     }
 
     /**
@@ -101,88 +146,253 @@ public class KafkaUserOperator {
         quotasOperator.stop();
         aclOperator.stop();
         scramCredentialsOperator.stop();
+
+        if (privateKeyPool != null) {
+            privateKeyPool.stop();
+        }
+
+        secretWriter.stop();
     }
 
     /**
-     * Gets all usernames which should be reconciled. They are collected from the Kubernetes resources as well as from
-     * the Kafka itself (based on existing ACLs, Quotas or SCRAM-SHA credentials). Querying the users also from Kafka
-     * is important to ensure proper deletion.
+     * Gets the usernames which should be reconciled by the periodic reconciliation. The KafkaUser resources are taken
+     * from the informer cache and merged with the users known from the Kafka itself (based on existing ACLs, Quotas or
+     * SCRAM-SHA credentials in the Admin API operator caches). Querying the users also from Kafka is important to
+     * ensure proper deletion.
+     *
+     * Users with a KafkaUser resource are returned only when their desired state was not successfully reconciled yet
+     * (the resource is not ready or the desired state digest in its status does not match the current inputs) or when
+     * the state in Kafka or in the user Secret drifted from the desired state. Users which exist only in Kafka are always returned so that they are
+     * deleted. Apart from the Clients CA certificate, which is loaded at most once, all resources are taken from the
+     * informer caches.
      *
-     * @param namespace     Namespace where to look for the users
+     * @param namespace                     Namespace where to look for the users
+     * @param userLister                    Lister for the KafkaUser resources backed by the informer
+     * @param secretLister                  Lister for the user Secrets backed by the informer
+     * @param desiredPasswordSecretLister   Lister for the other Secrets backed by the informer which is used to find
+     *                                      the Secrets with the desired passwords
      *
      * @return  Set with Users and their namespaces
      */
-    public CompletionStage<Set<NamespaceAndName>> getAllUsers(String namespace) {
-        // Get all users from KafkaUser resources
-        CompletionStage<Set<String>> kafkaUsers = getAllKafkaUserUsernames(namespace);
+    public CompletionStage<Set<NamespaceAndName>> getUsersToReconcile(String namespace, Lister<KafkaUser> userLister, Lister<Secret> secretLister, Lister<Secret> desiredPasswordSecretLister) {
+        return CompletableFuture.supplyAsync(() -> {
+            Lister<KafkaUser> namespacedUserLister = userLister.namespace(namespace);
+            Lister<Secret> namespacedSecretLister = secretLister.namespace(namespace);
+            Lister<Secret> namespacedDesiredPasswordSecretLister = desiredPasswordSecretLister.namespace(namespace);
+            Set<NamespaceAndName> users = new HashSet<>();
+            Set<NamespaceAndName> existingUsers = new HashSet<>();
+
+            // The Clients CA certificate is needed only for TLS users and is loaded at most once per sweep
+            Secret[] caCertSecret = new Secret[1];
+            Supplier<Secret> caCert = () -> {
+                if (caCertSecret[0] == null) {
+                    caCertSecret[0] = client.secrets().inNamespace(config.getCaNamespace()).withName(config.getCaCertSecretName()).get();
+                }
 
-        // Get the quota users
-        CompletionStage<Set<String>> quotaUsers = quotasOperator.getAllUsers();
+                return caCertSecret[0];
+            };
 
-        // Get the ACL users
-        CompletionStage<Set<String>> aclUsers;
-        if (config.isAclsAdminApiSupported())   {
-            aclUsers = aclOperator.getAllUsers();
-        } else {
-            aclUsers = CompletableFuture.completedFuture(Set.of());
+            // Users with KafkaUser resources
+            for (KafkaUser kafkaUser : namespacedUserLister.list()) {
+                NamespaceAndName user = new NamespaceAndName(namespace, kafkaUser.getMetadata().getName());
+                existingUsers.add(user);
+
+                if (needsReconciliation(kafkaUser, namespacedSecretLister, namespacedDesiredPasswordSecretLister, caCert)) {
+                    users.add(user);
+                }
+            }
+
+            // Drop the cached models and certificates of deleted users
+            modelCache.keySet().removeIf(user -> namespace.equals(user.getNamespace()) && !existingUsers.contains(user));
+            certificateCache.keySet().removeIf(user -> namespace.equals(user.getNamespace()) && !existingUsers.contains(user));
+
+            // Users which exist only in Kafka
+            Stream<String> kafkaUsers = quotasOperator.streamAllUsers();
+
+            if (config.isAclsAdminApiSupported())   {
+                kafkaUsers = Stream.concat(kafkaUsers, aclOperator.streamAllUsers());
+            }
+
+            if (!config.isKraftEnabled()) {
+                kafkaUsers = Stream.concat(kafkaUsers, scramCredentialsOperator.streamAllUsers());
+            }
+
+            kafkaUsers.filter(username -> namespacedUserLister.get(username) == null)
+                    .forEach(username -> users.add(new NamespaceAndName(namespace, username)));
+
+            return users;
+        }, executor);
+    }
+
+    /**
+     * Checks whether the KafkaUser needs to be reconciled by the periodic reconciliation.
+     *
+     * @param kafkaUser                     The KafkaUser resource
+     * @param secretLister                  Lister for the user Secrets in the namespace of the user
+     * @param desiredPasswordSecretLister   Lister for the other Secrets in the namespace of the user
+     * @param caCert                        Supplier of the Clients CA certificate Secret
+     *
+     * @return  True if the user should be reconciled. False otherwise.
+     */
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity", "checkstyle:BooleanExpressionComplexity"})
+    private boolean needsReconciliation(KafkaUser kafkaUser, Lister<Secret> secretLister, Lister<Secret> desiredPasswordSecretLister, Supplier<Secret> caCert)  {
+        if (kafkaUser.getStatus() == null
+                || kafkaUser.getStatus().getDesiredStateDigest() == null
+                || !Objects.equals(kafkaUser.getStatus().getObservedGeneration(), kafkaUser.getMetadata().getGeneration())
+                || kafkaUser.getStatus().getConditions() == null
+                || kafkaUser.getStatus().getConditions().stream().noneMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus())))    {
+            // The desired state changed since the last successful reconciliation or the last reconciliation failed
+            return true;
         }
 
-        // Get the SCRAM-SHA users
-        CompletionStage<List<String>> scramUsers;
-        if (!config.isKraftEnabled()) {
-            scramUsers = scramCredentialsOperator.getAllUsers();
-        } else {
-            scramUsers = CompletableFuture.completedFuture(List.of());
+        NamespaceAndName key = new NamespaceAndName(kafkaUser.getMetadata().getNamespace(), kafkaUser.getMetadata().getName());
+        KafkaUserModel user = cachedModel(key, kafkaUser);
+        if (user == null) {
+            // Invalid users are reconciled to get the error into their status
+            return true;
         }
 
-        return CompletableFuture.allOf(kafkaUsers.toCompletableFuture(), quotaUsers.toCompletableFuture(), aclUsers.toCompletableFuture(), scramUsers.toCompletableFuture())
-                .thenApplyAsync(i -> {
-                    Set<String> usernames = new HashSet<>();
+        Secret desiredPasswordSecret = null;
+        if (user.isUserWithDesiredPassword()) {
+            // The desired password Secret is not labeled as a user Secret, so it is usually found in the other informer
+            desiredPasswordSecret = secretLister.get(user.desiredPasswordSecretName());
+            if (desiredPasswordSecret == null) {
+                desiredPasswordSecret = desiredPasswordSecretLister.get(user.desiredPasswordSecretName());
+            }
 
-                    // These CompletionStages should be complete since we were waiting for them in allOf above. So we can just getNow() the results.
-                    usernames.addAll(kafkaUsers.toCompletableFuture().getNow(Set.of()));
-                    usernames.addAll(quotaUsers.toCompletableFuture().getNow(Set.of()));
-                    usernames.addAll(aclUsers.toCompletableFuture().getNow(Set.of()));
-                    usernames.addAll(scramUsers.toCompletableFuture().getNow(List.of()));
+            if (desiredPasswordSecret == null) {
+                // Not in the cache => let the reconciliation deal with it
+                return true;
+            }
+        }
 
-                    return toResourceRef(namespace, usernames);
-                }, executor);
+        // The inputs which are not part of the spec (CA certificate or desired password) changed since the last successful reconciliation
+        if (!kafkaUser.getStatus().getDesiredStateDigest().equals(desiredStateDigest(kafkaUser, user.isTlsUser() ? caCert.get() : null, desiredPasswordSecret)))   {
+            return true;
+        }
+
+        // Quotas and ACLs are desired for one of the username variants and should not exist for the other one
+        String name = kafkaUser.getMetadata().getName();
+        boolean tlsUsername = user.isTlsUser() || user.isTlsExternalUser();
+
+        if (quotasOperator.isDrifted(KafkaUserModel.getTlsUserName(name), tlsUsername ? user.getQuotas() : null)
+                || quotasOperator.isDrifted(KafkaUserModel.getScramUserName(name), tlsUsername ? null : user.getQuotas())) {
+            return true;
+        }
+
+        if (config.isAclsAdminApiSupported()
+                && (aclOperator.isDrifted(KafkaUserModel.getTlsUserName(name), tlsUsername ? user.getSimpleAclRules() : null)
+                    || aclOperator.isDrifted(KafkaUserModel.getScramUserName(name), tlsUsername ? null : user.getSimpleAclRules()))) {
+            return true;
+        }
+
+        // The password is not known without reconciling the user, so only the existence of the credentials is checked
+        if (!config.isKraftEnabled()
+                && scramCredentialsOperator.isDrifted(user.getName(), user.isScramUser() ? "" : null))    {
+            return true;
+        }
+
+        Secret userSecret = secretLister.get(user.getSecretName());
+
+        if (user.isTlsUser())   {
+            return isTlsSecretDrifted(key, userSecret, caCert.get());
+        } else if (user.isScramUser())  {
+            return userSecret == null;
+        } else {
+            return userSecret != null;
+        }
     }
 
     /**
-     * Utility method to get all usernames based on the KafkaUser Kubernetes resources
+     * Gets the model of the KafkaUser for the periodic reconciliation. The model is built again only when the resource
+     * version of the KafkaUser changed since it was cached.
      *
-     * @param namespace     Namespace where to look for the users
+     * @param key           Namespace and name of the user
+     * @param kafkaUser     The KafkaUser resource
      *
-     * @return  Set of KafkaUser resource names
+     * @return  Model describing the KafkaUser or null if the KafkaUser is not valid
      */
-    private CompletionStage<Set<String>> getAllKafkaUserUsernames(String namespace)  {
-        return CompletableFuture
-                .supplyAsync(() -> Crds.kafkaUserOperation(client)
-                                .inNamespace(namespace)
-                                .withLabelSelector(selector)
-                                .list()
-                                .getItems()
-                                .stream()
-                                .map(resource -> resource.getMetadata().getName())
-                                .collect(Collectors.toSet()),
-                        executor);
+    private KafkaUserModel cachedModel(NamespaceAndName key, KafkaUser kafkaUser)    {
+        String resourceVersion = kafkaUser.getMetadata().getResourceVersion();
+        CachedModel cached = modelCache.get(key);
+
+        if (cached != null && resourceVersion != null && resourceVersion.equals(cached.resourceVersion())) {
+            return cached.model();
+        }
+
+        try {
+            KafkaUserModel user = KafkaUserModel.fromCrd(kafkaUser, config.getSecretPrefix(), config.isAclsAdminApiSupported(), config.isKraftEnabled());
+            modelCache.put(key, new CachedModel(resourceVersion, user));
+            return user;
+        } catch (Exception e) {
+            modelCache.remove(key);
+            return null;
+        }
     }
 
     /**
-     * Utility method to convert collection of usernames to a collection of NamespaceAndName resources.
+     * Checks whether the TLS credentials in the user Secret need to be updated because they are missing, were not
+     * issued by the current Clients CA, are within the renewal period or use a different key algorithm than configured.
+     * The user certificate is parsed again only when the resource version of the user Secret changed since it was
+     * cached.
      *
-     * @param namespace Namespace where these users exist
-     * @param names     Name of the user
+     * @param key           Namespace and name of the user
+     * @param userSecret    The user Secret
+     * @param caCertSecret  The Clients CA certificate Secret
      *
-     * @return  Collection with the corresponding NamespaceAndName resources
+     * @return  True if the credentials need to be updated. False otherwise.
      */
-    private static Set<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
-        return names.stream()
-                .map(name -> new NamespaceAndName(namespace, name))
-                .collect(Collectors.toSet());
+    private boolean isTlsSecretDrifted(NamespaceAndName key, Secret userSecret, Secret caCertSecret)    {
+        if (userSecret == null
+                || userSecret.getData() == null
+                || userSecret.getData().get("user.key") == null
+                || caCertSecret == null
+                || caCertSecret.getData() == null
+                || !Objects.equals(caCertSecret.getData().get("ca.crt"), userSecret.getData().get("ca.crt")))   {
+            return true;
+        }
+
+        String resourceVersion = userSecret.getMetadata() != null ? userSecret.getMetadata().getResourceVersion() : null;
+        CachedCertificate cached = certificateCache.get(key);
+
+        if (cached == null || resourceVersion == null || !resourceVersion.equals(cached.resourceVersion())) {
+            try {
+                X509Certificate userCert = Ca.cert(userSecret, "user.crt");
+
+                if (userCert == null)   {
+                    certificateCache.remove(key);
+                    return true;
+                }
+
+                cached = new CachedCertificate(resourceVersion, userCert.getNotAfter().toInstant(), Ca.keyAlgorithm(config.getClientsCaKeyAlgorithm()).matches(userCert.getPublicKey()));
+                certificateCache.put(key, cached);
+            } catch (RuntimeException e)    {
+                certificateCache.remove(key);
+                return true;
+            }
+        }
+
+        return Instant.now().isAfter(cached.notAfter().minus(config.getClientsCaRenewalDays(), ChronoUnit.DAYS))
+                || !cached.keyAlgorithmMatches();
     }
 
+    /**
+     * Model of a KafkaUser cached by the periodic reconciliation
+     *
+     * @param resourceVersion   Resource version of the KafkaUser the model was built from
+     * @param model             The model
+     */
+    private record CachedModel(String resourceVersion, KafkaUserModel model) { }
+
+    /**
+     * Details of a user certificate cached by the periodic reconciliation
+     *
+     * @param resourceVersion       Resource version of the user Secret the certificate was parsed from
+     * @param notAfter              Expiration of the certificate
+     * @param keyAlgorithmMatches   Whether the certificate uses the configured key algorithm
+     */
+    private record CachedCertificate(String resourceVersion, Instant notAfter, boolean keyAlgorithmMatches) { }
+
     /**
      * Reconciles the KafkaUser for creation, update or deletion
      *
@@ -252,7 +462,7 @@ public class KafkaUserOperator {
 
         // Makes sure the credentials are up-to-date. (This just updates the information inside the KafkaUserModel.
         // It does not generate the secret or update the password in Kafka. That happens only later.)
-        maybeGenerateCredentials(reconciliation, user, userSecret);
+        String desiredStateDigest = maybeGenerateCredentials(reconciliation, kafkaUser, user, userSecret);
 
         // Reconcile the user: update everything in Kafka and in the Secret
         return reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus)
@@ -262,6 +472,7 @@ public class KafkaUserOperator {
                     } else {
                         StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
                         userStatus.setUsername(user.getUserName());
+                        userStatus.setDesiredStateDigest(desiredStateDigest);
                         return (Void) null;
                     }
                 }, executor)
@@ -273,26 +484,51 @@ public class KafkaUserOperator {
      * for given user.
      *
      * @param reconciliation    Unique identification for the reconciliation
+     * @param kafkaUser         KafkaUser resources with the desired user configuration
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  Digest of the desired state of the user
      */
-    private void maybeGenerateCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret)   {
+    private String maybeGenerateCredentials(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserModel user, Secret userSecret)   {
         // Generates the password or user certificate
         if (user.isScramUser()) {
-            maybeGenerateScramCredentials(reconciliation, user, userSecret);
+            return desiredStateDigest(kafkaUser, null, maybeGenerateScramCredentials(reconciliation, user, userSecret));
         } else if (user.isTlsUser())    {
-            maybeGenerateTlsCredentials(reconciliation, user, userSecret);
+            return desiredStateDigest(kafkaUser, maybeGenerateTlsCredentials(reconciliation, user, userSecret), null);
+        } else {
+            return desiredStateDigest(kafkaUser, null, null);
         }
     }
 
+    /**
+     * Computes the digest of the desired state of the user. It covers all inputs of the reconciliation which are not
+     * part of the current state in Kafka or in the user Secret: the spec of the KafkaUser resource, the generation of
+     * the Clients CA certificate and the resource version of the Secret with the desired password.
+     *
+     * @param kafkaUser                 KafkaUser resources with the desired user configuration
+     * @param caCert                    Secret with the Clients CA certificate or null if not used by this user
+     * @param desiredPasswordSecret     Secret with the desired password or null if not used by this user
+     *
+     * @return  Digest of the desired state of the user
+     */
+    /* test */ static String desiredStateDigest(KafkaUser kafkaUser, Secret caCert, Secret desiredPasswordSecret)  {
+        String caCertGeneration = caCert != null ? Annotations.stringAnnotation(caCert, Ca.ANNO_STRIMZI_IO_CA_CERT_GENERATION, null) : null;
+        String desiredPasswordVersion = desiredPasswordSecret != null ? desiredPasswordSecret.getMetadata().getResourceVersion() : null;
+
+        return Util.hashStub(Serialization.asJson(kafkaUser.getSpec()) + "\n" + caCertGeneration + "\n" + desiredPasswordVersion);
+    }
+
     /**
      * Sets or generates the credentials for a SCRAM-SHA-512 user
      *
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  Secret with the desired password or null if the password is generated
      */
-    private void maybeGenerateScramCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret)   {
+    private Secret maybeGenerateScramCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret)   {
         Secret desiredPasswordSecret = null;
 
         if (user.isUserWithDesiredPassword())   {
@@ -309,6 +545,8 @@ public class KafkaUserOperator {
                 userSecret,
                 desiredPasswordSecret
         );
+
+        return desiredPasswordSecret;
     }
 
     /**
@@ -317,8 +555,10 @@ public class KafkaUserOperator {
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  Secret with the Clients CA certificate
      */
-    private void maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
+    private Secret maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
         Secret caCert = client.secrets().inNamespace(config.getCaNamespace()).withName(config.getCaCertSecretName()).get();
         if (caCert == null) {
             throw new InvalidConfigurationException("CA certificate secret " + config.getCaCertSecretName() + " in namespace " + config.getCaNamespace() + " not found");
@@ -339,8 +579,12 @@ public class KafkaUserOperator {
                 config.getClientsCaValidityDays(),
                 config.getClientsCaRenewalDays(),
                 config.getMaintenanceWindows(),
-                Clock.systemUTC()
+                Clock.systemUTC(),
+                privateKeyPool != null ? () -> privateKeyPool.poll(Annotations.stringAnnotation(caKey, Ca.ANNO_STRIMZI_IO_CA_KEY_GENERATION, null)) : null,
+                config.getClientsCaKeyAlgorithm()
         );
+
+        return caCert;
     }
 
     /**
@@ -416,42 +660,14 @@ public class KafkaUserOperator {
      * @return                  CompletionStage describing the result
      */
     private CompletionStage<ReconcileResult<Secret>> reconcileUserSecret(Reconciliation reconciliation, KafkaUserModel user, Secret currentSecret, KafkaUserStatus userStatus) {
-        return CompletableFuture.supplyAsync(() -> {
-            String namespace = reconciliation.namespace();
-            String name = user.getSecretName();
-            Secret desiredSecret = user.generateSecret();
-
-            if (desiredSecret != null)  {
-                if (currentSecret != null)  {
-                    // Both secrets exist => if they differ we patch them, if not we just continue
-                    if (new ResourceDiff<>(reconciliation, "Secret", name, currentSecret, desiredSecret, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty()) {
-                        // Secrets are identical
-                        LOGGER.debugCr(reconciliation, "Secret {}/{} exist, and is identical", namespace, name);
-                        userStatus.setSecret(desiredSecret.getMetadata().getName());
-                        return ReconcileResult.noop(desiredSecret);
-                    } else {
-                        // Secrets differ
-                        LOGGER.debugCr(reconciliation, "Secret {}/{} exist, patching it", namespace, name);
-                        client.secrets().inNamespace(namespace).resource(desiredSecret).createOrReplace();
-                        userStatus.setSecret(desiredSecret.getMetadata().getName());
-                        return ReconcileResult.patched(desiredSecret);
-                    }
-                } else {
-                    LOGGER.debugCr(reconciliation, "Secret {}/{} does not exist, creating it", namespace, name);
-                    client.secrets().inNamespace(namespace).resource(desiredSecret).createOrReplace();
-                    userStatus.setSecret(desiredSecret.getMetadata().getName());
-                    return ReconcileResult.created(desiredSecret);
-                }
-            } else {
-                if (currentSecret != null)  {
-                    LOGGER.debugCr(reconciliation, "Secret {}/{} exist, deleting it", namespace, name);
-                    client.secrets().inNamespace(namespace).withName(name).delete();
-                    return ReconcileResult.deleted();
-                } else {
-                    LOGGER.debugCr(reconciliation, "Secret {}/{} does not exist, noop", namespace, name);
-                    return ReconcileResult.noop(null);
-                }
-            }
-        }, executor);
+        return CompletableFuture.supplyAsync(user::generateSecret, executor)
+                .thenCompose(desiredSecret -> secretWriter.reconcile(reconciliation, reconciliation.namespace(), user.getSecretName(), currentSecret, desiredSecret)
+                        .thenApply(result -> {
+                            if (desiredSecret != null) {
+                                userStatus.setSecret(desiredSecret.getMetadata().getName());
+                            }
+
+                            return result;
+                        }));
     }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of private keys for the TLS users which are generated in advance. Generating the private key is the most
+ * expensive part of issuing a new user certificate. With the pool, the keys are generated in a background thread and
+ * only the signing of the certificate is done during the reconciliation. When the pool is empty, the reconciliation
+ * falls back to generating the private key itself.
+ *
+ * The keys in the pool are discarded when the Clients CA key is replaced.
+ */
+public class PrivateKeyPool {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PrivateKeyPool.class.getName());
+    private static final String METRICS_PREFIX = "strimzi.private.keys.";
+
+    private final CertManager certManager;
+    private final int size;
+    private final KeyAlgorithm keyAlgorithm;
+    private final BlockingQueue<byte[]> keys;
+    private final ExecutorService executor;
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    // Incremented when the pool is invalidated to discard the keys which were being generated at that time
+    private final AtomicLong epoch = new AtomicLong(0);
+    private final AtomicInteger poolSizeGauge;
+    private final Timer generationTimer;
+
+    private volatile String caKeyGeneration;
+    private volatile boolean stopped = false;
+
+    /**
+     * Creates the private key pool
+     *
+     * @param certManager       Certificate manager used to generate the private keys
+     * @param size              Number of private keys which should be kept in the pool
+     * @param keyAlgorithm      Algorithm of the generated private keys
+     * @param metricsProvider   Metrics provider for the pool metrics
+     */
+    public PrivateKeyPool(CertManager certManager, int size, KeyAlgorithm keyAlgorithm, MetricsProvider metricsProvider) {
+        if (size <= 0)  {
+            throw new IllegalArgumentException("The size of the private key pool has to be positive");
+        }
+
+        this.certManager = certManager;
+        this.size = size;
+        this.keyAlgorithm = keyAlgorithm;
+        this.keys = new ArrayBlockingQueue<>(size);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "private-key-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.poolSizeGauge = metricsProvider.gauge(METRICS_PREFIX + "pool.size", "Number of pre-generated private keys available in the pool", Tags.empty());
+        this.generationTimer = metricsProvider.timer(METRICS_PREFIX + "generation", "Time spent generating the private keys for the pool", Tags.empty());
+    }
+
+    /**
+     * Starts filling the pool
+     */
+    public void start()  {
+        LOGGER.infoOp("Starting private key pool with {} {} keys", size, keyAlgorithm);
+        maybeRefill();
+    }
+
+    /**
+     * Stops the background generation of the private keys
+     */
+    public void stop()  {
+        stopped = true;
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes a private key from the pool. If the generation of the Clients CA key changed since the last call, all keys
+     * generated so far are discarded first.
+     *
+     * @param caKeyGeneration   Generation of the Clients CA key which will be used to sign the certificate
+     *
+     * @return  The private key in PEM format or null if the pool is empty
+     */
+    public byte[] poll(String caKeyGeneration)  {
+        if (!Objects.equals(this.caKeyGeneration, caKeyGeneration)) {
+            if (this.caKeyGeneration != null)   {
+                LOGGER.infoOp("Clients CA key generation changed from {} to {}. The private key pool will be refilled.", this.caKeyGeneration, caKeyGeneration);
+                invalidate();
+            }
+
+            this.caKeyGeneration = caKeyGeneration;
+        }
+
+        byte[] key = keys.poll();
+        poolSizeGauge.set(keys.size());
+        maybeRefill();
+
+        if (key == null)    {
+            LOGGER.debugOp("Private key pool is empty");
+        }
+
+        return key;
+    }
+
+    /**
+     * Discards all keys in the pool and starts refilling it
+     */
+    public void invalidate()    {
+        epoch.incrementAndGet();
+        keys.clear();
+        poolSizeGauge.set(0);
+        maybeRefill();
+    }
+
+    /**
+     * @return  Number of keys available in the pool
+     */
+    public int available()  {
+        return keys.size();
+    }
+
+    /**
+     * Starts refilling the pool in the background unless it is already being refilled
+     */
+    private void maybeRefill()  {
+        if (!stopped && keys.size() < size && refilling.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                boolean succeeded;
+
+                try {
+                    succeeded = refill();
+                } finally {
+                    refilling.set(false);
+                }
+
+                if (succeeded) {
+                    // Keys might have been taken or invalidated after the last check in the loop
+                    maybeRefill();
+                }
+            });
+        }
+    }
+
+    /**
+     * Generates new keys until the pool is full
+     *
+     * @return  True if the pool was filled. False if the key generation failed. The failed generation is retried the
+     *          next time a key is taken from the pool.
+     */
+    private boolean refill()   {
+        while (!stopped && keys.size() < size)  {
+            long currentEpoch = epoch.get();
+
+            try {
+                byte[] key = generationTimer.recordCallable(this::generateKey);
+
+                if (currentEpoch == epoch.get()) {
+                    keys.offer(key);
+                    poolSizeGauge.set(keys.size());
+                }
+            } catch (Exception e) {
+                if (!stopped) {
+                    LOGGER.warnOp("Failed to generate private key for the pool", e);
+                }
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generates a single private key
+     *
+     * @return  The private key in PEM format
+     *
+     * @throws IOException  Throws IOException when the key generation or working with the files fails
+     */
+    private byte[] generateKey() throws IOException {
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+
+        try {
+            certManager.generatePrivateKey(keyFile, keyAlgorithm);
+            return Files.readAllBytes(keyFile.toPath());
+        } finally {
+            if (!keyFile.delete())  {
+                LOGGER.debugOp("Failed to delete temporary file {}", keyFile);
+            }
+        }
+    }
+}
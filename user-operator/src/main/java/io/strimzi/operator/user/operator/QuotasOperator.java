@@ -25,6 +25,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * KafkaUserQuotasOperator is responsible for managing quotas in Apache Kafka
@@ -199,6 +200,33 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         return emptyQuotas;
     }
 
+    /**
+     * @return Stream with all usernames which have some quotas set
+     */
+    @Override
+    public Stream<String> streamAllUsers() {
+        return cache.keyStream().map(KafkaUserModel::decodeUsername);
+    }
+
+    /**
+     * Checks whether the quotas of the user in the cache differ from the desired quotas
+     *
+     * @param username  Username of the user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The desired quotas configuration
+     *
+     * @return True if the quotas differ. False otherwise.
+     */
+    @Override
+    public boolean isDrifted(String username, KafkaUserQuotas desired) {
+        KafkaUserQuotas current = cache.get(username);
+
+        if (desired == null) {
+            return current != null;
+        } else {
+            return current == null || !QuotaUtils.quotasEquals(current, desired);
+        }
+    }
+
     /**
      * @return Set with all usernames which have some ACLs set
      */
@@ -26,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * ScramCredentialsOperator is responsible for managing the SCRAM-SHA credentials in Apache Kafka.
@@ -161,6 +162,28 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         return Boolean.TRUE.equals(cache.get(username));
     }
 
+    /**
+     * @return Stream with all usernames which have some scram credentials set
+     */
+    @Override
+    public Stream<String> streamAllUsers() {
+        return cache.keyStream();
+    }
+
+    /**
+     * Checks whether the existence of the SCRAM-SHA credentials of the user differs from the desired state. The
+     * credentials cannot be read from Kafka, so only their existence can be compared.
+     *
+     * @param username  Name of the user
+     * @param desired   The desired password or null if the user should not have any credentials
+     *
+     * @return True if the credentials should exist but do not or vice versa. False otherwise.
+     */
+    @Override
+    public boolean isDrifted(String username, String desired) {
+        return (desired != null) != userExists(username);
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
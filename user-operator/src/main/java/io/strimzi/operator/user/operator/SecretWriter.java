@@ -0,0 +1,292 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the user Secrets to the Kubernetes API. When many users need their Secrets updated at the same time (for
+ * example after the Clients CA renewal), the writes are done by a bounded number of threads and are rate limited to the
+ * configured number of requests per second so that they do not overload the Kubernetes API server.
+ *
+ * Existing Secrets are updated with a JSON Merge Patch which contains the resource version of the Secret the desired
+ * state was compared with. When the Secret was changed in the meantime, the patch fails with a conflict, the Secret is
+ * read again and the update is retried only if it is still needed. Secrets which do not differ from the desired state
+ * are not written at all.
+ */
+public class SecretWriter {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(SecretWriter.class.getName());
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final KubernetesClient client;
+    private final long intervalNanos;
+    private final ExecutorService executor;
+
+    private long nextRequestNanos = System.nanoTime();
+
+    /**
+     * Creates the Secret writer
+     *
+     * @param client        Kubernetes client
+     * @param qps           Maximal number of Kubernetes API requests per second or 0 to not limit the requests
+     * @param maxInFlight   Maximal number of Secrets written at the same time
+     */
+    public SecretWriter(KubernetesClient client, int qps, int maxInFlight) {
+        if (qps < 0)  {
+            throw new IllegalArgumentException("The number of Secret operations per second cannot be negative");
+        } else if (maxInFlight <= 0)  {
+            throw new IllegalArgumentException("The number of Secret operations in flight has to be positive");
+        }
+
+        this.client = client;
+        this.intervalNanos = qps > 0 ? TimeUnit.SECONDS.toNanos(1) / qps : 0;
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread thread = new Thread(r, "secret-writer-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the Secret writer. Writes which did not start yet are discarded.
+     */
+    public void stop()  {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reconciles the Secret with its desired state
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the Secret
+     * @param name              Name of the Secret
+     * @param current           The current Secret (e.g. from the informer cache) or null if it does not exist
+     * @param desired           The desired Secret or null if the Secret should be deleted
+     *
+     * @return  CompletionStage with the result of the reconciliation
+     */
+    public CompletionStage<ReconcileResult<Secret>> reconcile(Reconciliation reconciliation, String namespace, String name, Secret current, Secret desired)  {
+        if (desired != null && current != null && isUnchanged(reconciliation, name, current, desired))    {
+            LOGGER.debugCr(reconciliation, "Secret {}/{} exist, and is identical", namespace, name);
+            return CompletableFuture.completedFuture(ReconcileResult.noop(desired));
+        } else if (desired == null && current == null)  {
+            LOGGER.debugCr(reconciliation, "Secret {}/{} does not exist, noop", namespace, name);
+            return CompletableFuture.completedFuture(ReconcileResult.noop(null));
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (desired == null) {
+                LOGGER.debugCr(reconciliation, "Secret {}/{} exist, deleting it", namespace, name);
+                throttle();
+                client.secrets().inNamespace(namespace).withName(name).delete();
+                return ReconcileResult.deleted();
+            } else if (current == null) {
+                return create(reconciliation, namespace, name, desired, 1);
+            } else {
+                return patch(reconciliation, namespace, name, current, desired, 1);
+            }
+        }, executor);
+    }
+
+    /**
+     * Creates the Secret. If it was created in the meantime by someone else, it is patched instead.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the Secret
+     * @param name              Name of the Secret
+     * @param desired           The desired Secret
+     * @param attempt           Number of the write attempt
+     *
+     * @return  Result of the reconciliation
+     */
+    private ReconcileResult<Secret> create(Reconciliation reconciliation, String namespace, String name, Secret desired, int attempt) {
+        LOGGER.debugCr(reconciliation, "Secret {}/{} does not exist, creating it", namespace, name);
+
+        try {
+            throttle();
+            client.secrets().inNamespace(namespace).resource(desired).create();
+            return ReconcileResult.created(desired);
+        } catch (KubernetesClientException e)   {
+            if (e.getCode() == 409 && attempt < MAX_ATTEMPTS) {
+                LOGGER.debugCr(reconciliation, "Secret {}/{} was created in the meantime", namespace, name);
+                return patchLatest(reconciliation, namespace, name, desired, attempt + 1);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Patches the Secret. When the Secret was modified since the current version was read, the latest version of the
+     * Secret is read and the patch is retried if still needed. When the Secret was deleted in the meantime, it is
+     * created again.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the Secret
+     * @param name              Name of the Secret
+     * @param current           The current Secret
+     * @param desired           The desired Secret
+     * @param attempt           Number of the write attempt
+     *
+     * @return  Result of the reconciliation
+     */
+    private ReconcileResult<Secret> patch(Reconciliation reconciliation, String namespace, String name, Secret current, Secret desired, int attempt) {
+        LOGGER.debugCr(reconciliation, "Secret {}/{} exist, patching it", namespace, name);
+
+        try {
+            throttle();
+            // Using the current Secret as the resource avoids the client reading the Secret before patching it
+            client.secrets().inNamespace(namespace).resource(current).patch(PatchContext.of(PatchType.JSON_MERGE), mergePatch(current, desired));
+            return ReconcileResult.patched(desired);
+        } catch (KubernetesClientException e)   {
+            if (e.getCode() == 404 && attempt < MAX_ATTEMPTS) {
+                LOGGER.debugCr(reconciliation, "Secret {}/{} was deleted in the meantime", namespace, name);
+                return create(reconciliation, namespace, name, desired, attempt + 1);
+            } else if (e.getCode() == 409 && attempt < MAX_ATTEMPTS) {
+                LOGGER.debugCr(reconciliation, "Secret {}/{} changed while trying to patch it", namespace, name);
+                return patchLatest(reconciliation, namespace, name, desired, attempt + 1);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads the latest version of the Secret and writes it only if it still differs from the desired Secret
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the Secret
+     * @param name              Name of the Secret
+     * @param desired           The desired Secret
+     * @param attempt           Number of the write attempt
+     *
+     * @return  Result of the reconciliation
+     */
+    private ReconcileResult<Secret> patchLatest(Reconciliation reconciliation, String namespace, String name, Secret desired, int attempt) {
+        throttle();
+        Secret latest = client.secrets().inNamespace(namespace).withName(name).get();
+
+        if (latest == null) {
+            return create(reconciliation, namespace, name, desired, attempt);
+        } else if (isUnchanged(reconciliation, name, latest, desired)) {
+            LOGGER.debugCr(reconciliation, "Secret {}/{} is already identical", namespace, name);
+            return ReconcileResult.noop(desired);
+        } else {
+            return patch(reconciliation, namespace, name, latest, desired, attempt);
+        }
+    }
+
+    /**
+     * Checks whether the current Secret already matches the desired Secret. Metadata set by Kubernetes (such as the
+     * resource version or managed fields) are ignored.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param name              Name of the Secret
+     * @param current           The current Secret
+     * @param desired           The desired Secret
+     *
+     * @return  True if the Secret does not need to be updated. False otherwise.
+     */
+    private static boolean isUnchanged(Reconciliation reconciliation, String name, Secret current, Secret desired) {
+        return new ResourceDiff<>(reconciliation, "Secret", name, current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+
+    /**
+     * Creates the JSON Merge Patch which changes the current Secret to the desired Secret. It contains the resource
+     * version of the current Secret so that the patch fails when the Secret was changed in the meantime. Labels,
+     * annotations and data keys which are not desired anymore are removed by setting them to null.
+     *
+     * @param current   The current Secret
+     * @param desired   The desired Secret
+     *
+     * @return  The JSON Merge Patch
+     */
+    /* test */ static String mergePatch(Secret current, Secret desired) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+
+        if (current.getMetadata().getResourceVersion() != null) {
+            metadata.put("resourceVersion", current.getMetadata().getResourceVersion());
+        }
+
+        metadata.put("labels", mapPatch(current.getMetadata().getLabels(), desired.getMetadata().getLabels()));
+        metadata.put("annotations", mapPatch(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations()));
+        // Lists cannot be merged => the owner references are always replaced as a whole
+        metadata.put("ownerReferences", desired.getMetadata().getOwnerReferences());
+
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("metadata", metadata);
+        patch.put("data", mapPatch(current.getData(), desired.getData()));
+
+        return Serialization.asJson(patch);
+    }
+
+    /**
+     * Creates the JSON Merge Patch for a map of strings
+     *
+     * @param current   The current map
+     * @param desired   The desired map
+     *
+     * @return  Map with the desired values and with null values for the keys which should be removed
+     */
+    private static Map<String, String> mapPatch(Map<String, String> current, Map<String, String> desired) {
+        Map<String, String> patch = desired != null ? new LinkedHashMap<>(desired) : new LinkedHashMap<>();
+
+        if (current != null) {
+            for (String key : current.keySet()) {
+                patch.putIfAbsent(key, null);
+            }
+        }
+
+        return patch;
+    }
+
+    /**
+     * Waits until the next Kubernetes API request can be sent without exceeding the configured number of requests per
+     * second
+     */
+    private void throttle() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long next = Math.max(nextRequestNanos, now);
+            nextRequestNanos = next + intervalNanos;
+            waitNanos = next - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }
+    }
+}
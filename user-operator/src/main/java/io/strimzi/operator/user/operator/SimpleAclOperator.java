@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka.
@@ -304,6 +305,30 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         return future;
     }
 
+    /**
+     * @return Stream with all usernames which have some ACLs set (without the ignored users)
+     */
+    @Override
+    public Stream<String> streamAllUsers() {
+        return cache.keyStream()
+                .map(KafkaUserModel::decodeUsername)
+                .filter(username -> !IGNORED_USERS.contains(username));
+    }
+
+    /**
+     * Checks whether the ACL rules of the user in the cache differ from the desired ACL rules
+     *
+     * @param username  Username of the user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The desired ACL rules
+     *
+     * @return True if the ACL rules differ. False otherwise.
+     */
+    @Override
+    public boolean isDrifted(String username, Set<SimpleAclRule> desired) {
+        Set<SimpleAclRule> current = cache.getOrDefault(username, Set.of());
+        return !current.equals(desired == null ? Set.of() : desired);
+    }
+
     /**
      * @return Set with all usernames which have some ACLs set
      */
@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
@@ -110,6 +111,20 @@ public abstract class AbstractCache<T> {
         }
     }
 
+    /**
+     * Returns stream with all keys which exist in the cache. The stream is backed by the cache and does not copy the
+     * keys.
+     *
+     * @return  Stream with all present keys
+     */
+    public Stream<String> keyStream()  {
+        if (cache == null)  {
+            throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
+        } else {
+            return cache.keySet().stream();
+        }
+    }
+
     /**
      * Starts the cache: this method schedules a time which will periodically refresh the cache
      */
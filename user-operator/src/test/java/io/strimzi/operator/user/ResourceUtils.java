@@ -58,6 +58,10 @@ public class ResourceUtils {
     }
 
     public static UserOperatorConfig createUserOperatorConfigForUserControllerTesting(Map<String, String> labels, int fullReconciliationInterval, int queueSize, int poolSize, String secretPrefix) {
+        return createUserOperatorConfigForUserControllerTesting(labels, fullReconciliationInterval, queueSize, poolSize, secretPrefix, 0);
+    }
+
+    public static UserOperatorConfig createUserOperatorConfigForUserControllerTesting(Map<String, String> labels, int fullReconciliationInterval, int queueSize, int poolSize, String secretPrefix, int maxInFlight) {
         Map<String, String> envVars = new HashMap<>();
         envVars.put(UserOperatorConfig.STRIMZI_NAMESPACE, NAMESPACE);
         envVars.put(UserOperatorConfig.STRIMZI_LABELS, labels.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(",")));
@@ -68,6 +72,7 @@ public class ResourceUtils {
         envVars.put(UserOperatorConfig.STRIMZI_WORK_QUEUE_SIZE, Integer.toString(queueSize));
         envVars.put(UserOperatorConfig.STRIMZI_CONTROLLER_THREAD_POOL_SIZE, Integer.toString(poolSize));
         envVars.put(UserOperatorConfig.STRIMZI_SECRET_PREFIX, secretPrefix);
+        envVars.put(UserOperatorConfig.STRIMZI_CONTROLLER_MAX_IN_FLIGHT_RECONCILIATIONS, Integer.toString(maxInFlight));
 
         return UserOperatorConfig.fromMap(envVars);
     }
@@ -295,6 +295,102 @@ public class UserControllerTest {
         }
     }
 
+    @Test
+    public void testAsyncReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator
+        KafkaUserOperator mockKafkaUserOperator = mock(KafkaUserOperator.class);
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> {
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return CompletableFuture.supplyAsync(() -> status);
+        });
+
+        // Create User Controller with the asynchronous controller loop
+        UserController controller = new UserController(
+                ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, "", 10),
+                client,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            assertThat(controller.isReady(), is(true));
+            assertThat(controller.isAlive(), is(true));
+
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(ResourceUtils.createKafkaUserTls()).create();
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+
+            KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+
+            // Check resource
+            assertThat(user.getStatus(), is(notNullValue()));
+            assertThat(user.getStatus().getObservedGeneration(), is(1L));
+
+            verify(mockKafkaUserOperator, atLeast(1)).reconcile(any(), any(), any());
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.resources").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).gauge().value(), is(1.0));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.successful").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0))); // Might be 1 or 2, depends on the timing
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0))); // Might be 1 or 2, depends on the timing
+        } finally {
+            controller.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncFailedReconciliation() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator
+        KafkaUserOperator mockKafkaUserOperator = mock(KafkaUserOperator.class);
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("Something failed")));
+
+        // Create User Controller with the asynchronous controller loop
+        UserController controller = new UserController(
+                ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, "", 10),
+                client,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).resource(ResourceUtils.createKafkaUserTls()).create();
+
+            TestUtils.waitFor(
+                    "KafkaUser to be failed",
+                    100,
+                    10_000,
+                    () -> {
+                        KafkaUser u = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+                        return u.getStatus() != null
+                                && u.getStatus().getConditions() != null
+                                && u.getStatus().getConditions().stream().filter(c -> "NotReady".equals(c.getType())).findFirst().orElse(null) != null;
+                    }
+            );
+
+            KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+
+            // Check resource
+            assertThat(user.getStatus().getConditions().get(0).getMessage(), is("Something failed"));
+
+            // Check metrics
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations.failed").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
+            assertThat(metrics.meterRegistry().get("strimzi.reconciliations").tag("kind", "KafkaUser").tag("namespace", NAMESPACE).counter().count(), is(greaterThanOrEqualTo(1.0)));
+        } finally {
+            controller.stop();
+        }
+    }
+
     @Test
     public void testSelectors() {
         // Prepare metrics registry
@@ -364,7 +460,7 @@ public class UserControllerTest {
             StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
             return CompletableFuture.completedFuture(status);
         });
-        when(mockKafkaUserOperator.getAllUsers(any())).thenAnswer(i -> {
+        when(mockKafkaUserOperator.getUsersToReconcile(any(), any(), any(), any())).thenAnswer(i -> {
             periods.countDown();
             return CompletableFuture.completedFuture(Set.of(new NamespaceAndName(NAMESPACE, NAME)));
         });
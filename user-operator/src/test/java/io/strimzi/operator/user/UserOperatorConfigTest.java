@@ -5,6 +5,7 @@
 package io.strimzi.operator.user;
 
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -67,6 +68,11 @@ public class UserOperatorConfigTest {
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
+        assertThat(config.getControllerMaxInFlightReconciliations(), is(0));
+        assertThat(config.getPrivateKeyPoolSize(), is(0));
+        assertThat(config.getClientsCaKeyAlgorithm(), is(CertificateKeyAlgorithm.RSA));
+        assertThat(config.getSecretOperationsQps(), is(100));
+        assertThat(config.getSecretOperationsMaxInFlight(), is(10));
     }
 
     @Test
@@ -206,6 +212,34 @@ public class UserOperatorConfigTest {
         assertThat(config.isEmpty(), is(true));
     }
 
+    @Test
+    public void testClientsCaKeyAlgorithm()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.STRIMZI_CLIENTS_CA_KEY_ALGORITHM, "ecdsa-p384");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getClientsCaKeyAlgorithm(), is(CertificateKeyAlgorithm.ECDSA_P384));
+    }
+
+    @Test
+    public void testSecretOperations()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.STRIMZI_SECRET_OPERATIONS_QPS, "0");
+        envVars.put(UserOperatorConfig.STRIMZI_SECRET_OPERATIONS_MAX_IN_FLIGHT, "25");
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getSecretOperationsQps(), is(0));
+        assertThat(config.getSecretOperationsMaxInFlight(), is(25));
+    }
+
+    @Test
+    public void testInvalidClientsCaKeyAlgorithm()    {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.STRIMZI_CLIENTS_CA_KEY_ALGORITHM, "dsa");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
     @Test
     public void testWorkQueueSize()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
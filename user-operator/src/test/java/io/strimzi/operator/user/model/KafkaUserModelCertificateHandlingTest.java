@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -189,7 +190,7 @@ public class KafkaUserModelCertificateHandlingTest {
         }
 
         @Override
-        CertAndKey generateNewCertificate(Reconciliation reconciliation, Ca clientsCa) {
+        CertAndKey generateNewCertificate(Reconciliation reconciliation, Ca clientsCa, Supplier<byte[]> privateKeySupplier) {
             generateNewCertificateCalled++;
             return null;
         }
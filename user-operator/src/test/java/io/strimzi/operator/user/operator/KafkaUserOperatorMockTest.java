@@ -7,13 +7,19 @@ package io.strimzi.operator.user.operator;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
@@ -22,6 +28,7 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.ResourceUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.test.TestUtils;
 import io.strimzi.test.mockkube2.MockKube2;
 import org.apache.kafka.common.KafkaException;
 import org.junit.jupiter.api.AfterEach;
@@ -29,7 +36,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +50,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -108,6 +119,7 @@ public class KafkaUserOperatorMockTest {
             }
         });
         when(aclOps.getAllUsers()).thenReturn(CompletableFuture.completedStage(Set.of("acl-user-1", "acl-user-2")));
+        when(aclOps.streamAllUsers()).thenAnswer(i -> Stream.of("acl-user-1", "acl-user-2"));
 
         scramOps = mock(ScramCredentialsOperator.class);
         scramNameCaptor = ArgumentCaptor.forClass(String.class);
@@ -122,6 +134,7 @@ public class KafkaUserOperatorMockTest {
             }
         });
         when(scramOps.getAllUsers()).thenReturn(CompletableFuture.completedStage(List.of("scram-user-1", "scram-user-2")));
+        when(scramOps.streamAllUsers()).thenAnswer(i -> Stream.of("scram-user-1", "scram-user-2"));
 
         quotasOps = mock(QuotasOperator.class);
         quotasNameCaptor = ArgumentCaptor.forClass(String.class);
@@ -136,6 +149,7 @@ public class KafkaUserOperatorMockTest {
             }
         });
         when(quotasOps.getAllUsers()).thenReturn(CompletableFuture.completedStage(Set.of("quotas-user-1", "quotas-user-2")));
+        when(quotasOps.streamAllUsers()).thenAnswer(i -> Stream.of("quotas-user-1", "quotas-user-2"));
     }
 
     @AfterEach
@@ -1525,8 +1539,7 @@ public class KafkaUserOperatorMockTest {
         Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(user2).create();
 
         KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
-        CompletionStage<Set<NamespaceAndName>> futureResult = op.getAllUsers(ResourceUtils.NAMESPACE);
-        Set<NamespaceAndName> users = futureResult.toCompletableFuture().get();
+        Set<NamespaceAndName> users = getUsersToReconcile(op);
 
         assertThat(users.size(), is(8));
 
@@ -1553,8 +1566,7 @@ public class KafkaUserOperatorMockTest {
         Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(user2).create();
 
         KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(Map.of(), false, false, "32", null), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
-        CompletionStage<Set<NamespaceAndName>> futureResult = op.getAllUsers(ResourceUtils.NAMESPACE);
-        Set<NamespaceAndName> users = futureResult.toCompletableFuture().get();
+        Set<NamespaceAndName> users = getUsersToReconcile(op);
 
         assertThat(users.size(), is(6));
 
@@ -1581,8 +1593,7 @@ public class KafkaUserOperatorMockTest {
         Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(user2).create();
 
         KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(Map.of(), true, true, "32", null), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
-        CompletionStage<Set<NamespaceAndName>> futureResult = op.getAllUsers(ResourceUtils.NAMESPACE);
-        Set<NamespaceAndName> users = futureResult.toCompletableFuture().get();
+        Set<NamespaceAndName> users = getUsersToReconcile(op);
 
         assertThat(users.size(), is(6));
 
@@ -1592,6 +1603,227 @@ public class KafkaUserOperatorMockTest {
         assertThat(usernames, is(Set.of("quotas-user-2", "quotas-user-1", "cr-user-2", "cr-user-1", "acl-user-1", "acl-user-2")));
     }
 
+    @Test
+    public void testCreateTlsUserWithPrivateKeyPool() throws ExecutionException, InterruptedException {
+        CertManager certManager = new MockCertManager() {
+            @Override
+            public void generatePrivateKey(File keyFile) throws IOException {
+                Files.writeString(keyFile.toPath(), "pre-generated key");
+            }
+        };
+        PrivateKeyPool pool = new PrivateKeyPool(certManager, 1, KeyAlgorithm.RSA, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        try {
+            pool.start();
+            TestUtils.waitFor("Pool filled", 10, 5_000, () -> pool.available() == 1);
+
+            KafkaUser user = ResourceUtils.createKafkaUserTls();
+            KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, certManager, scramOps, quotasOps, aclOps, EXECUTOR, pool);
+            KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+            assertThat(status.getConditions().get(0).getType(), is("Ready"));
+
+            // The pre-generated key is used for the user certificate
+            Secret userSecret = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).get();
+            assertThat(new String(Base64.getDecoder().decode(userSecret.getData().get("user.key"))), is("pre-generated key"));
+            assertThat(new String(Base64.getDecoder().decode(userSecret.getData().get("user.crt"))), is("crt file"));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testReconcileAllSkipsReadyUsers() throws ExecutionException, InterruptedException {
+        KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createKafkaUserScramSha()).create();
+
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
+        KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+        Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(new KafkaUserBuilder(user).withStatus(status).build()).replaceStatus();
+        assertThat(status.getDesiredStateDigest(), is(KafkaUserOperator.desiredStateDigest(user, null, null)));
+
+        // Ready user without any drift is not reconciled
+        Set<String> usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames, is(Set.of("quotas-user-2", "quotas-user-1", "acl-user-1", "scram-user-1", "acl-user-2", "scram-user-2")));
+
+        // Drifted quotas
+        when(quotasOps.isDrifted(any(), any())).thenReturn(true);
+        usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+        when(quotasOps.isDrifted(any(), any())).thenReturn(false);
+
+        // Drifted SCRAM-SHA credentials
+        when(scramOps.isDrifted(any(), any())).thenReturn(true);
+        usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+        when(scramOps.isDrifted(any(), any())).thenReturn(false);
+
+        // Missing user secret
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName(ResourceUtils.NAME).delete();
+        usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+    }
+
+    @Test
+    public void testReconcileAllWithChangedGeneration() throws ExecutionException, InterruptedException {
+        KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createKafkaUserScramSha()).create();
+
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
+        KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+        status.setObservedGeneration(-1L);
+        Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(new KafkaUserBuilder(user).withStatus(status).build()).replaceStatus();
+
+        Set<String> usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+    }
+
+    @Test
+    public void testReconcileAllPicksUpChangedDesiredPassword() throws ExecutionException, InterruptedException {
+        Secret desiredPasswordSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace(ResourceUtils.NAMESPACE)
+                .endMetadata()
+                .addToData("my-password", Base64.getEncoder().encodeToString("12345678".getBytes(StandardCharsets.UTF_8)))
+                .build();
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(desiredPasswordSecret).create();
+
+        KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserScramSha())
+            .editSpec()
+                .withNewKafkaUserScramSha512ClientAuthentication()
+                    .withNewPassword()
+                        .withNewValueFrom()
+                            .withNewSecretKeyRef("my-password", "my-secret", false)
+                        .endValueFrom()
+                    .endPassword()
+                .endKafkaUserScramSha512ClientAuthentication()
+            .endSpec()
+            .build();
+        user = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(user).create();
+
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
+        KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+        Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(new KafkaUserBuilder(user).withStatus(status).build()).replaceStatus();
+
+        // Unchanged desired password
+        Set<String> usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(false));
+
+        // Changed desired password
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).withName("my-secret")
+                .edit(s -> new SecretBuilder(s).addToData("my-password", Base64.getEncoder().encodeToString("87654321".getBytes(StandardCharsets.UTF_8))).build());
+        usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+    }
+
+    @Test
+    public void testReconcileAllWithDesiredPasswordSecretMissingInCache() throws ExecutionException, InterruptedException {
+        Secret desiredPasswordSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace(ResourceUtils.NAMESPACE)
+                .endMetadata()
+                .addToData("my-password", Base64.getEncoder().encodeToString("12345678".getBytes(StandardCharsets.UTF_8)))
+                .build();
+        client.secrets().inNamespace(ResourceUtils.NAMESPACE).resource(desiredPasswordSecret).create();
+
+        KafkaUser user = new KafkaUserBuilder(ResourceUtils.createKafkaUserScramSha())
+            .editSpec()
+                .withNewKafkaUserScramSha512ClientAuthentication()
+                    .withNewPassword()
+                        .withNewValueFrom()
+                            .withNewSecretKeyRef("my-password", "my-secret", false)
+                        .endValueFrom()
+                    .endPassword()
+                .endKafkaUserScramSha512ClientAuthentication()
+            .endSpec()
+            .build();
+        user = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(user).create();
+
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
+        KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+        Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(new KafkaUserBuilder(user).withStatus(status).build()).replaceStatus();
+
+        // The desired password Secret is only in the Kubernetes API, but not in the informer cache
+        SharedIndexInformer<KafkaUser> userInformer = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).inform();
+        SharedIndexInformer<Secret> secretInformer = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withLabel("strimzi.io/kind", KafkaUser.RESOURCE_KIND).inform();
+        SharedIndexInformer<Secret> emptyInformer = client.secrets().inNamespace(ResourceUtils.NAMESPACE).withLabel("strimzi.io/kind", "None").inform();
+
+        try {
+            Set<String> usernames = op.getUsersToReconcile(ResourceUtils.NAMESPACE, new Lister<>(userInformer.getIndexer()), new Lister<>(secretInformer.getIndexer()), new Lister<>(emptyInformer.getIndexer()))
+                    .toCompletableFuture().get()
+                    .stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+            assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+        } finally {
+            userInformer.close();
+            secretInformer.close();
+            emptyInformer.close();
+        }
+    }
+
+    @Test
+    public void testReconcileAllWithChangedDesiredStateDigest() throws ExecutionException, InterruptedException {
+        KafkaUser user = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(ResourceUtils.createKafkaUserScramSha()).create();
+
+        KafkaUserOperator op = new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(), client, mockCertManager, scramOps, quotasOps, aclOps, EXECUTOR);
+        KafkaUserStatus status = op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user, null).toCompletableFuture().get();
+        status.setDesiredStateDigest("0000000");
+        Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).resource(new KafkaUserBuilder(user).withStatus(status).build()).replaceStatus();
+
+        Set<String> usernames = getUsersToReconcile(op).stream().map(NamespaceAndName::getName).collect(Collectors.toSet());
+        assertThat(usernames.contains(ResourceUtils.NAME), is(true));
+    }
+
+    @Test
+    public void testDesiredStateDigest() {
+        KafkaUser user = ResourceUtils.createKafkaUserTls();
+        Secret caCert = ResourceUtils.createClientsCaCertSecret();
+        Secret passwordSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("password-secret")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+        String digest = KafkaUserOperator.desiredStateDigest(user, caCert, passwordSecret);
+
+        assertThat(KafkaUserOperator.desiredStateDigest(ResourceUtils.createKafkaUserTls(), ResourceUtils.createClientsCaCertSecret(), new SecretBuilder(passwordSecret).build()), is(digest));
+
+        // Changed spec
+        KafkaUser changedUser = new KafkaUserBuilder(user)
+                .editSpec()
+                    .withNewKafkaUserTlsExternalClientAuthentication()
+                    .endKafkaUserTlsExternalClientAuthentication()
+                .endSpec()
+                .build();
+        assertThat(KafkaUserOperator.desiredStateDigest(changedUser, caCert, passwordSecret).equals(digest), is(false));
+
+        // Changed CA generation
+        Secret renewedCaCert = new SecretBuilder(caCert)
+                .editMetadata()
+                    .addToAnnotations(Ca.ANNO_STRIMZI_IO_CA_CERT_GENERATION, "1000")
+                .endMetadata()
+                .build();
+        assertThat(KafkaUserOperator.desiredStateDigest(user, renewedCaCert, passwordSecret).equals(digest), is(false));
+
+        // Changed password
+        Secret changedPasswordSecret = new SecretBuilder(passwordSecret)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+        assertThat(KafkaUserOperator.desiredStateDigest(user, caCert, changedPasswordSecret).equals(digest), is(false));
+    }
+
+    private Set<NamespaceAndName> getUsersToReconcile(KafkaUserOperator op) throws ExecutionException, InterruptedException {
+        SharedIndexInformer<KafkaUser> userInformer = Crds.kafkaUserOperation(client).inNamespace(ResourceUtils.NAMESPACE).inform();
+        SharedIndexInformer<Secret> secretInformer = client.secrets().inNamespace(ResourceUtils.NAMESPACE).inform();
+
+        try {
+            return op.getUsersToReconcile(ResourceUtils.NAMESPACE, new Lister<>(userInformer.getIndexer()), new Lister<>(secretInformer.getIndexer()), new Lister<>(secretInformer.getIndexer())).toCompletableFuture().get();
+        } finally {
+            userInformer.close();
+            secretInformer.close();
+        }
+    }
+
     @Test
     public void testReconciliationFailsWithDisabledAclOperator() {
         KafkaUser user = ResourceUtils.createKafkaUserTls();
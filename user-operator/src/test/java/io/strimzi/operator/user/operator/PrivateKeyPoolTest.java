@@ -0,0 +1,103 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrivateKeyPoolTest {
+    @Test
+    public void testPoolIsFilledAndRefilled() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CountingCertManager certManager = new CountingCertManager();
+        PrivateKeyPool pool = new PrivateKeyPool(certManager, 3, KeyAlgorithm.RSA, new MicrometerMetricsProvider(registry));
+
+        try {
+            pool.start();
+            TestUtils.waitFor("Pool filled", 10, 5_000, () -> pool.available() == 3);
+            assertThat(registry.get("strimzi.private.keys.pool.size").gauge().value(), is(3.0));
+
+            byte[] key = pool.poll("0");
+            assertThat(key, is(notNullValue()));
+            assertThat(new String(key, StandardCharsets.US_ASCII), is("key-1"));
+
+            // The taken key is replaced in the background
+            TestUtils.waitFor("Pool refilled", 10, 5_000, () -> pool.available() == 3);
+            assertThat(certManager.generatedKeys.get(), is(4));
+            assertThat(registry.get("strimzi.private.keys.generation").timer().count(), is(4L));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testPoolIsInvalidatedWhenCaKeyChanges() {
+        CountingCertManager certManager = new CountingCertManager();
+        PrivateKeyPool pool = new PrivateKeyPool(certManager, 2, KeyAlgorithm.RSA, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        try {
+            pool.start();
+            TestUtils.waitFor("Pool filled", 10, 5_000, () -> pool.available() == 2);
+            assertThat(new String(pool.poll("0"), StandardCharsets.US_ASCII), is("key-1"));
+            TestUtils.waitFor("Pool refilled", 10, 5_000, () -> pool.available() == 2);
+
+            // Keys generated before the CA key replacement are not used anymore
+            byte[] key = pool.poll("1");
+            assertThat(key == null || Integer.parseInt(new String(key, StandardCharsets.US_ASCII).substring(4)) > 3, is(true));
+            TestUtils.waitFor("Pool refilled after invalidation", 10, 5_000, () -> pool.available() == 2);
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testEmptyPool() {
+        CertManager failingCertManager = new MockCertManager() {
+            @Override
+            public void generatePrivateKey(File keyFile) throws IOException {
+                throw new IOException("Failed");
+            }
+        };
+        PrivateKeyPool pool = new PrivateKeyPool(failingCertManager, 2, KeyAlgorithm.RSA, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+
+        try {
+            pool.start();
+            assertThat(pool.poll("0") == null, is(true));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PrivateKeyPool(new MockCertManager(), 0, KeyAlgorithm.RSA, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+    }
+
+    static class CountingCertManager extends MockCertManager {
+        final AtomicInteger generatedKeys = new AtomicInteger(0);
+
+        @Override
+        public void generatePrivateKey(File keyFile) throws IOException {
+            Files.writeString(keyFile.toPath(), "key-" + generatedKeys.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@EnableKubernetesMockClient(crud = true)
+public class SecretWriterTest {
+    private static final String NAMESPACE = "namespace";
+    private static final String NAME = "my-user";
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaUser", NAMESPACE, NAME);
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    private static Secret secret(Map<String, String> labels, Map<String, String> data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    @Test
+    public void testCreatePatchAndDelete() throws ExecutionException, InterruptedException {
+        SecretWriter writer = new SecretWriter(client, 0, 2);
+
+        try {
+            Secret desired = secret(Map.of("app", "strimzi", "old", "label"), Map.of("password", "cGFzc3dvcmQ=", "user.crt", "Y3J0"));
+            ReconcileResult<Secret> result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, null, desired).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Created.class));
+
+            Secret current = client.secrets().inNamespace(NAMESPACE).withName(NAME).get();
+            assertThat(current.getData().get("user.crt"), is("Y3J0"));
+
+            // The removal of the keys and labels is checked in testMergePatch as the mock server does not apply null values
+            desired = secret(Map.of("app", "strimzi"), Map.of("password", "bmV3UGFzc3dvcmQ="));
+            result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, current, desired).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+
+            current = client.secrets().inNamespace(NAMESPACE).withName(NAME).get();
+            assertThat(current.getData().get("password"), is("bmV3UGFzc3dvcmQ="));
+
+            result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, current, null).toCompletableFuture().get();
+            assertThat(result, is(ReconcileResult.deleted()));
+            assertThat(client.secrets().inNamespace(NAMESPACE).withName(NAME).get(), is(nullValue()));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testCreateOfExistingSecretPatchesIt() throws ExecutionException, InterruptedException {
+        client.secrets().inNamespace(NAMESPACE).resource(secret(Map.of("app", "strimzi"), Map.of("password", "b2xk"))).create();
+        SecretWriter writer = new SecretWriter(client, 0, 1);
+
+        try {
+            // The current Secret from the cache is outdated and does not know the Secret exists already
+            Secret desired = secret(Map.of("app", "strimzi"), Map.of("password", "bmV3"));
+            ReconcileResult<Secret> result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, null, desired).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Patched.class));
+            assertThat(client.secrets().inNamespace(NAMESPACE).withName(NAME).get().getData(), is(Map.of("password", "bmV3")));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testPatchOfDeletedSecretCreatesIt() throws ExecutionException, InterruptedException {
+        SecretWriter writer = new SecretWriter(client, 0, 1);
+
+        try {
+            // The current Secret from the cache is outdated and the Secret does not exist anymore
+            Secret current = secret(Map.of("app", "strimzi"), Map.of("password", "b2xk"));
+            Secret desired = secret(Map.of("app", "strimzi"), Map.of("password", "bmV3"));
+            ReconcileResult<Secret> result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, current, desired).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Created.class));
+            assertThat(client.secrets().inNamespace(NAMESPACE).withName(NAME).get().getData(), is(Map.of("password", "bmV3")));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testUnchangedSecretIsNotWritten() throws ExecutionException, InterruptedException {
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        SecretWriter writer = new SecretWriter(mockClient, 0, 1);
+
+        try {
+            Secret current = new SecretBuilder(secret(Map.of("app", "strimzi"), Map.of("password", "cGFzc3dvcmQ=")))
+                    .editMetadata()
+                        .withResourceVersion("1234")
+                        .withUid("some-uid")
+                    .endMetadata()
+                    .build();
+            Secret desired = secret(Map.of("app", "strimzi"), Map.of("password", "cGFzc3dvcmQ="));
+
+            ReconcileResult<Secret> result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, current, desired).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Noop.class));
+
+            result = writer.reconcile(RECONCILIATION, NAMESPACE, NAME, null, null).toCompletableFuture().get();
+            assertThat(result, instanceOf(ReconcileResult.Noop.class));
+
+            verifyNoInteractions(mockClient);
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testMergePatch() {
+        Secret current = new SecretBuilder(secret(Map.of("app", "strimzi", "old", "label"), Map.of("password", "cGFzc3dvcmQ=", "user.crt", "Y3J0")))
+                .editMetadata()
+                    .withResourceVersion("1234")
+                .endMetadata()
+                .build();
+        Secret desired = secret(Map.of("app", "strimzi"), Map.of("password", "bmV3"));
+
+        String patch = SecretWriter.mergePatch(current, desired);
+        assertThat(patch.contains("\"resourceVersion\":\"1234\""), is(true));
+        assertThat(patch.contains("\"old\":null"), is(true));
+        assertThat(patch.contains("\"user.crt\":null"), is(true));
+        assertThat(patch.contains("\"password\":\"bmV3\""), is(true));
+    }
+
+    @Test
+    public void testRateLimiting() throws ExecutionException, InterruptedException {
+        SecretWriter writer = new SecretWriter(client, 10, 5);
+
+        try {
+            long start = System.nanoTime();
+
+            for (int i = 0; i < 5; i++) {
+                Secret desired = new SecretBuilder(secret(Map.of("app", "strimzi"), Map.of("password", "cGFzc3dvcmQ=")))
+                        .editMetadata()
+                            .withName(NAME + "-" + i)
+                        .endMetadata()
+                        .build();
+                writer.reconcile(RECONCILIATION, NAMESPACE, NAME + "-" + i, null, desired).toCompletableFuture().get();
+            }
+
+            // 5 requests with at most 10 requests per second need at least 400ms
+            assertThat((System.nanoTime() - start) >= 400_000_000L, is(true));
+            assertThat(client.secrets().inNamespace(NAMESPACE).withName(NAME + "-4").get(), is(notNullValue()));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new SecretWriter(client, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SecretWriter(client, 0, 0));
+    }
+}